@@ -23,7 +23,9 @@ import java.util.function.Consumer;
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.client.exceptions.ClientException;
 import org.apache.qpid.protonj2.client.impl.ClientMessage;
+import org.apache.qpid.protonj2.client.impl.ClientMessageSupport;
 import org.apache.qpid.protonj2.types.messaging.ApplicationProperties;
+import org.apache.qpid.protonj2.types.messaging.Data;
 import org.apache.qpid.protonj2.types.messaging.DeliveryAnnotations;
 import org.apache.qpid.protonj2.types.messaging.Footer;
 import org.apache.qpid.protonj2.types.messaging.Header;
@@ -49,6 +51,20 @@ public interface AdvancedMessage<E> extends Message<E> {
         return ClientMessage.createAdvancedMessage();
     }
 
+    /**
+     * Creates a new {@link AdvancedMessage} instance whose body is a single {@link Data} section
+     * that wraps the readable bytes of the given {@link ProtonBuffer} without copying them.  The
+     * buffer must not be modified until the message has been sent.
+     *
+     * @param body
+     *      The {@link ProtonBuffer} whose readable bytes form the message body.
+     *
+     * @return a new {@link AdvancedMessage} instance with a body containing the given bytes.
+     */
+    static AdvancedMessage<byte[]> create(ProtonBuffer body) {
+        return ClientMessage.create(new Data(body));
+    }
+
     /**
      * Return the current {@link Header} assigned to this message, if none was assigned yet
      * then this method returns <code>null</code>.
@@ -263,6 +279,21 @@ public interface AdvancedMessage<E> extends Message<E> {
      */
     AdvancedMessage<E> clearBodySections() throws ClientException;
 
+    /**
+     * Returns a view of the bytes carried in the {@link Data} body sections of this message without
+     * copying them.  When the body consists of more than one {@link Data} section the view is a
+     * composite of the sections in the order they appear in the message.  Reading from the returned
+     * buffer does not affect the message, but the buffer shares its content with the message body
+     * and should not be written to.
+     *
+     * @return a view of the message body bytes or null if no body is present.
+     *
+     * @throws ClientException if the body contains sections other than {@link Data} sections.
+     */
+    default ProtonBuffer bodyBuffer() throws ClientException {
+        return ClientMessageSupport.createBodyBufferView(bodySections());
+    }
+
     /**
      * Encodes the {@link AdvancedMessage} for transmission by the client.  The provided {@link DeliveryAnnotations}
      * can be included or augmented by the {@link AdvancedMessage} implementation based on the target message format.
@@ -128,4 +128,17 @@ public interface Client extends AutoCloseable {
      */
     Connection connect(String host, ConnectionOptions options) throws ClientException;
 
+    /**
+     * Creates a {@link ConnectionPool} that opens a connection to each host in the given pool
+     * options, sends and receives made through the pool are spread across those connections.
+     *
+     * @param options
+     *            options that define the pool hosts, size and load balancing policy.
+     *
+     * @return the connection pool, establishment of the pooled connections not yet completed.
+     *
+     * @throws ClientException if the {@link Client} is closed or an error occurs during connect.
+     */
+    ConnectionPool openConnectionPool(ConnectionPoolOptions options) throws ClientException;
+
 }
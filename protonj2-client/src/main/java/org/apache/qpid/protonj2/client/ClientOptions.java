@@ -62,7 +62,10 @@ public class ClientOptions {
     /**
      * Sets the desired future type that the client connection should use when creating
      * the futures used by the API.  By default the client will select a Future implementation
-     * by itself however the user can override this selection here if desired.
+     * by itself however the user can override this selection here if desired.  The available
+     * types are "conservative", "balanced", "progressive" and "parking", the "parking" type
+     * blocks waiting threads without entering object monitors which avoids pinning carrier
+     * threads when the client is used from virtual threads.
      *
      * @param futureType
      *      The name of the future type to use.
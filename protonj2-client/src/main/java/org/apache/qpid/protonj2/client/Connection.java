@@ -18,6 +18,7 @@ package org.apache.qpid.protonj2.client;
 
 import java.util.Map;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.qpid.protonj2.client.exceptions.ClientException;
 import org.apache.qpid.protonj2.client.exceptions.ClientUnsupportedOperationException;
@@ -311,6 +312,47 @@ public interface Connection extends AutoCloseable {
      */
     Sender openSender(String address, SenderOptions senderOptions) throws ClientException;
 
+    /**
+     * Returns a sender for the given node address from this connection's sender cache, opening a
+     * new sender on the connection's default {@link Session} if none is cached.  Repeated calls for
+     * the same address reuse the cached link instead of paying for an attach and detach each time,
+     * which suits applications that publish to many distinct addresses.  A newly opened sender can be
+     * sent to straight away, sends are held until the remote has opened the link and granted credit.
+     * <p>
+     * The cache holds at most {@link ConnectionOptions#senderCacheSize()} senders, the least recently
+     * used sender without outstanding sends is closed when that limit is exceeded, and senders that are
+     * not requested within the {@link ConnectionOptions#senderCacheIdleTimeout()} are closed.  Cached
+     * senders are shared and should not be closed by the caller, a sender that was closed or failed is
+     * replaced on the next request for it.
+     *
+     * @param address
+     *            The target address to attach to, cannot be null.
+     *
+     * @return the cached sender for the given address.
+     *
+     * @throws ClientException if an internal error occurs.
+     */
+    Sender cachedSender(String address) throws ClientException;
+
+    /**
+     * Returns a sender for the given node address and {@link SenderOptions} from this connection's
+     * sender cache, opening a new sender on the connection's default {@link Session} if none is cached.
+     * Cached senders are matched on the address and on the identity of the options instance, so the
+     * same options instance should be passed on each call to reuse a sender.
+     *
+     * @param address
+     *            The target address to attach to, cannot be null.
+     * @param senderOptions
+     *            The options used to open the sender if it is not already cached.
+     *
+     * @return the cached sender for the given address and options.
+     *
+     * @throws ClientException if an internal error occurs.
+     *
+     * @see #cachedSender(String)
+     */
+    Sender cachedSender(String address, SenderOptions senderOptions) throws ClientException;
+
     /**
      * Creates a stream sender used to send large messages to the given node address.  The returned sender will
      * be configured using default options and will take its timeout configuration values from those
@@ -432,6 +474,74 @@ public interface Connection extends AutoCloseable {
      */
     Session openSession(SessionOptions options) throws ClientException;
 
+    /**
+     * Waits indefinitely for a {@link Receiver} created from the connection's default {@link Session}
+     * to have a delivery ready for receipt and returns it.  Receivers created directly from this
+     * {@link Connection} are created in the default session and so can be consumed from in this manner.
+     *
+     * @return the next receiver that has a delivery ready for receipt.
+     *
+     * @throws ClientException if the connection or its default session is closed or fails while waiting.
+     *
+     * @see Session#nextReceiver()
+     */
+    Receiver nextReceiver() throws ClientException;
+
+    /**
+     * Waits indefinitely for a {@link Receiver} created from the connection's default {@link Session}
+     * to have a delivery ready for receipt and returns it, choosing between receivers with pending
+     * deliveries using the given {@link NextReceiverPolicy}.
+     *
+     * @param policy
+     *      The policy used to choose between receivers that have pending deliveries.
+     *
+     * @return the next receiver that has a delivery ready for receipt.
+     *
+     * @throws ClientException if the connection or its default session is closed or fails while waiting.
+     *
+     * @see Session#nextReceiver(NextReceiverPolicy)
+     */
+    Receiver nextReceiver(NextReceiverPolicy policy) throws ClientException;
+
+    /**
+     * Waits up to the given timeout for a {@link Receiver} created from the connection's default
+     * {@link Session} to have a delivery ready for receipt and returns it, or returns null if none
+     * became ready in time.
+     *
+     * @param timeout
+     *      The amount of time to wait for a receiver to have a delivery ready.
+     * @param unit
+     *      The unit of time that the timeout value is expressed in.
+     *
+     * @return the next receiver that has a delivery ready for receipt or null if the wait timed out.
+     *
+     * @throws ClientException if the connection or its default session is closed or fails while waiting.
+     *
+     * @see Session#nextReceiver(long, TimeUnit)
+     */
+    Receiver nextReceiver(long timeout, TimeUnit unit) throws ClientException;
+
+    /**
+     * Waits up to the given timeout for a {@link Receiver} created from the connection's default
+     * {@link Session} to have a delivery ready for receipt and returns it, or returns null if none
+     * became ready in time.  Receivers with pending deliveries are chosen between using the given
+     * {@link NextReceiverPolicy}.
+     *
+     * @param policy
+     *      The policy used to choose between receivers that have pending deliveries.
+     * @param timeout
+     *      The amount of time to wait for a receiver to have a delivery ready.
+     * @param unit
+     *      The unit of time that the timeout value is expressed in.
+     *
+     * @return the next receiver that has a delivery ready for receipt or null if the wait timed out.
+     *
+     * @throws ClientException if the connection or its default session is closed or fails while waiting.
+     *
+     * @see Session#nextReceiver(NextReceiverPolicy, long, TimeUnit)
+     */
+    Receiver nextReceiver(NextReceiverPolicy policy, long timeout, TimeUnit unit) throws ClientException;
+
     /**
      * Sends the given {@link Message} using the internal connection sender.
      * <p>
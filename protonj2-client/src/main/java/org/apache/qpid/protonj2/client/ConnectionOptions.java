@@ -41,6 +41,11 @@ public class ConnectionOptions {
     public static final long DEFAULT_DRAIN_TIMEOUT = 60000;
     public static final int DEFAULT_CHANNEL_MAX = 65535;
     public static final int DEFAULT_MAX_FRAME_SIZE = 65536;
+    public static final int DEFAULT_SENDER_CACHE_SIZE = 64;
+    public static final long DEFAULT_SENDER_CACHE_IDLE_TIMEOUT = 60000;
+    public static final boolean DEFAULT_PAYLOAD_COMPRESSION = false;
+    public static final int DEFAULT_PAYLOAD_COMPRESSION_THRESHOLD = 1024;
+    public static final int DEFAULT_PAYLOAD_DECOMPRESSION_LIMIT = 64 * 1024 * 1024;
 
     private long sendTimeout = DEFAULT_SEND_TIMEOUT;
     private long requestTimeout = DEFAULT_REQUEST_TIMEOUT;
@@ -63,6 +68,12 @@ public class ConnectionOptions {
     private Map<String, Object> properties;
     private String virtualHost;
     private boolean traceFrames;
+    private NextReceiverPolicy defaultNextReceiverPolicy = NextReceiverPolicy.ROUND_ROBIN;
+    private int senderCacheSize = DEFAULT_SENDER_CACHE_SIZE;
+    private long senderCacheIdleTimeout = DEFAULT_SENDER_CACHE_IDLE_TIMEOUT;
+    private boolean payloadCompression = DEFAULT_PAYLOAD_COMPRESSION;
+    private int payloadCompressionThreshold = DEFAULT_PAYLOAD_COMPRESSION_THRESHOLD;
+    private int payloadDecompressionLimit = DEFAULT_PAYLOAD_DECOMPRESSION_LIMIT;
 
     private BiConsumer<Connection, ConnectionEvent> connectedhedHandler;
     private BiConsumer<Connection, DisconnectionEvent> disconnectedHandler;
@@ -114,6 +125,12 @@ public class ConnectionOptions {
         other.user(user);
         other.password(password);
         other.traceFrames(traceFrames);
+        other.defaultNextReceiverPolicy(defaultNextReceiverPolicy);
+        other.senderCacheSize(senderCacheSize);
+        other.senderCacheIdleTimeout(senderCacheIdleTimeout);
+        other.payloadCompression(payloadCompression);
+        other.payloadCompressionThreshold(payloadCompressionThreshold);
+        other.payloadDecompressionLimit(payloadDecompressionLimit);
         other.connectedHandler(connectedhedHandler);
         other.interruptedHandler(interruptedHandler);
         other.reconnectedHandler(reconnectedHandler);
@@ -515,6 +532,150 @@ public class ConnectionOptions {
         return this.traceFrames;
     }
 
+    /**
+     * @return the policy used by sessions of this connection to choose between receivers with pending deliveries.
+     */
+    public NextReceiverPolicy defaultNextReceiverPolicy() {
+        return defaultNextReceiverPolicy;
+    }
+
+    /**
+     * Configures the {@link NextReceiverPolicy} used by sessions created without explicit {@link SessionOptions},
+     * including the connection's default session, when a next receiver is requested without specifying a policy.
+     * The default policy is {@link NextReceiverPolicy#ROUND_ROBIN}.
+     *
+     * @param policy
+     *      the policy used to select the next receiver when none is given.
+     *
+     * @return this {@link ConnectionOptions} instance.
+     */
+    public ConnectionOptions defaultNextReceiverPolicy(NextReceiverPolicy policy) {
+        this.defaultNextReceiverPolicy = policy;
+        return this;
+    }
+
+    /**
+     * @return the maximum number of senders held in the connection's sender cache.
+     */
+    public int senderCacheSize() {
+        return senderCacheSize;
+    }
+
+    /**
+     * Configures the maximum number of senders that {@link Connection#cachedSender(String)} keeps open.
+     * When the limit is exceeded the least recently used sender that has no outstanding sends is closed.
+     * A value of zero disables caching in which case each call opens a new sender owned by the caller.
+     *
+     * @param senderCacheSize
+     *      the maximum number of cached senders.
+     *
+     * @return this {@link ConnectionOptions} instance.
+     */
+    public ConnectionOptions senderCacheSize(int senderCacheSize) {
+        this.senderCacheSize = senderCacheSize;
+        return this;
+    }
+
+    /**
+     * @return the time in milliseconds after which an unused cached sender is closed.
+     */
+    public long senderCacheIdleTimeout() {
+        return senderCacheIdleTimeout;
+    }
+
+    /**
+     * Configures how long a sender in the connection's sender cache can go without being requested
+     * before it is closed and removed from the cache.  A value of zero disables idle eviction.
+     *
+     * @param senderCacheIdleTimeout
+     *      the idle time in milliseconds after which a cached sender is closed.
+     *
+     * @return this {@link ConnectionOptions} instance.
+     */
+    public ConnectionOptions senderCacheIdleTimeout(long senderCacheIdleTimeout) {
+        this.senderCacheIdleTimeout = senderCacheIdleTimeout;
+        return this;
+    }
+
+    /**
+     * @return true if the connection should compress message payloads when the remote supports it.
+     */
+    public boolean payloadCompression() {
+        return payloadCompression;
+    }
+
+    /**
+     * Configures if the connection offers and requests the payload compression capability when it is
+     * opened.  When both peers support the capability messages whose body is made up of only Data
+     * sections at least {@link #payloadCompressionThreshold()} bytes in size are sent compressed with
+     * the <i>deflate</i> content encoding, and received messages with that content encoding have their
+     * body decompressed when the message is read.  Compression is never applied if the remote does not
+     * offer the capability, and messages sent before the remote has responded to the connection open are
+     * sent uncompressed.  The default is <i>false</i>.
+     *
+     * @param payloadCompression
+     *      should payload compression be negotiated with the remote.
+     *
+     * @return this {@link ConnectionOptions} instance.
+     */
+    public ConnectionOptions payloadCompression(boolean payloadCompression) {
+        this.payloadCompression = payloadCompression;
+        return this;
+    }
+
+    /**
+     * @return the minimum message body size in bytes that is compressed when payload compression is active.
+     */
+    public int payloadCompressionThreshold() {
+        return payloadCompressionThreshold;
+    }
+
+    /**
+     * Configures the minimum size of a message body that is compressed when payload compression has been
+     * negotiated with the remote, smaller bodies rarely compress well enough to be worth the cost and are
+     * sent as is.  The default is <i>1024</i> bytes.
+     *
+     * @param payloadCompressionThreshold
+     *      the minimum message body size in bytes that is compressed.
+     *
+     * @return this {@link ConnectionOptions} instance.
+     */
+    public ConnectionOptions payloadCompressionThreshold(int payloadCompressionThreshold) {
+        if (payloadCompressionThreshold < 0) {
+            throw new IllegalArgumentException("Payload compression threshold cannot be negative");
+        }
+
+        this.payloadCompressionThreshold = payloadCompressionThreshold;
+        return this;
+    }
+
+    /**
+     * @return the maximum size in bytes that a compressed message body may decompress to.
+     */
+    public int payloadDecompressionLimit() {
+        return payloadDecompressionLimit;
+    }
+
+    /**
+     * Configures the maximum size in bytes that the body of a received compressed message may grow to
+     * when it is decompressed, a message whose body would exceed the limit fails to decode instead of
+     * consuming unbounded memory.  When the receiving link has a maximum message size set the smaller
+     * of the two values applies.  The default is <i>64</i> MiB.
+     *
+     * @param payloadDecompressionLimit
+     *      the maximum size in bytes of a decompressed message body.
+     *
+     * @return this {@link ConnectionOptions} instance.
+     */
+    public ConnectionOptions payloadDecompressionLimit(int payloadDecompressionLimit) {
+        if (payloadDecompressionLimit <= 0) {
+            throw new IllegalArgumentException("Payload decompression limit must be greater than zero");
+        }
+
+        this.payloadDecompressionLimit = payloadDecompressionLimit;
+        return this;
+    }
+
     /**
      * @return true if SSL support has been enabled for this connection.
      */
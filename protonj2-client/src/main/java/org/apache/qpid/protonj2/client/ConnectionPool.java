@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client;
+
+import java.util.List;
+import java.util.concurrent.Future;
+
+import org.apache.qpid.protonj2.client.exceptions.ClientException;
+
+/**
+ * A fixed size group of {@link Connection} instances spread across one or more remote hosts
+ * that are used together to send and receive messages.
+ * <p>
+ * The {@link Sender} and {@link Receiver} instances opened from a pool are facades over one
+ * link per pooled connection.  Sends are routed to a single connection chosen by the configured
+ * {@link LoadBalancingPolicy} and receives return deliveries that arrive on any of the pooled
+ * connections.  When a pooled connection fails it is removed from the pool and a replacement
+ * is connected to the next configured host, the facades open new links on the replacement once
+ * it has been added.  The {@link Sender#connection()} and {@link Sender#session()} methods of a
+ * pooled link return those of the first connection currently in the pool.
+ */
+public interface ConnectionPool extends AutoCloseable {
+
+    /**
+     * @return the {@link Client} instance that holds the connections in this pool.
+     */
+    Client client();
+
+    /**
+     * Returns a snapshot of the connections currently in the pool, connections that have
+     * failed and not yet been replaced are not included.
+     *
+     * @return an unmodifiable list of the current pooled connections.
+     */
+    List<Connection> connections();
+
+    /**
+     * Creates a sender that routes each send to one of the pooled connections.
+     *
+     * @param address
+     *            The target address to attach to, cannot be null.
+     *
+     * @return the sender facade.
+     *
+     * @throws ClientException if the pool is closed or the sender could not be opened.
+     */
+    Sender openSender(String address) throws ClientException;
+
+    /**
+     * Creates a sender that routes each send to one of the pooled connections.
+     *
+     * @param address
+     *            The target address to attach to, cannot be null.
+     * @param senderOptions
+     *            The options for the links created on each pooled connection.
+     *
+     * @return the sender facade.
+     *
+     * @throws ClientException if the pool is closed or the sender could not be opened.
+     */
+    Sender openSender(String address, SenderOptions senderOptions) throws ClientException;
+
+    /**
+     * Creates a receiver that returns deliveries arriving on any of the pooled connections.
+     *
+     * @param address
+     *            The source address to attach to, cannot be null.
+     *
+     * @return the receiver facade.
+     *
+     * @throws ClientException if the pool is closed or the receiver could not be opened.
+     */
+    Receiver openReceiver(String address) throws ClientException;
+
+    /**
+     * Creates a receiver that returns deliveries arriving on any of the pooled connections.
+     *
+     * @param address
+     *            The source address to attach to, cannot be null.
+     * @param receiverOptions
+     *            The options for the links created on each pooled connection.
+     *
+     * @return the receiver facade.
+     *
+     * @throws ClientException if the pool is closed or the receiver could not be opened.
+     */
+    Receiver openReceiver(String address, ReceiverOptions receiverOptions) throws ClientException;
+
+    /**
+     * Closes every connection in the pool and stops any pending replacement, this method blocks
+     * until each pooled connection has closed.
+     */
+    @Override
+    void close();
+
+    /**
+     * Closes every connection in the pool and stops any pending replacement.
+     *
+     * @return a {@link Future} that is completed when all pooled connections have closed.
+     */
+    Future<ConnectionPool> closeAsync();
+
+}
@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Options that control the size, host distribution and routing behavior of a {@link ConnectionPool}.
+ */
+public class ConnectionPoolOptions {
+
+    public static final int DEFAULT_CONNECTIONS_PER_HOST = 1;
+    public static final long DEFAULT_REPLACEMENT_DELAY = 1_000;
+    public static final LoadBalancingPolicy DEFAULT_LOAD_BALANCING_POLICY = LoadBalancingPolicy.LEAST_OUTSTANDING;
+
+    private final List<URI> hosts = new ArrayList<>();
+    private final ConnectionOptions connectionOptions = new ConnectionOptions();
+
+    private int connectionsPerHost = DEFAULT_CONNECTIONS_PER_HOST;
+    private long replacementDelay = DEFAULT_REPLACEMENT_DELAY;
+    private LoadBalancingPolicy loadBalancingPolicy = DEFAULT_LOAD_BALANCING_POLICY;
+
+    /**
+     * Create a new {@link ConnectionPoolOptions} instance configured with default configuration settings.
+     */
+    public ConnectionPoolOptions() {
+    }
+
+    /**
+     * Creates a {@link ConnectionPoolOptions} instance that is a copy of the given instance.
+     *
+     * @param options
+     *      The {@link ConnectionPoolOptions} instance whose configuration should be copied to this one.
+     */
+    public ConnectionPoolOptions(ConnectionPoolOptions options) {
+        if (options != null) {
+            options.copyInto(this);
+        }
+    }
+
+    /**
+     * Copy all options from this {@link ConnectionPoolOptions} instance into the instance
+     * provided.
+     *
+     * @param other
+     *      the target of this copy operation.
+     *
+     * @return this {@link ConnectionPoolOptions} instance.
+     */
+    protected ConnectionPoolOptions copyInto(ConnectionPoolOptions other) {
+        other.connectionsPerHost(connectionsPerHost);
+        other.replacementDelay(replacementDelay);
+        other.loadBalancingPolicy(loadBalancingPolicy);
+        other.hosts.addAll(hosts);
+
+        connectionOptions.copyInto(other.connectionOptions);
+
+        return this;
+    }
+
+    /**
+     * Adds a remote host that the pool will open connections to.
+     *
+     * @param host
+     *      The host name of the remote host to connect to.
+     * @param port
+     *      The port on the remote host to use when connecting.
+     *
+     * @return this {@link ConnectionPoolOptions} instance.
+     */
+    public ConnectionPoolOptions addHost(String host, int port) {
+        try {
+            hosts.add(new URI(null, null, host, port, null, null, null));
+        } catch (URISyntaxException e) {
+        }
+        return this;
+    }
+
+    /**
+     * @return an unmodifiable view of the configured pool hosts.
+     */
+    public List<URI> hosts() {
+        return Collections.unmodifiableList(hosts);
+    }
+
+    /**
+     * @return the number of connections the pool opens to each configured host.
+     */
+    public int connectionsPerHost() {
+        return connectionsPerHost;
+    }
+
+    /**
+     * Sets the number of connections the pool opens to each configured host, the size of the
+     * pool is the number of hosts multiplied by this value.
+     *
+     * @param connectionsPerHost
+     *      The number of connections to open to each host, must be at least one.
+     *
+     * @return this {@link ConnectionPoolOptions} instance.
+     */
+    public ConnectionPoolOptions connectionsPerHost(int connectionsPerHost) {
+        if (connectionsPerHost < 1) {
+            throw new IllegalArgumentException("Connections per host must be at least one: " + connectionsPerHost);
+        }
+
+        this.connectionsPerHost = connectionsPerHost;
+        return this;
+    }
+
+    /**
+     * @return the delay in milliseconds before a failed pooled connection is replaced.
+     */
+    public long replacementDelay() {
+        return replacementDelay;
+    }
+
+    /**
+     * Sets the time in milliseconds that the pool waits after a pooled connection fails before
+     * connecting its replacement, the same delay is applied between failed replacement attempts.
+     *
+     * @param replacementDelay
+     *      The delay in milliseconds before a replacement connection is attempted.
+     *
+     * @return this {@link ConnectionPoolOptions} instance.
+     */
+    public ConnectionPoolOptions replacementDelay(long replacementDelay) {
+        this.replacementDelay = replacementDelay;
+        return this;
+    }
+
+    /**
+     * @return the policy used to select the pooled connection that carries each send.
+     */
+    public LoadBalancingPolicy loadBalancingPolicy() {
+        return loadBalancingPolicy;
+    }
+
+    /**
+     * Sets the policy used by senders opened from the pool to select the connection that
+     * carries each send, the default is {@link LoadBalancingPolicy#LEAST_OUTSTANDING}.
+     *
+     * @param loadBalancingPolicy
+     *      The load balancing policy to apply to senders opened from the pool.
+     *
+     * @return this {@link ConnectionPoolOptions} instance.
+     */
+    public ConnectionPoolOptions loadBalancingPolicy(LoadBalancingPolicy loadBalancingPolicy) {
+        this.loadBalancingPolicy = Objects.requireNonNull(loadBalancingPolicy, "Load balancing policy cannot be null");
+        return this;
+    }
+
+    /**
+     * Returns the {@link ConnectionOptions} applied to every connection in the pool, the options
+     * can be updated in place before the pool is created.
+     *
+     * @return the options used to create each pooled connection.
+     */
+    public ConnectionOptions connectionOptions() {
+        return connectionOptions;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client;
+
+/**
+ * Determines which member of a {@link ConnectionPool} carries each message sent from a
+ * {@link Sender} that was opened from that pool.
+ */
+public enum LoadBalancingPolicy {
+
+    /**
+     * Rotates through the connections in the pool so that each connection carries a send
+     * before any connection is selected a second time.
+     */
+    ROUND_ROBIN,
+
+    /**
+     * Selects the connection with the fewest sent deliveries that the remote has not yet
+     * settled, favoring connections to peers that are keeping up with the send rate.
+     */
+    LEAST_OUTSTANDING
+
+}
@@ -16,10 +16,12 @@
  */
 package org.apache.qpid.protonj2.client;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
 
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.client.exceptions.ClientException;
 import org.apache.qpid.protonj2.client.impl.ClientMessage;
 import org.apache.qpid.protonj2.client.impl.ClientMessageSupport;
@@ -71,6 +73,20 @@ public interface Message<E> {
         return ClientMessage.create(new Data(body));
     }
 
+    /**
+     * Create and return an {@link Message} that will wrap the readable bytes of the given
+     * {@link ByteBuffer} in an {@link Data} section without copying them.  The buffer must not
+     * be modified until the message has been sent.
+     *
+     * @param body
+     *      An {@link ByteBuffer} that will be wrapped in an {@link Data} body section.
+     *
+     * @return a new {@link Message} instance with a body containing the given bytes.
+     */
+    static Message<byte[]> create(ByteBuffer body) {
+        return ClientMessage.create(new Data(ClientMessageSupport.wrapByteBuffer(body)));
+    }
+
     /**
      * Create and return an {@link Message} that will wrap the given {@link List} in
      * an {@link AmqpSequence} section.
@@ -806,4 +822,19 @@ public interface Message<E> {
      */
     Message<E> body(E value) throws ClientException;
 
+    /**
+     * Returns a read-only {@link ByteBuffer} view of the bytes carried in the {@link Data} body
+     * sections of this message.  A single section body is returned without copying, the bytes of
+     * a body made up of more than one {@link Data} section are copied into one buffer.  Use
+     * {@link AdvancedMessage#bodyBuffer()} to view multiple sections without a copy.
+     *
+     * @return a read-only view of the message body bytes or null if no body is present.
+     *
+     * @throws ClientException if the body contains sections other than {@link Data} sections.
+     */
+    default ByteBuffer bodyByteBuffer() throws ClientException {
+        final ProtonBuffer buffer = toAdvancedMessage().bodyBuffer();
+        return buffer != null ? buffer.toByteBuffer().asReadOnlyBuffer() : null;
+    }
+
 }
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client;
+
+import org.apache.qpid.protonj2.client.exceptions.ClientException;
+import org.apache.qpid.protonj2.client.impl.ClientMessageTemplate;
+
+/**
+ * A pre-encoded message envelope used to send many messages that share the same Header,
+ * MessageAnnotations, Properties, ApplicationProperties and Footer and that differ only in
+ * their message-id, creation-time and body.
+ * <p>
+ * The invariant sections of the prototype message are encoded once when the template is
+ * created.  Each message created from the template copies those bytes, writes its own
+ * message-id, patches its creation-time in place and then encodes only its body, avoiding
+ * the cost of encoding every section of every message.  Messages created from a template
+ * only expose their body, message-id and creation-time, their other sections are supplied
+ * by the template when the message is encoded and cannot be modified.
+ *
+ * @param <E> The type of the body value carried in messages created from this template
+ */
+public interface MessageTemplate<E> {
+
+    /**
+     * Creates a {@link MessageTemplate} whose messages carry the sections of the given prototype
+     * message, the body, message-id and creation-time of the prototype are ignored.  Changes made
+     * to the prototype after the template is created do not affect the template.
+     *
+     * @param <E> The type of the body value carried in messages created from the template.
+     *
+     * @param prototype
+     *      The message whose Header, annotations, properties and footer are encoded into the template.
+     *
+     * @return a new {@link MessageTemplate} instance.
+     *
+     * @throws ClientException if an error occurs while encoding the prototype sections.
+     */
+    static <E> MessageTemplate<E> create(Message<?> prototype) throws ClientException {
+        return ClientMessageTemplate.create(prototype);
+    }
+
+    /**
+     * Creates a message from this template with the given message-id and body whose creation-time
+     * is set to the current time.
+     *
+     * @param messageId
+     *      The message-id to assign to the new message.
+     * @param body
+     *      The body value to assign to the new message.
+     *
+     * @return a new {@link Message} that is encoded using this template.
+     */
+    Message<E> message(Object messageId, E body);
+
+    /**
+     * Creates a message from this template with the given message-id, creation-time and body.
+     *
+     * @param messageId
+     *      The message-id to assign to the new message.
+     * @param creationTime
+     *      The creation-time to assign to the new message.
+     * @param body
+     *      The body value to assign to the new message.
+     *
+     * @return a new {@link Message} that is encoded using this template.
+     */
+    Message<E> message(Object messageId, long creationTime, E body);
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client;
+
+/**
+ * Determines which {@link Receiver} is returned from a call to {@link Session#nextReceiver()}
+ * when more than one receiver in the {@link Session} has deliveries waiting to be received.
+ */
+public enum NextReceiverPolicy {
+
+    /**
+     * Rotates through the receivers in the session so that each receiver with pending
+     * deliveries gets its turn before any receiver is selected a second time.
+     */
+    ROUND_ROBIN,
+
+    /**
+     * Selects a random receiver from those in the session that have pending deliveries.
+     */
+    RANDOM,
+
+    /**
+     * Selects the receiver with the most deliveries waiting to be received.
+     */
+    LARGEST_BACKLOG,
+
+    /**
+     * Selects the receiver with the fewest (but at least one) deliveries waiting to be received.
+     */
+    SMALLEST_BACKLOG,
+
+    /**
+     * Selects the first receiver in the session, in order of creation, that has pending deliveries.
+     */
+    FIRST_AVAILABLE
+
+}
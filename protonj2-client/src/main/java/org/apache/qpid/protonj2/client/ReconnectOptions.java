@@ -33,6 +33,7 @@ public class ReconnectOptions {
     public static final int DEFAULT_RECONNECT_DEALY = 10;
     public static final int DEFAULT_MAX_RECONNECT_DEALY = 30_000;
     public static final boolean DEFAULT_USE_RECONNECT_BACKOFF = true;
+    public static final boolean DEFAULT_WARM_STANDBY = false;
     public static final double DEFAULT_RECONNECT_BACKOFF_MULTIPLIER = 2.0d;
 
     private final List<URI> reconnectHosts = new ArrayList<>();
@@ -44,6 +45,7 @@ public class ReconnectOptions {
     private int reconnectDelay = DEFAULT_RECONNECT_DEALY;
     private int maxReconnectDelay = DEFAULT_MAX_RECONNECT_DEALY;
     private boolean useReconnectBackOff = DEFAULT_USE_RECONNECT_BACKOFF;
+    private boolean warmStandby = DEFAULT_WARM_STANDBY;
     private double reconnectBackOffMultiplier = DEFAULT_RECONNECT_BACKOFF_MULTIPLIER;
 
     /**
@@ -82,6 +84,7 @@ public class ReconnectOptions {
         other.maxReconnectDelay(maxReconnectDelay);
         other.useReconnectBackOff(useReconnectBackOff);
         other.reconnectBackOffMultiplier(reconnectBackOffMultiplier);
+        other.warmStandby(warmStandby);
         other.reconnectHosts.addAll(reconnectHosts);
 
         return this;
@@ -285,4 +288,28 @@ public class ReconnectOptions {
         this.reconnectBackOffMultiplier = reconnectBackOffMultiplier;
         return this;
     }
+
+    /**
+     * @return true if a warm standby connection is kept open to the next reconnect location.
+     */
+    public boolean warmStandby() {
+        return warmStandby;
+    }
+
+    /**
+     * Controls whether, once connected, the client keeps a second connection open to the next
+     * location that reconnect would try.  The standby connection completes its transport connect
+     * and any SASL authentication ahead of time and is used immediately if the active connection
+     * fails, the regular reconnect process is used if the standby is not ready at that point.
+     * This option defaults to false.
+     *
+     * @param warmStandby
+     *      should a pre-authenticated standby connection be maintained to the next reconnect location.
+     *
+     * @return this {@link ReconnectOptions} instance.
+     */
+    public ReconnectOptions warmStandby(boolean warmStandby) {
+        this.warmStandby = warmStandby;
+        return this;
+    }
 }
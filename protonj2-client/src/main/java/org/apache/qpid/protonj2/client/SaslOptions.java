@@ -26,8 +26,12 @@ import java.util.Set;
 public class SaslOptions {
 
     public static final boolean DEFAULT_SASL_ENABLED = true;
+    public static final boolean DEFAULT_OFFLOAD_SASL_RESPONSES = false;
+    public static final boolean DEFAULT_CACHE_SCRAM_KEYS = false;
 
     private boolean saslEnabled = DEFAULT_SASL_ENABLED;
+    private boolean offloadResponses = DEFAULT_OFFLOAD_SASL_RESPONSES;
+    private boolean cacheScramKeys = DEFAULT_CACHE_SCRAM_KEYS;
     private final Set<String> saslAllowedMechs = new LinkedHashSet<>();
 
     public SaslOptions() {
@@ -55,6 +59,53 @@ public class SaslOptions {
         return this;
     }
 
+    /**
+     * @return true if SASL mechanism responses are computed off of the connection I/O thread.
+     */
+    public boolean offloadResponses() {
+        return offloadResponses;
+    }
+
+    /**
+     * Controls whether the SASL mechanism responses are computed on the connection I/O thread
+     * or handed off to the connection's notification thread.  Mechanisms such as SCRAM perform
+     * a costly password derivation during authentication, offloading that work keeps the I/O
+     * thread free to service other traffic while the response is computed.
+     *
+     * @param offloadResponses
+     *      should the SASL mechanism responses be computed off of the connection I/O thread.
+     *
+     * @return this options object for chaining.
+     */
+    public SaslOptions offloadResponses(boolean offloadResponses) {
+        this.offloadResponses = offloadResponses;
+        return this;
+    }
+
+    /**
+     * @return true if keys derived by the SCRAM mechanisms are cached for reuse by other connections.
+     */
+    public boolean cacheScramKeys() {
+        return cacheScramKeys;
+    }
+
+    /**
+     * Controls whether the keys a SCRAM mechanism derives from the password are kept for reuse by
+     * later connections created from the same client.  Deriving the keys is deliberately expensive
+     * so caching them speeds up reconnecting with the same credentials, at the cost of holding
+     * password derived keys in memory until the client is closed.  The cache is owned by the
+     * {@link Client} and holds a bounded number of entries.
+     *
+     * @param cacheScramKeys
+     *      should the keys derived by the SCRAM mechanisms be cached for reuse.
+     *
+     * @return this options object for chaining.
+     */
+    public SaslOptions cacheScramKeys(boolean cacheScramKeys) {
+        this.cacheScramKeys = cacheScramKeys;
+        return this;
+    }
+
     /**
      * Adds a mechanism to the list of allowed SASL mechanisms this client will use
      * when selecting from the remote peers offered set of SASL mechanisms.  If no
@@ -88,6 +139,8 @@ public class SaslOptions {
      */
     public SaslOptions copyInto(SaslOptions other) {
         other.saslEnabled(saslEnabled());
+        other.offloadResponses(offloadResponses());
+        other.cacheScramKeys(cacheScramKeys());
 
         return other;
     }
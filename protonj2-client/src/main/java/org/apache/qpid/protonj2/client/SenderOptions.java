@@ -292,6 +292,7 @@ public class SenderOptions {
      */
     protected SenderOptions copyInto(SenderOptions other) {
         other.autoSettle(autoSettle);
+        other.deliveryMode(deliveryMode);
         other.linkName(linkName);
         other.closeTimeout(closeTimeout);
         other.openTimeout(openTimeout);
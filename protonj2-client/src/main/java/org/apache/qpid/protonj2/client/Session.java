@@ -18,6 +18,7 @@ package org.apache.qpid.protonj2.client;
 
 import java.util.Map;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.qpid.protonj2.client.exceptions.ClientException;
 import org.apache.qpid.protonj2.client.exceptions.ClientTransactionNotActiveException;
@@ -275,6 +276,77 @@ public interface Session extends AutoCloseable {
      */
     String[] desiredCapabilities() throws ClientException;
 
+    /**
+     * Waits indefinitely for a {@link Receiver} created from this {@link Session} to have a delivery
+     * ready for receipt and returns it.  When more than one receiver has pending deliveries the one that
+     * is returned is chosen using the {@link SessionOptions#defaultNextReceiverPolicy()} configured for
+     * this session.  This allows a single thread to consume from many receivers without dedicating a
+     * blocked thread to each of them or polling each with {@link Receiver#tryReceive()}.
+     * <p>
+     * The returned receiver had a delivery queued at the time it was selected, however if other threads
+     * are also receiving from that receiver the delivery may have been consumed by the time the caller
+     * attempts to receive it.
+     *
+     * @return the next receiver that has a delivery ready for receipt.
+     *
+     * @throws ClientException if the session is closed or fails while waiting.
+     */
+    Receiver nextReceiver() throws ClientException;
+
+    /**
+     * Waits indefinitely for a {@link Receiver} created from this {@link Session} to have a delivery
+     * ready for receipt and returns it, choosing between receivers with pending deliveries using the
+     * given {@link NextReceiverPolicy}.
+     *
+     * @param policy
+     *      The policy used to choose between receivers that have pending deliveries.
+     *
+     * @return the next receiver that has a delivery ready for receipt.
+     *
+     * @throws ClientException if the session is closed or fails while waiting.
+     *
+     * @see #nextReceiver()
+     */
+    Receiver nextReceiver(NextReceiverPolicy policy) throws ClientException;
+
+    /**
+     * Waits up to the given timeout for a {@link Receiver} created from this {@link Session} to have a
+     * delivery ready for receipt and returns it, or returns null if none became ready in time.  A timeout
+     * of zero checks for a ready receiver without waiting and a negative timeout waits indefinitely.
+     *
+     * @param timeout
+     *      The amount of time to wait for a receiver to have a delivery ready.
+     * @param unit
+     *      The unit of time that the timeout value is expressed in.
+     *
+     * @return the next receiver that has a delivery ready for receipt or null if the wait timed out.
+     *
+     * @throws ClientException if the session is closed or fails while waiting.
+     *
+     * @see #nextReceiver()
+     */
+    Receiver nextReceiver(long timeout, TimeUnit unit) throws ClientException;
+
+    /**
+     * Waits up to the given timeout for a {@link Receiver} created from this {@link Session} to have a
+     * delivery ready for receipt and returns it, or returns null if none became ready in time.  Receivers
+     * with pending deliveries are chosen between using the given {@link NextReceiverPolicy}.
+     *
+     * @param policy
+     *      The policy used to choose between receivers that have pending deliveries.
+     * @param timeout
+     *      The amount of time to wait for a receiver to have a delivery ready.
+     * @param unit
+     *      The unit of time that the timeout value is expressed in.
+     *
+     * @return the next receiver that has a delivery ready for receipt or null if the wait timed out.
+     *
+     * @throws ClientException if the session is closed or fails while waiting.
+     *
+     * @see #nextReceiver()
+     */
+    Receiver nextReceiver(NextReceiverPolicy policy, long timeout, TimeUnit unit) throws ClientException;
+
     /**
      * Opens a new transaction scoped to this {@link Session} if one is not already active.
      *
@@ -283,7 +355,9 @@ public interface Session extends AutoCloseable {
      * transaction they user must commit the active transaction and not request that a new one be started.
      * A session can only have one active transaction at a time and as such any call to begin while there is
      * a currently active transaction will throw an {@link ClientTransactionNotActiveException} to indicate that
-     * the operation being requested is not valid at that time.
+     * the operation being requested is not valid at that time.  When the session has
+     * {@link SessionOptions#pipelinedTransactions()} enabled a transaction that was declared ahead of time
+     * is used if one is available.
      *
      * This is a blocking method that will return successfully only after a new transaction has been started.
      *
@@ -326,4 +400,22 @@ public interface Session extends AutoCloseable {
      */
     Session rollbackTransaction() throws ClientException;
 
+    /**
+     * Declares a new transaction that is independent of the session scoped transaction.
+     * <p>
+     * The returned {@link Transaction} handle is used to send messages and apply dispositions
+     * under the declared transaction and to later commit or roll it back.  Work that is not done
+     * through the handle is not enlisted in the transaction, and any number of handles can be in
+     * use at the same time if the remote coordinator supports multiple transactions per session.
+     * When the session has {@link SessionOptions#pipelinedTransactions()} enabled this method will
+     * use a transaction that was declared ahead of time where one is available.
+     *
+     * This is a blocking method that will return successfully only after the transaction has been declared.
+     *
+     * @return a new {@link Transaction} handle for the declared transaction.
+     *
+     * @throws ClientException if an error occurs while attempting to declare the transaction.
+     */
+    Transaction declareTransaction() throws ClientException;
+
 }
@@ -39,6 +39,8 @@ public class SessionOptions {
 
     private int incomingCapacity = DEFAULT_SESSION_INCOMING_CAPACITY;
     private int outgoingCapacity = DEFAULT_SESSION_OUTGOING_CAPACITY;
+    private boolean pipelinedTransactions;
+    private NextReceiverPolicy defaultNextReceiverPolicy = NextReceiverPolicy.ROUND_ROBIN;
 
     private String[] offeredCapabilities;
     private String[] desiredCapabilities;
@@ -75,6 +77,8 @@ public class SessionOptions {
         other.requestTimeout(requestTimeout);
         other.incomingCapacity(incomingCapacity);
         other.outgoingCapacity(outgoingCapacity);
+        other.pipelinedTransactions(pipelinedTransactions);
+        other.defaultNextReceiverPolicy(defaultNextReceiverPolicy);
 
         if (offeredCapabilities != null) {
             other.offeredCapabilities(Arrays.copyOf(offeredCapabilities, offeredCapabilities.length));
@@ -301,4 +305,54 @@ public class SessionOptions {
         this.outgoingCapacity = outgoingCapacity;
         return this;
     }
+
+    /**
+     * @return true if the {@link Session} declares its next transaction while the current one is being discharged.
+     */
+    public boolean pipelinedTransactions() {
+        return pipelinedTransactions;
+    }
+
+    /**
+     * Controls if a {@link Session} declares the next transaction ahead of time whenever a transaction
+     * is committed or rolled back.  When enabled the declare of the next transaction is sent along with
+     * the discharge of the current one so that a subsequent call to {@link Session#beginTransaction()}
+     * or {@link Session#declareTransaction()} can use the already declared transaction instead of waiting
+     * on a new round trip to the remote transaction coordinator.  Enabling this option also requests the
+     * multiple transactions per session capability from the remote coordinator.
+     * <p>
+     * A transaction that was declared ahead of time but never used is left for the remote to roll back
+     * once the session is closed.
+     *
+     * @param pipelinedTransactions
+     *      should the session declare the next transaction while the current one is discharged.
+     *
+     * @return this {@link SessionOptions} instance.
+     */
+    public SessionOptions pipelinedTransactions(boolean pipelinedTransactions) {
+        this.pipelinedTransactions = pipelinedTransactions;
+        return this;
+    }
+
+    /**
+     * @return the policy used by {@link Session#nextReceiver()} to choose between receivers with pending deliveries.
+     */
+    public NextReceiverPolicy defaultNextReceiverPolicy() {
+        return defaultNextReceiverPolicy;
+    }
+
+    /**
+     * Configures the {@link NextReceiverPolicy} that a {@link Session} uses to choose between receivers
+     * that have pending deliveries when a next receiver is requested without specifying a policy.  The
+     * default policy is {@link NextReceiverPolicy#ROUND_ROBIN}.
+     *
+     * @param policy
+     *      the policy used to select the next receiver when none is given.
+     *
+     * @return this {@link SessionOptions} instance.
+     */
+    public SessionOptions defaultNextReceiverPolicy(NextReceiverPolicy policy) {
+        this.defaultNextReceiverPolicy = policy;
+        return this;
+    }
 }
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client;
+
+import java.util.concurrent.Future;
+
+import org.apache.qpid.protonj2.client.exceptions.ClientException;
+import org.apache.qpid.protonj2.client.exceptions.ClientTransactionNotActiveException;
+import org.apache.qpid.protonj2.client.exceptions.ClientTransactionRolledBackException;
+
+/**
+ * Handle to a transaction declared explicitly through {@link Session#declareTransaction()}.
+ * <p>
+ * Unlike the session scoped transaction started with {@link Session#beginTransaction()} a
+ * {@link Transaction} handle only applies to the sends and dispositions that are performed
+ * through it, which allows a {@link Session} to have more than one transaction in flight at a
+ * time and to overlap the discharge of one transaction with the work done under another.  The
+ * remote transaction coordinator must support multiple transactions per session for more than
+ * one handle to be active concurrently.
+ */
+public interface Transaction {
+
+    /**
+     * @return the {@link Session} that declared this {@link Transaction}.
+     */
+    Session session();
+
+    /**
+     * @return true if the transaction is declared and has not yet been committed or rolled back.
+     */
+    boolean isActive();
+
+    /**
+     * Send the given message from the provided {@link Sender} as part of this transaction.
+     * <p>
+     * The sender must have been created from the same {@link Session} that declared this transaction
+     * and this method blocks for credit in the same manner as {@link Sender#send(Message)}.
+     *
+     * @param <T>
+     *      the type of message body that is being sent.
+     * @param sender
+     *      the {@link Sender} that will send the message.
+     * @param message
+     *      the {@link Message} to send under this transaction.
+     *
+     * @return a {@link Tracker} that tracks the transactional send.
+     *
+     * @throws ClientException if an error occurs while sending the message.
+     */
+    <T> Tracker send(Sender sender, Message<T> message) throws ClientException;
+
+    /**
+     * Accepts and settles the given {@link Delivery} as part of this transaction.
+     *
+     * @param delivery
+     *      the {@link Delivery} that should be accepted under this transaction.
+     *
+     * @return this {@link Transaction} instance.
+     *
+     * @throws ClientException if an error occurs while applying the disposition.
+     */
+    Transaction accept(Delivery delivery) throws ClientException;
+
+    /**
+     * Applies the given outcome to the provided {@link Delivery} as part of this transaction, the
+     * delivery is always settled as the outcome only takes effect once the transaction is committed.
+     *
+     * @param delivery
+     *      the {@link Delivery} that the outcome should be applied to.
+     * @param state
+     *      the outcome to apply to the delivery under this transaction.
+     *
+     * @return this {@link Transaction} instance.
+     *
+     * @throws ClientException if an error occurs while applying the disposition.
+     */
+    Transaction disposition(Delivery delivery, DeliveryState state) throws ClientException;
+
+    /**
+     * Commits this transaction and waits for the remote to respond.
+     *
+     * @return this {@link Transaction} instance.
+     *
+     * @throws ClientTransactionNotActiveException if the transaction is not currently active.
+     * @throws ClientTransactionRolledBackException if the transaction was rolled back instead of committed.
+     * @throws ClientException if an error occurs while attempting to commit the transaction.
+     */
+    Transaction commit() throws ClientException;
+
+    /**
+     * Requests that this transaction be committed without waiting for the remote to respond.
+     *
+     * @return a {@link Future} that is completed once the remote has committed the transaction.
+     */
+    Future<Transaction> commitAsync();
+
+    /**
+     * Rolls back this transaction and waits for the remote to respond.
+     *
+     * @return this {@link Transaction} instance.
+     *
+     * @throws ClientTransactionNotActiveException if the transaction is not currently active.
+     * @throws ClientException if an error occurs while attempting to roll back the transaction.
+     */
+    Transaction rollback() throws ClientException;
+
+    /**
+     * Requests that this transaction be rolled back without waiting for the remote to respond.
+     *
+     * @return a {@link Future} that is completed once the remote has rolled back the transaction.
+     */
+    Future<Transaction> rollbackAsync();
+
+}
@@ -35,6 +35,7 @@ public class TransportOptions implements Cloneable {
     public static final int DEFAULT_TCP_PORT = 5672;
     public static final boolean DEFAULT_ALLOW_NATIVE_IO = true;
     public static final boolean DEFAULT_TRACE_BYTES = false;
+    public static final boolean DEFAULT_GATHERING_WRITES = true;
     public static final int DEFAULT_LOCAL_PORT = 0;
     public static final boolean DEFAULT_USE_WEBSOCKETS = false;
     public static final int DEFAULT_WEBSOCKET_MAX_FRAME_SIZE = 65535;
@@ -54,6 +55,7 @@ public class TransportOptions implements Cloneable {
     private boolean allowNativeIO = DEFAULT_ALLOW_NATIVE_IO;
     private String[] nativeIOPeference = DEFAULT_NATIVEIO_PREFERENCES;
     private boolean traceBytes = DEFAULT_TRACE_BYTES;
+    private boolean gatheringWrites = DEFAULT_GATHERING_WRITES;
     private boolean useWebSockets = DEFAULT_USE_WEBSOCKETS;
     private String webSocketPath;
     private int webSocketMaxFrameSize = DEFAULT_WEBSOCKET_MAX_FRAME_SIZE;
@@ -272,6 +274,29 @@ public class TransportOptions implements Cloneable {
         return this;
     }
 
+    /**
+     * @return true if large transfer payloads are written without being copied into the outgoing frame.
+     */
+    public boolean gatheringWrites() {
+        return gatheringWrites;
+    }
+
+    /**
+     * Determines if transfer frames carrying large payloads are handed to the transport as the
+     * frame header followed by a view of the payload, allowing the transport to perform a gathering
+     * write instead of copying the payload into a single frame buffer.  The option is only applied
+     * when the transport in use can write such frames without copying them again.
+     *
+     * @param gatheringWrites
+     *      should the transport write large transfer payloads without copying them.
+     *
+     * @return this options instance.
+     */
+    public TransportOptions gatheringWrites(boolean gatheringWrites) {
+        this.gatheringWrites = gatheringWrites;
+        return this;
+    }
+
     public boolean useWebSockets() {
         return useWebSockets;
     }
@@ -329,6 +354,7 @@ public class TransportOptions implements Cloneable {
         other.allowNativeIO(allowNativeIO());
         other.nativeIOPeference(nativeIOPeference());
         other.traceBytes(traceBytes());
+        other.gatheringWrites(gatheringWrites());
         other.localAddress(localAddress());
         other.localPort(localPort());
         other.useWebSockets(useWebSockets());
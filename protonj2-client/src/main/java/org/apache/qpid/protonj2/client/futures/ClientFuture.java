@@ -62,11 +62,7 @@ public abstract class ClientFuture<V> implements Future<V>, AsyncResult<V> {
         if (STATE_FIELD_UPDATER.compareAndSet(this, INCOMPLETE, COMPLETING)) {
             STATE_FIELD_UPDATER.lazySet(this, CANCELLED);
 
-            synchronized(this) {
-                if (waiting > 0) {
-                    notifyAll();
-                }
-            }
+            signalWaiters();
 
             return true;
         } else {
@@ -107,11 +103,7 @@ public abstract class ClientFuture<V> implements Future<V>, AsyncResult<V> {
 
             STATE_FIELD_UPDATER.lazySet(this, FAILURE);
 
-            synchronized(this) {
-                if (waiting > 0) {
-                    notifyAll();
-                }
-            }
+            signalWaiters();
         }
     }
 
@@ -126,11 +118,7 @@ public abstract class ClientFuture<V> implements Future<V>, AsyncResult<V> {
 
             STATE_FIELD_UPDATER.lazySet(this, SUCCESS);
 
-            synchronized(this) {
-                if (waiting > 0) {
-                    notifyAll();
-                }
-            }
+            signalWaiters();
         }
     }
 
@@ -140,6 +128,18 @@ public abstract class ClientFuture<V> implements Future<V>, AsyncResult<V> {
     @Override
     public abstract V get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException;
 
+    /**
+     * Wakes any threads blocked waiting for this future to complete, called once the future
+     * has entered a completed, failed or cancelled state.
+     */
+    protected void signalWaiters() {
+        synchronized(this) {
+            if (waiting > 0) {
+                notifyAll();
+            }
+        }
+    }
+
     /**
      * TODO - Provide hook to run on the event loop to do whatever it means to cancel this task and
      *        update the task state in a thread safe manner.
@@ -19,6 +19,9 @@ package org.apache.qpid.protonj2.client.futures;
 import java.util.concurrent.Future;
 
 import org.apache.qpid.protonj2.client.exceptions.ClientException;
+import org.apache.qpid.protonj2.client.util.DeliveryQueue;
+import org.apache.qpid.protonj2.client.util.FifoDeliveryQueue;
+import org.apache.qpid.protonj2.client.util.ParkingDeliveryQueue;
 
 /**
  * Factory for client future instances that will create specific versions based on
@@ -33,6 +36,7 @@ public abstract class ClientFutureFactory {
     public static final String CONSERVATIVE = "conservative";
     public static final String BALANCED = "balanced";
     public static final String PROGRESSIVE = "progressive";
+    public static final String PARKING = "parking";
 
     /**
      * Create a new ClientFutureFactory instance based on the given type name.
@@ -60,6 +64,8 @@ public abstract class ClientFutureFactory {
                 return new BalancedProviderFutureFactory();
             case PROGRESSIVE:
                 return new ProgressiveProviderFutureFactory();
+            case PARKING:
+                return new ParkingProviderFutureFactory();
             default:
                 throw new IllegalArgumentException(
                     "No ClientFuture implementation with name " + futureType + " found");
@@ -107,6 +113,19 @@ public abstract class ClientFutureFactory {
      */
     public abstract <V> ClientFuture<V> createUnfailableFuture(ClientSynchronization<V> synchronization);
 
+    /**
+     * Creates the queue that receivers use to hand incoming deliveries to blocked receive calls, the
+     * queue blocks its callers in a manner consistent with the futures this factory creates.
+     *
+     * @param queueDepth
+     *      The expected number of deliveries the queue will hold at any given time.
+     *
+     * @return a new {@link DeliveryQueue} instance.
+     */
+    public DeliveryQueue createDeliveryQueue(int queueDepth) {
+        return new FifoDeliveryQueue(queueDepth);
+    }
+
     //----- Internal support methods -----------------------------------------//
 
     private static boolean isWindows() {
@@ -209,4 +228,38 @@ public abstract class ClientFutureFactory {
             };
         }
     }
+
+    private static class ParkingProviderFutureFactory extends ClientFutureFactory {
+
+        @Override
+        public <V> ClientFuture<V> createFuture() {
+            return new ParkingClientFuture<>();
+        }
+
+        @Override
+        public <V> ClientFuture<V> createFuture(ClientSynchronization<V> synchronization) {
+            return new ParkingClientFuture<>(synchronization);
+        }
+
+        @Override
+        public <V> ClientFuture<V> createUnfailableFuture() {
+            return createUnfailableFuture(null);
+        }
+
+        @Override
+        public <V> ClientFuture<V> createUnfailableFuture(ClientSynchronization<V> synchronization) {
+            return new ParkingClientFuture<>(synchronization) {
+
+                @Override
+                public void failed(ClientException t) {
+                    this.complete(null);
+                }
+            };
+        }
+
+        @Override
+        public DeliveryQueue createDeliveryQueue(int queueDepth) {
+            return new ParkingDeliveryQueue();
+        }
+    }
 }
@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.futures;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A ClientFuture implementation that blocks waiting threads using only {@link LockSupport}
+ * park and unpark calls and never enters an object monitor.  This variant is suited to
+ * applications that block on the client from virtual threads where waiting inside a
+ * synchronized block would pin the carrier thread for the duration of the wait.
+ *
+ * @param <V> The type that result from completion of this Future
+ */
+public class ParkingClientFuture<V> extends ClientFuture<V> {
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<ParkingClientFuture, WaitNode> WAITERS_UPDATER =
+        AtomicReferenceFieldUpdater.newUpdater(ParkingClientFuture.class, WaitNode.class, "waiters");
+
+    private volatile WaitNode waiters;
+
+    public ParkingClientFuture() {
+        this(null);
+    }
+
+    public ParkingClientFuture(ClientSynchronization<V> synchronization) {
+        super(synchronization);
+    }
+
+    @Override
+    public V get(long amount, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        if (isComplete() || amount == 0) {
+            failOnError();
+            return getResult();
+        }
+
+        final long deadline = System.nanoTime() + unit.toNanos(amount);
+
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+
+        WaitNode node = null;
+
+        while (true) {
+            if (isComplete()) {
+                failOnError();
+                return getResult();
+            }
+
+            final long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                removeWaiter(node);
+                failOnError();
+                if (isComplete()) {
+                    return getResult();
+                }
+                throw new TimeoutException("Timed out waiting for completion");
+            }
+
+            if (node == null) {
+                node = enqueueWaiter();
+            } else {
+                LockSupport.parkNanos(this, remaining);
+
+                if (Thread.interrupted()) {
+                    removeWaiter(node);
+                    throw new InterruptedException();
+                }
+            }
+        }
+    }
+
+    @Override
+    public V get() throws InterruptedException, ExecutionException {
+        if (isComplete()) {
+            failOnError();
+            return getResult();
+        }
+
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+
+        WaitNode node = null;
+
+        while (true) {
+            if (isComplete()) {
+                failOnError();
+                return getResult();
+            }
+
+            if (node == null) {
+                node = enqueueWaiter();
+            } else {
+                LockSupport.park(this);
+
+                if (Thread.interrupted()) {
+                    removeWaiter(node);
+                    throw new InterruptedException();
+                }
+            }
+        }
+    }
+
+    @Override
+    protected void signalWaiters() {
+        // The atomic swap orders the completed state write before the read of the waiters so
+        // that a thread which queued itself after the swap will observe the completed state.
+        WaitNode node = WAITERS_UPDATER.getAndSet(this, null);
+
+        while (node != null) {
+            LockSupport.unpark(node.thread);
+            node = node.next;
+        }
+    }
+
+    /*
+     * Pushes the current thread onto the waiters stack, the caller must check for completion
+     * again before parking as the future may have completed while the node was being added.
+     */
+    private WaitNode enqueueWaiter() {
+        final WaitNode node = new WaitNode(Thread.currentThread());
+
+        do {
+            node.next = waiters;
+        } while (!WAITERS_UPDATER.compareAndSet(this, node.next, node));
+
+        return node;
+    }
+
+    /*
+     * Unlinks a waiter that gave up due to timeout or interruption so that repeated timed waits
+     * on a future that is slow to complete do not accumulate nodes, any other abandoned nodes
+     * found along the way are unlinked as well.
+     */
+    private void removeWaiter(WaitNode node) {
+        if (node == null) {
+            return;
+        }
+
+        node.thread = null;
+
+        retry:
+        while (true) {
+            WaitNode predecessor = null;
+            WaitNode current = waiters;
+
+            while (current != null) {
+                final WaitNode successor = current.next;
+
+                if (current.thread != null) {
+                    predecessor = current;
+                } else if (predecessor != null) {
+                    predecessor.next = successor;
+                    if (predecessor.thread == null) {
+                        continue retry;
+                    }
+                } else if (!WAITERS_UPDATER.compareAndSet(this, current, successor)) {
+                    continue retry;
+                }
+
+                current = successor;
+            }
+
+            break;
+        }
+    }
+
+    private static final class WaitNode {
+
+        private volatile Thread thread;
+        private volatile WaitNode next;
+
+        WaitNode(Thread thread) {
+            this.thread = thread;
+        }
+    }
+}
@@ -21,6 +21,7 @@ import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.security.Principal;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
@@ -34,6 +35,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.client.Client;
@@ -43,6 +45,7 @@ import org.apache.qpid.protonj2.client.ConnectionOptions;
 import org.apache.qpid.protonj2.client.DisconnectionEvent;
 import org.apache.qpid.protonj2.client.ErrorCondition;
 import org.apache.qpid.protonj2.client.Message;
+import org.apache.qpid.protonj2.client.NextReceiverPolicy;
 import org.apache.qpid.protonj2.client.Receiver;
 import org.apache.qpid.protonj2.client.ReceiverOptions;
 import org.apache.qpid.protonj2.client.Sender;
@@ -70,9 +73,14 @@ import org.apache.qpid.protonj2.client.util.ReconnectionURIPool;
 import org.apache.qpid.protonj2.client.util.TrackableThreadFactory;
 import org.apache.qpid.protonj2.engine.Engine;
 import org.apache.qpid.protonj2.engine.EngineFactory;
+import org.apache.qpid.protonj2.engine.sasl.client.Mechanism;
 import org.apache.qpid.protonj2.engine.sasl.client.SaslAuthenticator;
 import org.apache.qpid.protonj2.engine.sasl.client.SaslCredentialsProvider;
 import org.apache.qpid.protonj2.engine.sasl.client.SaslMechanismSelector;
+import org.apache.qpid.protonj2.engine.sasl.client.ScramSHA1Mechanism;
+import org.apache.qpid.protonj2.engine.sasl.client.ScramSHA256Mechanism;
+import org.apache.qpid.protonj2.engine.util.HashedWheelTimer;
+import org.apache.qpid.protonj2.types.Symbol;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -102,14 +110,17 @@ public class ClientConnection implements Connection {
     private final NettyIOContext ioContext;
     private final String connectionId;
     private final ScheduledExecutorService executor;
+    private final HashedWheelTimer timer;
     private final Map<ClientFuture<?>, Object> requests = new ConcurrentHashMap<>();
     private final ThreadPoolExecutor notifications;
+    private final ClientSenderCache senderCache;
 
     private Engine engine;
     private org.apache.qpid.protonj2.engine.Connection protonConnection;
     private ClientSession connectionSession;
     private ClientSender connectionSender;
     private Transport transport;
+    private ClientWarmStandby warmStandby;
     private boolean autoFlush = true;
     private ClientFuture<Connection> openFuture;
     private ClientFuture<Connection> closeFuture;
@@ -136,10 +147,12 @@ public class ClientConnection implements Connection {
         this.client = client;
         this.options = options;
         this.connectionId = client.nextConnectionId();
+        this.timer = client.timer();
         this.futureFactory = ClientFutureFactory.create(client.options().futureType());
         this.openFuture = futureFactory.createFuture();
         this.closeFuture = futureFactory.createFuture();
         this.sessionBuilder = new ClientSessionBuilder(this);
+        this.senderCache = new ClientSenderCache(this, options.senderCacheSize(), options.senderCacheIdleTimeout());
         this.ioContext = new NettyIOContext(options.transportOptions(),
                                             options.sslOptions(),
                                             "ClientConnection :(" + connectionId + "): I/O Thread");
@@ -281,6 +294,26 @@ public class ClientConnection implements Connection {
         return request(this, createSession);
     }
 
+    @Override
+    public Receiver nextReceiver() throws ClientException {
+        return defaultSession().nextReceiver();
+    }
+
+    @Override
+    public Receiver nextReceiver(NextReceiverPolicy policy) throws ClientException {
+        return defaultSession().nextReceiver(policy);
+    }
+
+    @Override
+    public Receiver nextReceiver(long timeout, TimeUnit unit) throws ClientException {
+        return defaultSession().nextReceiver(timeout, unit);
+    }
+
+    @Override
+    public Receiver nextReceiver(NextReceiverPolicy policy, long timeout, TimeUnit unit) throws ClientException {
+        return defaultSession().nextReceiver(policy, timeout, unit);
+    }
+
     @Override
     public Receiver openReceiver(String address) throws ClientException {
         return openReceiver(address, null);
@@ -431,6 +464,29 @@ public class ClientConnection implements Connection {
         return request(this, createSender);
     }
 
+    @Override
+    public Sender cachedSender(String address) throws ClientException {
+        return cachedSender(address, null);
+    }
+
+    @Override
+    public Sender cachedSender(String address, SenderOptions senderOptions) throws ClientException {
+        checkClosedOrFailed();
+        Objects.requireNonNull(address, "Cannot create a sender with a null address");
+        final ClientFuture<Sender> cachedSender = getFutureFactory().createFuture();
+
+        executor.execute(() -> {
+            try {
+                checkClosedOrFailed();
+                cachedSender.complete(senderCache.getOrCreate(lazyCreateConnectionSession(), address, senderOptions));
+            } catch (Throwable error) {
+                cachedSender.failed(ClientExceptionSupport.createNonFatalOrPassthrough(error));
+            }
+        });
+
+        return request(this, cachedSender);
+    }
+
     @Override
     public Sender openAnonymousSender() throws ClientException {
         return openAnonymousSender(null);
@@ -567,6 +623,10 @@ public class ClientConnection implements Connection {
         return executor;
     }
 
+    HashedWheelTimer.Timeout scheduleTimeout(Runnable task, long delay) {
+        return timer.schedule(executor, task, delay, TimeUnit.MILLISECONDS);
+    }
+
     ClientFutureFactory getFutureFactory() {
         return futureFactory;
     }
@@ -610,10 +670,10 @@ public class ClientConnection implements Connection {
     //----- Private implementation events handlers and utility methods
 
     private void handleLocalOpen(org.apache.qpid.protonj2.engine.Connection connection) {
-        connection.tickAuto(getScheduler());
+        connection.tickAuto((task, delay, unit) -> timer.schedule(executor, task, delay, unit)::cancel);
 
         if (options.openTimeout() > 0) {
-            executor.schedule(() -> {
+            scheduleTimeout(() -> {
                 if (!openFuture.isDone()) {
                     // Ensure a close write is attempted and then force failure regardless
                     // as we don't expect the remote to respond given it hasn't done so yet.
@@ -624,7 +684,7 @@ public class ClientConnection implements Connection {
                     connection.getEngine().engineFailed(new ClientOperationTimedOutException(
                         "Connection Open timed out waiting for remote to open"));
                 }
-            }, options.openTimeout(), TimeUnit.MILLISECONDS);
+            }, options.openTimeout());
         }
     }
 
@@ -644,12 +704,12 @@ public class ClientConnection implements Connection {
             }
         } else if (!engine.isShutdown() || !engine.isFailed()) {
             // Ensure engine gets shut down and future completed if remote doesn't respond.
-            executor.schedule(() -> {
+            scheduleTimeout(() -> {
                 try {
                     connection.getEngine().shutdown();
                 } catch (Throwable ignore) {
                 }
-            }, options.closeTimeout(), TimeUnit.MILLISECONDS);
+            }, options.closeTimeout());
         }
     }
 
@@ -664,6 +724,10 @@ public class ClientConnection implements Connection {
         }
 
         openFuture.complete(this);
+
+        if (options.reconnectOptions().reconnectEnabled() && options.reconnectOptions().warmStandby()) {
+            prepareWarmStandby();
+        }
     }
 
     private void submitConnectionEvent(BiConsumer<Connection, ConnectionEvent> handler, String host, int port, ClientIOException cause) {
@@ -771,10 +835,27 @@ public class ClientConnection implements Connection {
             // user most likely configured something incorrect or that violates some constraint
             // like an invalid SASL mechanism etc.
             try {
-                final URI remoteHost = reconnectPool.getNext();
+                final ClientWarmStandby standby = warmStandby;
+
+                warmStandby = null;
+
+                if (standby != null && standby.isReady()) {
+                    adoptWarmStandby(standby);
+                } else {
+                    final URI remoteHost;
+
+                    // A standby that is still connecting already took the next host from the pool so
+                    // the reconnect goes to that host rather than skipping over it.
+                    if (standby != null) {
+                        standby.close();
+                        remoteHost = standby.getRemoteURI();
+                    } else {
+                        remoteHost = reconnectPool.getNext();
+                    }
 
-                initializeProtonResources(remoteHost.getHost());
-                scheduleReconnect(remoteHost.getHost(), remoteHost.getPort());
+                    initializeProtonResources(remoteHost.getHost());
+                    scheduleReconnect(remoteHost.getHost(), remoteHost.getPort());
+                }
             } catch (ClientException initError) {
                 failConnection(ClientExceptionSupport.createOrPassthroughFatal(initError));
             } finally {
@@ -794,6 +875,8 @@ public class ClientConnection implements Connection {
         // Only handle this on normal shutdown failure will perform its own controlled shutdown
         // and or reconnection logic which this method should avoid interfering with.
         if (engine.failureCause() == null) {
+            discardWarmStandby();
+
             try {
                 protonConnection.close();
             } catch (Exception ignore) {
@@ -813,6 +896,8 @@ public class ClientConnection implements Connection {
     private void failConnection(ClientIOException failureCause) {
         FAILURE_CAUSE_UPDATER.compareAndSet(this, null, failureCause);
 
+        discardWarmStandby();
+
         try {
             protonConnection.close();
         } catch (Exception ignore) {}
@@ -827,12 +912,28 @@ public class ClientConnection implements Connection {
         submitDisconnectionEvent(options.disconnectedHandler(), transport.getHost(), transport.getPort(), failureCause);
     }
 
-    private Engine configureEngineSaslSupport() {
+    private Engine configureEngineSaslSupport(Engine protonEngine, Supplier<Transport> transportSupplier) {
         if (options.saslOptions().saslEnabled()) {
-            SaslMechanismSelector mechSelector =
-                new SaslMechanismSelector(ClientConversionSupport.toSymbolSet(options.saslOptions().allowedMechanisms()));
+            final SaslMechanismSelector mechSelector;
+            if (options.saslOptions().cacheScramKeys()) {
+                mechSelector = new SaslMechanismSelector(ClientConversionSupport.toSymbolSet(options.saslOptions().allowedMechanisms())) {
+
+                    @Override
+                    protected Mechanism createMechanism(Symbol name, SaslCredentialsProvider credentials) {
+                        if (ScramSHA256Mechanism.SCRAM_SHA_256.equals(name)) {
+                            return new ScramSHA256Mechanism(client.scramKeyCache());
+                        } else if (ScramSHA1Mechanism.SCRAM_SHA_1.equals(name)) {
+                            return new ScramSHA1Mechanism(client.scramKeyCache());
+                        } else {
+                            return super.createMechanism(name, credentials);
+                        }
+                    }
+                };
+            } else {
+                mechSelector = new SaslMechanismSelector(ClientConversionSupport.toSymbolSet(options.saslOptions().allowedMechanisms()));
+            }
 
-            engine.saslDriver().client().setListener(new SaslAuthenticator(mechSelector, new SaslCredentialsProvider() {
+            SaslAuthenticator authenticator = new SaslAuthenticator(mechSelector, new SaslCredentialsProvider() {
 
                 @Override
                 public String vhost() {
@@ -851,52 +952,69 @@ public class ClientConnection implements Connection {
 
                 @Override
                 public Principal localPrincipal() {
-                    return transport.getLocalPrincipal();
+                    return transportSupplier.get().getLocalPrincipal();
                 }
-            }));
+            });
+
+            if (options.saslOptions().offloadResponses()) {
+                authenticator.offloadResponses(notifications, executor);
+            }
+
+            protonEngine.saslDriver().client().setListener(authenticator);
         }
 
-        return engine;
+        return protonEngine;
     }
 
     private void initializeProtonResources(String host) throws ClientException {
+        engine = createEngine(host, () -> transport);
+        engine.outputHandler(this::handleEngineOutput)
+              .shutdownHandler(this::handleEngineShutdown)
+              .errorHandler(this::handleEngineFailure);
+
+        protonConnection = engine.connection();
+        registerConnectionHandlers(protonConnection);
+    }
+
+    private void registerConnectionHandlers(org.apache.qpid.protonj2.engine.Connection connection) {
+        connection.localOpenHandler(this::handleLocalOpen)
+                  .localCloseHandler(this::handleLocalClose)
+                  .openHandler(this::handleRemoteOpen)
+                  .closeHandler(this::handleRemotecClose);
+    }
+
+    private Engine createEngine(String host, Supplier<Transport> transportSupplier) throws ClientException {
+        final Engine protonEngine;
+
         if (options.saslOptions().saslEnabled()) {
-            engine = EngineFactory.PROTON.createEngine();
+            protonEngine = EngineFactory.PROTON.createEngine();
         } else {
-            engine = EngineFactory.PROTON.createNonSaslEngine();
+            protonEngine = EngineFactory.PROTON.createNonSaslEngine();
         }
 
         if (options.traceFrames()) {
-            engine.configuration().setTraceFrames(true);
-            if (!engine.configuration().isTraceFrames()) {
+            protonEngine.configuration().setTraceFrames(true);
+            if (!protonEngine.configuration().isTraceFrames()) {
                 LOG.info("Connection frame tracing was enabled but protocol engine does not support it");
             }
         }
 
-        engine.outputHandler(this::handleEngineOutput)
-              .shutdownHandler(this::handleEngineShutdown)
-              .errorHandler(this::handleEngineFailure);
-
-        protonConnection = engine.connection();
+        final org.apache.qpid.protonj2.engine.Connection connection = protonEngine.connection();
 
         if (client.containerId() != null) {
-            protonConnection.setContainerId(client.containerId());
+            connection.setContainerId(client.containerId());
         }
 
-        protonConnection.setLinkedResource(this);
-        protonConnection.setChannelMax(options.channelMax());
-        protonConnection.setMaxFrameSize(options.maxFrameSize());
-        protonConnection.setHostname(host);
-        protonConnection.setIdleTimeout((int) options.idleTimeout());
-        protonConnection.setOfferedCapabilities(ClientConversionSupport.toSymbolArray(options.offeredCapabilities()));
-        protonConnection.setDesiredCapabilities(ClientConversionSupport.toSymbolArray(options.desiredCapabilities()));
-        protonConnection.setProperties(ClientConversionSupport.toSymbolKeyedMap(options.properties()));
-        protonConnection.localOpenHandler(this::handleLocalOpen)
-                        .localCloseHandler(this::handleLocalClose)
-                        .openHandler(this::handleRemoteOpen)
-                        .closeHandler(this::handleRemotecClose);
+        connection.setLinkedResource(this);
+        connection.setChannelMax(options.channelMax());
+        connection.setMaxFrameSize(options.maxFrameSize());
+        connection.setHostname(host);
+        connection.setIdleTimeout((int) options.idleTimeout());
+        connection.setOfferedCapabilities(addPayloadCompressionCapability(ClientConversionSupport.toSymbolArray(options.offeredCapabilities())));
+        connection.setDesiredCapabilities(addPayloadCompressionCapability(ClientConversionSupport.toSymbolArray(options.desiredCapabilities())));
+        connection.setProperties(ClientConversionSupport.toSymbolKeyedMap(options.properties()));
 
-        configureEngineSaslSupport();
+        return configureEngineSaslSupport(protonEngine, transportSupplier);
     }
 
     private ClientSession lazyCreateConnectionSession() throws ClientException {
@@ -907,6 +1025,20 @@ public class ClientConnection implements Connection {
         return connectionSession;
     }
 
+    private Symbol[] addPayloadCompressionCapability(Symbol[] capabilities) {
+        if (!options.payloadCompression()) {
+            return capabilities;
+        } else if (capabilities == null) {
+            return new Symbol[] { ClientConstants.DEFLATE_PAYLOAD };
+        } else if (Arrays.asList(capabilities).contains(ClientConstants.DEFLATE_PAYLOAD)) {
+            return capabilities;
+        } else {
+            final Symbol[] result = Arrays.copyOf(capabilities, capabilities.length + 1);
+            result[capabilities.length] = ClientConstants.DEFLATE_PAYLOAD;
+            return result;
+        }
+    }
+
     private Sender lazyCreateConnectionSender() throws ClientException {
         if (connectionSender == null) {
             if (openFuture.isComplete()) {
@@ -998,6 +1130,56 @@ public class ClientConnection implements Connection {
         }
     }
 
+    private void prepareWarmStandby() {
+        discardWarmStandby();
+
+        final URI remoteHost = reconnectPool.getNext();
+        final Transport standbyTransport = ioContext.newTransport();
+
+        try {
+            warmStandby = new ClientWarmStandby(remoteHost, createEngine(remoteHost.getHost(), () -> standbyTransport), standbyTransport).connect();
+        } catch (ClientException error) {
+            LOG.debug("Could not create a warm standby connection to {}: {}", remoteHost, error.getMessage());
+        }
+    }
+
+    private void discardWarmStandby() {
+        if (warmStandby != null) {
+            warmStandby.close();
+            warmStandby = null;
+        }
+    }
+
+    private void adoptWarmStandby(ClientWarmStandby standby) {
+        LOG.trace("Failing over to warm standby connection to remote {}", standby.getRemoteURI());
+
+        reconnectAttempts++;
+        transport = standby.getTransport();
+        engine = standby.getEngine();
+        engine.outputHandler(this::handleEngineOutput)
+              .shutdownHandler(this::handleEngineShutdown)
+              .errorHandler(this::handleEngineFailure);
+
+        protonConnection = engine.connection();
+        registerConnectionHandlers(protonConnection);
+
+        // The failed engine is shut down once this returns which recreates the sessions and links on
+        // the standby, their begin and attach frames are then written in one batch behind the Open.
+        executor.execute(() -> {
+            if (engine.isRunning()) {
+                autoFlushOff();
+                try {
+                    protonConnection.open();
+                } catch (Throwable ignore) {
+                    // Engine error handler will deal with this failure
+                } finally {
+                    autoFlushOn();
+                    flush();
+                }
+            }
+        });
+    }
+
     private void connectionEstablished() {
         totalConnections++;
         nextReconnectDelay = -1;
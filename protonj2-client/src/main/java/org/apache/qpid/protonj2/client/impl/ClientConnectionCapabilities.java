@@ -30,6 +30,7 @@ import org.apache.qpid.protonj2.types.Symbol;
 public class ClientConnectionCapabilities {
 
     private boolean anonymousRelaySupported;
+    private volatile boolean payloadCompressionSupported;
 
     /**
      * @return true this the client requested and the remote answered that anonymous relay is supported.
@@ -38,6 +39,13 @@ public class ClientConnectionCapabilities {
         return this.anonymousRelaySupported;
     }
 
+    /**
+     * @return true if the client requested and the remote offered support for compressed message payloads.
+     */
+    public boolean payloadCompressionSupported() {
+        return this.payloadCompressionSupported;
+    }
+
     @SuppressWarnings("unchecked")
     ClientConnectionCapabilities determineCapabilities(Connection connection) {
         final Symbol[] desired = connection.getDesiredCapabilities();
@@ -47,6 +55,7 @@ public class ClientConnectionCapabilities {
         final List<Symbol> desiredSymbols = desired != null ? Arrays.asList(desired) : Collections.EMPTY_LIST;
 
         anonymousRelaySupported = checkAnonymousRelaySupported(desiredSymbols, offeredSymbols);
+        payloadCompressionSupported = checkPayloadCompressionSupported(desiredSymbols, offeredSymbols);
 
         return this;
     }
@@ -54,4 +63,8 @@ public class ClientConnectionCapabilities {
     private boolean checkAnonymousRelaySupported(List<Symbol> desired, List<Symbol> offered) {
         return desired.contains(ClientConstants.ANONYMOUS_RELAY) && offered.contains(ClientConstants.ANONYMOUS_RELAY);
     }
+
+    private boolean checkPayloadCompressionSupported(List<Symbol> desired, List<Symbol> offered) {
+        return desired.contains(ClientConstants.DEFLATE_PAYLOAD) && offered.contains(ClientConstants.DEFLATE_PAYLOAD);
+    }
 }
@@ -0,0 +1,339 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.impl;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+
+import org.apache.qpid.protonj2.client.Client;
+import org.apache.qpid.protonj2.client.Connection;
+import org.apache.qpid.protonj2.client.ConnectionOptions;
+import org.apache.qpid.protonj2.client.ConnectionPool;
+import org.apache.qpid.protonj2.client.ConnectionPoolOptions;
+import org.apache.qpid.protonj2.client.DisconnectionEvent;
+import org.apache.qpid.protonj2.client.Receiver;
+import org.apache.qpid.protonj2.client.ReceiverOptions;
+import org.apache.qpid.protonj2.client.Sender;
+import org.apache.qpid.protonj2.client.SenderOptions;
+import org.apache.qpid.protonj2.client.exceptions.ClientException;
+import org.apache.qpid.protonj2.client.exceptions.ClientIllegalStateException;
+import org.apache.qpid.protonj2.client.util.ReconnectionURIPool;
+import org.apache.qpid.protonj2.client.util.TrackableThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Client {@link ConnectionPool} implementation that keeps a fixed number of connections open
+ * across the configured hosts and replaces pooled connections that fail.
+ */
+public final class ClientConnectionPool implements ConnectionPool {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ClientConnectionPool.class);
+
+    private final ClientInstance client;
+    private final ConnectionPoolOptions options;
+    private final ReconnectionURIPool replacementHosts;
+    private final List<PoolMember> members = new CopyOnWriteArrayList<>();
+    private final List<PoolMemberListener> listeners = new CopyOnWriteArrayList<>();
+    private final ScheduledThreadPoolExecutor replacements;
+
+    private volatile boolean closed;
+    private Future<ConnectionPool> closeFuture;
+
+    ClientConnectionPool(ClientInstance client, ConnectionPoolOptions options) {
+        this.client = client;
+        this.options = options;
+        this.replacementHosts = new ReconnectionURIPool(options.hosts());
+
+        // The replacement thread is only needed after a failure so it is allowed to time out when idle
+        this.replacements = new ScheduledThreadPoolExecutor(1, new TrackableThreadFactory("ProtonJ2 Connection Pool", true));
+        this.replacements.setKeepAliveTime(30, TimeUnit.SECONDS);
+        this.replacements.allowCoreThreadTimeOut(true);
+        this.replacements.setRemoveOnCancelPolicy(true);
+    }
+
+    ClientConnectionPool open() throws ClientException {
+        if (options.hosts().isEmpty()) {
+            throw new IllegalArgumentException("Connection pool options must specify at least one host");
+        }
+
+        try {
+            for (URI host : options.hosts()) {
+                for (int i = 0; i < options.connectionsPerHost(); ++i) {
+                    addMember(connectMember(host));
+                }
+            }
+        } catch (ClientException | RuntimeException ex) {
+            close();
+            throw ex;
+        }
+
+        return this;
+    }
+
+    @Override
+    public Client client() {
+        return client;
+    }
+
+    @Override
+    public List<Connection> connections() {
+        final List<Connection> connections = new ArrayList<>(members.size());
+        members.forEach(member -> connections.add(member.connection));
+        return Collections.unmodifiableList(connections);
+    }
+
+    @Override
+    public Sender openSender(String address) throws ClientException {
+        return openSender(address, null);
+    }
+
+    @Override
+    public Sender openSender(String address, SenderOptions senderOptions) throws ClientException {
+        Objects.requireNonNull(address, "Cannot create a sender with a null address");
+        return addListener(new ClientPooledSender(this, address, new SenderOptions(senderOptions), options.loadBalancingPolicy()));
+    }
+
+    @Override
+    public Receiver openReceiver(String address) throws ClientException {
+        return openReceiver(address, null);
+    }
+
+    @Override
+    public Receiver openReceiver(String address, ReceiverOptions receiverOptions) throws ClientException {
+        Objects.requireNonNull(address, "Cannot create a receiver with a null address");
+        return addListener(new ClientPooledReceiver(this, address, new ReceiverOptions(receiverOptions)));
+    }
+
+    @Override
+    public void close() {
+        try {
+            closeAsync().get();
+        } catch (InterruptedException | ExecutionException e) {
+            Thread.interrupted();
+        }
+    }
+
+    @Override
+    public synchronized Future<ConnectionPool> closeAsync() {
+        if (!closed) {
+            closed = true;
+            replacements.shutdownNow();
+
+            final List<Future<?>> closing = new ArrayList<>(members.size());
+            for (PoolMember member : members) {
+                members.remove(member);
+                listeners.forEach(listener -> listener.memberRemoved(member.connection));
+                closing.add(member.connection.closeAsync());
+            }
+
+            listeners.clear();
+            closeFuture = new AggregateFuture<>(this, closing);
+        }
+
+        return closeFuture;
+    }
+
+    //----- Internal API for the pooled links
+
+    /**
+     * Notified as connections join and leave the pool so that pooled links can open or drop
+     * the link they hold on that connection.
+     */
+    interface PoolMemberListener {
+
+        void memberAdded(ClientConnection connection);
+
+        void memberRemoved(ClientConnection connection);
+
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    void checkClosed() throws ClientIllegalStateException {
+        if (closed) {
+            throw new ClientIllegalStateException("The connection pool has been closed");
+        }
+    }
+
+    synchronized void removeListener(PoolMemberListener listener) {
+        listeners.remove(listener);
+    }
+
+    //----- Internal implementation
+
+    private synchronized <T extends PoolMemberListener> T addListener(T listener) throws ClientException {
+        checkClosed();
+
+        listeners.add(listener);
+        members.forEach(member -> listener.memberAdded(member.connection));
+
+        return listener;
+    }
+
+    private PoolMember connectMember(URI host) throws ClientException {
+        final PoolMember member = new PoolMember();
+        final ConnectionOptions memberOptions = new ConnectionOptions(options.connectionOptions());
+        final BiConsumer<Connection, DisconnectionEvent> disconnectedHandler = memberOptions.disconnectedHandler();
+
+        memberOptions.disconnectedHandler((connection, event) -> {
+            handleMemberFailed(member);
+
+            if (disconnectedHandler != null) {
+                disconnectedHandler.accept(connection, event);
+            }
+        });
+
+        member.connection = (ClientConnection) client.connect(host.getHost(), host.getPort(), memberOptions);
+
+        return member;
+    }
+
+    private synchronized void addMember(PoolMember member) {
+        // The connection could fail before it is added in which case a replacement is already scheduled
+        if (member.failed || closed) {
+            member.connection.closeAsync();
+        } else {
+            members.add(member);
+            listeners.forEach(listener -> listener.memberAdded(member.connection));
+        }
+    }
+
+    private synchronized void handleMemberFailed(PoolMember member) {
+        if (!member.failed) {
+            member.failed = true;
+
+            // Pooled links are dropped before the member so no caller sees the member gone while its links remain
+            if (members.contains(member)) {
+                listeners.forEach(listener -> listener.memberRemoved(member.connection));
+                members.remove(member);
+                LOG.debug("Pooled connection {} failed and was removed from the pool", member.connection);
+            }
+
+            // A member that fails before its connection is assigned is closed when it is added
+            if (member.connection != null) {
+                member.connection.closeAsync();
+            }
+
+            scheduleReplacement();
+        }
+    }
+
+    private void scheduleReplacement() {
+        if (!closed) {
+            try {
+                replacements.schedule(this::replaceMember, options.replacementDelay(), TimeUnit.MILLISECONDS);
+            } catch (Exception ex) {
+                LOG.trace("Replacement of failed pooled connection was not scheduled: ", ex);
+            }
+        }
+    }
+
+    private void replaceMember() {
+        if (closed) {
+            return;
+        }
+
+        final URI host = replacementHosts.getNext();
+
+        try {
+            addMember(connectMember(host));
+        } catch (ClientIllegalStateException ex) {
+            LOG.debug("Pooled connection not replaced as the client has been closed");
+        } catch (Exception ex) {
+            LOG.debug("Failed to connect replacement pooled connection to {}, will retry", host, ex);
+            scheduleReplacement();
+        }
+    }
+
+    private static final class PoolMember {
+
+        private volatile ClientConnection connection;
+        private boolean failed;
+
+    }
+
+    /**
+     * Future that completes with a fixed result once every one of a group of futures has completed
+     * and that fails with the first failure reported by any future in the group.
+     *
+     * @param <V> The type of the result returned from this future
+     */
+    static final class AggregateFuture<V> implements Future<V> {
+
+        private final V result;
+        private final List<? extends Future<?>> futures;
+
+        AggregateFuture(V result, List<? extends Future<?>> futures) {
+            this.result = result;
+            this.futures = futures;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return false;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+
+        @Override
+        public boolean isDone() {
+            for (Future<?> future : futures) {
+                if (!future.isDone()) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        @Override
+        public V get() throws InterruptedException, ExecutionException {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+
+            return result;
+        }
+
+        @Override
+        public V get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            final long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+            for (Future<?> future : futures) {
+                future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            }
+
+            return result;
+        }
+    }
+}
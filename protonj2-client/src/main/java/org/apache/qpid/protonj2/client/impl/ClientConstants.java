@@ -33,6 +33,7 @@ public class ClientConstants {
     public static final Symbol ANONYMOUS_RELAY = Symbol.valueOf("ANONYMOUS-RELAY");
     public static final Symbol DELAYED_DELIVERY = Symbol.valueOf("DELAYED_DELIVERY");
     public static final Symbol SHARED_SUBS = Symbol.valueOf("SHARED-SUBS");
+    public static final Symbol DEFLATE_PAYLOAD = Symbol.valueOf("DEFLATE-PAYLOAD");
 
     // Symbols used to announce connection and link redirect ErrorCondition 'info'
     public static final Symbol ADDRESS = Symbol.valueOf("address");
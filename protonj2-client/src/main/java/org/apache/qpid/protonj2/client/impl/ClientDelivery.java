@@ -74,7 +74,12 @@ public final class ClientDelivery implements Delivery {
 
         Message<E> message = (Message<E>) cachedMessage;
         if (message == null && payload.isReadable()) {
-            message = (Message<E>)(cachedMessage = ClientMessageSupport.decodeMessage(payload, this::deliveryAnnotations));
+            message = (Message<E>) ClientMessageSupport.decodeMessage(payload, this::deliveryAnnotations);
+            if (receiver.connection().getCapabilities().payloadCompressionSupported()) {
+                ClientPayloadCompression.inflateBody((ClientMessage<E>) message, payloadDecompressionLimit());
+            }
+
+            cachedMessage = message;
         }
 
         return message;
@@ -179,4 +184,11 @@ public final class ClientDelivery implements Delivery {
     void deliveryAnnotations(DeliveryAnnotations deliveryAnnotations) {
         this.deliveryAnnotations = deliveryAnnotations;
     }
+
+    //----- Private implementation details
+
+    private int payloadDecompressionLimit() {
+        return ClientPayloadCompression.decompressionLimit(
+            receiver.connection().getOptions().payloadDecompressionLimit(), delivery.getLink().getMaxMessageSize());
+    }
 }
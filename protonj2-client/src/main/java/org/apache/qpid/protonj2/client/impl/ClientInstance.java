@@ -23,17 +23,22 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.qpid.protonj2.client.Client;
 import org.apache.qpid.protonj2.client.ClientOptions;
 import org.apache.qpid.protonj2.client.Connection;
 import org.apache.qpid.protonj2.client.ConnectionOptions;
+import org.apache.qpid.protonj2.client.ConnectionPool;
+import org.apache.qpid.protonj2.client.ConnectionPoolOptions;
 import org.apache.qpid.protonj2.client.exceptions.ClientException;
 import org.apache.qpid.protonj2.client.exceptions.ClientIllegalStateException;
 import org.apache.qpid.protonj2.client.futures.ClientFuture;
 import org.apache.qpid.protonj2.client.futures.ClientFutureFactory;
 import org.apache.qpid.protonj2.client.util.IdGenerator;
+import org.apache.qpid.protonj2.engine.util.HashedWheelTimer;
+import org.apache.qpid.protonj2.engine.sasl.client.ScramKeyCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,12 +53,20 @@ public final class ClientInstance implements Client {
     private static final IdGenerator CONTAINER_ID_GENERATOR = new IdGenerator();
     private static final ClientFutureFactory FUTURES = ClientFutureFactory.create(ClientFutureFactory.CONSERVATIVE);
 
+    // Timer shared by every open client, created by the first and stopped when the last one closes.
+    private static final Object TIMER_LOCK = new Object();
+    private static HashedWheelTimer sharedTimer;
+    private static int sharedTimerReferences;
+
     private final AtomicInteger CONNECTION_COUNTER = new AtomicInteger();
     private final ClientOptions options;
     private final ConnectionOptions defaultConnectionOptions = new ConnectionOptions();
     private final Map<String, ClientConnection> connections = new HashMap<>();
     private final String clientUniqueId = CONTAINER_ID_GENERATOR.generateId();
     private final ClientFuture<Client> closedFuture = FUTURES.createFuture();
+    private final ScramKeyCache scramKeyCache = new ScramKeyCache(ScramKeyCache.DEFAULT_MAX_ENTRIES);
+    private final HashedWheelTimer timer = acquireSharedTimer();
+    private final AtomicBoolean timerReleased = new AtomicBoolean();
 
     private volatile boolean closed;
 
@@ -104,6 +117,13 @@ public final class ClientInstance implements Client {
         return addConnection(new ClientConnection(this, host, -1, new ConnectionOptions(options)).connect());
     }
 
+    @Override
+    public ConnectionPool openConnectionPool(ConnectionPoolOptions options) throws ClientException {
+        Objects.requireNonNull(options, "Connection pool options must be non-null");
+        checkClosed();
+        return new ClientConnectionPool(this, new ConnectionPoolOptions(options)).open();
+    }
+
     @Override
     public String containerId() {
         return options.id();
@@ -117,6 +137,14 @@ public final class ClientInstance implements Client {
         return options;
     }
 
+    ScramKeyCache scramKeyCache() {
+        return scramKeyCache;
+    }
+
+    HashedWheelTimer timer() {
+        return timer;
+    }
+
     @Override
     public void close() {
         try {
@@ -132,7 +160,7 @@ public final class ClientInstance implements Client {
             closed = true;
 
             if (connections.isEmpty()) {
-                closedFuture.complete(this);
+                signalClosed();
             } else {
                 List<Connection> connectionsView = new ArrayList<>(connections.values());
                 connectionsView.forEach((connection) -> connection.close());
@@ -171,7 +199,34 @@ public final class ClientInstance implements Client {
         synchronized (connections) {
             connections.remove(connection.getId());
             if (closed && connections.isEmpty()) {
-                closedFuture.complete(this);
+                signalClosed();
+            }
+        }
+    }
+
+    private void signalClosed() {
+        if (timerReleased.compareAndSet(false, true)) {
+            releaseSharedTimer();
+        }
+
+        closedFuture.complete(this);
+    }
+
+    private static HashedWheelTimer acquireSharedTimer() {
+        synchronized (TIMER_LOCK) {
+            if (sharedTimerReferences++ == 0) {
+                sharedTimer = new HashedWheelTimer("protonj2 Client Timer");
+            }
+
+            return sharedTimer;
+        }
+    }
+
+    private static void releaseSharedTimer() {
+        synchronized (TIMER_LOCK) {
+            if (--sharedTimerReferences == 0) {
+                sharedTimer.close();
+                sharedTimer = null;
             }
         }
     }
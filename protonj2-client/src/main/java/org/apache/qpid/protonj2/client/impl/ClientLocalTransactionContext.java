@@ -31,7 +31,6 @@ import org.apache.qpid.protonj2.engine.IncomingDelivery;
 import org.apache.qpid.protonj2.engine.Transaction;
 import org.apache.qpid.protonj2.engine.Transaction.DischargeState;
 import org.apache.qpid.protonj2.engine.TransactionController;
-import org.apache.qpid.protonj2.engine.TransactionState;
 import org.apache.qpid.protonj2.engine.exceptions.EngineFailedException;
 import org.apache.qpid.protonj2.types.Symbol;
 import org.apache.qpid.protonj2.types.messaging.Accepted;
@@ -48,7 +47,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Transaction context used to manage a running transaction within a single {@link Session}
+ * Transaction context used to manage the transactions running within a single {@link Session}.
+ * <p>
+ * The context tracks the session scoped transaction used by the begin, commit and rollback APIs
+ * of the {@link Session} along with any number of explicitly declared {@link ClientTransaction}
+ * instances which all share a single coordinator link.  When the session is configured to pipeline
+ * transactions the context declares a spare transaction each time one is discharged so that the
+ * next begin or declare can be satisfied without waiting on the remote coordinator, a spare that is
+ * still unused when the session closes is rolled back.
  */
 final class ClientLocalTransactionContext implements ClientTransactionContext {
 
@@ -65,12 +71,10 @@ final class ClientLocalTransactionContext implements ClientTransactionContext {
 
     private final ClientSession session;
 
-    private Transaction<TransactionController> currentTxn;
+    private ClientTransaction currentTxn;
+    private Transaction<TransactionController> nextTxn;
     private TransactionController txnController;
 
-    private TransactionalState cachedSenderOutcome;
-    private TransactionalState cachedReceiverOutcome;
-
     public ClientLocalTransactionContext(ClientSession session) {
         this.session = session;
     }
@@ -78,114 +82,64 @@ final class ClientLocalTransactionContext implements ClientTransactionContext {
     @Override
     public ClientLocalTransactionContext begin(ClientFuture<Session> beginFuture) throws ClientIllegalStateException {
         checkCanBeginNewTransaction();
-        beginNewTransaction(beginFuture);
+        beginNewTransaction(new TransactionRequest<>(beginFuture, session));
         return this;
     }
 
     @Override
     public ClientLocalTransactionContext commit(ClientFuture<Session> commitFuture, boolean startNew) throws ClientIllegalStateException {
-        checkCanCommitTransaction();
-
-        if (txnController.isLocallyOpen()) {
-            currentTxn.getAttachments().set(DISCHARGE_FUTURE_NAME, commitFuture);
-            currentTxn.getAttachments().set(START_TRANSACTION_MARKER, startNew);
-
-            if (session.options().requestTimeout() > 0) {
-                session.scheduleRequestTimeout(commitFuture, session.options().requestTimeout(), () -> {
-                    try {
-                        txnController.close();
-                    } catch (Exception ignore) {
-                    }
-
-                    return new ClientTransactionRolledBackException("Timed out waiting for Transaction commit to complete");
-                });
-            }
-
-            txnController.addCapacityAvailableHandler(controller -> {
-                try {
-                    txnController.discharge(currentTxn, false);
-                } catch (EngineFailedException efe) {
-                    commitFuture.failed(ClientExceptionSupport.createOrPassthroughFatal(efe));
-                }
-            });
-        } else {
-            currentTxn = null;
-            // The coordinator link closed which amount to a roll back of the declared
-            // transaction so we just complete the request as a failure.
-            commitFuture.failed(createRolledBackErrorFromClosedCoordinator());
-        }
-
+        checkCanDischargeTransaction(currentTxn, "Commit");
+        dischargeTransaction(currentTxn, new TransactionRequest<>(commitFuture, session), false, startNew);
+        declareNextTransaction();
         return this;
     }
 
     @Override
     public ClientLocalTransactionContext rollback(ClientFuture<Session> rollbackFuture, boolean startNew) throws ClientIllegalStateException {
-        checkCanRollbackTransaction();
-
-        if (txnController.isLocallyOpen()) {
-            currentTxn.getAttachments().set(DISCHARGE_FUTURE_NAME, rollbackFuture);
-            currentTxn.getAttachments().set(START_TRANSACTION_MARKER, startNew);
-
-            if (session.options().requestTimeout() > 0) {
-                session.scheduleRequestTimeout(rollbackFuture, session.options().requestTimeout(), () -> {
-                    try {
-                        txnController.close();
-                    } catch (Exception ignore) {
-                    }
-
-                    return new ClientOperationTimedOutException("Timed out waiting for Transaction rollback to complete");
-                });
-            }
+        checkCanDischargeTransaction(currentTxn, "Rollback");
+        dischargeTransaction(currentTxn, new TransactionRequest<>(rollbackFuture, session), true, startNew);
+        declareNextTransaction();
+        return this;
+    }
 
-            txnController.addCapacityAvailableHandler(controller -> {
-                try {
-                    txnController.discharge(currentTxn, true);
-                } catch (EngineFailedException efe) {
-                    // The engine has failed and the connection will be closed so the transaction
-                    // is implicitly rolled back on the remote.
-                    rollbackFuture.complete(session);
-                } catch (Throwable efe) {
-                    // Some internal error has occurred and should be communicated as this is not
-                    // expected under normal circumstances.
-                    rollbackFuture.failed(ClientExceptionSupport.createOrPassthroughFatal(efe));
-                }
-            });
-        } else {
-            currentTxn = null;
-            // Coordinator was closed after transaction was declared which amounts
-            // to a roll back of the transaction so we let this complete as normal.
-            rollbackFuture.complete(session);
-        }
+    @Override
+    public ClientLocalTransactionContext declare(ClientTransaction transaction, ClientFuture<org.apache.qpid.protonj2.client.Transaction> declareFuture) throws ClientIllegalStateException {
+        declareTransaction(transaction, new TransactionRequest<>(declareFuture, transaction));
+        return this;
+    }
 
+    @Override
+    public ClientLocalTransactionContext discharge(ClientTransaction transaction, ClientFuture<org.apache.qpid.protonj2.client.Transaction> dischargeFuture, boolean failed) throws ClientIllegalStateException {
+        checkCanDischargeTransaction(transaction, failed ? "Rollback" : "Commit");
+        dischargeTransaction(transaction, new TransactionRequest<>(dischargeFuture, transaction), failed, false);
+        declareNextTransaction();
         return this;
     }
 
     @Override
     public boolean isInTransaction() {
-        return currentTxn != null && currentTxn.getState() == TransactionState.DECLARED;
+        return currentTxn != null && currentTxn.isActive();
     }
 
     @Override
     public boolean isRollbackOnly() {
-        if (isInTransaction()) {
-            return txnController.isLocallyClosed();
-        } else {
-            return false;
-        }
+        return currentTxn != null && currentTxn.isRollbackOnly();
     }
 
     @Override
     public ClientTransactionContext send(ClientOutgoingEnvelope envelope, DeliveryState outcome, boolean settled) {
-        if (isInTransaction()) {
-            if (isRollbackOnly()) {
+        final ClientTransaction transaction = envelope.transaction() != null ? envelope.transaction() : currentTxn;
+
+        if (transaction != null && transaction.isActive()) {
+            if (transaction.isRollbackOnly()) {
                 envelope.discard();
             } else if (outcome == null) {
-                DeliveryState txnOutcome = cachedSenderOutcome != null ?
-                    cachedSenderOutcome : (cachedSenderOutcome = new TransactionalState().setTxnId(currentTxn.getTxnId()));
-                envelope.sendPayload(txnOutcome, settled);
+                envelope.sendPayload(transaction.senderOutcome(), settled);
             } else {
-                envelope.sendPayload(new TransactionalState().setTxnId(currentTxn.getTxnId()).setOutcome((Outcome) outcome), settled);
+                envelope.sendPayload(new TransactionalState().setTxnId(transaction.protonTransaction().getTxnId()).setOutcome((Outcome) outcome), settled);
             }
+        } else if (envelope.transaction() != null) {
+            envelope.failed(new ClientTransactionNotActiveException("Cannot send under a transaction that is no longer active"));
         } else {
             envelope.sendPayload(outcome, settled);
         }
@@ -196,15 +150,7 @@ final class ClientLocalTransactionContext implements ClientTransactionContext {
     @Override
     public ClientTransactionContext disposition(IncomingDelivery delivery, DeliveryState outcome, boolean settled) {
         if (isInTransaction()) {
-            final DeliveryState txnOutcome;
-            if (outcome instanceof Accepted) {
-                txnOutcome = cachedReceiverOutcome != null ? cachedReceiverOutcome :
-                    (cachedReceiverOutcome = new TransactionalState().setTxnId(currentTxn.getTxnId()).setOutcome(Accepted.getInstance()));
-            } else {
-                txnOutcome = new TransactionalState().setTxnId(currentTxn.getTxnId()).setOutcome((Outcome) outcome);
-            }
-
-            delivery.disposition(txnOutcome, true);
+            disposition(currentTxn, delivery, outcome);
         } else {
             delivery.disposition(outcome, settled);
         }
@@ -212,42 +158,192 @@ final class ClientLocalTransactionContext implements ClientTransactionContext {
         return this;
     }
 
+    @Override
+    public ClientTransactionContext disposition(ClientTransaction transaction, IncomingDelivery delivery, DeliveryState outcome) {
+        delivery.disposition(transaction.receiverOutcome(outcome), true);
+
+        return this;
+    }
+
+    @Override
+    public ClientTransactionContext close() {
+        final Transaction<TransactionController> spare = nextTxn;
+
+        nextTxn = null;
+
+        if (spare != null) {
+            if (spare.isDeclared()) {
+                rollbackSpareTransaction(spare);
+            } else {
+                // Once the declare completes the declared handler sees the request is done and
+                // rolls the spare back if the coordinator is still open at that point.
+                final TransactionRequest<?> request = spare.getAttachments().get(DECLARE_FUTURE_NAME);
+                request.future.cancel(false);
+            }
+        }
+
+        return this;
+    }
+
     //------ Internals of Transaction State management
 
-    private void beginNewTransaction(ClientFuture<Session> beginFuture) {
-        TransactionController txnController = getOrCreateNewTxnController();
+    private void beginNewTransaction(TransactionRequest<Session> request) {
+        final ClientTransaction transaction = new ClientTransaction(session);
+        declareTransaction(transaction, request);
+        currentTxn = transaction;
+    }
 
-        currentTxn = txnController.newTransaction();
-        currentTxn.setLinkedResource(this);
-        currentTxn.getAttachments().set(DECLARE_FUTURE_NAME, beginFuture);
+    private void declareTransaction(ClientTransaction transaction, TransactionRequest<?> request) {
+        final Transaction<TransactionController> predeclared = takeNextTransaction();
+        final Transaction<TransactionController> txn = predeclared != null ? predeclared : newTransaction(request);
 
-        cachedReceiverOutcome = null;
-        cachedSenderOutcome = null;
+        txn.setLinkedResource(transaction);
+        txn.getAttachments().set(DECLARE_FUTURE_NAME, request);
+        transaction.protonTransaction(txn);
 
-        if (session.options().requestTimeout() > 0) {
-            session.scheduleRequestTimeout(beginFuture, session.options().requestTimeout(), () -> {
+        if (txn.isDeclared()) {
+            LOG.trace("Using previously declared trasaction:{}", txn);
+            request.complete();
+        } else if (session.options().requestTimeout() > 0) {
+            final TransactionController controller = txn.parent();
+
+            session.scheduleRequestTimeout(request.future, session.options().requestTimeout(), () -> {
                 try {
-                    txnController.close();
+                    controller.close();
                 } catch (Exception ignore) {
                 }
 
                 return new ClientTransactionDeclarationException("Timed out waiting for Transaction declaration to complete");
             });
         }
+    }
+
+    private void dischargeTransaction(ClientTransaction transaction, TransactionRequest<?> request, boolean failed, boolean startNew) {
+        final Transaction<TransactionController> txn = transaction.protonTransaction();
+        final TransactionController controller = txn.parent();
+
+        if (controller.isLocallyOpen()) {
+            txn.getAttachments().set(DISCHARGE_FUTURE_NAME, request);
+            txn.getAttachments().set(START_TRANSACTION_MARKER, startNew);
+
+            if (session.options().requestTimeout() > 0) {
+                session.scheduleRequestTimeout(request.future, session.options().requestTimeout(), () -> {
+                    try {
+                        controller.close();
+                    } catch (Exception ignore) {
+                    }
+
+                    if (failed) {
+                        return new ClientOperationTimedOutException("Timed out waiting for Transaction rollback to complete");
+                    } else {
+                        return new ClientTransactionRolledBackException("Timed out waiting for Transaction commit to complete");
+                    }
+                });
+            }
+
+            controller.addCapacityAvailableHandler(ignored -> {
+                try {
+                    controller.discharge(txn, failed);
+                } catch (EngineFailedException efe) {
+                    if (failed) {
+                        // The engine has failed and the connection will be closed so the transaction
+                        // is implicitly rolled back on the remote.
+                        request.complete();
+                    } else {
+                        request.failed(ClientExceptionSupport.createOrPassthroughFatal(efe));
+                    }
+                } catch (Throwable error) {
+                    // Some internal error has occurred and should be communicated as this is not
+                    // expected under normal circumstances.
+                    request.failed(ClientExceptionSupport.createOrPassthroughFatal(error));
+                }
+            });
+        } else {
+            if (transaction == currentTxn) {
+                currentTxn = null;
+            }
+
+            // The coordinator link closed after the transaction was declared which amounts to
+            // a roll back so a rollback completes as normal while a commit must fail.
+            if (failed) {
+                request.complete();
+            } else {
+                request.failed(createRolledBackErrorFromClosedCoordinator(controller));
+            }
+        }
+    }
+
+    private Transaction<TransactionController> newTransaction(TransactionRequest<?> request) {
+        final TransactionController controller = getOrCreateNewTxnController();
+        final Transaction<TransactionController> txn = controller.newTransaction();
 
-        txnController.addCapacityAvailableHandler(controller -> {
+        txn.getAttachments().set(DECLARE_FUTURE_NAME, request);
+
+        controller.addCapacityAvailableHandler(ignored -> {
             try {
-                txnController.declare(currentTxn);
+                controller.declare(txn);
             } catch (EngineFailedException efe) {
-                beginFuture.failed(ClientExceptionSupport.createOrPassthroughFatal(efe));
+                final TransactionRequest<?> declareRequest = txn.getAttachments().get(DECLARE_FUTURE_NAME);
+                declareRequest.failed(ClientExceptionSupport.createOrPassthroughFatal(efe));
             }
         });
+
+        return txn;
+    }
+
+    private void rollbackSpareTransaction(Transaction<TransactionController> txn) {
+        final TransactionController controller = txn.parent();
+
+        if (controller.isLocallyOpen()) {
+            LOG.trace("Rolling back unused pipelined trasaction:{}", txn);
+
+            txn.getAttachments().set(DISCHARGE_FUTURE_NAME, new TransactionRequest<>(session.getFutureFactory().createFuture(), null));
+
+            controller.addCapacityAvailableHandler(ignored -> {
+                try {
+                    controller.discharge(txn, true);
+                } catch (Throwable ignore) {
+                    // The remote rolls back any transaction left undischarged once the coordinator closes
+                }
+            });
+        }
+    }
+
+    private void declareNextTransaction() {
+        if (session.options().pipelinedTransactions() && nextTxn == null &&
+            txnController != null && txnController.isLocallyOpen()) {
+
+            nextTxn = newTransaction(new TransactionRequest<>(session.getFutureFactory().createFuture(), null));
+        }
+    }
+
+    private Transaction<TransactionController> takeNextTransaction() {
+        final Transaction<TransactionController> txn = nextTxn;
+
+        nextTxn = null;
+
+        if (txn != null && txn.parent().isLocallyOpen()) {
+            switch (txn.getState()) {
+                case IDLE:
+                case DECLARING:
+                case DECLARED:
+                    return txn;
+                default:
+                    break;
+            }
+        }
+
+        return null;
     }
 
     private TransactionController getOrCreateNewTxnController() {
         if (txnController == null || txnController.isLocallyClosed()) {
             Coordinator coordinator = new Coordinator();
-            coordinator.setCapabilities(TxnCapability.LOCAL_TXN);
+            if (session.options().pipelinedTransactions()) {
+                coordinator.setCapabilities(TxnCapability.LOCAL_TXN, TxnCapability.MULTI_TXNS_PER_SSN);
+            } else {
+                coordinator.setCapabilities(TxnCapability.LOCAL_TXN);
+            }
 
             Source source = new Source();
             source.setOutcomes(Arrays.copyOf(SUPPORTED_OUTCOMES, SUPPORTED_OUTCOMES.length));
@@ -274,7 +370,7 @@ final class ClientLocalTransactionContext implements ClientTransactionContext {
 
     private void checkCanBeginNewTransaction() throws ClientIllegalStateException {
         if (currentTxn != null) {
-            switch (currentTxn.getState()) {
+            switch (currentTxn.protonTransaction().getState()) {
                 case DISCHARGED:
                 case DISCHARGE_FAILED:
                 case DECLARE_FAILED:
@@ -291,46 +387,23 @@ final class ClientLocalTransactionContext implements ClientTransactionContext {
         }
     }
 
-    private void checkCanCommitTransaction() throws ClientIllegalStateException {
-        if (currentTxn == null) {
-            throw new ClientTransactionNotActiveException("Commit called with no active transaction");
+    private void checkCanDischargeTransaction(ClientTransaction transaction, String operation) throws ClientIllegalStateException {
+        if (transaction == null || transaction.protonTransaction() == null) {
+            throw new ClientTransactionNotActiveException(operation + " called with no active transaction");
         } else {
-            switch (currentTxn.getState()) {
+            switch (transaction.protonTransaction().getState()) {
                 case DISCHARGED:
-                    throw new ClientTransactionNotActiveException("Commit called with no active transaction");
+                    throw new ClientTransactionNotActiveException(operation + " called with no active transaction");
                 case DECLARING:
-                    throw new ClientIllegalStateException("Commit called before transaction declare completed.");
+                    throw new ClientIllegalStateException(operation + " called before transaction declare completed.");
                 case DISCHARGING:
-                    throw new ClientIllegalStateException("Commit called before transaction discharge completed.");
+                    throw new ClientIllegalStateException(operation + " called before transaction discharge completed.");
                 case DECLARE_FAILED:
-                    throw new ClientTransactionNotActiveException("Commit called on a transaction that has failed due to an error during declare.");
+                    throw new ClientTransactionNotActiveException(operation + " called on a transaction that has failed due to an error during declare.");
                 case DISCHARGE_FAILED:
-                    throw new ClientTransactionNotActiveException("Commit called on a transaction that has failed due to an error during discharge.");
+                    throw new ClientTransactionNotActiveException(operation + " called on a transaction that has failed due to an error during discharge.");
                 case IDLE:
-                    throw new ClientTransactionNotActiveException("Commit called on a transaction that has not yet been declared");
-                default:
-                    break;
-            }
-        }
-    }
-
-    private void checkCanRollbackTransaction() throws ClientIllegalStateException {
-        if (currentTxn == null) {
-            throw new ClientTransactionNotActiveException("Rollback called with no active transaction");
-        } else {
-            switch (currentTxn.getState()) {
-                case DISCHARGED:
-                    throw new ClientTransactionNotActiveException("Rollback called with no active transaction");
-                case DECLARING:
-                    throw new ClientIllegalStateException("Rollback called before transaction declare completed.");
-                case DISCHARGING:
-                    throw new ClientIllegalStateException("Rollback called before transaction discharge completed.");
-                case DECLARE_FAILED:
-                    throw new ClientTransactionNotActiveException("Rollback called on a transaction that has failed due to an error during declare.");
-                case DISCHARGE_FAILED:
-                    throw new ClientTransactionNotActiveException("Rollback called on a transaction that has failed due to an error during discharge.");
-                case IDLE:
-                    throw new ClientTransactionNotActiveException("Rollback called on a transaction that has not yet been declared");
+                    throw new ClientTransactionNotActiveException(operation + " called on a transaction that has not yet been declared");
                 default:
                     break;
             }
@@ -340,43 +413,55 @@ final class ClientLocalTransactionContext implements ClientTransactionContext {
     //----- Handle events from the Transaction Controller
 
     private void handleTransactionDeclared(Transaction<TransactionController> transaction) {
-        ClientFuture<Session> future = transaction.getAttachments().get(DECLARE_FUTURE_NAME);
+        final TransactionRequest<?> request = transaction.getAttachments().get(DECLARE_FUTURE_NAME);
         LOG.trace("Declare of trasaction:{} completed", transaction);
 
-        if (future.isComplete() || future.isCancelled()) {
+        if (request.isDone()) {
             // The original declare operation cancelled the future likely due to timeout
             // which means this transaction will never be completed at a higher level so we
             // must discharge it now to ensure the remote can clean up associated resources.
-            try {
-                rollback(session.getFutureFactory().createFuture(), false);
-            } catch (Exception ignore) {}
+            final ClientTransaction owner = transaction.getLinkedResource(ClientTransaction.class);
+
+            if (owner == null) {
+                // A pipelined spare that was abandoned when the context closed
+                rollbackSpareTransaction(transaction);
+            } else {
+                try {
+                    dischargeTransaction(owner, new TransactionRequest<>(session.getFutureFactory().createFuture(), null), true, false);
+                } catch (Exception ignore) {}
+            }
         } else {
-            future.complete(session);
+            request.complete();
         }
     }
 
     private void handleTransactionDeclareFailed(Transaction<TransactionController> transaction) {
-        ClientFuture<Session> future = transaction.getAttachments().get(DECLARE_FUTURE_NAME);
+        final TransactionRequest<?> request = transaction.getAttachments().get(DECLARE_FUTURE_NAME);
         LOG.trace("Declare of trasaction:{} failed", transaction);
+
+        if (transaction == nextTxn) {
+            nextTxn = null;
+        }
+
         ClientException cause = ClientExceptionSupport.convertToNonFatalException(transaction.getCondition());
-        future.failed(new ClientTransactionDeclarationException(cause.getMessage(), cause));
+        request.failed(new ClientTransactionDeclarationException(cause.getMessage(), cause));
     }
 
     private void handleTransactionDischarged(Transaction<TransactionController> transaction) {
-        ClientFuture<Session> future = transaction.getAttachments().get(DISCHARGE_FUTURE_NAME);
+        final TransactionRequest<?> request = transaction.getAttachments().get(DISCHARGE_FUTURE_NAME);
         LOG.trace("Discharge of trasaction:{} completed", transaction);
-        future.complete(session);
+        request.complete();
 
         if (Boolean.TRUE.equals(transaction.getAttachments().get(START_TRANSACTION_MARKER))) {
-            beginNewTransaction(future);
+            beginNewTransaction(new TransactionRequest<>(session.getFutureFactory().createFuture(), session));
         }
     }
 
     private void handleTransactionDischargeFailed(Transaction<TransactionController> transaction) {
-        ClientFuture<Session> future = transaction.getAttachments().get(DISCHARGE_FUTURE_NAME);
+        final TransactionRequest<?> request = transaction.getAttachments().get(DISCHARGE_FUTURE_NAME);
         LOG.trace("Discharge of trasaction:{} failed", transaction);
         ClientException cause = ClientExceptionSupport.convertToNonFatalException(transaction.getCondition());
-        future.failed(new ClientTransactionRolledBackException(cause.getMessage(), cause));
+        request.failed(new ClientTransactionRolledBackException(cause.getMessage(), cause));
     }
 
     private void handleCoordinatorOpen(TransactionController controller) {
@@ -392,8 +477,8 @@ final class ClientLocalTransactionContext implements ClientTransactionContext {
         }
     }
 
-    private ClientTransactionRolledBackException createRolledBackErrorFromClosedCoordinator() {
-        ClientException cause = ClientExceptionSupport.convertToNonFatalException(txnController.getRemoteCondition());
+    private ClientTransactionRolledBackException createRolledBackErrorFromClosedCoordinator(TransactionController controller) {
+        ClientException cause = ClientExceptionSupport.convertToNonFatalException(controller.getRemoteCondition());
 
         if (!(cause instanceof ClientTransactionRolledBackException)) {
             cause = new ClientTransactionRolledBackException(cause.getMessage(), cause);
@@ -402,8 +487,8 @@ final class ClientLocalTransactionContext implements ClientTransactionContext {
         return (ClientTransactionRolledBackException) cause;
     }
 
-    private ClientTransactionDeclarationException createDeclarationErrorFromClosedCoordinator() {
-        ClientException cause = ClientExceptionSupport.convertToNonFatalException(txnController.getRemoteCondition());
+    private ClientTransactionDeclarationException createDeclarationErrorFromClosedCoordinator(TransactionController controller) {
+        ClientException cause = ClientExceptionSupport.convertToNonFatalException(controller.getRemoteCondition());
 
         if (!(cause instanceof ClientTransactionDeclarationException)) {
             cause = new ClientTransactionDeclarationException(cause.getMessage(), cause);
@@ -413,29 +498,35 @@ final class ClientLocalTransactionContext implements ClientTransactionContext {
     }
 
     private void handleCoordinatorLocalClose(TransactionController controller) {
-        if (currentTxn != null) {
-            ClientFuture<Session> future = null;
+        for (Transaction<TransactionController> txn : controller.transactions()) {
+            final TransactionRequest<?> request;
 
-            switch (currentTxn.getState()) {
+            switch (txn.getState()) {
                 case IDLE:
                 case DECLARING:
-                    future = currentTxn.getAttachments().get(DECLARE_FUTURE_NAME);
-                    future.failed(createDeclarationErrorFromClosedCoordinator());
-                    currentTxn = null;
+                    request = txn.getAttachments().get(DECLARE_FUTURE_NAME);
+                    request.failed(createDeclarationErrorFromClosedCoordinator(controller));
                     break;
                 case DISCHARGING:
-                    future = currentTxn.getAttachments().get(DISCHARGE_FUTURE_NAME);
-                    if (currentTxn.getDischargeState() == DischargeState.COMMIT) {
-                        future.failed(createRolledBackErrorFromClosedCoordinator());
+                    request = txn.getAttachments().get(DISCHARGE_FUTURE_NAME);
+                    if (txn.getDischargeState() == DischargeState.COMMIT) {
+                        request.failed(createRolledBackErrorFromClosedCoordinator(controller));
                     } else {
-                        future.complete(session);
+                        request.complete();
                     }
-                    currentTxn = null;
                     break;
                 default:
-                    break;
+                    continue;
+            }
+
+            if (currentTxn != null && currentTxn.protonTransaction() == txn) {
+                currentTxn = null;
             }
         }
+
+        if (nextTxn != null && nextTxn.parent() == controller) {
+            nextTxn = null;
+        }
     }
 
     private void handleParentEndpointClosed(TransactionController txnController) {
@@ -447,4 +538,29 @@ final class ClientLocalTransactionContext implements ClientTransactionContext {
             txnController.close();
         }
     }
+
+    //----- Pairs a pending transaction operation with the value it completes with
+
+    private static final class TransactionRequest<T> {
+
+        private final ClientFuture<T> future;
+        private final T result;
+
+        public TransactionRequest(ClientFuture<T> future, T result) {
+            this.future = future;
+            this.result = result;
+        }
+
+        public void complete() {
+            future.complete(result);
+        }
+
+        public void failed(ClientException cause) {
+            future.failed(cause);
+        }
+
+        public boolean isDone() {
+            return future.isComplete() || future.isCancelled();
+        }
+    }
 }
@@ -700,6 +700,17 @@ public class ClientMessage<E> implements AdvancedMessage<E> {
         return this;
     }
 
+    @Override
+    public ProtonBuffer bodyBuffer() throws ClientException {
+        if (bodySections != null) {
+            return ClientMessageSupport.createBodyBufferView(bodySections);
+        } else if (body != null) {
+            return ClientMessageSupport.createBodyBufferView(Collections.singletonList(body));
+        } else {
+            return null;
+        }
+    }
+
     private static Section<?> validateBodySections(int messageFormat, List<Section<?>> target, Section<?> section) {
         if (messageFormat == 0 && target != null && !target.isEmpty()) {
             switch (section.getType()) {
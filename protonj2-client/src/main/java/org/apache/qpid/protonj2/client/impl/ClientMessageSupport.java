@@ -16,6 +16,8 @@
  */
 package org.apache.qpid.protonj2.client.impl;
 
+import java.nio.ByteBuffer;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -24,6 +26,8 @@ import java.util.function.Consumer;
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
 import org.apache.qpid.protonj2.buffer.ProtonByteBufferAllocator;
+import org.apache.qpid.protonj2.buffer.ProtonCompositeBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonNioByteBuffer;
 import org.apache.qpid.protonj2.client.AdvancedMessage;
 import org.apache.qpid.protonj2.client.Message;
 import org.apache.qpid.protonj2.client.exceptions.ClientException;
@@ -32,6 +36,10 @@ import org.apache.qpid.protonj2.codec.Decoder;
 import org.apache.qpid.protonj2.codec.DecoderState;
 import org.apache.qpid.protonj2.codec.Encoder;
 import org.apache.qpid.protonj2.codec.EncoderState;
+import org.apache.qpid.protonj2.codec.decoders.messaging.ApplicationPropertiesTypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.messaging.DataTypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.messaging.DeliveryAnnotationsTypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.messaging.MessageAnnotationsTypeDecoder;
 import org.apache.qpid.protonj2.engine.util.StringUtils;
 import org.apache.qpid.protonj2.types.Binary;
 import org.apache.qpid.protonj2.types.Symbol;
@@ -45,6 +53,9 @@ import org.apache.qpid.protonj2.types.messaging.Header;
 import org.apache.qpid.protonj2.types.messaging.MessageAnnotations;
 import org.apache.qpid.protonj2.types.messaging.Properties;
 import org.apache.qpid.protonj2.types.messaging.Section;
+import org.apache.qpid.protonj2.types.messaging.Section.SectionType;
+
+import io.netty.util.ReferenceCountUtil;
 
 /**
  * Support methods dealing with Message types and encode or decode operations.
@@ -52,7 +63,15 @@ import org.apache.qpid.protonj2.types.messaging.Section;
 public abstract class ClientMessageSupport {
 
     private static final Encoder DEFAULT_ENCODER = CodecFactory.getDefaultEncoder();
-    private static final Decoder DEFAULT_DECODER = CodecFactory.getDefaultDecoder();
+    // Decoded messages own the buffer they were decoded from so Data sections can be views into it,
+    // and the small maps of the annotation and property sections are decoded into compact maps.
+    private static final Decoder DEFAULT_DECODER = CodecFactory.getDefaultDecoder()
+        .registerDescribedTypeDecoder(new DataTypeDecoder(true))
+        .registerDescribedTypeDecoder(new DeliveryAnnotationsTypeDecoder(true))
+        .registerDescribedTypeDecoder(new MessageAnnotationsTypeDecoder(true))
+        .registerDescribedTypeDecoder(new ApplicationPropertiesTypeDecoder(true));
+
+    private static final ThreadLocal<EncoderState> THREAD_ENCODER_STATE = ThreadLocal.withInitial(DEFAULT_ENCODER::newEncoderState);
 
     //----- Message Conversion
 
@@ -96,12 +115,73 @@ public abstract class ClientMessageSupport {
     }
 
     public static ProtonBuffer encodeMessage(Encoder encoder, ProtonBufferAllocator allocator, AdvancedMessage<?> message, Map<String, Object> deliveryAnnotations) throws ClientException {
-        return encodeMessage(encoder, encoder.newEncoderState(), ProtonByteBufferAllocator.DEFAULT, message, deliveryAnnotations);
+        return encodeMessage(encoder, encoder.newEncoderState(), allocator, message, deliveryAnnotations);
     }
 
     public static ProtonBuffer encodeMessage(Encoder encoder, EncoderState encoderState, ProtonBufferAllocator allocator, AdvancedMessage<?> message, Map<String, Object> deliveryAnnotations) throws ClientException {
-        ProtonBuffer buffer = allocator.allocate();
+        return encodeMessage(encoder, encoderState, allocator.allocate(), message, deliveryAnnotations, null);
+    }
+
+    /**
+     * Encodes the given message into an output buffer obtained from the provided allocator using an
+     * {@link EncoderState} that is reused by the calling thread.  The buffer is sized from the given
+     * hint so that buffers obtained from a pooling allocator rarely need to grow while encoding, the
+     * caller owns the returned buffer and must release it once the bytes have been written.
+     *
+     * @param allocator
+     *      The allocator used to create the output buffer, typically the connection transport allocator.
+     * @param sizeHint
+     *      The expected size of the encoded message.
+     * @param message
+     *      The message to encode.
+     * @param deliveryAnnotations
+     *      Optional delivery annotations to encode along with the message.
+     *
+     * @return the buffer that holds the encoded message.
+     *
+     * @throws ClientException if an error occurs while encoding the message.
+     */
+    public static ProtonBuffer encodeMessage(ProtonBufferAllocator allocator, int sizeHint, AdvancedMessage<?> message, Map<String, Object> deliveryAnnotations) throws ClientException {
+        return encodeMessage(allocator, sizeHint, message, deliveryAnnotations, -1);
+    }
+
+    /**
+     * Encodes the given message in the same way as {@link #encodeMessage(ProtonBufferAllocator, int, AdvancedMessage, Map)}
+     * but compresses a body made up of only {@link Data} sections using the deflate content encoding when its size meets
+     * the given threshold.  The message itself is not modified, the encoded Properties carry the content encoding and the
+     * compressed bytes are written as a single {@link Data} section.
+     *
+     * @param allocator
+     *      The allocator used to create the output buffer, typically the connection transport allocator.
+     * @param sizeHint
+     *      The expected size of the encoded message.
+     * @param message
+     *      The message to encode.
+     * @param deliveryAnnotations
+     *      Optional delivery annotations to encode along with the message.
+     * @param compressionThreshold
+     *      The minimum body size that is compressed, or a negative value to disable compression.
+     *
+     * @return the buffer that holds the encoded message.
+     *
+     * @throws ClientException if an error occurs while encoding the message.
+     */
+    public static ProtonBuffer encodeMessage(ProtonBufferAllocator allocator, int sizeHint, AdvancedMessage<?> message, Map<String, Object> deliveryAnnotations, int compressionThreshold) throws ClientException {
+        final EncoderState encoderState = THREAD_ENCODER_STATE.get();
+        final byte[] compressedBody = compressionThreshold >= 0 ? ClientPayloadCompression.deflateBody(message, compressionThreshold) : null;
+        final ProtonBuffer buffer = allocator.outputBuffer(sizeHint);
+
+        try {
+            return encodeMessage(DEFAULT_ENCODER, encoderState, buffer, message, deliveryAnnotations, compressedBody);
+        } catch (Throwable error) {
+            ReferenceCountUtil.release(buffer.unwrap());
+            throw error;
+        } finally {
+            encoderState.reset();
+        }
+    }
 
+    private static ProtonBuffer encodeMessage(Encoder encoder, EncoderState encoderState, ProtonBuffer buffer, AdvancedMessage<?> message, Map<String, Object> deliveryAnnotations, byte[] compressedBody) throws ClientException {
         Header header = message.header();
         MessageAnnotations messageAnnotations = message.annotations();
         Properties properties = message.properties();
@@ -117,6 +197,10 @@ public abstract class ClientMessageSupport {
         if (messageAnnotations != null) {
             encoder.writeObject(buffer, encoderState, messageAnnotations);
         }
+        if (compressedBody != null) {
+            properties = properties != null ? properties.copy() : new Properties();
+            properties.setContentEncoding(ClientPayloadCompression.DEFLATE_ENCODING);
+        }
         if (properties != null) {
             encoder.writeObject(buffer, encoderState, properties);
         }
@@ -124,7 +208,11 @@ public abstract class ClientMessageSupport {
             encoder.writeObject(buffer, encoderState, applicationProperties);
         }
 
-        message.forEachBodySection(section -> encoder.writeObject(buffer, encoderState, section));
+        if (compressedBody != null) {
+            encoder.writeObject(buffer, encoderState, new Data(compressedBody));
+        } else {
+            message.forEachBodySection(section -> encoder.writeObject(buffer, encoderState, section));
+        }
 
         if (footer != null) {
             encoder.writeObject(buffer, encoderState, footer);
@@ -133,6 +221,59 @@ public abstract class ClientMessageSupport {
         return buffer;
     }
 
+    /**
+     * Encodes a message created from a {@link ClientMessageTemplate} by copying the pre-encoded
+     * template sections and encoding only the message-id, delivery annotations and body, the
+     * creation-time is patched into the copied Properties bytes.
+     *
+     * @param template
+     *      The template whose pre-encoded sections are copied into the output.
+     * @param message
+     *      The message that supplies the message-id, creation-time and body.
+     * @param deliveryAnnotations
+     *      Optional delivery annotations to encode along with the message.
+     *
+     * @return the buffer that holds the encoded message.
+     *
+     * @throws ClientException if an error occurs while encoding the message.
+     */
+    static ProtonBuffer encodeTemplateMessage(ClientMessageTemplate<?> template, AdvancedMessage<?> message, Map<String, Object> deliveryAnnotations) throws ClientException {
+        final EncoderState encoderState = THREAD_ENCODER_STATE.get();
+        final ProtonBuffer buffer = ProtonByteBufferAllocator.DEFAULT.allocate(template.sizeHint());
+
+        try {
+            buffer.writeBytes(template.header());
+
+            if (deliveryAnnotations != null) {
+                DEFAULT_ENCODER.writeObject(buffer, encoderState, new DeliveryAnnotations(StringUtils.toSymbolKeyedMap(deliveryAnnotations)));
+            }
+
+            buffer.writeBytes(template.annotations());
+            buffer.writeBytes(ClientMessageTemplate.PROPERTIES_PREAMBLE);
+
+            // The list size is written once the message-id encoding is known
+            final int sizeIndex = buffer.getWriteIndex();
+            buffer.writeInt(0);
+            buffer.writeInt(template.propertiesCount());
+            DEFAULT_ENCODER.writeObject(buffer, encoderState, message.messageId());
+
+            final int tailIndex = buffer.getWriteIndex();
+            buffer.writeBytes(template.propertiesTail());
+            buffer.setLong(tailIndex + template.creationTimeOffset(), message.creationTime());
+            buffer.setInt(sizeIndex, buffer.getWriteIndex() - sizeIndex - Integer.BYTES);
+
+            buffer.writeBytes(template.applicationProperties());
+            message.forEachBodySection(section -> DEFAULT_ENCODER.writeObject(buffer, encoderState, section));
+            buffer.writeBytes(template.footer());
+        } finally {
+            encoderState.reset();
+        }
+
+        template.sizeHint(buffer.getReadableBytes());
+
+        return buffer;
+    }
+
     //----- Message Decoding
 
     public static Message<?> decodeMessage(ProtonBuffer buffer, Consumer<DeliveryAnnotations> daConsumer) throws ClientException {
@@ -191,6 +332,51 @@ public abstract class ClientMessageSupport {
         return message;
     }
 
+    /**
+     * Wraps the readable bytes of the given {@link ByteBuffer} in a {@link ProtonBuffer} without
+     * copying them, the position of the given buffer is not changed.
+     *
+     * @param buffer
+     *      The {@link ByteBuffer} to wrap, which can be direct or read-only.
+     *
+     * @return a {@link ProtonBuffer} view of the given buffer or null if the buffer was null.
+     */
+    public static ProtonBuffer wrapByteBuffer(ByteBuffer buffer) {
+        if (buffer == null) {
+            return null;
+        } else if (buffer.hasArray() && !buffer.isReadOnly()) {
+            return ProtonByteBufferAllocator.DEFAULT.wrap(buffer);
+        } else {
+            return new ProtonNioByteBuffer(buffer);
+        }
+    }
+
+    /**
+     * Creates a view of the bytes carried in the given {@link Data} body sections without copying them,
+     * more than one section results in a composite buffer of the sections in the order given.
+     *
+     * @param sections
+     *      The body sections whose bytes should be viewed.
+     *
+     * @return a view of the body bytes or null if there are no body sections.
+     *
+     * @throws ClientException if any of the sections is not a {@link Data} section.
+     */
+    public static ProtonBuffer createBodyBufferView(Collection<Section<?>> sections) throws ClientException {
+        if (sections == null || sections.isEmpty()) {
+            return null;
+        } else if (sections.size() == 1) {
+            return dataSectionView(sections.iterator().next());
+        } else {
+            final ProtonCompositeBuffer composite = new ProtonCompositeBuffer();
+            for (Section<?> section : sections) {
+                composite.append(dataSectionView(section));
+            }
+
+            return composite;
+        }
+    }
+
     @SuppressWarnings({ "rawtypes", "unchecked" })
     public static <E> Section<E> createSectionFromValue(E body) {
         if (body == null) {
@@ -206,6 +392,21 @@ public abstract class ClientMessageSupport {
 
     //----- Internal Implementation
 
+    private static ProtonBuffer dataSectionView(Section<?> section) throws ClientException {
+        if (section.getType() != SectionType.Data) {
+            throw new ClientException("Cannot provide a buffer view of a body that contains a " + section.getType() + " section");
+        }
+
+        final Binary binary = ((Data) section).getBinary();
+
+        // Duplicated so that reads from the view do not consume the bytes that will be encoded
+        if (binary == null || binary.asProtonBuffer() == null) {
+            return ProtonByteBufferAllocator.DEFAULT.allocate(0, 0);
+        } else {
+            return binary.asProtonBuffer().duplicate();
+        }
+    }
+
     private static <E> ClientMessage<E> convertFromOutsideMessage(Message<E> source) throws ClientException {
         Header header = new Header();
         header.setDurable(source.durable());
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.impl;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonByteBufferAllocator;
+import org.apache.qpid.protonj2.client.AdvancedMessage;
+import org.apache.qpid.protonj2.client.Message;
+import org.apache.qpid.protonj2.client.MessageTemplate;
+import org.apache.qpid.protonj2.client.exceptions.ClientException;
+import org.apache.qpid.protonj2.codec.CodecFactory;
+import org.apache.qpid.protonj2.codec.EncoderState;
+import org.apache.qpid.protonj2.codec.EncodingCodes;
+import org.apache.qpid.protonj2.codec.encoders.messaging.PropertiesTypeEncoder;
+import org.apache.qpid.protonj2.types.messaging.Properties;
+import org.apache.qpid.protonj2.types.messaging.Section;
+
+/**
+ * Client {@link MessageTemplate} implementation that holds the encoded bytes of the invariant
+ * sections of a prototype message.
+ * <p>
+ * The Properties section is held as the encoding of every field after the message-id so that
+ * a message-id of any type and size can be written ahead of it, the list size is then written
+ * once the message-id is known.  The creation-time is always present in the held encoding as a
+ * fixed width timestamp whose value is patched at a recorded offset for each message.
+ *
+ * @param <E> The type of the body value carried in messages created from this template
+ */
+public final class ClientMessageTemplate<E> implements MessageTemplate<E> {
+
+    private static final PropertiesTypeEncoder PROPERTIES_ENCODER = new PropertiesTypeEncoder();
+
+    /**
+     * The bytes that open an encoded Properties section ahead of its list size and count.
+     */
+    static final byte[] PROPERTIES_PREAMBLE = new byte[] { EncodingCodes.DESCRIBED_TYPE_INDICATOR,
+                                                           EncodingCodes.SMALLULONG,
+                                                           Properties.DESCRIPTOR_CODE.byteValue(),
+                                                           EncodingCodes.LIST32 };
+
+    private final byte[] header;
+    private final byte[] annotations;
+    private final byte[] propertiesTail;
+    private final int propertiesCount;
+    private final int creationTimeOffset;
+    private final byte[] applicationProperties;
+    private final byte[] footer;
+    private final int messageFormat;
+
+    private volatile int sizeHint;
+
+    private ClientMessageTemplate(AdvancedMessage<?> prototype) throws ClientException {
+        final Properties properties = prototype.properties() != null ? prototype.properties().copy() : new Properties();
+
+        // Ensures the creation time is encoded as a timestamp whose value can be patched
+        properties.setCreationTime(0);
+
+        final EncoderState encoderState = CodecFactory.getDefaultEncoder().newEncoderState();
+        final ProtonBuffer tail = ProtonByteBufferAllocator.DEFAULT.allocate();
+        int timestampOffset = -1;
+
+        this.propertiesCount = properties.getElementCount();
+
+        for (int i = 1; i < propertiesCount; ++i) {
+            if (i == 9) {
+                timestampOffset = tail.getWriteIndex();
+            }
+
+            PROPERTIES_ENCODER.writeElement(properties, i, tail, encoderState);
+        }
+
+        this.header = encodeSection(prototype.header());
+        this.annotations = encodeSection(prototype.annotations());
+        this.propertiesTail = toArray(tail);
+        this.creationTimeOffset = timestampOffset + Byte.BYTES;
+        this.applicationProperties = encodeSection(prototype.applicationProperties());
+        this.footer = encodeSection(prototype.footer());
+        this.messageFormat = prototype.messageFormat();
+        this.sizeHint = header.length + annotations.length + PROPERTIES_PREAMBLE.length + Integer.BYTES * 2 +
+                           propertiesTail.length + applicationProperties.length + footer.length;
+    }
+
+    public static <E> ClientMessageTemplate<E> create(Message<?> prototype) throws ClientException {
+        return new ClientMessageTemplate<>(ClientMessageSupport.convertMessage(prototype));
+    }
+
+    @Override
+    public Message<E> message(Object messageId, E body) {
+        return message(messageId, System.currentTimeMillis(), body);
+    }
+
+    @Override
+    public Message<E> message(Object messageId, long creationTime, E body) {
+        return new ClientTemplateMessage<>(this, messageId, creationTime, ClientMessageSupport.createSectionFromValue(body));
+    }
+
+    //----- Internal API for template message encoding
+
+    byte[] header() {
+        return header;
+    }
+
+    byte[] annotations() {
+        return annotations;
+    }
+
+    byte[] propertiesTail() {
+        return propertiesTail;
+    }
+
+    int propertiesCount() {
+        return propertiesCount;
+    }
+
+    int creationTimeOffset() {
+        return creationTimeOffset;
+    }
+
+    byte[] applicationProperties() {
+        return applicationProperties;
+    }
+
+    byte[] footer() {
+        return footer;
+    }
+
+    int messageFormat() {
+        return messageFormat;
+    }
+
+    /**
+     * @return the expected encoded size of the next message created from this template.
+     */
+    int sizeHint() {
+        return sizeHint;
+    }
+
+    /**
+     * Records the encoded size of a message created from this template, messages from one template
+     * usually have bodies of a similar size so the last size is a good estimate for the next.
+     *
+     * @param encodedSize
+     *      The size of the most recently encoded message.
+     */
+    void sizeHint(int encodedSize) {
+        this.sizeHint = encodedSize;
+    }
+
+    //----- Internal implementation
+
+    private static byte[] encodeSection(Section<?> section) {
+        if (section == null) {
+            return new byte[0];
+        } else {
+            return toArray(ClientMessageSupport.encodeSection(section, ProtonByteBufferAllocator.DEFAULT.allocate()));
+        }
+    }
+
+    private static byte[] toArray(ProtonBuffer buffer) {
+        final byte[] array = new byte[buffer.getReadableBytes()];
+        buffer.readBytes(array);
+        return array;
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.impl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apache.qpid.protonj2.client.NextReceiverPolicy;
+import org.apache.qpid.protonj2.client.Receiver;
+import org.apache.qpid.protonj2.client.exceptions.ClientException;
+import org.apache.qpid.protonj2.client.exceptions.ClientIllegalStateException;
+import org.apache.qpid.protonj2.client.futures.ClientFuture;
+
+/**
+ * Tracks the receivers of a {@link ClientSession} and selects which of them should be
+ * returned from a next receiver request based on the requested {@link NextReceiverPolicy}.
+ * <p>
+ * Requests that cannot be met immediately are queued and completed from the connection
+ * event loop as deliveries arrive, all methods must be called from the connection event
+ * loop.
+ */
+final class ClientNextReceiverSelector {
+
+    private static final long INFINITE = -1;
+
+    private final ArrayList<ClientReceiver> receivers = new ArrayList<>();
+    private final ArrayDeque<ClientFuture<Receiver>> pending = new ArrayDeque<>();
+    private final ClientSession session;
+
+    private int roundRobinIndex;
+
+    ClientNextReceiverSelector(ClientSession session) {
+        this.session = session;
+    }
+
+    void addReceiver(ClientReceiver receiver) {
+        receivers.add(receiver);
+    }
+
+    void removeReceiver(ClientReceiver receiver) {
+        final int index = receivers.indexOf(receiver);
+
+        if (index >= 0) {
+            receivers.remove(index);
+            if (index < roundRobinIndex) {
+                roundRobinIndex--;
+            }
+        }
+    }
+
+    void nextReceiver(ClientFuture<Receiver> request, NextReceiverPolicy policy, long timeout) {
+        final ClientReceiver result = selectReceiver(policy);
+
+        if (result != null) {
+            request.complete(result);
+        } else if (timeout == 0) {
+            request.complete(null);
+        } else {
+            pending.add(request);
+
+            if (timeout != INFINITE) {
+                session.scheduleTimeout(() -> {
+                    if (pending.remove(request)) {
+                        request.complete(null);
+                    }
+                }, timeout);
+            }
+        }
+    }
+
+    void handleReceiverReportsDelivered(ClientReceiver receiver) {
+        ClientFuture<Receiver> request;
+
+        // Requests abandoned by an interrupted caller are skipped so that the delivery is not lost.
+        while ((request = pending.poll()) != null) {
+            if (!request.isDone()) {
+                request.complete(receiver);
+                break;
+            }
+        }
+    }
+
+    void handleSessionShutdown(ClientException failureCause) {
+        final ClientException cause = failureCause != null ?
+            failureCause : new ClientIllegalStateException("The Session was closed while waiting for a next receiver");
+
+        ClientFuture<Receiver> request;
+        while ((request = pending.poll()) != null) {
+            request.failed(cause);
+        }
+
+        receivers.clear();
+    }
+
+    //----- Selection policy implementations
+
+    private ClientReceiver selectReceiver(NextReceiverPolicy policy) {
+        if (receivers.isEmpty()) {
+            return null;
+        }
+
+        switch (policy) {
+            case ROUND_ROBIN:
+                return selectInRoundRobin();
+            case RANDOM:
+                return selectRandom();
+            case LARGEST_BACKLOG:
+                return selectByBacklog(true);
+            case SMALLEST_BACKLOG:
+                return selectByBacklog(false);
+            case FIRST_AVAILABLE:
+                return selectFirstAvailable();
+            default:
+                throw new IllegalArgumentException("Unknown next receiver policy: " + policy);
+        }
+    }
+
+    private ClientReceiver selectInRoundRobin() {
+        final int count = receivers.size();
+
+        for (int i = 0; i < count; ++i) {
+            final int index = (roundRobinIndex + i) % count;
+            final ClientReceiver candidate = receivers.get(index);
+
+            if (hasPendingDeliveries(candidate)) {
+                roundRobinIndex = index + 1;
+                return candidate;
+            }
+        }
+
+        return null;
+    }
+
+    private ClientReceiver selectRandom() {
+        int available = 0;
+
+        for (ClientReceiver candidate : receivers) {
+            if (hasPendingDeliveries(candidate)) {
+                available++;
+            }
+        }
+
+        if (available > 0) {
+            int chosen = ThreadLocalRandom.current().nextInt(available);
+
+            for (ClientReceiver candidate : receivers) {
+                if (hasPendingDeliveries(candidate) && chosen-- == 0) {
+                    return candidate;
+                }
+            }
+
+            // The chosen receiver was drained by a consumer between the two passes.
+            return selectFirstAvailable();
+        }
+
+        return null;
+    }
+
+    private ClientReceiver selectByBacklog(boolean largest) {
+        ClientReceiver result = null;
+        long resultBacklog = 0;
+
+        for (ClientReceiver candidate : receivers) {
+            if (hasPendingDeliveries(candidate)) {
+                final long backlog = candidate.queuedDeliveries();
+
+                if (result == null || (largest ? backlog > resultBacklog : backlog < resultBacklog)) {
+                    result = candidate;
+                    resultBacklog = backlog;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private ClientReceiver selectFirstAvailable() {
+        for (ClientReceiver candidate : receivers) {
+            if (hasPendingDeliveries(candidate)) {
+                return candidate;
+            }
+        }
+
+        return null;
+    }
+
+    private static boolean hasPendingDeliveries(ClientReceiver receiver) {
+        return !receiver.isClosed() && receiver.queuedDeliveries() > 0;
+    }
+}
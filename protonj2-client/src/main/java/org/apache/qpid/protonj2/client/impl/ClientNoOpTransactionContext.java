@@ -17,6 +17,7 @@
 package org.apache.qpid.protonj2.client.impl;
 
 import org.apache.qpid.protonj2.client.Session;
+import org.apache.qpid.protonj2.client.Transaction;
 import org.apache.qpid.protonj2.client.exceptions.ClientIllegalStateException;
 import org.apache.qpid.protonj2.client.futures.ClientFuture;
 import org.apache.qpid.protonj2.engine.IncomingDelivery;
@@ -43,6 +44,16 @@ final class ClientNoOpTransactionContext implements ClientTransactionContext {
         throw new ClientIllegalStateException("Cannot rollback from a no-op transaction context");
     }
 
+    @Override
+    public ClientTransactionContext declare(ClientTransaction transaction, ClientFuture<Transaction> declareFuture) throws ClientIllegalStateException {
+        throw new ClientIllegalStateException("Cannot declare from a no-op transaction context");
+    }
+
+    @Override
+    public ClientTransactionContext discharge(ClientTransaction transaction, ClientFuture<Transaction> dischargeFuture, boolean failed) throws ClientIllegalStateException {
+        throw new ClientIllegalStateException("Cannot discharge from a no-op transaction context");
+    }
+
     @Override
     public boolean isInTransaction() {
         return false;
@@ -64,4 +75,14 @@ final class ClientNoOpTransactionContext implements ClientTransactionContext {
         delivery.disposition(outcome, settled);
         return this;
     }
+
+    @Override
+    public ClientTransactionContext disposition(ClientTransaction transaction, IncomingDelivery delivery, DeliveryState outcome) {
+        throw new IllegalStateException("Cannot apply a transacted disposition from a no-op transaction context");
+    }
+
+    @Override
+    public ClientTransactionContext close() {
+        return this;
+    }
 }
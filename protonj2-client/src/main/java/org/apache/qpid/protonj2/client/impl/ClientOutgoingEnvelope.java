@@ -16,16 +16,17 @@
  */
 package org.apache.qpid.protonj2.client.impl;
 
-import java.util.concurrent.ScheduledFuture;
-
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.client.Tracker;
 import org.apache.qpid.protonj2.client.exceptions.ClientException;
 import org.apache.qpid.protonj2.client.exceptions.ClientSendTimedOutException;
 import org.apache.qpid.protonj2.client.futures.ClientFuture;
 import org.apache.qpid.protonj2.engine.OutgoingDelivery;
+import org.apache.qpid.protonj2.engine.util.HashedWheelTimer;
 import org.apache.qpid.protonj2.types.transport.DeliveryState;
 
+import io.netty.util.ReferenceCountUtil;
+
 /**
  * Tracking object used to manage the life-cycle of a send of message payload
  * to the remote which can be stalled either for link or session credit limits.
@@ -41,8 +42,10 @@ public class ClientOutgoingEnvelope {
     private final int messageFormat;
 
     private boolean aborted;
-    private ScheduledFuture<?> sendTimeout;
+    private boolean released;
+    private HashedWheelTimer.Timeout sendTimeout;
     private OutgoingDelivery delivery;
+    private ClientTransaction transaction;
 
     /**
      * Create a new In-flight Send instance for a complete message send.  No further
@@ -112,11 +115,11 @@ public class ClientOutgoingEnvelope {
         this.delivery = delivery;
     }
 
-    public ScheduledFuture<?> sendTimeout() {
+    public HashedWheelTimer.Timeout sendTimeout() {
         return sendTimeout;
     }
 
-    public void sendTimeout(ScheduledFuture<?> sendTimeout) {
+    public void sendTimeout(HashedWheelTimer.Timeout sendTimeout) {
         this.sendTimeout = sendTimeout;
     }
 
@@ -128,6 +131,15 @@ public class ClientOutgoingEnvelope {
         return delivery;
     }
 
+    public ClientTransaction transaction() {
+        return transaction;
+    }
+
+    public ClientOutgoingEnvelope transaction(ClientTransaction transaction) {
+        this.transaction = transaction;
+        return this;
+    }
+
     public ClientOutgoingEnvelope abort() {
         this.aborted = true;
         return this;
@@ -143,10 +155,12 @@ public class ClientOutgoingEnvelope {
 
     public ClientOutgoingEnvelope discard() {
         if (sendTimeout != null) {
-            sendTimeout.cancel(true);
+            sendTimeout.cancel();
             sendTimeout = null;
         }
 
+        releasePayload();
+
         if (delivery != null) {
             ClientTracker tracker = delivery.getLinkedResource();
             if (tracker != null) {
@@ -162,9 +176,11 @@ public class ClientOutgoingEnvelope {
 
     public ClientOutgoingEnvelope succeeded() {
         if (sendTimeout != null) {
-            sendTimeout.cancel(true);
+            sendTimeout.cancel();
         }
 
+        releasePayload();
+
         request.complete(delivery.getLinkedResource());
 
         return this;
@@ -172,9 +188,11 @@ public class ClientOutgoingEnvelope {
 
     public ClientOutgoingEnvelope failed(ClientException exception) {
         if (sendTimeout != null) {
-            sendTimeout.cancel(true);
+            sendTimeout.cancel();
         }
 
+        releasePayload();
+
         request.failed(exception);
 
         return this;
@@ -218,4 +236,20 @@ public class ClientOutgoingEnvelope {
     public ClientException createSendTimedOutException() {
         return new ClientSendTimedOutException("Timed out waiting for credit to send");
     }
+
+    /**
+     * Releases the payload of this envelope which may be a pooled buffer obtained from the connection
+     * transport.  Once a send has completed or failed the engine no longer references the payload and
+     * any writes that are still pending hold their own reference to the bytes they carry.
+     *
+     * @return this {@link ClientOutgoingEnvelope} instance.
+     */
+    public ClientOutgoingEnvelope releasePayload() {
+        if (!released && payload != null) {
+            released = true;
+            ReferenceCountUtil.release(payload.unwrap());
+        }
+
+        return this;
+    }
 }
@@ -0,0 +1,327 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.client.AdvancedMessage;
+import org.apache.qpid.protonj2.client.exceptions.ClientException;
+import org.apache.qpid.protonj2.client.exceptions.ClientMessageFormatViolationException;
+import org.apache.qpid.protonj2.types.UnsignedLong;
+import org.apache.qpid.protonj2.types.messaging.Data;
+import org.apache.qpid.protonj2.types.messaging.Section;
+import org.apache.qpid.protonj2.types.messaging.Section.SectionType;
+
+/**
+ * Compresses and decompresses the Data section payload of messages using the deflate content
+ * encoding when the connection has negotiated payload compression with the remote peer.
+ * <p>
+ * Creating a {@link Deflater} or {@link Inflater} allocates native zlib state so a small number
+ * of each are pooled and reused across messages instead of being created for every message.
+ */
+final class ClientPayloadCompression {
+
+    /**
+     * The content encoding set on messages whose body has been compressed.
+     */
+    static final String DEFLATE_ENCODING = "deflate";
+
+    private static final int MAX_POOLED = Math.max(2, Runtime.getRuntime().availableProcessors());
+    private static final int CHUNK_SIZE = 4096;
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private static final Queue<Deflater> DEFLATERS = new ConcurrentLinkedQueue<>();
+    private static final Queue<Inflater> INFLATERS = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger POOLED_DEFLATERS = new AtomicInteger();
+    private static final AtomicInteger POOLED_INFLATERS = new AtomicInteger();
+
+    private ClientPayloadCompression() {
+    }
+
+    /**
+     * Compresses the body of the given message if it is made up of only {@link Data} sections whose
+     * combined size meets the threshold, the message does not already carry a content encoding and the
+     * compressed result is smaller than the original body.
+     *
+     * @param message
+     *      The message whose body should be compressed.
+     * @param threshold
+     *      The minimum body size in bytes that is worth compressing.
+     *
+     * @return the compressed body bytes or null if the message body should be sent as is.
+     *
+     * @throws ClientException if an error occurs while reading the message body.
+     */
+    static byte[] deflateBody(AdvancedMessage<?> message, int threshold) throws ClientException {
+        if (message.contentEncoding() != null || !onlyDataSections(message.bodySections())) {
+            return null;
+        }
+
+        final ProtonBuffer body = message.bodyBuffer();
+
+        if (body == null || body.getReadableBytes() < threshold) {
+            return null;
+        }
+
+        final byte[] compressed = deflate(body);
+
+        return compressed.length < body.getReadableBytes() ? compressed : null;
+    }
+
+    /**
+     * Replaces the body of the given message with its decompressed form if the message content
+     * encoding indicates that the body was compressed by the sender, the content encoding is
+     * cleared once the body has been decompressed.
+     *
+     * @param message
+     *      The received message whose body should be decompressed.
+     * @param maxSize
+     *      The maximum size in bytes that the decompressed body may reach.
+     *
+     * @throws ClientException if the compressed body cannot be decompressed or exceeds the maximum size.
+     */
+    static void inflateBody(ClientMessage<?> message, int maxSize) throws ClientException {
+        if (!DEFLATE_ENCODING.equals(message.contentEncoding()) || !onlyDataSections(message.bodySections())) {
+            return;
+        }
+
+        final ProtonBuffer body = message.bodyBuffer();
+        final byte[] inflated = body != null ? inflate(body, maxSize) : new byte[0];
+
+        message.clearBodySections();
+        message.addBodySection(new Data(inflated));
+        message.contentEncoding(null);
+    }
+
+    /**
+     * Wraps a stream of compressed body bytes in one that decompresses them as they are read, the
+     * stream fails with an {@link IOException} once more than the maximum size has been read from
+     * it.  The pooled {@link Inflater} used by the stream is returned to the pool when it is closed.
+     *
+     * @param source
+     *      The stream that provides the compressed body bytes.
+     * @param maxSize
+     *      The maximum size in bytes that the decompressed body may reach.
+     *
+     * @return an {@link InputStream} that provides the decompressed body bytes.
+     */
+    static InputStream inflate(InputStream source, int maxSize) {
+        return new BoundedInflaterInputStream(source, borrowInflater(), maxSize);
+    }
+
+    /**
+     * Computes the maximum decompressed size of a received body, which is the configured limit unless
+     * the link has a smaller maximum message size.
+     *
+     * @param limit
+     *      The configured payload decompression limit.
+     * @param maxMessageSize
+     *      The maximum message size of the receiving link or null if it has none.
+     *
+     * @return the maximum size in bytes that a decompressed body may reach.
+     */
+    static int decompressionLimit(int limit, UnsignedLong maxMessageSize) {
+        if (maxMessageSize != null && maxMessageSize.longValue() > 0 && Long.compareUnsigned(maxMessageSize.longValue(), limit) < 0) {
+            return (int) maxMessageSize.longValue();
+        } else {
+            return limit;
+        }
+    }
+
+    static byte[] deflate(ProtonBuffer source) {
+        final Deflater deflater = borrowDeflater();
+
+        try {
+            setInput(source, deflater::setInput);
+            deflater.finish();
+
+            byte[] output = new byte[Math.max(CHUNK_SIZE, source.getReadableBytes() >> 1)];
+            int length = 0;
+
+            while (!deflater.finished()) {
+                if (length == output.length) {
+                    output = Arrays.copyOf(output, output.length << 1);
+                }
+
+                length += deflater.deflate(output, length, output.length - length);
+            }
+
+            return length == output.length ? output : Arrays.copyOf(output, length);
+        } finally {
+            returnDeflater(deflater);
+        }
+    }
+
+    static byte[] inflate(ProtonBuffer source, int maxSize) throws ClientException {
+        final Inflater inflater = borrowInflater();
+
+        // One byte of room beyond the maximum size reveals a body that would decompress past it
+        final int limit = (int) Math.min(maxSize + 1L, MAX_ARRAY_SIZE);
+
+        try {
+            setInput(source, inflater::setInput);
+
+            byte[] output = new byte[(int) Math.min(limit, Math.max(CHUNK_SIZE, (long) source.getReadableBytes() << 2))];
+            int length = 0;
+
+            while (!inflater.finished()) {
+                if (length == output.length) {
+                    output = Arrays.copyOf(output, (int) Math.min(limit, (long) output.length << 1));
+                }
+
+                final int inflated = inflater.inflate(output, length, output.length - length);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new ClientMessageFormatViolationException("Compressed message body is truncated or incomplete");
+                }
+
+                length += inflated;
+
+                if (length >= limit) {
+                    throw new ClientMessageFormatViolationException(
+                        "Compressed message body exceeds the maximum decompressed size of " + maxSize + " bytes");
+                }
+            }
+
+            return length == output.length ? output : Arrays.copyOf(output, length);
+        } catch (DataFormatException dfe) {
+            throw new ClientMessageFormatViolationException("Compressed message body could not be decompressed", dfe);
+        } finally {
+            returnInflater(inflater);
+        }
+    }
+
+    //----- Internal implementation
+
+    private static final class BoundedInflaterInputStream extends InflaterInputStream {
+
+        private final int maxSize;
+
+        private long inflatedBytes;
+        private boolean released;
+
+        BoundedInflaterInputStream(InputStream source, Inflater inflater, int maxSize) {
+            super(source, inflater);
+
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public int read(byte[] target, int offset, int length) throws IOException {
+            final int inflated = super.read(target, offset, length);
+
+            if (inflated > 0 && (inflatedBytes += inflated) > maxSize) {
+                throw new IOException("Compressed message body exceeds the maximum decompressed size of " + maxSize + " bytes");
+            }
+
+            return inflated;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                if (!released) {
+                    released = true;
+                    returnInflater(inf);
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface InputConsumer {
+
+        void setInput(byte[] array, int offset, int length);
+
+    }
+
+    private static void setInput(ProtonBuffer source, InputConsumer consumer) {
+        final int length = source.getReadableBytes();
+
+        if (source.hasArray()) {
+            consumer.setInput(source.getArray(), source.getArrayOffset() + source.getReadIndex(), length);
+        } else {
+            final byte[] copy = new byte[length];
+            source.getBytes(source.getReadIndex(), copy);
+            consumer.setInput(copy, 0, length);
+        }
+    }
+
+    private static boolean onlyDataSections(Collection<Section<?>> sections) {
+        for (Section<?> section : sections) {
+            if (section.getType() != SectionType.Data) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static Deflater borrowDeflater() {
+        final Deflater deflater = DEFLATERS.poll();
+
+        if (deflater != null) {
+            POOLED_DEFLATERS.decrementAndGet();
+            return deflater;
+        } else {
+            return new Deflater();
+        }
+    }
+
+    private static void returnDeflater(Deflater deflater) {
+        if (POOLED_DEFLATERS.incrementAndGet() <= MAX_POOLED) {
+            deflater.reset();
+            DEFLATERS.offer(deflater);
+        } else {
+            POOLED_DEFLATERS.decrementAndGet();
+            deflater.end();
+        }
+    }
+
+    private static Inflater borrowInflater() {
+        final Inflater inflater = INFLATERS.poll();
+
+        if (inflater != null) {
+            POOLED_INFLATERS.decrementAndGet();
+            return inflater;
+        } else {
+            return new Inflater();
+        }
+    }
+
+    private static void returnInflater(Inflater inflater) {
+        if (POOLED_INFLATERS.incrementAndGet() <= MAX_POOLED) {
+            inflater.reset();
+            INFLATERS.offer(inflater);
+        } else {
+            POOLED_INFLATERS.decrementAndGet();
+            inflater.end();
+        }
+    }
+}
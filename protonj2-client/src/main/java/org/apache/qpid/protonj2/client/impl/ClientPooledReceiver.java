@@ -0,0 +1,376 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.qpid.protonj2.client.Client;
+import org.apache.qpid.protonj2.client.Connection;
+import org.apache.qpid.protonj2.client.Delivery;
+import org.apache.qpid.protonj2.client.ErrorCondition;
+import org.apache.qpid.protonj2.client.Receiver;
+import org.apache.qpid.protonj2.client.ReceiverOptions;
+import org.apache.qpid.protonj2.client.Session;
+import org.apache.qpid.protonj2.client.Source;
+import org.apache.qpid.protonj2.client.Target;
+import org.apache.qpid.protonj2.client.exceptions.ClientException;
+import org.apache.qpid.protonj2.client.exceptions.ClientIllegalStateException;
+import org.apache.qpid.protonj2.client.impl.ClientConnectionPool.AggregateFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link Receiver} opened from a {@link ClientConnectionPool} that holds one receiver link on each
+ * pooled connection and returns deliveries that arrive on any of them.
+ * <p>
+ * Each pooled link signals this receiver as deliveries arrive so that a blocked receive can wake and
+ * poll the links in rotation instead of waiting on any single link.
+ */
+public final class ClientPooledReceiver implements Receiver, ClientConnectionPool.PoolMemberListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ClientPooledReceiver.class);
+
+    private final ClientConnectionPool pool;
+    private final String address;
+    private final ReceiverOptions options;
+    private final List<PooledLink> links = new CopyOnWriteArrayList<>();
+    private final AtomicInteger nextLink = new AtomicInteger();
+    private final Object arrivalLock = new Object();
+
+    private volatile long arrivals;
+    private volatile boolean closed;
+
+    ClientPooledReceiver(ClientConnectionPool pool, String address, ReceiverOptions options) {
+        this.pool = pool;
+        this.address = address;
+        this.options = options;
+    }
+
+    @Override
+    public Future<Receiver> openFuture() {
+        final List<Future<Receiver>> opens = new ArrayList<>(links.size());
+        links.forEach(link -> opens.add(link.receiver.openFuture()));
+        return new AggregateFuture<>(this, opens);
+    }
+
+    @Override
+    public void close() {
+        awaitQuietly(closeAsync());
+    }
+
+    @Override
+    public void close(ErrorCondition error) {
+        awaitQuietly(closeAsync(error));
+    }
+
+    @Override
+    public void detach() {
+        awaitQuietly(detachAsync());
+    }
+
+    @Override
+    public void detach(ErrorCondition error) {
+        awaitQuietly(detachAsync(error));
+    }
+
+    @Override
+    public Future<Receiver> closeAsync() {
+        return closeAsync(null);
+    }
+
+    @Override
+    public Future<Receiver> closeAsync(ErrorCondition error) {
+        return doCloseOrDetach(true, error);
+    }
+
+    @Override
+    public Future<Receiver> detachAsync() {
+        return detachAsync(null);
+    }
+
+    @Override
+    public Future<Receiver> detachAsync(ErrorCondition error) {
+        return doCloseOrDetach(false, error);
+    }
+
+    @Override
+    public String address() throws ClientException {
+        return address;
+    }
+
+    @Override
+    public Source source() throws ClientException {
+        return firstLink().receiver.source();
+    }
+
+    @Override
+    public Target target() throws ClientException {
+        return firstLink().receiver.target();
+    }
+
+    @Override
+    public Map<String, Object> properties() throws ClientException {
+        return firstLink().receiver.properties();
+    }
+
+    @Override
+    public String[] offeredCapabilities() throws ClientException {
+        return firstLink().receiver.offeredCapabilities();
+    }
+
+    @Override
+    public String[] desiredCapabilities() throws ClientException {
+        return firstLink().receiver.desiredCapabilities();
+    }
+
+    @Override
+    public Client client() {
+        return pool.client();
+    }
+
+    @Override
+    public Connection connection() {
+        final List<PooledLink> current = links;
+        return current.isEmpty() ? null : current.get(0).connection;
+    }
+
+    @Override
+    public Session session() {
+        final List<PooledLink> current = links;
+        return current.isEmpty() ? null : current.get(0).receiver.session();
+    }
+
+    @Override
+    public Receiver addCredit(int credits) throws ClientException {
+        checkClosed();
+
+        final Object[] current = links.toArray();
+        if (current.length == 0) {
+            throw new ClientIllegalStateException("No pooled connections are currently available to add credit to");
+        }
+
+        // Credit is split evenly with any remainder granted to the first links in the pool
+        for (int i = 0; i < current.length; ++i) {
+            final int share = credits / current.length + (i < credits % current.length ? 1 : 0);
+            if (share > 0) {
+                ((PooledLink) current[i]).receiver.addCredit(share);
+            }
+        }
+
+        return this;
+    }
+
+    @Override
+    public Delivery receive() throws ClientException {
+        return receive(-1, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Delivery receive(long timeout, TimeUnit unit) throws ClientException {
+        final long deadline = timeout < 0 ? 0 : System.nanoTime() + unit.toNanos(timeout);
+
+        while (true) {
+            checkClosed();
+
+            final long observed = arrivals;
+            final Delivery delivery = pollLinks();
+
+            if (delivery != null) {
+                return delivery;
+            }
+
+            try {
+                synchronized (arrivalLock) {
+                    while (observed == arrivals) {
+                        if (timeout < 0) {
+                            arrivalLock.wait();
+                        } else {
+                            final long remaining = deadline - System.nanoTime();
+                            if (remaining <= 0) {
+                                return null;
+                            }
+
+                            TimeUnit.NANOSECONDS.timedWait(arrivalLock, remaining);
+                        }
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.interrupted();
+                throw new ClientException("Receive wait interrupted", e);
+            }
+        }
+    }
+
+    @Override
+    public Delivery tryReceive() throws ClientException {
+        checkClosed();
+        return pollLinks();
+    }
+
+    @Override
+    public Future<Receiver> drain() throws ClientException {
+        checkClosed();
+
+        final List<Future<Receiver>> draining = new ArrayList<>(links.size());
+        for (PooledLink link : links) {
+            draining.add(link.receiver.drain());
+        }
+
+        return new AggregateFuture<>(this, draining);
+    }
+
+    @Override
+    public long queuedDeliveries() throws ClientException {
+        checkClosed();
+
+        long queued = 0;
+        for (PooledLink link : links) {
+            queued += link.receiver.queuedDeliveries();
+        }
+
+        return queued;
+    }
+
+    //----- Pool member life-cycle
+
+    @Override
+    public void memberAdded(ClientConnection connection) {
+        if (!closed) {
+            try {
+                final ClientReceiver receiver = (ClientReceiver) connection.openReceiver(address, options);
+                links.add(new PooledLink(connection, receiver.deliveryArrivalListener(this::signalArrival)));
+                signalArrival();
+            } catch (ClientException ex) {
+                LOG.debug("Failed to open pooled receiver on connection {}: ", connection, ex);
+            }
+        }
+    }
+
+    @Override
+    public void memberRemoved(ClientConnection connection) {
+        for (PooledLink link : links) {
+            if (link.connection == connection) {
+                links.remove(link);
+                link.receiver.deliveryArrivalListener(null);
+            }
+        }
+
+        signalArrival();
+    }
+
+    //----- Internal implementation
+
+    private void signalArrival() {
+        synchronized (arrivalLock) {
+            arrivals++;
+            arrivalLock.notifyAll();
+        }
+    }
+
+    private Delivery pollLinks() {
+        final Object[] current = links.toArray();
+
+        if (current.length > 0) {
+            final int start = Math.floorMod(nextLink.getAndIncrement(), current.length);
+
+            for (int i = 0; i < current.length; ++i) {
+                final PooledLink link = (PooledLink) current[(start + i) % current.length];
+
+                try {
+                    final Delivery delivery = link.receiver.tryReceive();
+                    if (delivery != null) {
+                        return delivery;
+                    }
+                } catch (ClientException ex) {
+                    // The link is removed once the pool learns its connection failed
+                    LOG.trace("Pooled receiver link on failed connection skipped: ", ex);
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private PooledLink firstLink() throws ClientException {
+        checkClosed();
+
+        final List<PooledLink> current = links;
+        if (current.isEmpty()) {
+            throw new ClientIllegalStateException("No pooled connections are currently available");
+        }
+
+        return current.get(0);
+    }
+
+    private void checkClosed() throws ClientException {
+        if (closed) {
+            throw new ClientIllegalStateException("The pooled receiver has been closed");
+        }
+
+        pool.checkClosed();
+    }
+
+    private synchronized Future<Receiver> doCloseOrDetach(boolean close, ErrorCondition error) {
+        closed = true;
+        pool.removeListener(this);
+
+        final List<Future<Receiver>> closing = new ArrayList<>(links.size());
+        for (PooledLink link : links) {
+            links.remove(link);
+            link.receiver.deliveryArrivalListener(null);
+            closing.add(closeOrDetach(link.receiver, close, error));
+        }
+
+        signalArrival();
+
+        return new AggregateFuture<>(this, closing);
+    }
+
+    private static Future<Receiver> closeOrDetach(ClientReceiver receiver, boolean close, ErrorCondition error) {
+        if (error == null) {
+            return close ? receiver.closeAsync() : receiver.detachAsync();
+        } else {
+            return close ? receiver.closeAsync(error) : receiver.detachAsync(error);
+        }
+    }
+
+    private static void awaitQuietly(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException | ExecutionException e) {
+            Thread.interrupted();
+        }
+    }
+
+    private static final class PooledLink {
+
+        private final ClientConnection connection;
+        private final ClientReceiver receiver;
+
+        PooledLink(ClientConnection connection, ClientReceiver receiver) {
+            this.connection = connection;
+            this.receiver = receiver;
+        }
+    }
+}
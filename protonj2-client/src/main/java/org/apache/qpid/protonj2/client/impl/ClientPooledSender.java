@@ -0,0 +1,341 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.qpid.protonj2.client.Client;
+import org.apache.qpid.protonj2.client.Connection;
+import org.apache.qpid.protonj2.client.ErrorCondition;
+import org.apache.qpid.protonj2.client.LoadBalancingPolicy;
+import org.apache.qpid.protonj2.client.Message;
+import org.apache.qpid.protonj2.client.Sender;
+import org.apache.qpid.protonj2.client.SenderOptions;
+import org.apache.qpid.protonj2.client.Session;
+import org.apache.qpid.protonj2.client.Source;
+import org.apache.qpid.protonj2.client.Target;
+import org.apache.qpid.protonj2.client.Tracker;
+import org.apache.qpid.protonj2.client.exceptions.ClientException;
+import org.apache.qpid.protonj2.client.exceptions.ClientIllegalStateException;
+import org.apache.qpid.protonj2.client.impl.ClientConnectionPool.AggregateFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link Sender} opened from a {@link ClientConnectionPool} that holds one sender link on each
+ * pooled connection and routes every send to one of them using the pool {@link LoadBalancingPolicy}.
+ * <p>
+ * Under the {@link LoadBalancingPolicy#LEAST_OUTSTANDING} policy each link counts its unsettled
+ * sends, the count is raised when a send returns a tracker and lowered by that tracker's settlement
+ * handler so no trackers are retained by the pooled sender.  Other policies do not track sends.
+ */
+public final class ClientPooledSender implements Sender, ClientConnectionPool.PoolMemberListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ClientPooledSender.class);
+
+    private final ClientConnectionPool pool;
+    private final String address;
+    private final SenderOptions options;
+    private final LoadBalancingPolicy policy;
+    private final List<PooledLink> links = new CopyOnWriteArrayList<>();
+    private final AtomicInteger nextLink = new AtomicInteger();
+
+    private volatile boolean closed;
+
+    ClientPooledSender(ClientConnectionPool pool, String address, SenderOptions options, LoadBalancingPolicy policy) {
+        this.pool = pool;
+        this.address = address;
+        this.options = options;
+        this.policy = policy;
+    }
+
+    @Override
+    public Future<Sender> openFuture() {
+        final List<Future<Sender>> opens = new ArrayList<>(links.size());
+        links.forEach(link -> opens.add(link.sender.openFuture()));
+        return new AggregateFuture<>(this, opens);
+    }
+
+    @Override
+    public void close() {
+        awaitQuietly(closeAsync());
+    }
+
+    @Override
+    public void close(ErrorCondition error) {
+        awaitQuietly(closeAsync(error));
+    }
+
+    @Override
+    public void detach() {
+        awaitQuietly(detachAsync());
+    }
+
+    @Override
+    public void detach(ErrorCondition error) {
+        awaitQuietly(detachAsync(error));
+    }
+
+    @Override
+    public Future<Sender> closeAsync() {
+        return closeAsync(null);
+    }
+
+    @Override
+    public Future<Sender> closeAsync(ErrorCondition error) {
+        return doCloseOrDetach(true, error);
+    }
+
+    @Override
+    public Future<Sender> detachAsync() {
+        return detachAsync(null);
+    }
+
+    @Override
+    public Future<Sender> detachAsync(ErrorCondition error) {
+        return doCloseOrDetach(false, error);
+    }
+
+    @Override
+    public String address() throws ClientException {
+        return address;
+    }
+
+    @Override
+    public Source source() throws ClientException {
+        return firstLink().sender.source();
+    }
+
+    @Override
+    public Target target() throws ClientException {
+        return firstLink().sender.target();
+    }
+
+    @Override
+    public Map<String, Object> properties() throws ClientException {
+        return firstLink().sender.properties();
+    }
+
+    @Override
+    public String[] offeredCapabilities() throws ClientException {
+        return firstLink().sender.offeredCapabilities();
+    }
+
+    @Override
+    public String[] desiredCapabilities() throws ClientException {
+        return firstLink().sender.desiredCapabilities();
+    }
+
+    @Override
+    public Client client() {
+        return pool.client();
+    }
+
+    @Override
+    public Connection connection() {
+        final List<PooledLink> current = links;
+        return current.isEmpty() ? null : current.get(0).connection;
+    }
+
+    @Override
+    public Session session() {
+        final List<PooledLink> current = links;
+        return current.isEmpty() ? null : current.get(0).sender.session();
+    }
+
+    @Override
+    public Tracker send(Message<?> message) throws ClientException {
+        return send(message, null);
+    }
+
+    @Override
+    public Tracker send(Message<?> message, Map<String, Object> deliveryAnnotations) throws ClientException {
+        checkClosed();
+
+        final PooledLink link = selectLink();
+
+        return track(link, link.sender.send(message, deliveryAnnotations));
+    }
+
+    @Override
+    public Tracker trySend(Message<?> message) throws ClientException {
+        return trySend(message, null);
+    }
+
+    @Override
+    public Tracker trySend(Message<?> message, Map<String, Object> deliveryAnnotations) throws ClientException {
+        checkClosed();
+
+        final PooledLink selected = selectLink();
+        final Object[] current = links.toArray();
+
+        // Offer the message to the selected link first and then any other link with credit
+        Tracker tracker = track(selected, selected.sender.trySend(message, deliveryAnnotations));
+        for (int i = 0; tracker == null && i < current.length; ++i) {
+            final PooledLink link = (PooledLink) current[i];
+            if (link != selected) {
+                tracker = track(link, link.sender.trySend(message, deliveryAnnotations));
+            }
+        }
+
+        return tracker;
+    }
+
+    //----- Pool member life-cycle
+
+    @Override
+    public void memberAdded(ClientConnection connection) {
+        if (!closed) {
+            try {
+                links.add(new PooledLink(connection, connection.openSender(address, options)));
+            } catch (ClientException ex) {
+                LOG.debug("Failed to open pooled sender on connection {}: ", connection, ex);
+            }
+        }
+    }
+
+    @Override
+    public void memberRemoved(ClientConnection connection) {
+        for (PooledLink link : links) {
+            if (link.connection == connection) {
+                links.remove(link);
+            }
+        }
+    }
+
+    //----- Internal implementation
+
+    int outstanding() {
+        int outstanding = 0;
+        for (PooledLink link : links) {
+            outstanding += link.outstanding.get();
+        }
+
+        return outstanding;
+    }
+
+    private PooledLink selectLink() throws ClientException {
+        final Object[] current = links.toArray();
+
+        if (current.length == 0) {
+            throw new ClientIllegalStateException("No pooled connections are currently available to send on");
+        }
+
+        final int start = Math.floorMod(nextLink.getAndIncrement(), current.length);
+
+        if (policy == LoadBalancingPolicy.ROUND_ROBIN || current.length == 1) {
+            return (PooledLink) current[start];
+        }
+
+        // Starting from a rotating position spreads sends across links that are tied on outstanding count
+        PooledLink selected = null;
+        int fewest = Integer.MAX_VALUE;
+
+        for (int i = 0; i < current.length; ++i) {
+            final PooledLink link = (PooledLink) current[(start + i) % current.length];
+            final int outstanding = link.outstanding.get();
+
+            if (outstanding < fewest) {
+                fewest = outstanding;
+                selected = link;
+            }
+        }
+
+        return selected;
+    }
+
+    private Tracker track(PooledLink link, Tracker tracker) {
+        // Presettled sends never receive a remote settlement so they are not counted as outstanding
+        if (policy == LoadBalancingPolicy.LEAST_OUTSTANDING && tracker instanceof ClientTracker &&
+            !tracker.settled() && !tracker.remoteSettled()) {
+            link.outstanding.incrementAndGet();
+            ((ClientTracker) tracker).settlementHandler(link::settled);
+        }
+
+        return tracker;
+    }
+
+    private PooledLink firstLink() throws ClientException {
+        checkClosed();
+
+        final List<PooledLink> current = links;
+        if (current.isEmpty()) {
+            throw new ClientIllegalStateException("No pooled connections are currently available");
+        }
+
+        return current.get(0);
+    }
+
+    private void checkClosed() throws ClientException {
+        if (closed) {
+            throw new ClientIllegalStateException("The pooled sender has been closed");
+        }
+
+        pool.checkClosed();
+    }
+
+    private synchronized Future<Sender> doCloseOrDetach(boolean close, ErrorCondition error) {
+        closed = true;
+        pool.removeListener(this);
+
+        final List<Future<Sender>> closing = new ArrayList<>(links.size());
+        for (PooledLink link : links) {
+            links.remove(link);
+            closing.add(closeOrDetach(link.sender, close, error));
+        }
+
+        return new AggregateFuture<>(this, closing);
+    }
+
+    private static Future<Sender> closeOrDetach(Sender sender, boolean close, ErrorCondition error) {
+        if (error == null) {
+            return close ? sender.closeAsync() : sender.detachAsync();
+        } else {
+            return close ? sender.closeAsync(error) : sender.detachAsync(error);
+        }
+    }
+
+    private static void awaitQuietly(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException | ExecutionException e) {
+            Thread.interrupted();
+        }
+    }
+
+    private static final class PooledLink {
+
+        private final ClientConnection connection;
+        private final Sender sender;
+        private final AtomicInteger outstanding = new AtomicInteger();
+
+        PooledLink(ClientConnection connection, Sender sender) {
+            this.connection = connection;
+            this.sender = sender;
+        }
+
+        void settled(Tracker tracker) {
+            outstanding.decrementAndGet();
+        }
+    }
+}
@@ -16,8 +16,14 @@
  */
 package org.apache.qpid.protonj2.client.impl;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
@@ -36,10 +42,11 @@ import org.apache.qpid.protonj2.client.exceptions.ClientIllegalStateException;
 import org.apache.qpid.protonj2.client.exceptions.ClientOperationTimedOutException;
 import org.apache.qpid.protonj2.client.exceptions.ClientResourceRemotelyClosedException;
 import org.apache.qpid.protonj2.client.futures.ClientFuture;
-import org.apache.qpid.protonj2.client.util.FifoDeliveryQueue;
+import org.apache.qpid.protonj2.client.util.DeliveryQueue;
 import org.apache.qpid.protonj2.engine.Connection;
 import org.apache.qpid.protonj2.engine.Engine;
 import org.apache.qpid.protonj2.engine.IncomingDelivery;
+import org.apache.qpid.protonj2.engine.util.HashedWheelTimer;
 import org.apache.qpid.protonj2.types.messaging.Released;
 import org.apache.qpid.protonj2.types.transport.DeliveryState;
 import org.slf4j.Logger;
@@ -51,6 +58,8 @@ public final class ClientReceiver implements Receiver {
 
     private static final AtomicIntegerFieldUpdater<ClientReceiver> CLOSED_UPDATER =
             AtomicIntegerFieldUpdater.newUpdater(ClientReceiver.class, "closed");
+    private static final AtomicIntegerFieldUpdater<ClientReceiver> DRAIN_SCHEDULED_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(ClientReceiver.class, "drainScheduled");
 
     private final ClientFuture<Receiver> openFuture;
     private final ClientFuture<Receiver> closeFuture;
@@ -60,14 +69,18 @@ public final class ClientReceiver implements Receiver {
     private final ClientSession session;
     private final ScheduledExecutorService executor;
     private final String receiverId;
-    private final FifoDeliveryQueue messageQueue;
+    private final DeliveryQueue messageQueue;
+    private final ConcurrentLinkedQueue<PendingDisposition> pendingDispositions = new ConcurrentLinkedQueue<>();
     private volatile int closed;
+    private volatile int drainScheduled;
     private ClientException failureCause;
+    private boolean selectable;
 
     private org.apache.qpid.protonj2.engine.Receiver protonReceiver;
 
     private volatile Source remoteSource;
     private volatile Target remoteTarget;
+    private volatile Runnable deliveryArrivalListener;
 
     public ClientReceiver(ClientSession session, ReceiverOptions options, String receiverId, org.apache.qpid.protonj2.engine.Receiver receiver) {
         this.options = options;
@@ -82,7 +95,7 @@ public final class ClientReceiver implements Receiver {
             protonReceiver.addCredit(options.creditWindow());
         }
 
-        messageQueue = new FifoDeliveryQueue(options.creditWindow());
+        messageQueue = session.getFutureFactory().createDeliveryQueue(options.creditWindow());
         messageQueue.start();
     }
 
@@ -351,7 +364,20 @@ public final class ClientReceiver implements Receiver {
         asyncApplyDisposition(delivery, state, settle);
     }
 
+    void disposition(IncomingDelivery delivery, DeliveryState state, ClientTransaction transaction) throws ClientException {
+        checkClosedOrFailed();
+        executor.execute(() -> {
+            session.getTransactionContext().disposition(transaction, delivery, state);
+            replenishCreditIfNeeded();
+        });
+    }
+
     ClientReceiver open() {
+        if (!selectable) {
+            selectable = true;
+            session.getNextReceiverSelector().addReceiver(this);
+        }
+
         protonReceiver.localOpenHandler(this::handleLocalOpen)
                       .localCloseHandler(this::handleLocalCloseOrDetach)
                       .localDetachHandler(this::handleLocalCloseOrDetach)
@@ -385,6 +411,11 @@ public final class ClientReceiver implements Receiver {
         return receiverId;
     }
 
+    ClientReceiver deliveryArrivalListener(Runnable listener) {
+        this.deliveryArrivalListener = listener;
+        return this;
+    }
+
     boolean isClosed() {
         return closed > 0;
     }
@@ -397,11 +428,11 @@ public final class ClientReceiver implements Receiver {
 
     private void handleLocalOpen(org.apache.qpid.protonj2.engine.Receiver receiver) {
         if (options.openTimeout() > 0) {
-            executor.schedule(() -> {
+            session.scheduleTimeout(() -> {
                 if (!openFuture.isDone()) {
                     immediateLinkShutdown(new ClientOperationTimedOutException("Receiver open timed out waiting for remote to respond"));
                 }
-            }, options.openTimeout(), TimeUnit.MILLISECONDS);
+            }, options.openTimeout());
         }
     }
 
@@ -518,6 +549,12 @@ public final class ClientReceiver implements Receiver {
         if (!delivery.isPartial()) {
             LOG.trace("{} has incoming Message(s).", this);
             messageQueue.enqueue(new ClientDelivery(this, delivery));
+            session.getNextReceiverSelector().handleReceiverReportsDelivered(this);
+
+            final Runnable listener = deliveryArrivalListener;
+            if (listener != null) {
+                listener.run();
+            }
         } else {
             delivery.claimAvailableBytes();
         }
@@ -546,10 +583,77 @@ public final class ClientReceiver implements Receiver {
     //----- Private implementation details
 
     private void asyncApplyDisposition(IncomingDelivery delivery, DeliveryState state, boolean settle) {
-        executor.execute(() -> {
-            session.getTransactionContext().disposition(delivery, state, settle);
+        pendingDispositions.offer(new PendingDisposition(delivery, state, settle));
+        scheduleDrainOfPendingWork();
+    }
+
+    /*
+     * Consumer threads queue their dispositions and credit checks and only submit a task to the
+     * connection executor when one is not already pending, so at high consume rates a single task
+     * applies a batch of dispositions and grants credit once for all of them.
+     */
+    private void scheduleDrainOfPendingWork() {
+        if (DRAIN_SCHEDULED_UPDATER.compareAndSet(this, 0, 1)) {
+            executor.execute(this::drainPendingWork);
+        }
+    }
+
+    private void drainPendingWork() {
+        // Cleared first so that work queued while draining schedules another drain.
+        DRAIN_SCHEDULED_UPDATER.set(this, 0);
+
+        connection().autoFlushOff();
+        try {
+            final List<PendingDisposition> batch = new ArrayList<>();
+
+            PendingDisposition pending;
+            while ((pending = pendingDispositions.poll()) != null) {
+                if (!batch.isEmpty() && !batch.get(0).isSameOutcome(pending)) {
+                    applyDispositions(batch);
+                    batch.clear();
+                }
+
+                batch.add(pending);
+            }
+
+            if (!batch.isEmpty()) {
+                applyDispositions(batch);
+            }
+
             replenishCreditIfNeeded();
-        });
+            connection().flush();
+        } finally {
+            connection().autoFlushOn();
+        }
+    }
+
+    private void applyDispositions(List<PendingDisposition> batch) {
+        final PendingDisposition first = batch.get(0);
+        final ClientTransactionContext txnContext = session.getTransactionContext();
+
+        try {
+            if (batch.size() == 1 || txnContext.isInTransaction()) {
+                batch.forEach(pending -> txnContext.disposition(pending.delivery, pending.state, pending.settle));
+            } else {
+                // Unsettled deliveries are applied through the link so that those with consecutive
+                // delivery ids are written as one ranged disposition, the link only tracks deliveries
+                // the remote has not settled so any others are updated individually.
+                final Set<IncomingDelivery> unsettled = Collections.newSetFromMap(new IdentityHashMap<>(batch.size()));
+                batch.forEach(pending -> {
+                    if (pending.delivery.isRemotelySettled()) {
+                        pending.delivery.disposition(pending.state, pending.settle);
+                    } else {
+                        unsettled.add(pending.delivery);
+                    }
+                });
+
+                if (!unsettled.isEmpty()) {
+                    protonReceiver.disposition(unsettled::contains, first.state, first.settle);
+                }
+            }
+        } catch (Exception ex) {
+            LOG.debug("Error caught while applying delivery dispositions", ex);
+        }
     }
 
     private void replenishCreditIfNeeded() {
@@ -576,7 +680,7 @@ public final class ClientReceiver implements Receiver {
     private void asyncReplenishCreditIfNeeded() {
         int creditWindow = options.creditWindow();
         if (creditWindow > 0) {
-            executor.execute(() -> replenishCreditIfNeeded());
+            scheduleDrainOfPendingWork();
         }
     }
 
@@ -616,6 +720,11 @@ public final class ClientReceiver implements Receiver {
             this.failureCause = failureCause;
         }
 
+        if (selectable) {
+            selectable = false;
+            session.getNextReceiverSelector().removeReceiver(this);
+        }
+
         try {
             if (protonReceiver.isRemotelyDetached()) {
                 protonReceiver.detach();
@@ -639,4 +748,21 @@ public final class ClientReceiver implements Receiver {
 
         closeFuture.complete(this);
     }
+
+    private static final class PendingDisposition {
+
+        private final IncomingDelivery delivery;
+        private final DeliveryState state;
+        private final boolean settle;
+
+        PendingDisposition(IncomingDelivery delivery, DeliveryState state, boolean settle) {
+            this.delivery = delivery;
+            this.state = state;
+            this.settle = settle;
+        }
+
+        boolean isSameOutcome(PendingDisposition other) {
+            return settle == other.settle && Objects.equals(state, other.state);
+        }
+    }
 }
@@ -21,8 +21,8 @@ import java.util.Deque;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.function.Consumer;
 
@@ -47,6 +47,7 @@ import org.apache.qpid.protonj2.engine.Connection;
 import org.apache.qpid.protonj2.engine.Engine;
 import org.apache.qpid.protonj2.engine.LinkState;
 import org.apache.qpid.protonj2.engine.OutgoingDelivery;
+import org.apache.qpid.protonj2.engine.util.HashedWheelTimer;
 import org.apache.qpid.protonj2.types.transport.DeliveryState;
 import org.apache.qpid.protonj2.types.transport.SenderSettleMode;
 import org.slf4j.Logger;
@@ -59,6 +60,8 @@ class ClientSender implements Sender {
 
     private static final Logger LOG = LoggerFactory.getLogger(ClientSender.class);
 
+    private static final int INITIAL_ENCODE_SIZE_HINT = 256;
+
     protected static final AtomicIntegerFieldUpdater<ClientSender> CLOSED_UPDATER =
             AtomicIntegerFieldUpdater.newUpdater(ClientSender.class, "closed");
 
@@ -80,6 +83,9 @@ class ClientSender implements Sender {
     protected volatile Source remoteSource;
     protected volatile Target remoteTarget;
 
+    // Updated by sending threads without coordination as a stale value only affects initial buffer sizing.
+    private int encodeSizeHint = INITIAL_ENCODE_SIZE_HINT;
+
     public ClientSender(ClientSession session, SenderOptions options, String senderId, org.apache.qpid.protonj2.engine.Sender protonSender) {
         this.options = new SenderOptions(options);
         this.session = session;
@@ -411,15 +417,19 @@ class ClientSender implements Sender {
         return sendsSettled;
     }
 
+    boolean hasOutstandingSends() {
+        return !blocked.isEmpty() || protonSender.hasUnsettled();
+    }
+
     //----- Handlers for proton receiver events
 
     private void handleLocalOpen(org.apache.qpid.protonj2.engine.Sender sender) {
         if (options.openTimeout() > 0) {
-            executor.schedule(() -> {
+            session.scheduleTimeout(() -> {
                 if (!openFuture.isDone()) {
                     immediateLinkShutdown(new ClientOperationTimedOutException("Sender open timed out waiting for remote to respond"));
                 }
-            }, options.openTimeout(), TimeUnit.MILLISECONDS);
+            }, options.openTimeout());
         }
     }
 
@@ -573,9 +583,9 @@ class ClientSender implements Sender {
 
     protected final void addToTailOfBlockedQueue(ClientOutgoingEnvelope send) {
         if (options.sendTimeout() > 0 && send.sendTimeout() == null) {
-            send.sendTimeout(executor.schedule(() -> {
+            send.sendTimeout(session.scheduleTimeout(() -> {
                 send.failed(send.createSendTimedOutException());
-            }, options.sendTimeout(), TimeUnit.MILLISECONDS));
+            }, options.sendTimeout()));
         }
 
         blocked.addLast(send);
@@ -583,37 +593,73 @@ class ClientSender implements Sender {
 
     protected final void addToHeadOfBlockedQueue(ClientOutgoingEnvelope send) {
         if (options.sendTimeout() > 0 && send.sendTimeout() == null) {
-            send.sendTimeout(executor.schedule(() -> {
+            send.sendTimeout(session.scheduleTimeout(() -> {
                 send.failed(send.createSendTimedOutException());
-            }, options.sendTimeout(), TimeUnit.MILLISECONDS));
+            }, options.sendTimeout()));
         }
 
         blocked.addFirst(send);
     }
 
     protected Tracker sendMessage(AdvancedMessage<?> message, Map<String, Object> deliveryAnnotations, boolean waitForCredit) throws ClientException {
+        return sendMessage(message, deliveryAnnotations, waitForCredit, null);
+    }
+
+    Tracker sendMessage(AdvancedMessage<?> message, Map<String, Object> deliveryAnnotations, boolean waitForCredit, ClientTransaction transaction) throws ClientException {
         final ClientFuture<Tracker> operation = session.getFutureFactory().createFuture();
-        final ProtonBuffer buffer = message.encode(deliveryAnnotations);
+        final int messageFormat = message.messageFormat();
+        final ProtonBuffer buffer = encodeMessage(message, deliveryAnnotations);
+        final ClientOutgoingEnvelope envelope = new ClientOutgoingEnvelope(this, messageFormat, buffer, operation).transaction(transaction);
 
-        executor.execute(() -> {
-            if (notClosedOrFailed(operation)) {
-                try {
-                    final ClientOutgoingEnvelope envelope = new ClientOutgoingEnvelope(this, message.messageFormat(), buffer, operation);
+        try {
+            executor.execute(() -> sendEnvelope(envelope, operation, waitForCredit));
+        } catch (RejectedExecutionException rje) {
+            // The send never reaches the event loop so the encoded payload must be released here
+            envelope.releasePayload();
+            throw rje;
+        }
 
-                    if (protonSender.isSendable() && protonSender.current() == null) {
-                        session.getTransactionContext().send(envelope, null, protonSender.getSenderSettleMode() == SenderSettleMode.SETTLED);
-                    } else if (waitForCredit) {
-                        addToTailOfBlockedQueue(envelope);
-                    } else {
-                        operation.complete(null);
-                    }
-                } catch (Exception error) {
-                    operation.failed(ClientExceptionSupport.createNonFatalOrPassthrough(error));
+        return session.request(this, operation);
+    }
+
+    private void sendEnvelope(ClientOutgoingEnvelope envelope, ClientFuture<Tracker> operation, boolean waitForCredit) {
+        if (notClosedOrFailed(operation)) {
+            try {
+                if (protonSender.isSendable() && protonSender.current() == null) {
+                    session.getTransactionContext().send(envelope, null, protonSender.getSenderSettleMode() == SenderSettleMode.SETTLED);
+                } else if (waitForCredit) {
+                    addToTailOfBlockedQueue(envelope);
+                } else {
+                    envelope.releasePayload();
+                    operation.complete(null);
                 }
+            } catch (Exception error) {
+                blocked.remove(envelope);
+                envelope.failed(ClientExceptionSupport.createNonFatalOrPassthrough(error));
             }
-        });
+        } else {
+            envelope.releasePayload();
+        }
+    }
 
-        return session.request(this, operation);
+    private ProtonBuffer encodeMessage(AdvancedMessage<?> message, Map<String, Object> deliveryAnnotations) throws ClientException {
+        // Subclasses of the client message may supply their own encoding.
+        if (message.getClass() == ClientMessage.class) {
+            final int compressionThreshold = connection().getCapabilities().payloadCompressionSupported() ?
+                connection().getOptions().payloadCompressionThreshold() : -1;
+            final ProtonBuffer buffer = ClientMessageSupport.encodeMessage(
+                connection().getEngine().configuration().getBufferAllocator(), encodeSizeHint, message, deliveryAnnotations, compressionThreshold);
+
+            // Grow with the largest message seen but shrink slowly so mixed sizes don't thrash the hint
+            final int encodedSize = buffer.getReadableBytes();
+            final int currentHint = encodeSizeHint;
+
+            encodeSizeHint = encodedSize >= currentHint ? encodedSize : currentHint - ((currentHint - encodedSize) >> 3);
+
+            return buffer;
+        } else {
+            return message.encode(deliveryAnnotations);
+        }
     }
 
     protected Tracker createTracker(OutgoingDelivery delivery) {
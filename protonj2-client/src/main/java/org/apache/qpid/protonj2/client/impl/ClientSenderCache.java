@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.impl;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.qpid.protonj2.client.DeliveryState;
+import org.apache.qpid.protonj2.client.SenderOptions;
+import org.apache.qpid.protonj2.client.SourceOptions;
+import org.apache.qpid.protonj2.client.TargetOptions;
+import org.apache.qpid.protonj2.client.exceptions.ClientException;
+import org.apache.qpid.protonj2.engine.util.HashedWheelTimer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded cache of {@link ClientSender} instances opened on the connection's default session
+ * and keyed by address and the values of the {@link SenderOptions} the sender was created from.
+ * <p>
+ * Entries are kept in least recently used order, when the cache is full the least recently
+ * used sender that has no outstanding sends is closed to make room, and senders that have not
+ * been looked up within the configured idle timeout are closed by a periodic sweep.  All methods
+ * must be called from the connection event loop.
+ */
+final class ClientSenderCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ClientSenderCache.class);
+
+    private final LinkedHashMap<CacheKey, CacheEntry> senders = new LinkedHashMap<>(16, 0.75f, true);
+    private final ClientConnection connection;
+    private final int maxSize;
+    private final long idleTimeout;
+
+    private HashedWheelTimer.Timeout idleSweep;
+
+    ClientSenderCache(ClientConnection connection, int maxSize, long idleTimeout) {
+        this.connection = connection;
+        this.maxSize = maxSize;
+        this.idleTimeout = idleTimeout;
+    }
+
+    ClientSender getOrCreate(ClientSession session, String address, SenderOptions options) throws ClientException {
+        if (maxSize <= 0) {
+            return session.internalOpenSender(address, options);
+        }
+
+        final CacheKey key = new CacheKey(address, options);
+        final long now = System.nanoTime();
+
+        CacheEntry entry = senders.get(key);
+        if (entry != null && isUnusable(entry.sender)) {
+            senders.remove(key);
+            entry = null;
+        }
+
+        if (entry == null) {
+            entry = new CacheEntry(session.internalOpenSender(address, options));
+            senders.put(key, entry);
+
+            if (senders.size() > maxSize) {
+                evictLeastRecentlyUsed();
+            }
+
+            if (idleSweep == null && idleTimeout > 0) {
+                idleSweep = connection.scheduleTimeout(this::evictIdleSenders, idleTimeout);
+            }
+        }
+
+        entry.lastUsed = now;
+
+        return entry.sender;
+    }
+
+    int size() {
+        return senders.size();
+    }
+
+    //----- Internal implementation
+
+    private void evictLeastRecentlyUsed() {
+        final Iterator<CacheEntry> entries = senders.values().iterator();
+
+        // Senders with outstanding sends are skipped so that closing them does not fail those sends.
+        while (senders.size() > maxSize && entries.hasNext()) {
+            final ClientSender sender = entries.next().sender;
+
+            if (isUnusable(sender)) {
+                entries.remove();
+            } else if (!sender.hasOutstandingSends()) {
+                entries.remove();
+                closeEvicted(sender);
+            }
+        }
+    }
+
+    private void evictIdleSenders() {
+        idleSweep = null;
+
+        if (connection.isClosed()) {
+            senders.clear();
+            return;
+        }
+
+        final long now = System.nanoTime();
+        final long idleNanos = idleTimeout * 1_000_000L;
+        final Iterator<CacheEntry> entries = senders.values().iterator();
+
+        while (entries.hasNext()) {
+            final CacheEntry entry = entries.next();
+
+            if (isUnusable(entry.sender)) {
+                entries.remove();
+            } else if (now - entry.lastUsed >= idleNanos && !entry.sender.hasOutstandingSends()) {
+                entries.remove();
+                closeEvicted(entry.sender);
+            }
+        }
+
+        if (!senders.isEmpty()) {
+            idleSweep = connection.scheduleTimeout(this::evictIdleSenders, idleTimeout);
+        }
+    }
+
+    private static boolean isUnusable(ClientSender sender) {
+        return sender.isClosed() || sender.getFailureCause() != null;
+    }
+
+    private static void closeEvicted(ClientSender sender) {
+        LOG.trace("Closing sender evicted from the sender cache: {}", sender.getId());
+        sender.closeAsync();
+    }
+
+    private static final class CacheEntry {
+
+        private final ClientSender sender;
+        private long lastUsed;
+
+        public CacheEntry(ClientSender sender) {
+            this.sender = sender;
+        }
+    }
+
+    /*
+     * Keys compare the address together with a snapshot of the option values a sender is
+     * configured from when it is opened, so that a caller reusing or mutating an options
+     * instance never receives a sender created from different settings.  A null options
+     * instance keys on the address alone as those senders are always created from the
+     * session defaults.  Array and map valued options are copied into the snapshot and
+     * compared by content, default outcomes that carry no state compare by type while any
+     * other default outcome compares by identity as outcomes do not define equality.
+     */
+    private static final class CacheKey {
+
+        private final String address;
+        private final Object[] values;
+        private final int hashCode;
+
+        public CacheKey(String address, SenderOptions options) {
+            this.address = address;
+            this.values = options != null ? snapshot(options) : null;
+            this.hashCode = 31 * address.hashCode() + Arrays.deepHashCode(values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            } else if (!(other instanceof CacheKey)) {
+                return false;
+            }
+
+            final CacheKey key = (CacheKey) other;
+
+            return hashCode == key.hashCode && address.equals(key.address) && Arrays.deepEquals(values, key.values);
+        }
+
+        private static Object[] snapshot(SenderOptions options) {
+            final SourceOptions source = options.sourceOptions();
+            final TargetOptions target = options.targetOptions();
+
+            return new Object[] {
+                options.linkName(),
+                options.autoSettle(),
+                options.deliveryMode(),
+                options.openTimeout(),
+                options.closeTimeout(),
+                options.sendTimeout(),
+                options.requestTimeout(),
+                copyOf(options.offeredCapabilities()),
+                copyOf(options.desiredCapabilities()),
+                copyOf(options.properties()),
+                source.durabilityMode(),
+                source.expiryPolicy(),
+                source.timeout(),
+                copyOf(source.capabilities()),
+                source.distributionMode(),
+                copyOf(source.filters()),
+                copyOf(source.outcomes()),
+                outcomeKey(source.defaultOutcome()),
+                target.durabilityMode(),
+                target.expiryPolicy(),
+                target.timeout(),
+                copyOf(target.capabilities())
+            };
+        }
+
+        private static Object outcomeKey(DeliveryState outcome) {
+            if (outcome != null && (outcome.isAccepted() || outcome.getType() == DeliveryState.Type.RELEASED)) {
+                return outcome.getType();
+            } else {
+                return outcome;
+            }
+        }
+
+        private static Object[] copyOf(Object[] array) {
+            return array != null ? array.clone() : null;
+        }
+
+        private static Map<?, ?> copyOf(Map<?, ?> map) {
+            return map != null ? new HashMap<>(map) : null;
+        }
+    }
+}
@@ -21,12 +21,12 @@ import java.util.Objects;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.function.Supplier;
 
 import org.apache.qpid.protonj2.client.ErrorCondition;
+import org.apache.qpid.protonj2.client.NextReceiverPolicy;
 import org.apache.qpid.protonj2.client.Receiver;
 import org.apache.qpid.protonj2.client.ReceiverOptions;
 import org.apache.qpid.protonj2.client.Sender;
@@ -35,6 +35,7 @@ import org.apache.qpid.protonj2.client.Session;
 import org.apache.qpid.protonj2.client.SessionOptions;
 import org.apache.qpid.protonj2.client.StreamReceiverOptions;
 import org.apache.qpid.protonj2.client.StreamSenderOptions;
+import org.apache.qpid.protonj2.client.Transaction;
 import org.apache.qpid.protonj2.client.exceptions.ClientConnectionRemotelyClosedException;
 import org.apache.qpid.protonj2.client.exceptions.ClientException;
 import org.apache.qpid.protonj2.client.exceptions.ClientIllegalStateException;
@@ -44,6 +45,7 @@ import org.apache.qpid.protonj2.client.futures.ClientFuture;
 import org.apache.qpid.protonj2.client.futures.ClientFutureFactory;
 import org.apache.qpid.protonj2.engine.Connection;
 import org.apache.qpid.protonj2.engine.Engine;
+import org.apache.qpid.protonj2.engine.util.HashedWheelTimer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -69,6 +71,7 @@ public class ClientSession implements Session {
     private final String sessionId;
     private final ClientSenderBuilder senderBuilder;
     private final ClientReceiverBuilder receiverBuilder;
+    private final ClientNextReceiverSelector nextReceiverSelector;
 
     private volatile int closed;
     private volatile ClientException failureCause;
@@ -86,6 +89,7 @@ public class ClientSession implements Session {
         this.closeFuture = connection.getFutureFactory().createFuture();
         this.senderBuilder = new ClientSenderBuilder(this);
         this.receiverBuilder = new ClientReceiverBuilder(this);
+        this.nextReceiverSelector = new ClientNextReceiverSelector(this);
 
         configureSession(protonSession);
     }
@@ -141,6 +145,7 @@ public class ClientSession implements Session {
                 serializer.execute(() -> {
                     if (protonSession.isLocallyOpen()) {
                         try {
+                            txnContext.close();
                             protonSession.setCondition(ClientErrorCondition.asProtonErrorCondition(error));
                             protonSession.close();
                         } catch (Throwable ignore) {
@@ -295,6 +300,40 @@ public class ClientSession implements Session {
         return ClientConversionSupport.toStringArray(protonSession.getRemoteDesiredCapabilities());
     }
 
+    @Override
+    public Receiver nextReceiver() throws ClientException {
+        return nextReceiver(options.defaultNextReceiverPolicy(), INFINITE, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Receiver nextReceiver(NextReceiverPolicy policy) throws ClientException {
+        return nextReceiver(policy, INFINITE, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Receiver nextReceiver(long timeout, TimeUnit unit) throws ClientException {
+        return nextReceiver(options.defaultNextReceiverPolicy(), timeout, unit);
+    }
+
+    @Override
+    public Receiver nextReceiver(NextReceiverPolicy policy, long timeout, TimeUnit unit) throws ClientException {
+        checkClosedOrFailed();
+        Objects.requireNonNull(policy, "The next receiver selection policy cannot be null");
+        final ClientFuture<Receiver> nextReceiver = getFutureFactory().createFuture();
+        final long timeoutMillis = timeout < 0 ? INFINITE : unit.toMillis(timeout);
+
+        serializer.execute(() -> {
+            try {
+                checkClosedOrFailed();
+                nextReceiverSelector.nextReceiver(nextReceiver, policy, timeoutMillis);
+            } catch (Throwable error) {
+                nextReceiver.failed(ClientExceptionSupport.createNonFatalOrPassthrough(error));
+            }
+        });
+
+        return request(this, nextReceiver);
+    }
+
     //----- Transaction state management
 
     @Override
@@ -351,6 +390,42 @@ public class ClientSession implements Session {
         return connection.request(this, rollbackFuture);
     }
 
+    @Override
+    public Transaction declareTransaction() throws ClientException {
+        checkClosedOrFailed();
+        final ClientFuture<Transaction> declareFuture = getFutureFactory().createFuture();
+        final ClientTransaction transaction = new ClientTransaction(this);
+
+        serializer.execute(() -> {
+            try {
+                checkClosedOrFailed();
+                if (txnContext == NO_OP_TXN_CONTEXT) {
+                    txnContext = new ClientLocalTransactionContext(this);
+                }
+                txnContext.declare(transaction, declareFuture);
+            } catch (Throwable error) {
+                declareFuture.failed(ClientExceptionSupport.createNonFatalOrPassthrough(error));
+            }
+        });
+
+        return connection.request(this, declareFuture);
+    }
+
+    ClientFuture<Transaction> dischargeTransaction(ClientTransaction transaction, boolean failed) {
+        final ClientFuture<Transaction> dischargeFuture = getFutureFactory().createFuture();
+
+        serializer.execute(() -> {
+            try {
+                checkClosedOrFailed();
+                txnContext.discharge(transaction, dischargeFuture, failed);
+            } catch (Throwable error) {
+                dischargeFuture.failed(ClientExceptionSupport.createNonFatalOrPassthrough(error));
+            }
+        });
+
+        return dischargeFuture;
+    }
+
     //----- Internal resource open APIs expected to be called from the connection event loop
 
     ClientReceiver internalOpenReceiver(String address, ReceiverOptions receiverOptions) throws ClientException {
@@ -410,6 +485,10 @@ public class ClientSession implements Session {
         return serializer;
     }
 
+    HashedWheelTimer.Timeout scheduleTimeout(Runnable task, long delay) {
+        return connection.scheduleTimeout(task, delay);
+    }
+
     ClientFutureFactory getFutureFactory() {
         return connection.getFutureFactory();
     }
@@ -422,9 +501,9 @@ public class ClientSession implements Session {
         return closed > 0;
     }
 
-    ScheduledFuture<?> scheduleRequestTimeout(final AsyncResult<?> request, long timeout, Supplier<ClientException> errorSupplier) {
+    HashedWheelTimer.Timeout scheduleRequestTimeout(final AsyncResult<?> request, long timeout, Supplier<ClientException> errorSupplier) {
         if (timeout != INFINITE) {
-            return serializer.schedule(() -> request.failed(errorSupplier.get()), timeout, TimeUnit.MILLISECONDS);
+            return connection.scheduleTimeout(() -> request.failed(errorSupplier.get()), timeout);
         } else {
             return null;
         }
@@ -454,6 +533,10 @@ public class ClientSession implements Session {
         return connection;
     }
 
+    ClientNextReceiverSelector getNextReceiverSelector() {
+        return nextReceiverSelector;
+    }
+
     //----- Private implementation methods
 
     private org.apache.qpid.protonj2.engine.Session configureSession(org.apache.qpid.protonj2.engine.Session protonSession) {
@@ -492,11 +575,11 @@ public class ClientSession implements Session {
 
     private void handleLocalOpen(org.apache.qpid.protonj2.engine.Session session) {
         if (options.openTimeout() > 0) {
-            serializer.schedule(() -> {
+            scheduleTimeout(() -> {
                 if (!openFuture.isDone()) {
                     immediateSessionShutdown(new ClientOperationTimedOutException("Session open timed out waiting for remote to respond"));
                 }
-            }, options.openTimeout(), TimeUnit.MILLISECONDS);
+            }, options.openTimeout());
         }
     }
 
@@ -580,6 +663,8 @@ public class ClientSession implements Session {
         } catch (Exception ignore) {
         }
 
+        nextReceiverSelector.handleSessionShutdown(failureCause);
+
         if (failureCause != null) {
             openFuture.failed(failureCause);
         } else {
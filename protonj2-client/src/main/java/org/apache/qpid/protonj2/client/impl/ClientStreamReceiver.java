@@ -24,7 +24,6 @@ import java.util.Objects;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
@@ -44,6 +43,7 @@ import org.apache.qpid.protonj2.client.futures.ClientFuture;
 import org.apache.qpid.protonj2.engine.Connection;
 import org.apache.qpid.protonj2.engine.Engine;
 import org.apache.qpid.protonj2.engine.IncomingDelivery;
+import org.apache.qpid.protonj2.engine.util.HashedWheelTimer;
 import org.apache.qpid.protonj2.types.messaging.Released;
 import org.apache.qpid.protonj2.types.transport.DeliveryState;
 import org.slf4j.Logger;
@@ -63,7 +63,7 @@ public final class ClientStreamReceiver implements StreamReceiver {
     private final ClientSession session;
     private final ScheduledExecutorService executor;
     private final String receiverId;
-    private final Map<ClientFuture<StreamDelivery>, ScheduledFuture<?>> receiveRequests = new LinkedHashMap<>();
+    private final Map<ClientFuture<StreamDelivery>, HashedWheelTimer.Timeout> receiveRequests = new LinkedHashMap<>();
 
     private org.apache.qpid.protonj2.engine.Receiver protonReceiver;
     private volatile int closed;
@@ -218,13 +218,13 @@ public final class ClientStreamReceiver implements StreamReceiver {
                     if (timeout == 0) {
                         receive.complete(null);
                     } else {
-                        final ScheduledFuture<?> timeoutFuture;
+                        final HashedWheelTimer.Timeout timeoutFuture;
 
                         if (timeout > 0) {
-                            timeoutFuture = session.getScheduler().schedule(() -> {
+                            timeoutFuture = session.scheduleTimeout(() -> {
                                 receiveRequests.remove(receive);
                                 receive.complete(null); // Timed receive returns null on failed wait.
-                            }, timeout, unit);
+                            }, unit.toMillis(timeout));
                         } else {
                             timeoutFuture = null;
                         }
@@ -419,11 +419,11 @@ public final class ClientStreamReceiver implements StreamReceiver {
 
     private void handleLocalOpen(org.apache.qpid.protonj2.engine.Receiver receiver) {
         if (options.openTimeout() > 0) {
-            executor.schedule(() -> {
+            session.scheduleTimeout(() -> {
                 if (!openFuture.isDone()) {
                     immediateLinkShutdown(new ClientOperationTimedOutException("Receiver open timed out waiting for remote to respond"));
                 }
-            }, options.openTimeout(), TimeUnit.MILLISECONDS);
+            }, options.openTimeout());
         }
     }
 
@@ -535,12 +535,12 @@ public final class ClientStreamReceiver implements StreamReceiver {
         if (delivery.getLinkedResource() == null) {
             // New delivery that can be sent to a waiting receive caller
             if (!receiveRequests.isEmpty()) {
-                Iterator<Entry<ClientFuture<StreamDelivery>, ScheduledFuture<?>>> entries =
+                Iterator<Entry<ClientFuture<StreamDelivery>, HashedWheelTimer.Timeout>> entries =
                     receiveRequests.entrySet().iterator();
 
-                Entry<ClientFuture<StreamDelivery>, ScheduledFuture<?>> entry = entries.next();
+                Entry<ClientFuture<StreamDelivery>, HashedWheelTimer.Timeout> entry = entries.next();
                 if (entry.getValue() != null) {
-                    entry.getValue().cancel(false);
+                    entry.getValue().cancel();
                 }
 
                 try {
@@ -579,6 +579,14 @@ public final class ClientStreamReceiver implements StreamReceiver {
         asyncApplyDisposition(delivery, state, settle);
     }
 
+    void disposition(IncomingDelivery delivery, DeliveryState state, ClientTransaction transaction) throws ClientException {
+        checkClosedOrFailed();
+        executor.execute(() -> {
+            session.getTransactionContext().disposition(transaction, delivery, state);
+            replenishCreditIfNeeded();
+        });
+    }
+
     private void asyncApplyDisposition(IncomingDelivery delivery, DeliveryState state, boolean settle) throws ClientException {
         executor.execute(() -> {
             session.getTransactionContext().disposition(delivery, state, settle);
@@ -661,7 +669,7 @@ public final class ClientStreamReceiver implements StreamReceiver {
 
         receiveRequests.forEach((future, timeout) -> {
             if (timeout != null) {
-                timeout.cancel(false);
+                timeout.cancel();
             }
 
             if (failureCause != null) {
@@ -26,6 +26,7 @@ import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonByteBufferAllocator;
 import org.apache.qpid.protonj2.client.Message;
 import org.apache.qpid.protonj2.client.StreamReceiverMessage;
 import org.apache.qpid.protonj2.client.exceptions.ClientException;
@@ -34,10 +35,9 @@ import org.apache.qpid.protonj2.client.exceptions.ClientMessageFormatViolationEx
 import org.apache.qpid.protonj2.client.exceptions.ClientUnsupportedOperationException;
 import org.apache.qpid.protonj2.codec.DecodeEOFException;
 import org.apache.qpid.protonj2.codec.DecodeException;
-import org.apache.qpid.protonj2.codec.StreamDecoder;
-import org.apache.qpid.protonj2.codec.StreamDecoderState;
-import org.apache.qpid.protonj2.codec.StreamTypeDecoder;
-import org.apache.qpid.protonj2.codec.decoders.ProtonStreamDecoderFactory;
+import org.apache.qpid.protonj2.codec.TypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.ProtonDecoderFactory;
+import org.apache.qpid.protonj2.codec.decoders.ProtonResumableDecoder;
 import org.apache.qpid.protonj2.codec.decoders.primitives.BinaryTypeDecoder;
 import org.apache.qpid.protonj2.engine.IncomingDelivery;
 import org.apache.qpid.protonj2.types.Binary;
@@ -64,6 +64,8 @@ public final class ClientStreamReceiverMessage implements StreamReceiverMessage
 
     private static final Logger LOG = LoggerFactory.getLogger(ClientStreamReceiverMessage.class);
 
+    private static final int MAX_SECTION_READ_CHUNK = 64 * 1024;
+
     private enum StreamState {
         IDLE,
         HEADER_READ,
@@ -81,8 +83,7 @@ public final class ClientStreamReceiverMessage implements StreamReceiverMessage
     private final ClientStreamDelivery delivery;
     private final InputStream deliveryStream;
     private final IncomingDelivery protonDelivery;
-    private final StreamDecoder protonDecoder = ProtonStreamDecoderFactory.create();
-    private final StreamDecoderState decoderState = protonDecoder.newDecoderState();
+    private final ProtonResumableDecoder sectionDecoder = new ProtonResumableDecoder(ProtonDecoderFactory.create());
 
     private Header header;
     private DeliveryAnnotations deliveryAnnotations;
@@ -93,6 +94,7 @@ public final class ClientStreamReceiverMessage implements StreamReceiverMessage
 
     private StreamState currentState = StreamState.IDLE;
     private MessageBodyInputStream bodyStream;
+    private InputStream inflatedBodyStream;
 
     ClientStreamReceiverMessage(ClientStreamReceiver receiver, ClientStreamDelivery delivery, InputStream deliveryStream) {
         this.receiver = receiver;
@@ -631,6 +633,11 @@ public final class ClientStreamReceiverMessage implements StreamReceiverMessage
         throw new ClientUnsupportedOperationException("Cannot encode from an StreamReceiverMessage instance.");
     }
 
+    @Override
+    public ProtonBuffer bodyBuffer() throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot decode all body sections from a StreamReceiverMessage instance.");
+    }
+
     @Override
     public InputStream body() throws ClientException {
         if (currentState.ordinal() > StreamState.BODY_READABLE.ordinal()) {
@@ -643,6 +650,19 @@ public final class ClientStreamReceiverMessage implements StreamReceiverMessage
 
         ensureStreamDecodedTo(StreamState.BODY_READABLE);
 
+        // A body compressed by a sender on a connection that negotiated compression is inflated as it is read
+        if (bodyStream != null && properties != null &&
+            ClientPayloadCompression.DEFLATE_ENCODING.equals(properties.getContentEncoding()) &&
+            receiver.connection().getCapabilities().payloadCompressionSupported()) {
+
+            if (inflatedBodyStream == null) {
+                inflatedBodyStream = ClientPayloadCompression.inflate(bodyStream, ClientPayloadCompression.decompressionLimit(
+                    receiver.connection().getOptions().payloadDecompressionLimit(), protonDelivery.getLink().getMaxMessageSize()));
+            }
+
+            return inflatedBodyStream;
+        }
+
         return bodyStream;
     }
 
@@ -675,48 +695,48 @@ public final class ClientStreamReceiverMessage implements StreamReceiverMessage
 
         while (currentState.ordinal() < desiredState.ordinal()) {
             try {
-                final StreamTypeDecoder<?> decoder;
-                try {
-                    decoder = protonDecoder.readNextTypeDecoder(deliveryStream, decoderState);
-                } catch (DecodeEOFException eof) {
+                if (!readSectionBytes(true)) {
                     currentState = StreamState.FOOTER_READ;
                     break;
                 }
 
+                final TypeDecoder<?> decoder = sectionDecoder.peekNextTypeDecoder();
                 final Class<?> typeClass = decoder.getTypeClass();
 
                 if (typeClass == Header.class) {
-                    header = (Header) decoder.readValue(deliveryStream, decoderState);
+                    header = (Header) readSection();
                     currentState = StreamState.HEADER_READ;
                 } else if (typeClass == DeliveryAnnotations.class) {
-                    deliveryAnnotations = (DeliveryAnnotations) decoder.readValue(deliveryStream, decoderState);
+                    deliveryAnnotations = (DeliveryAnnotations) readSection();
                     currentState = StreamState.DELIVERY_ANNOTATIONS_READ;
                 } else if (typeClass == MessageAnnotations.class) {
-                    annotations = (MessageAnnotations) decoder.readValue(deliveryStream, decoderState);
+                    annotations = (MessageAnnotations) readSection();
                     currentState = StreamState.MESSAGE_ANNOTATIONS_READ;
                 } else if (typeClass == Properties.class) {
-                    properties = (Properties) decoder.readValue(deliveryStream, decoderState);
+                    properties = (Properties) readSection();
                     currentState = StreamState.PROPERTIES_READ;
                 } else if (typeClass == ApplicationProperties.class) {
-                    applicationProperties = (ApplicationProperties) decoder.readValue(deliveryStream, decoderState);
+                    applicationProperties = (ApplicationProperties) readSection();
                     currentState = StreamState.APPLICATION_PROPERTIES_READ;
-                } else if (typeClass == AmqpSequence.class) {
-                    currentState = StreamState.BODY_READABLE;
-                    if (bodyStream == null) {
-                        bodyStream = new AmqpSequenceInputStream(deliveryStream);
-                    }
-                } else if (typeClass == AmqpValue.class) {
-                    currentState = StreamState.BODY_READABLE;
-                    if (bodyStream == null) {
-                        bodyStream = new AmqpValueInputStream(deliveryStream);
-                    }
-                } else if (typeClass == Data.class) {
-                    currentState = StreamState.BODY_READABLE;
-                    if (bodyStream == null) {
-                        bodyStream = new DataSectionInputStream(deliveryStream);
+                } else if (typeClass == AmqpSequence.class || typeClass == AmqpValue.class || typeClass == Data.class) {
+                    if (desiredState.ordinal() > StreamState.BODY_READABLE.ordinal()) {
+                        // Body sections the application did not read are discarded on the way to the Footer
+                        skipSection();
+                        currentState = StreamState.BODY_PENDING;
+                    } else {
+                        currentState = StreamState.BODY_READABLE;
+                        if (bodyStream == null) {
+                            if (typeClass == AmqpSequence.class) {
+                                bodyStream = new AmqpSequenceInputStream(deliveryStream);
+                            } else if (typeClass == AmqpValue.class) {
+                                bodyStream = new AmqpValueInputStream(deliveryStream);
+                            } else {
+                                bodyStream = new DataSectionInputStream(deliveryStream);
+                            }
+                        }
                     }
                 } else if (typeClass == Footer.class) {
-                    footer = (Footer) decoder.readValue(deliveryStream, decoderState);
+                    footer = (Footer) readSection();
                     currentState = StreamState.FOOTER_READ;
                 } else {
                     throw new ClientMessageFormatViolationException("Incoming message carries unknown Section");
@@ -740,6 +760,64 @@ public final class ClientStreamReceiverMessage implements StreamReceiverMessage
         }
     }
 
+    private Object readSection() throws DecodeException {
+        readSectionBytes(false);
+        return sectionDecoder.readObject();
+    }
+
+    private void skipSection() throws DecodeException {
+        long remaining = sectionDecoder.remainingBytesNeeded();
+
+        sectionDecoder.getBuffer().skipBytes(sectionDecoder.getReadableBytes());
+
+        try {
+            while (remaining > 0) {
+                final long skipped = deliveryStream.skip(remaining);
+                if (skipped > 0) {
+                    remaining -= skipped;
+                } else if (deliveryStream.read() >= 0) {
+                    remaining--;
+                } else {
+                    throw new DecodeEOFException("Delivery payload ended before the end of a body section");
+                }
+            }
+        } catch (IOException ex) {
+            throw new DecodeException("Caught IO error reading from the delivery payload", ex);
+        }
+    }
+
+    /*
+     * Reads from the delivery stream exactly the bytes the section decoder needs in order to decode
+     * the next type constructor or the complete next value, nothing past that is read so that body
+     * section payloads can be read directly from the delivery stream.  Each read is a bulk read of
+     * the bytes that are known to be needed instead of one read per encoded byte.  Returns false if
+     * the delivery payload ended at a section boundary.
+     */
+    private boolean readSectionBytes(boolean constructorOnly) throws DecodeException {
+        try {
+            long needed;
+
+            while ((needed = constructorOnly ? sectionDecoder.remainingHeaderBytesNeeded() : sectionDecoder.remainingBytesNeeded()) > 0) {
+                final byte[] chunk = new byte[(int) Math.min(needed, MAX_SECTION_READ_CHUNK)];
+                final int bytesRead = deliveryStream.read(chunk);
+
+                if (bytesRead < 0) {
+                    if (sectionDecoder.getReadableBytes() == 0) {
+                        return false;
+                    } else {
+                        throw new DecodeEOFException("Delivery payload ended before the complete section was read");
+                    }
+                }
+
+                sectionDecoder.append(ProtonByteBufferAllocator.DEFAULT.wrap(chunk, 0, bytesRead));
+            }
+
+            return true;
+        } catch (IOException ex) {
+            throw new DecodeException("Caught IO error reading from the delivery payload", ex);
+        }
+    }
+
     //----- Internal InputStream implementations
 
     private abstract class MessageBodyInputStream extends FilterInputStream {
@@ -876,13 +954,17 @@ public final class ClientStreamReceiverMessage implements StreamReceiverMessage
 
         @Override
         protected void validateAndScanNextSection() throws ClientException {
-            final StreamTypeDecoder<?> typeDecoder =
-                protonDecoder.readNextTypeDecoder(deliveryStream, decoderState);
+            // Consumes the Data section descriptor and then the constructor and size of the Binary
+            // payload leaving the payload bytes to be read directly from the delivery stream.
+            readSectionBytes(true);
+            sectionDecoder.readNextTypeDecoder();
+
+            final TypeDecoder<?> typeDecoder = sectionDecoder.readNextTypeDecoder();
 
             if (typeDecoder.getTypeClass() == Binary.class) {
-                LOG.trace("Data Section of size {} ready for read.", remainingSectionBytes);
                 BinaryTypeDecoder binaryDecoder = (BinaryTypeDecoder) typeDecoder;
-                remainingSectionBytes = binaryDecoder.readSize(deliveryStream);
+                remainingSectionBytes = binaryDecoder.readSize(sectionDecoder.getBuffer());
+                LOG.trace("Data Section of size {} ready for read.", remainingSectionBytes);
             } else if (typeDecoder.getTypeClass() == Void.class) {
                 // Null body in the Data section which can be skipped.
                 LOG.trace("Data Section with no Binary payload read and skipped.");
@@ -114,7 +114,11 @@ public final class ClientStreamSender extends ClientSender implements StreamSend
         return (ClientStreamSender) super.open();
     }
 
-    StreamTracker sendMessage(ClientStreamSenderMessage context, AdvancedMessage<?> message) throws ClientException {
+    /*
+     * Hands the next chunk of a streamed message to the I/O thread and returns without waiting for it to be
+     * written, the caller must wait on the returned future before handing over the chunk that follows.
+     */
+    ClientFuture<Tracker> sendMessage(ClientStreamSenderMessage context, AdvancedMessage<?> message) throws ClientException {
         final ClientFuture<Tracker> operation = session.getFutureFactory().createFuture();
         final ProtonBuffer buffer = message.encode(null);
         final ClientOutgoingEnvelope envelope = new ClientOutgoingEnvelope(
@@ -134,7 +138,7 @@ public final class ClientStreamSender extends ClientSender implements StreamSend
             }
         });
 
-        return (StreamTracker) session.request(this, operation);
+        return operation;
     }
 
     @Override
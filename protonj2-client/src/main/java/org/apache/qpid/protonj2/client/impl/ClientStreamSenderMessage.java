@@ -36,13 +36,20 @@ import org.apache.qpid.protonj2.client.OutputStreamOptions;
 import org.apache.qpid.protonj2.client.StreamSenderMessage;
 import org.apache.qpid.protonj2.client.StreamSenderOptions;
 import org.apache.qpid.protonj2.client.StreamTracker;
+import org.apache.qpid.protonj2.client.Tracker;
 import org.apache.qpid.protonj2.client.exceptions.ClientException;
 import org.apache.qpid.protonj2.client.exceptions.ClientIllegalStateException;
 import org.apache.qpid.protonj2.client.exceptions.ClientUnsupportedOperationException;
+import org.apache.qpid.protonj2.client.futures.ClientFuture;
+import org.apache.qpid.protonj2.codec.CodecFactory;
+import org.apache.qpid.protonj2.codec.Encoder;
 import org.apache.qpid.protonj2.codec.EncodingCodes;
+import org.apache.qpid.protonj2.engine.Connection;
 import org.apache.qpid.protonj2.engine.OutgoingDelivery;
 import org.apache.qpid.protonj2.types.Binary;
 import org.apache.qpid.protonj2.types.Symbol;
+import org.apache.qpid.protonj2.types.UnsignedInteger;
+import org.apache.qpid.protonj2.types.messaging.Accepted;
 import org.apache.qpid.protonj2.types.messaging.ApplicationProperties;
 import org.apache.qpid.protonj2.types.messaging.Data;
 import org.apache.qpid.protonj2.types.messaging.DeliveryAnnotations;
@@ -51,6 +58,9 @@ import org.apache.qpid.protonj2.types.messaging.Header;
 import org.apache.qpid.protonj2.types.messaging.MessageAnnotations;
 import org.apache.qpid.protonj2.types.messaging.Properties;
 import org.apache.qpid.protonj2.types.messaging.Section;
+import org.apache.qpid.protonj2.types.transactions.TransactionalState;
+import org.apache.qpid.protonj2.types.transport.ReceiverSettleMode;
+import org.apache.qpid.protonj2.types.transport.Transfer;
 
 /**
  * Streaming Sender context used to multiple send operations that comprise the payload
@@ -60,6 +70,16 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
 
     private static final int DATA_SECTION_HEADER_ENCODING_SIZE = 8;
 
+    private static final int FRAME_HEADER_SIZE = 8;
+    private static final int MAX_DELIVERY_TAG_SIZE = 32;
+    private static final int MAX_TXN_ID_SIZE = 64;
+
+    // Space reserved in each frame for the frame header and the encoded Transfer performative, measured
+    // from the encoding of a transfer with every field set to its largest value, a full size delivery tag
+    // and a transactional delivery state.  Should a remote assign a larger txn-id the engine still splits
+    // the chunk across frames correctly it just costs an extra small frame.
+    static final int TRANSFER_FRAME_OVERHEAD = FRAME_HEADER_SIZE + largestTransferEncodingSize();
+
     // Standard encoding data for a Data Section (Requires four byte size written before writing the actual data)
     private static final byte[] DATA_SECTION_PREAMBLE = { EncodingCodes.DESCRIBED_TYPE_INDICATOR,
                                                           EncodingCodes.SMALLULONG,
@@ -77,6 +97,7 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
     private final ClientStreamSender sender;
     private final DeliveryAnnotations deliveryAnnotations;
     private final int writeBufferSize;
+    private final boolean frameAligned;
     private final StreamMessagePacket streamMessagePacket = new StreamMessagePacket();
     private final ClientStreamTracker tracker;
 
@@ -87,6 +108,7 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
     private Footer footer;
 
     private ProtonBuffer buffer;
+    private ClientFuture<Tracker> pendingSend;
     private volatile int messageFormat;
     private StreamState currentState = StreamState.PREAMBLE;
 
@@ -97,9 +119,18 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
 
         if (sender.options().writeBufferSize() > 0) {
             writeBufferSize = Math.max(StreamSenderOptions.MIN_BUFFER_SIZE_LIMIT, sender.options().writeBufferSize());
+            frameAligned = false;
         } else {
+            // Size each chunk to fill exactly one outgoing transfer frame so that the frame writer never
+            // has to split a chunk and leave a small trailing frame behind it, until the remote has opened
+            // the connection only the local limit is known.
+            final Connection connection = sender.getProtonSender().getConnection();
+            final long maxFrameSize = connection.isRemotelyOpen() ?
+                Math.min(connection.getMaxFrameSize(), connection.getRemoteMaxFrameSize()) : connection.getMaxFrameSize();
+
             writeBufferSize = Math.max(StreamSenderOptions.MIN_BUFFER_SIZE_LIMIT,
-                                  (int) sender.getProtonSender().getConnection().getMaxFrameSize());
+                                       (int) Math.min(Integer.MAX_VALUE, maxFrameSize) - TRANSFER_FRAME_OVERHEAD);
+            frameAligned = true;
         }
     }
 
@@ -135,11 +166,29 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
 
     private void doFlush() throws ClientException {
         if (buffer != null && buffer.isReadable()) {
+            // Only one chunk is handed to the sender at a time so that chunks held back waiting for
+            // credit or session window cannot be reordered, the next chunk is filled while the last
+            // one is being written and the final chunk waits for the send to complete.
+            awaitPendingSend();
+
             try {
-                sender.sendMessage(this, streamMessagePacket);
+                pendingSend = sender.sendMessage(this, streamMessagePacket);
             } finally {
                 buffer = null;
             }
+
+            if (completed()) {
+                awaitPendingSend();
+            }
+        }
+    }
+
+    private void awaitPendingSend() throws ClientException {
+        final ClientFuture<Tracker> pending = pendingSend;
+
+        if (pending != null) {
+            pendingSend = null;
+            sender.session().request(sender, pending);
         }
     }
 
@@ -151,6 +200,13 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
 
         if (!aborted()) {
             currentState = StreamState.ABORTED;
+
+            try {
+                awaitPendingSend();
+            } catch (ClientException ignore) {
+                // The message is being aborted so the outcome of the last chunk written is not relevant.
+            }
+
             sender.abort(getProtonDelivery(), tracker);
         }
 
@@ -183,6 +239,7 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
             if (buffer != null && buffer.isReadable()) {
                 doFlush();
             } else {
+                awaitPendingSend();
                 sender.complete(getProtonDelivery(), tracker);
             }
         }
@@ -251,6 +308,12 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
         return this;
     }
 
+    @Override
+    public ProtonBuffer bodyBuffer() throws ClientException {
+        // Body sections are not held in memory but encoded as offered so they cannot be viewed.
+        return null;
+    }
+
     @Override
     public OutputStream body() throws ClientException {
         return body(new OutputStreamOptions());
@@ -272,12 +335,12 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
 
         transitionToWritableState();
 
-        ProtonBuffer streamBuffer = ProtonByteBufferAllocator.DEFAULT.allocate(writeBufferSize, writeBufferSize);
-
         if (options.bodyLength() > 0) {
-            return new SingularDataSectionOutputStream(options, streamBuffer);
+            return new SingularDataSectionOutputStream(options, ProtonByteBufferAllocator.DEFAULT.allocate(writeBufferSize, writeBufferSize));
         } else {
-            return new MultipleDataSectionsOutputStream(options, streamBuffer);
+            // Leave room for the Data section header written ahead of each block so both fill one frame.
+            final int blockSize = frameAligned ? writeBufferSize - DATA_SECTION_HEADER_ENCODING_SIZE : writeBufferSize;
+            return new MultipleDataSectionsOutputStream(options, ProtonByteBufferAllocator.DEFAULT.allocate(blockSize, blockSize));
         }
     }
 
@@ -306,7 +369,7 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
 
         protected final AtomicBoolean closed = new AtomicBoolean();
         protected final OutputStreamOptions options;
-        protected final ProtonBuffer streamBuffer;
+        protected ProtonBuffer streamBuffer;
 
         protected int bytesWritten;
 
@@ -324,7 +387,7 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
             checkOutputLimitReached(1);
             streamBuffer.writeByte(value);
             if (!streamBuffer.isWritable()) {
-                flush();
+                flush(false);
             }
             bytesWritten++;
         }
@@ -342,7 +405,7 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
                 streamBuffer.writeBytes(bytes, offset, length);
                 bytesWritten += length;
                 if (!streamBuffer.isWritable()) {
-                    flush();
+                    flush(false);
                 }
             } else {
                 int remaining = length;
@@ -352,7 +415,7 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
                     bytesWritten += toWrite;
                     streamBuffer.writeBytes(bytes, offset + (length - remaining), toWrite);
                     if (!streamBuffer.isWritable()) {
-                        flush();
+                        flush(false);
                     }
                     remaining -= toWrite;
                 }
@@ -361,12 +424,16 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
 
         @Override
         public void flush() throws IOException {
+            flush(true);
+        }
+
+        private void flush(boolean explicitFlush) throws IOException {
             checkClosed();
 
             if (options.bodyLength() <= 0) {
-                doFlushPending(false);
+                doFlushPending(false, explicitFlush);
             } else {
-                doFlushPending(bytesWritten == options.bodyLength() && options.completeSendOnClose());
+                doFlushPending(bytesWritten == options.bodyLength() && options.completeSendOnClose(), explicitFlush);
             }
         }
 
@@ -384,7 +451,7 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
                     }
                 } else {
                     // Limit not set or was set and user wrote that many bytes so we can complete.
-                    doFlushPending(options.completeSendOnClose());
+                    doFlushPending(options.completeSendOnClose(), true);
                 }
             }
         }
@@ -411,20 +478,28 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
             }
         }
 
-        protected void doFlushPending(boolean complete) throws IOException {
+        protected void doFlushPending(boolean complete, boolean explicitFlush) throws IOException {
             try {
-                if (streamBuffer.isReadable()) {
+                final boolean flushed = streamBuffer.isReadable();
+
+                if (flushed) {
                     appenedDataToBuffer(streamBuffer);
                 }
 
+                // Writes that fill the stream buffer only send whole chunks and do not wait for the write to
+                // complete, an explicit flush sends any partial chunk and waits for it to be written.
                 if (complete) {
                     complete();
-                } else {
+                } else if (explicitFlush) {
+                    doFlush();
+                    awaitPendingSend();
+                } else if (!frameAligned) {
                     doFlush();
                 }
 
-                if (!complete) {
-                    streamBuffer.setIndex(0, 0);
+                if (!complete && flushed) {
+                    // The flushed bytes may still be pending in a gathering write so they cannot be overwritten.
+                    streamBuffer = ProtonByteBufferAllocator.DEFAULT.allocate(streamBuffer.capacity(), streamBuffer.maxCapacity());
                 }
             } catch (ClientException e) {
                 throw new IOException(e);
@@ -460,7 +535,7 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
         }
 
         @Override
-        protected void doFlushPending(boolean complete) throws IOException {
+        protected void doFlushPending(boolean complete, boolean explicitFlush) throws IOException {
             if (streamBuffer.isReadable()) {
 
                 ProtonBuffer preamble = ProtonByteBufferAllocator.DEFAULT.allocate(DATA_SECTION_HEADER_ENCODING_SIZE, DATA_SECTION_HEADER_ENCODING_SIZE);
@@ -475,7 +550,7 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
                 }
             }
 
-            super.doFlushPending(complete);
+            super.doFlushPending(complete, explicitFlush);
         }
     }
 
@@ -919,6 +994,39 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
     //----- Internal API
 
     private void appenedDataToBuffer(ProtonBuffer incoming) throws ClientException {
+        if (frameAligned) {
+            // Fill each chunk up to the frame payload size and send it, splitting the incoming bytes across
+            // chunks so that every transfer other than the last carries a full frame of payload.
+            ProtonBuffer remaining = incoming;
+
+            while (remaining != null && remaining.isReadable()) {
+                final int available = writeBufferSize - (buffer == null ? 0 : buffer.getReadableBytes());
+
+                if (remaining.getReadableBytes() <= available) {
+                    appendToBuffer(remaining);
+                    remaining = null;
+                } else {
+                    appendToBuffer(remaining.slice(remaining.getReadIndex(), available));
+                    remaining.skipBytes(available);
+                }
+
+                if (buffer.getReadableBytes() == writeBufferSize) {
+                    doFlush();
+                }
+            }
+        } else {
+            appendToBuffer(incoming);
+
+            // A user configured write buffer size controls how much is accumulated before a send, if the
+            // block accumulated is larger than the write buffer it is not split but instead the frame
+            // writer writes multiple frames which can result in a trailing smaller frame.
+            if (buffer.getReadableBytes() >= writeBufferSize) {
+                doFlush();
+            }
+        }
+    }
+
+    private void appendToBuffer(ProtonBuffer incoming) {
         if (buffer == null) {
             buffer = incoming;
         } else {
@@ -931,19 +1039,6 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
                 buffer = composite;
             }
         }
-
-        // Were aren't currently attempting to optimize each outbound chunk of the streaming
-        // send, if the block accumulated is larger than the write buffer we don't try and
-        // split it but instead let the frame writer just write multiple frames.  This can
-        // result in a trailing single tiny frame but for now this case isn't being optimized
-
-        if (buffer.getReadableBytes() >= writeBufferSize) {
-            try {
-                sender.sendMessage(this, streamMessagePacket);
-            } finally {
-                buffer = null;
-            }
-        }
     }
 
     private final class StreamMessagePacket extends ClientMessage<byte[]> {
@@ -1054,4 +1149,27 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
 
         return footer;
     }
+
+    private static int largestTransferEncodingSize() {
+        final Transfer transfer = new Transfer();
+
+        transfer.setHandle(UnsignedInteger.MAX_VALUE.longValue());
+        transfer.setDeliveryId(UnsignedInteger.MAX_VALUE.longValue());
+        transfer.setDeliveryTag(new byte[MAX_DELIVERY_TAG_SIZE]);
+        transfer.setMessageFormat(UnsignedInteger.MAX_VALUE.longValue());
+        transfer.setSettled(true);
+        transfer.setMore(true);
+        transfer.setRcvSettleMode(ReceiverSettleMode.SECOND);
+        transfer.setState(new TransactionalState().setTxnId(new Binary(new byte[MAX_TXN_ID_SIZE])).setOutcome(Accepted.getInstance()));
+        transfer.setResume(true);
+        transfer.setAborted(true);
+        transfer.setBatchable(true);
+
+        final Encoder encoder = CodecFactory.getDefaultEncoder();
+        final ProtonBuffer buffer = ProtonByteBufferAllocator.DEFAULT.allocate();
+
+        encoder.writeObject(buffer, encoder.newEncoderState(), transfer);
+
+        return buffer.getReadableBytes();
+    }
 }
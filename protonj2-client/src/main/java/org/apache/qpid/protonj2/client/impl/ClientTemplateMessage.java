@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.impl;
+
+import java.util.Map;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.client.Message;
+import org.apache.qpid.protonj2.client.MessageTemplate;
+import org.apache.qpid.protonj2.client.exceptions.ClientException;
+import org.apache.qpid.protonj2.client.exceptions.ClientUnsupportedOperationException;
+import org.apache.qpid.protonj2.types.messaging.Section;
+
+/**
+ * Message created from a {@link MessageTemplate} that carries only its body, message-id and
+ * creation-time and that is encoded using the pre-encoded sections of its template.
+ *
+ * @param <E> The type of the body value carried in this message
+ */
+final class ClientTemplateMessage<E> extends ClientMessage<E> {
+
+    private final ClientMessageTemplate<?> template;
+
+    private Object messageId;
+    private long creationTime;
+
+    ClientTemplateMessage(ClientMessageTemplate<?> template, Object messageId, long creationTime, Section<E> body) {
+        super(body);
+
+        this.template = template;
+        this.messageId = messageId;
+        this.creationTime = creationTime;
+
+        messageFormat(template.messageFormat());
+    }
+
+    @Override
+    public Object messageId() {
+        return messageId;
+    }
+
+    @Override
+    public Message<E> messageId(Object messageId) {
+        this.messageId = messageId;
+        return this;
+    }
+
+    @Override
+    public long creationTime() {
+        return creationTime;
+    }
+
+    @Override
+    public Message<E> creationTime(long createTime) {
+        this.creationTime = createTime;
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer encode(Map<String, Object> deliveryAnnotations) throws ClientException {
+        if (header() != null || annotations() != null || properties() != null || applicationProperties() != null || footer() != null) {
+            throw new ClientUnsupportedOperationException(
+                "Only the body, message-id and creation-time of a message created from a template can be modified");
+        }
+
+        return ClientMessageSupport.encodeTemplateMessage(template, this, deliveryAnnotations);
+    }
+}
@@ -19,6 +19,8 @@ package org.apache.qpid.protonj2.client.impl;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Consumer;
 
 import org.apache.qpid.protonj2.client.DeliveryState;
 import org.apache.qpid.protonj2.client.Sender;
@@ -27,6 +29,7 @@ import org.apache.qpid.protonj2.client.exceptions.ClientDeliveryStateException;
 import org.apache.qpid.protonj2.client.exceptions.ClientException;
 import org.apache.qpid.protonj2.client.exceptions.ClientOperationTimedOutException;
 import org.apache.qpid.protonj2.client.futures.ClientFuture;
+import org.apache.qpid.protonj2.client.futures.ClientSynchronization;
 import org.apache.qpid.protonj2.engine.OutgoingDelivery;
 
 /**
@@ -34,6 +37,12 @@ import org.apache.qpid.protonj2.engine.OutgoingDelivery;
  */
 class ClientTracker implements Tracker {
 
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<ClientTracker, Consumer> SETTLEMENT_HANDLER_UPDATER =
+        AtomicReferenceFieldUpdater.newUpdater(ClientTracker.class, Consumer.class, "settlementHandler");
+
+    private static final Consumer<Tracker> SETTLED = tracker -> {};
+
     private final ClientSender sender;
     private final OutgoingDelivery delivery;
 
@@ -41,6 +50,7 @@ class ClientTracker implements Tracker {
 
     private volatile boolean remotelySetted;
     private volatile DeliveryState remoteDeliveryState;
+    private volatile Consumer<Tracker> settlementHandler;
 
     /**
      * Create an instance of a client outgoing delivery tracker.
@@ -54,7 +64,18 @@ class ClientTracker implements Tracker {
         this.sender = sender;
         this.delivery = delivery;
         this.delivery.deliveryStateUpdatedHandler(this::processDeliveryUpdated);
-        this.remoteSettlementFuture = sender.session().getFutureFactory().createFuture();
+        this.remoteSettlementFuture = sender.session().getFutureFactory().createFuture(new ClientSynchronization<Tracker>() {
+
+            @Override
+            public void onPendingSuccess(Tracker result) {
+                signalSettlementHandler();
+            }
+
+            @Override
+            public void onPendingFailure(Throwable cause) {
+                // Settlement is only ever completed and never failed
+            }
+        });
     }
 
     OutgoingDelivery delivery() {
@@ -202,6 +223,17 @@ class ClientTracker implements Tracker {
         }
     }
 
+    /*
+     * Sets a handler that is called once when this tracker is settled either locally or by the remote,
+     * the handler is called immediately if the tracker was already settled.  Only one handler is kept.
+     */
+    @SuppressWarnings("unchecked")
+    void settlementHandler(Consumer<Tracker> handler) {
+        if (!SETTLEMENT_HANDLER_UPDATER.compareAndSet(this, null, handler)) {
+            handler.accept(this);
+        }
+    }
+
     //----- Internal Event hooks for delivery updates
 
     private void processDeliveryUpdated(OutgoingDelivery delivery) {
@@ -216,4 +248,13 @@ class ClientTracker implements Tracker {
             delivery.settle();
         }
     }
+
+    @SuppressWarnings("unchecked")
+    private void signalSettlementHandler() {
+        final Consumer<Tracker> handler = SETTLEMENT_HANDLER_UPDATER.getAndSet(this, SETTLED);
+
+        if (handler != null && handler != SETTLED) {
+            handler.accept(this);
+        }
+    }
 }
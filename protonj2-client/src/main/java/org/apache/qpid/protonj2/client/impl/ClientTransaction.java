@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.impl;
+
+import java.util.concurrent.Future;
+
+import org.apache.qpid.protonj2.client.Delivery;
+import org.apache.qpid.protonj2.client.DeliveryState;
+import org.apache.qpid.protonj2.client.Message;
+import org.apache.qpid.protonj2.client.Sender;
+import org.apache.qpid.protonj2.client.Tracker;
+import org.apache.qpid.protonj2.client.Transaction;
+import org.apache.qpid.protonj2.client.exceptions.ClientException;
+import org.apache.qpid.protonj2.client.exceptions.ClientIllegalStateException;
+import org.apache.qpid.protonj2.client.exceptions.ClientTransactionNotActiveException;
+import org.apache.qpid.protonj2.engine.TransactionController;
+import org.apache.qpid.protonj2.engine.TransactionState;
+import org.apache.qpid.protonj2.types.messaging.Accepted;
+import org.apache.qpid.protonj2.types.messaging.Outcome;
+import org.apache.qpid.protonj2.types.messaging.Released;
+import org.apache.qpid.protonj2.types.transactions.TransactionalState;
+
+/**
+ * Client transaction handle that tracks a single declared transaction within a {@link ClientSession}.
+ * <p>
+ * Instances are used both for explicitly declared transactions and to track the session scoped
+ * transaction managed by the {@link ClientLocalTransactionContext}.
+ */
+final class ClientTransaction implements Transaction {
+
+    private final ClientSession session;
+
+    private volatile org.apache.qpid.protonj2.engine.Transaction<TransactionController> protonTransaction;
+
+    private TransactionalState cachedSenderOutcome;
+    private TransactionalState cachedReceiverOutcome;
+    private TransactionalState cachedReleasedOutcome;
+
+    ClientTransaction(ClientSession session) {
+        this.session = session;
+    }
+
+    @Override
+    public ClientSession session() {
+        return session;
+    }
+
+    @Override
+    public boolean isActive() {
+        final org.apache.qpid.protonj2.engine.Transaction<TransactionController> txn = protonTransaction;
+        return txn != null && txn.getState() == TransactionState.DECLARED;
+    }
+
+    @Override
+    public <T> Tracker send(Sender sender, Message<T> message) throws ClientException {
+        checkActive();
+
+        if (!(sender instanceof ClientSender) || sender.session() != session) {
+            throw new ClientIllegalStateException("Cannot send under a transaction from a Sender of another Session");
+        }
+
+        return ((ClientSender) sender).sendMessage(ClientMessageSupport.convertMessage(message), null, true, this);
+    }
+
+    @Override
+    public Transaction accept(Delivery delivery) throws ClientException {
+        return applyDisposition(delivery, Accepted.getInstance());
+    }
+
+    @Override
+    public Transaction disposition(Delivery delivery, DeliveryState state) throws ClientException {
+        return applyDisposition(delivery, ClientDeliveryState.asProtonType(state));
+    }
+
+    @Override
+    public Transaction commit() throws ClientException {
+        return session.request(this, session.dischargeTransaction(this, false));
+    }
+
+    @Override
+    public Future<Transaction> commitAsync() {
+        return session.dischargeTransaction(this, false);
+    }
+
+    @Override
+    public Transaction rollback() throws ClientException {
+        return session.request(this, session.dischargeTransaction(this, true));
+    }
+
+    @Override
+    public Future<Transaction> rollbackAsync() {
+        return session.dischargeTransaction(this, true);
+    }
+
+    @Override
+    public String toString() {
+        return "ClientTransaction { " + protonTransaction + " }";
+    }
+
+    //----- Internal API for use by the transaction context
+
+    org.apache.qpid.protonj2.engine.Transaction<TransactionController> protonTransaction() {
+        return protonTransaction;
+    }
+
+    ClientTransaction protonTransaction(org.apache.qpid.protonj2.engine.Transaction<TransactionController> protonTransaction) {
+        this.protonTransaction = protonTransaction;
+        return this;
+    }
+
+    boolean isRollbackOnly() {
+        return isActive() && protonTransaction.parent().isLocallyClosed();
+    }
+
+    TransactionalState senderOutcome() {
+        if (cachedSenderOutcome == null) {
+            cachedSenderOutcome = new TransactionalState().setTxnId(protonTransaction.getTxnId());
+        }
+
+        return cachedSenderOutcome;
+    }
+
+    TransactionalState receiverOutcome(org.apache.qpid.protonj2.types.transport.DeliveryState outcome) {
+        if (outcome instanceof Accepted) {
+            if (cachedReceiverOutcome == null) {
+                cachedReceiverOutcome = new TransactionalState().setTxnId(protonTransaction.getTxnId()).setOutcome(Accepted.getInstance());
+            }
+
+            return cachedReceiverOutcome;
+        } else if (outcome instanceof Released) {
+            if (cachedReleasedOutcome == null) {
+                cachedReleasedOutcome = new TransactionalState().setTxnId(protonTransaction.getTxnId()).setOutcome(Released.getInstance());
+            }
+
+            return cachedReleasedOutcome;
+        } else {
+            return new TransactionalState().setTxnId(protonTransaction.getTxnId()).setOutcome((Outcome) outcome);
+        }
+    }
+
+    //----- Private implementation details
+
+    private Transaction applyDisposition(Delivery delivery, org.apache.qpid.protonj2.types.transport.DeliveryState state) throws ClientException {
+        checkActive();
+
+        if (delivery instanceof ClientDelivery && delivery.receiver().session() == session) {
+            final ClientDelivery clientDelivery = (ClientDelivery) delivery;
+            ((ClientReceiver) clientDelivery.receiver()).disposition(clientDelivery.protonDelivery(), state, this);
+        } else if (delivery instanceof ClientStreamDelivery && delivery.receiver().session() == session) {
+            final ClientStreamDelivery streamDelivery = (ClientStreamDelivery) delivery;
+            streamDelivery.receiver().disposition(streamDelivery.getProtonDelivery(), state, this);
+        } else {
+            throw new ClientIllegalStateException("Cannot apply a disposition under a transaction to a Delivery from another Session");
+        }
+
+        return this;
+    }
+
+    private void checkActive() throws ClientException {
+        if (!isActive()) {
+            throw new ClientTransactionNotActiveException("The transaction is not currently active");
+        }
+    }
+}
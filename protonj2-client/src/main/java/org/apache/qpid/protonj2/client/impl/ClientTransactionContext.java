@@ -17,6 +17,7 @@
 package org.apache.qpid.protonj2.client.impl;
 
 import org.apache.qpid.protonj2.client.Session;
+import org.apache.qpid.protonj2.client.Transaction;
 import org.apache.qpid.protonj2.client.exceptions.ClientIllegalStateException;
 import org.apache.qpid.protonj2.client.futures.ClientFuture;
 import org.apache.qpid.protonj2.engine.IncomingDelivery;
@@ -72,6 +73,37 @@ public interface ClientTransactionContext {
      */
     ClientTransactionContext rollback(ClientFuture<Session> rollbackFuture, boolean startNew) throws ClientIllegalStateException;
 
+    /**
+     * Declares a new transaction that is tracked by the given {@link ClientTransaction} handle and
+     * which is independent of any transaction started from {@link #begin(ClientFuture)}.
+     *
+     * @param transaction
+     *      The client transaction handle that will track the declared transaction.
+     * @param declareFuture
+     *      The future that awaits the result of declaring the new transaction.
+     *
+     * @return this {@link ClientTransactionContext} instance.
+     *
+     * @throws ClientIllegalStateException if an error occurs do to the transaction state.
+     */
+    ClientTransactionContext declare(ClientTransaction transaction, ClientFuture<Transaction> declareFuture) throws ClientIllegalStateException;
+
+    /**
+     * Commits or rolls back the transaction tracked by the given {@link ClientTransaction} handle.
+     *
+     * @param transaction
+     *      The client transaction handle whose transaction should be discharged.
+     * @param dischargeFuture
+     *      The future that awaits the result of discharging the transaction.
+     * @param failed
+     *      Should the transaction be rolled back instead of committed.
+     *
+     * @return this {@link ClientTransactionContext} instance.
+     *
+     * @throws ClientIllegalStateException if an error occurs do to the transaction state.
+     */
+    ClientTransactionContext discharge(ClientTransaction transaction, ClientFuture<Transaction> dischargeFuture, boolean failed) throws ClientIllegalStateException;
+
     /**
      * @return true if the context is hosting an active transaction.
      */
@@ -85,7 +117,9 @@ public interface ClientTransactionContext {
     /**
      * Enlist the given outgoing envelope into this transaction if one is active and not already
      * in a roll-back only state.  If the transaction is failed the context should discard the
-     * envelope which should appear to the caller as if the send was successful.
+     * envelope which should appear to the caller as if the send was successful.  An envelope that
+     * carries its own {@link ClientTransaction} is enlisted in that transaction instead of the
+     * session scoped one.
      *
      * @param envelope
      *      The envelope containing the details and mechanisms for sending the message.
@@ -115,4 +149,29 @@ public interface ClientTransactionContext {
      */
     ClientTransactionContext disposition(IncomingDelivery delivery, DeliveryState state, boolean settled);
 
+    /**
+     * Apply a disposition to the given delivery as part of the transaction tracked by the given
+     * {@link ClientTransaction} handle, the outcome is always wrapped in a {@link TransactionalState}
+     * and the delivery is always settled.
+     *
+     * @param transaction
+     *      The client transaction handle that the disposition is enlisted in.
+     * @param delivery
+     *      The incoming delivery that the receiver is applying a disposition to.
+     * @param state
+     *      The delivery state that is being applied as the outcome of the delivery.
+     *
+     * @return this {@link ClientTransactionContext} instance.
+     */
+    ClientTransactionContext disposition(ClientTransaction transaction, IncomingDelivery delivery, DeliveryState state);
+
+    /**
+     * Called when the owning session is being closed so that the context can release any resources it
+     * holds at the remote, such as rolling back transactions that were declared ahead of use and never
+     * handed out.  Transactions that are in use by the application are left as they are.
+     *
+     * @return this {@link ClientTransactionContext} instance.
+     */
+    ClientTransactionContext close();
+
 }
@@ -16,6 +16,8 @@
  */
 package org.apache.qpid.protonj2.client.impl;
 
+import java.util.function.Consumer;
+
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.client.transport.Transport;
 import org.apache.qpid.protonj2.client.transport.TransportListener;
@@ -34,19 +36,27 @@ final class ClientTransportListener implements TransportListener {
     private static final Logger LOG = LoggerFactory.getLogger(ClientTransportListener.class);
 
     private final Engine engine;
+    private final Consumer<Engine> connectedHandler;
 
     public ClientTransportListener(Engine engine) {
+        this(engine, connected -> connected.start().open());
+    }
+
+    public ClientTransportListener(Engine engine, Consumer<Engine> connectedHandler) {
         this.engine = engine;
+        this.connectedHandler = connectedHandler;
     }
 
     @Override
     public void transportInitialized(Transport transport) {
-        engine.configuration().setBufferAllocator(transport.getBufferAllocator());
+        engine.configuration().setBufferAllocator(transport.getBufferAllocator())
+                               .setGatheringFrameWrites(transport.isGatheringWritesSupported() &&
+                                                        transport.getTransportOptions().gatheringWrites());
     }
 
     @Override
     public void transportConnected(Transport transport) {
-        engine.start().open();
+        connectedHandler.accept(engine);
     }
 
     @Override
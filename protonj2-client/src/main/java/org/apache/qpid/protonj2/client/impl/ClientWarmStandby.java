@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.client.transport.Transport;
+import org.apache.qpid.protonj2.engine.Engine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A connection held open to the next remote in the reconnect pool so that a failed
+ * {@link ClientConnection} can switch to it without first waiting on the TCP connect,
+ * TLS handshake and SASL exchange.
+ * <p>
+ * The standby engine negotiates the AMQP header, and so any configured SASL authentication,
+ * but does not send an Open until it is adopted by the connection, at which point the engine
+ * and transport become those of the connection.  A standby whose negotiation is still in
+ * progress can be adopted as the engine holds the Open until the remote header arrives, but
+ * one that has not yet connected cannot.  Any failure of the standby before it is adopted
+ * closes it and leaves the connection to recover using its normal reconnect handling.
+ */
+final class ClientWarmStandby {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ClientWarmStandby.class);
+
+    private final URI remoteURI;
+    private final Engine engine;
+    private final Transport transport;
+
+    private boolean connected;
+    private boolean closed;
+
+    ClientWarmStandby(URI remoteURI, Engine engine, Transport transport) {
+        this.remoteURI = remoteURI;
+        this.engine = engine;
+        this.transport = transport;
+
+        engine.outputHandler(this::handleEngineOutput)
+              .errorHandler(this::handleEngineFailure);
+    }
+
+    ClientWarmStandby connect() {
+        try {
+            LOG.trace("Attempting warm standby connection to remote {}:{}", remoteURI.getHost(), remoteURI.getPort());
+            transport.connect(remoteURI.getHost(), remoteURI.getPort(), new ClientTransportListener(engine, this::handleTransportConnected));
+        } catch (Throwable error) {
+            handleEngineFailure(engine);
+        }
+
+        return this;
+    }
+
+    boolean isReady() {
+        return connected && !closed && engine.isRunning();
+    }
+
+    URI getRemoteURI() {
+        return remoteURI;
+    }
+
+    Engine getEngine() {
+        return engine;
+    }
+
+    Transport getTransport() {
+        return transport;
+    }
+
+    void close() {
+        if (!closed) {
+            closed = true;
+
+            try {
+                engine.shutdown();
+            } catch (Exception ignore) {}
+
+            try {
+                transport.close();
+            } catch (Exception ignore) {}
+        }
+    }
+
+    //----- Handlers for events from the standby engine and transport
+
+    private void handleTransportConnected(Engine engine) {
+        connected = true;
+        engine.start().negotiate(header -> {
+            LOG.trace("Warm standby connection to remote {}:{} has been negotiated", remoteURI.getHost(), remoteURI.getPort());
+        });
+    }
+
+    private void handleEngineOutput(ProtonBuffer output, Runnable ioComplete) {
+        try {
+            transport.writeAndFlush(output, ioComplete);
+        } catch (IOException e) {
+            LOG.debug("Error while writing warm standby engine output to transport: {}", e.getMessage());
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void handleEngineFailure(Engine engine) {
+        LOG.debug("Warm standby connection to remote {}:{} failed: {}",
+                  remoteURI.getHost(), remoteURI.getPort(), engine.failureCause() != null ? engine.failureCause().getMessage() : null);
+        close();
+    }
+}
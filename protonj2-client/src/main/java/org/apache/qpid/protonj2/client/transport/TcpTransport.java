@@ -25,6 +25,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.buffer.ProtonCompositeBuffer;
 import org.apache.qpid.protonj2.buffer.ProtonNettyByteBuffer;
 import org.apache.qpid.protonj2.buffer.ProtonNettyByteBufferAllocator;
 import org.apache.qpid.protonj2.client.SslOptions;
@@ -35,6 +36,8 @@ import org.slf4j.LoggerFactory;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
@@ -210,6 +213,11 @@ public class TcpTransport implements Transport {
         };
      }
 
+    @Override
+    public boolean isGatheringWritesSupported() {
+        return true;
+    }
+
     @Override
     public TcpTransport write(ProtonBuffer output) throws IOException {
         return write(output, null);
@@ -300,6 +308,8 @@ public class TcpTransport implements Transport {
 
         if (output instanceof ProtonNettyByteBuffer) {
             nettyBuf = (ByteBuf) output.unwrap();
+        } else if (output instanceof ProtonCompositeBuffer) {
+            nettyBuf = toGatheredOutputBuffer((ProtonCompositeBuffer) output);
         } else {
             ProtonNettyByteBuffer wrapped = new ProtonNettyByteBuffer(channel.alloc().ioBuffer(output.getReadableBytes()));
             wrapped.writeBytes(output);
@@ -309,6 +319,35 @@ public class TcpTransport implements Transport {
         return nettyBuf;
     }
 
+    /*
+     * A gathered frame from the engine leads with a buffer that was allocated from this transport and whose
+     * ownership passes with the write, the buffers that follow are views of payload bytes still owned by the
+     * sender so they are wrapped or retained instead of being copied into a new buffer.
+     */
+    private ByteBuf toGatheredOutputBuffer(final ProtonCompositeBuffer output) {
+        final CompositeByteBuf composite = channel.alloc().compositeBuffer(output.numberOfBuffers());
+
+        output.foreachInternalBuffer(buffer -> {
+            final ByteBuf component;
+
+            if (buffer instanceof ProtonNettyByteBuffer) {
+                if (composite.numComponents() == 0) {
+                    component = (ByteBuf) buffer.unwrap();
+                } else {
+                    component = ((ByteBuf) buffer.unwrap()).retainedDuplicate();
+                }
+            } else if (buffer.hasArray()) {
+                component = Unpooled.wrappedBuffer(buffer.getArray(), buffer.getArrayOffset() + buffer.getReadIndex(), buffer.getReadableBytes());
+            } else {
+                component = Unpooled.wrappedBuffer(buffer.toByteBuffer());
+            }
+
+            composite.addComponent(true, component);
+        });
+
+        return composite;
+    }
+
     //----- Internal implementation details, can be overridden as needed -----//
 
     protected void addAdditionalHandlers(ChannelPipeline pipeline) {
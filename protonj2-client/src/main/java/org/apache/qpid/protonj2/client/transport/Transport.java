@@ -88,6 +88,14 @@ public interface Transport {
      */
     ProtonBufferAllocator getBufferAllocator();
 
+    /**
+     * Indicates if the transport can write a frame given to it as a composite of buffers by
+     * handing each buffer to the underlying channel without first copying them into one buffer.
+     *
+     * @return true if the transport can write composite buffers as a gathering write.
+     */
+    boolean isGatheringWritesSupported();
+
     /**
      * Writes a chunk of data over the Transport connection without performing an
      * explicit flush on the transport.
@@ -131,6 +131,12 @@ public class WebSocketTransport extends TcpTransport {
         return this;
     }
 
+    @Override
+    public boolean isGatheringWritesSupported() {
+        // Client WebSocket frames are masked which copies the payload into the encoded frame regardless
+        return false;
+    }
+
     @Override
     public URI getRemoteURI() {
         if (host != null) {
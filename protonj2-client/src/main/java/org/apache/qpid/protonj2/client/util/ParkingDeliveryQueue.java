@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.util;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.qpid.protonj2.client.Delivery;
+import org.apache.qpid.protonj2.client.impl.ClientDelivery;
+
+/**
+ * First in / first out {@link Delivery} Queue that blocks waiting consumers using only
+ * {@link LockSupport} park and unpark calls, no locks or monitors are held while waiting
+ * which allows large numbers of virtual threads to block on receive without pinning or
+ * contending for a shared lock.
+ */
+public final class ParkingDeliveryQueue implements DeliveryQueue {
+
+    private static final AtomicIntegerFieldUpdater<ParkingDeliveryQueue> STATE_FIELD_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(ParkingDeliveryQueue.class, "state");
+    private static final AtomicIntegerFieldUpdater<ParkingDeliveryQueue> SIZE_FIELD_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(ParkingDeliveryQueue.class, "size");
+
+    private static final int CLOSED = 0;
+    private static final int STOPPED = 1;
+    private static final int RUNNING = 2;
+
+    private volatile int state = STOPPED;
+    private volatile int size;
+
+    private final ConcurrentLinkedDeque<ClientDelivery> queue = new ConcurrentLinkedDeque<>();
+    private final Queue<Thread> waiters = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public void enqueueFirst(ClientDelivery delivery) {
+        queue.addFirst(delivery);
+        SIZE_FIELD_UPDATER.incrementAndGet(this);
+        signalNextWaiter();
+    }
+
+    @Override
+    public void enqueue(ClientDelivery delivery) {
+        queue.addLast(delivery);
+        SIZE_FIELD_UPDATER.incrementAndGet(this);
+        signalNextWaiter();
+    }
+
+    @Override
+    public ClientDelivery dequeue(long timeout) throws InterruptedException {
+        final long deadline = timeout > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout) : 0;
+
+        Thread waiter = null;
+
+        try {
+            while (true) {
+                if (!isRunning()) {
+                    return null;
+                }
+
+                final ClientDelivery delivery = poll();
+                if (delivery != null || timeout == 0) {
+                    return delivery;
+                }
+
+                // Register before parking and then check the queue again so that an enqueue which
+                // raced with registration is never missed.
+                if (waiter == null) {
+                    waiter = Thread.currentThread();
+                    waiters.add(waiter);
+                    continue;
+                }
+
+                if (timeout < 0) {
+                    LockSupport.park(this);
+                } else {
+                    final long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        return null;
+                    }
+
+                    LockSupport.parkNanos(this, remaining);
+                }
+
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+        } finally {
+            if (waiter != null) {
+                waiters.remove(waiter);
+                // A wake up aimed at this thread may have been consumed without taking the delivery
+                // that caused it so pass the signal along if deliveries remain.
+                if (!queue.isEmpty()) {
+                    signalNextWaiter();
+                }
+            }
+        }
+    }
+
+    @Override
+    public ClientDelivery dequeueNoWait() {
+        if (!isRunning()) {
+            return null;
+        }
+
+        return poll();
+    }
+
+    @Override
+    public void start() {
+        if (STATE_FIELD_UPDATER.compareAndSet(this, STOPPED, RUNNING)) {
+            signalAllWaiters();
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (STATE_FIELD_UPDATER.compareAndSet(this, RUNNING, STOPPED)) {
+            signalAllWaiters();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (STATE_FIELD_UPDATER.getAndSet(this, CLOSED) > CLOSED) {
+            signalAllWaiters();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return state == RUNNING;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return state == CLOSED;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return Math.max(0, size);
+    }
+
+    @Override
+    public void clear() {
+        while (poll() != null) {
+            // Drain so that the tracked size remains accurate.
+        }
+    }
+
+    @Override
+    public String toString() {
+        return queue.toString();
+    }
+
+    private ClientDelivery poll() {
+        final ClientDelivery delivery = queue.pollFirst();
+        if (delivery != null) {
+            SIZE_FIELD_UPDATER.decrementAndGet(this);
+        }
+
+        return delivery;
+    }
+
+    private void signalNextWaiter() {
+        final Thread waiter = waiters.peek();
+        if (waiter != null) {
+            LockSupport.unpark(waiter);
+        }
+    }
+
+    private void signalAllWaiters() {
+        for (Thread waiter : waiters) {
+            LockSupport.unpark(waiter);
+        }
+    }
+}
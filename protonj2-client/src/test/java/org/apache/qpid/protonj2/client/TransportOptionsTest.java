@@ -43,6 +43,7 @@ public class TransportOptionsTest extends ImperativeClientTestCase {
     public static final int LOCAL_PORT = 30000;
     public static final boolean TEST_ALLOW_NATIVE_IO_VALUE = !TransportOptions.DEFAULT_ALLOW_NATIVE_IO;
     public static final boolean TEST_TRACE_BYTES_VALUE = !TransportOptions.DEFAULT_TRACE_BYTES;
+    public static final boolean TEST_GATHERING_WRITES_VALUE = !TransportOptions.DEFAULT_GATHERING_WRITES;
     public static final String TEST_WEBSOCKET_PATH = "/test";
     public static final String TEST_WEBSOCKET_HEADER_KEY = "compression";
     public static final String TEST_WEBSOCKET_HEADER_VALUE = "gzip";
@@ -55,6 +56,7 @@ public class TransportOptionsTest extends ImperativeClientTestCase {
         assertEquals(TransportOptions.DEFAULT_TCP_NO_DELAY, options.tcpNoDelay());
 
         assertTrue(options.allowNativeIO());
+        assertTrue(options.gatheringWrites());
         assertFalse(options.useWebSockets());
         assertNull(options.webSocketPath());
     }
@@ -74,6 +76,7 @@ public class TransportOptionsTest extends ImperativeClientTestCase {
         assertEquals(TEST_DEFAULT_TCP_PORT, options.defaultTcpPort());
         assertEquals(TEST_ALLOW_NATIVE_IO_VALUE, options.allowNativeIO());
         assertEquals(TEST_TRACE_BYTES_VALUE, options.traceBytes());
+        assertEquals(TEST_GATHERING_WRITES_VALUE, options.gatheringWrites());
     }
 
     @Test
@@ -91,6 +94,7 @@ public class TransportOptionsTest extends ImperativeClientTestCase {
         assertEquals(TEST_DEFAULT_TCP_PORT, options.defaultTcpPort());
         assertEquals(TEST_ALLOW_NATIVE_IO_VALUE, options.allowNativeIO());
         assertEquals(TEST_TRACE_BYTES_VALUE, options.traceBytes());
+        assertEquals(TEST_GATHERING_WRITES_VALUE, options.gatheringWrites());
         assertEquals(LOCAL_ADDRESS,options.localAddress());
         assertEquals(LOCAL_PORT,options.localPort());
         assertEquals(TEST_WEBSOCKET_PATH, options.webSocketPath());
@@ -179,6 +183,7 @@ public class TransportOptionsTest extends ImperativeClientTestCase {
         options.defaultTcpPort(TEST_DEFAULT_TCP_PORT);
         options.allowNativeIO(TEST_ALLOW_NATIVE_IO_VALUE);
         options.traceBytes(TEST_TRACE_BYTES_VALUE);
+        options.gatheringWrites(TEST_GATHERING_WRITES_VALUE);
         options.localAddress(LOCAL_ADDRESS);
         options.localPort(LOCAL_PORT);
         options.webSocketPath(TEST_WEBSOCKET_PATH);
@@ -21,6 +21,8 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import org.apache.qpid.protonj2.client.util.FifoDeliveryQueue;
+import org.apache.qpid.protonj2.client.util.ParkingDeliveryQueue;
 import org.junit.jupiter.api.Test;
 
 public class ClientFutureFactoryTest {
@@ -83,4 +85,23 @@ public class ClientFutureFactoryTest {
 
         assertTrue(future instanceof ProgressiveClientFuture);
     }
+
+    @Test
+    public void testCreateParkingFactoryFromConfiguration() {
+        ClientFutureFactory factory = ClientFutureFactory.create("parking");
+
+        ClientFuture<Void> future = factory.createFuture();
+        assertNotNull(future);
+        assertFalse(future.isComplete());
+
+        assertTrue(future instanceof ParkingClientFuture);
+        assertTrue(factory.createDeliveryQueue(10) instanceof ParkingDeliveryQueue);
+    }
+
+    @Test
+    public void testNonParkingFactoriesCreateFifoDeliveryQueue() {
+        assertTrue(ClientFutureFactory.create("conservative").createDeliveryQueue(10) instanceof FifoDeliveryQueue);
+        assertTrue(ClientFutureFactory.create("balanced").createDeliveryQueue(10) instanceof FifoDeliveryQueue);
+        assertTrue(ClientFutureFactory.create("progressive").createDeliveryQueue(10) instanceof FifoDeliveryQueue);
+    }
 }
@@ -38,7 +38,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 public class ClientFutureTest {
 
     @ParameterizedTest
-    @ValueSource(strings = { "conservative", "balanced", "progressive" })
+    @ValueSource(strings = { "conservative", "balanced", "progressive", "parking" })
     public void testIsComplete(String futureType) {
         final ClientFutureFactory futuresFactory = ClientFutureFactory.create(futureType);
         final ClientFuture<Void> future = futuresFactory.createFuture();
@@ -49,7 +49,7 @@ public class ClientFutureTest {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = { "conservative", "balanced", "progressive" })
+    @ValueSource(strings = { "conservative", "balanced", "progressive", "parking" })
     public void testOnSuccess(String futureType) {
         final ClientFutureFactory futuresFactory = ClientFutureFactory.create(futureType);
         final ClientFuture<Void> future = futuresFactory.createFuture();
@@ -63,7 +63,7 @@ public class ClientFutureTest {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = { "conservative", "balanced", "progressive" })
+    @ValueSource(strings = { "conservative", "balanced", "progressive", "parking" })
     public void testTimedGet(String futureType) {
         final ClientFutureFactory futuresFactory = ClientFutureFactory.create(futureType);
         final ClientFuture<Void> future = futuresFactory.createFuture();
@@ -77,7 +77,7 @@ public class ClientFutureTest {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = { "conservative", "balanced", "progressive" })
+    @ValueSource(strings = { "conservative", "balanced", "progressive", "parking" })
     public void testTimedGetWhenComplete(String futureType) {
         final ClientFutureFactory futuresFactory = ClientFutureFactory.create(futureType);
         final ClientFuture<Void> future = futuresFactory.createFuture();
@@ -92,7 +92,7 @@ public class ClientFutureTest {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = { "conservative", "balanced", "progressive" })
+    @ValueSource(strings = { "conservative", "balanced", "progressive", "parking" })
     public void testTimedGetWhenCompleteWithZeroTimeout(String futureType) {
         final ClientFutureFactory futuresFactory = ClientFutureFactory.create(futureType);
         final ClientFuture<Void> future = futuresFactory.createFuture();
@@ -107,7 +107,7 @@ public class ClientFutureTest {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = { "conservative", "balanced", "progressive" })
+    @ValueSource(strings = { "conservative", "balanced", "progressive", "parking" })
     public void testTimedGetWhenNotCompleteWithZeroTimeout(String futureType) {
         final ClientFutureFactory futuresFactory = ClientFutureFactory.create(futureType);
         final ClientFuture<Void> future = futuresFactory.createFuture();
@@ -120,7 +120,7 @@ public class ClientFutureTest {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = { "conservative", "balanced", "progressive" })
+    @ValueSource(strings = { "conservative", "balanced", "progressive", "parking" })
     public void testOnFailure(String futureType) {
         final ClientFutureFactory futuresFactory = ClientFutureFactory.create(futureType);
         final ClientFuture<Void> future = futuresFactory.createFuture();
@@ -140,7 +140,7 @@ public class ClientFutureTest {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = { "conservative", "balanced", "progressive" })
+    @ValueSource(strings = { "conservative", "balanced", "progressive", "parking" })
     public void testOnSuccessCallsSynchronization(String futureType) {
         final AtomicBoolean syncCalled = new AtomicBoolean(false);
         final ClientFutureFactory futuresFactory = ClientFutureFactory.create(futureType);
@@ -169,7 +169,7 @@ public class ClientFutureTest {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = { "conservative", "balanced", "progressive" })
+    @ValueSource(strings = { "conservative", "balanced", "progressive", "parking" })
     public void testOnFailureCallsSynchronization(String futureType) {
         final AtomicBoolean syncCalled = new AtomicBoolean(false);
         final ClientFutureFactory futuresFactory = ClientFutureFactory.create(futureType);
@@ -205,7 +205,7 @@ public class ClientFutureTest {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = { "conservative", "balanced", "progressive" })
+    @ValueSource(strings = { "conservative", "balanced", "progressive", "parking" })
     public void testSuccessfulStateIsFixed(String futureType) {
         final ClientFutureFactory futuresFactory = ClientFutureFactory.create(futureType);
         final ClientFuture<Void> future = futuresFactory.createFuture();
@@ -221,7 +221,7 @@ public class ClientFutureTest {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = { "conservative", "balanced", "progressive" })
+    @ValueSource(strings = { "conservative", "balanced", "progressive", "parking" })
     public void testFailedStateIsFixed(String futureType) {
         final ClientFutureFactory futuresFactory = ClientFutureFactory.create(futureType);
         final ClientFuture<Void> future = futuresFactory.createFuture();
@@ -242,7 +242,7 @@ public class ClientFutureTest {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = { "conservative", "balanced", "progressive" })
+    @ValueSource(strings = { "conservative", "balanced", "progressive", "parking" })
     public void testSyncHandlesInterruption(String futureType) throws InterruptedException {
         final ClientFutureFactory futuresFactory = ClientFutureFactory.create(futureType);
         final ClientFuture<Void> future = futuresFactory.createFuture();
@@ -278,7 +278,7 @@ public class ClientFutureTest {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = { "conservative", "balanced", "progressive" })
+    @ValueSource(strings = { "conservative", "balanced", "progressive", "parking" })
     public void testTimedSyncHandlesInterruption(String futureType) throws InterruptedException {
         final ClientFutureFactory futuresFactory = ClientFutureFactory.create(futureType);
         final ClientFuture<Void> future = futuresFactory.createFuture();
@@ -315,7 +315,7 @@ public class ClientFutureTest {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = { "conservative", "balanced", "progressive" })
+    @ValueSource(strings = { "conservative", "balanced", "progressive", "parking" })
     public void testUnfailableOnSuccessCallsSuccessSynchronization(String futureType) {
         final AtomicBoolean syncCalled = new AtomicBoolean(false);
         final ClientFutureFactory futuresFactory = ClientFutureFactory.create(futureType);
@@ -344,7 +344,7 @@ public class ClientFutureTest {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = { "conservative", "balanced", "progressive" })
+    @ValueSource(strings = { "conservative", "balanced", "progressive", "parking" })
     public void testUnfailableOnFailureCallsSuccessSynchronization(String futureType) {
         final AtomicBoolean syncCalled = new AtomicBoolean(false);
         final ClientFutureFactory futuresFactory = ClientFutureFactory.create(futureType);
@@ -372,4 +372,41 @@ public class ClientFutureTest {
 
         assertTrue(syncCalled.get(), "Synchronization not called");
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "conservative", "balanced", "progressive", "parking" })
+    public void testCompletionReleasesAllBlockedWaiters(String futureType) throws InterruptedException {
+        final ClientFutureFactory futuresFactory = ClientFutureFactory.create(futureType);
+        final ClientFuture<String> future = futuresFactory.createFuture();
+        final int waiterCount = 16;
+
+        final CountDownLatch waiting = new CountDownLatch(waiterCount);
+        final CountDownLatch done = new CountDownLatch(waiterCount);
+        final AtomicBoolean failed = new AtomicBoolean(false);
+
+        for (int i = 0; i < waiterCount; ++i) {
+            final boolean timed = i % 2 == 0;
+            final Thread waiter = new Thread(() -> {
+                try {
+                    waiting.countDown();
+                    final String result = timed ? future.get(20, TimeUnit.SECONDS) : future.get();
+                    if (!"done".equals(result)) {
+                        failed.set(true);
+                    }
+                } catch (Exception e) {
+                    failed.set(true);
+                } finally {
+                    done.countDown();
+                }
+            });
+
+            waiter.start();
+        }
+
+        assertTrue(waiting.await(5, TimeUnit.SECONDS));
+        future.complete("done");
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertFalse(failed.get());
+    }
 }
@@ -16,6 +16,7 @@
  */
 package org.apache.qpid.protonj2.client.impl;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -26,6 +27,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -35,9 +37,16 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonByteBufferAllocator;
+import org.apache.qpid.protonj2.buffer.ProtonNettyByteBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonNettyByteBufferAllocator;
 import org.apache.qpid.protonj2.client.AdvancedMessage;
 import org.apache.qpid.protonj2.client.Message;
+import org.apache.qpid.protonj2.client.MessageTemplate;
 import org.apache.qpid.protonj2.client.exceptions.ClientException;
+import org.apache.qpid.protonj2.client.exceptions.ClientUnsupportedOperationException;
+import org.apache.qpid.protonj2.types.UnsignedLong;
 import org.apache.qpid.protonj2.types.messaging.AmqpSequence;
 import org.apache.qpid.protonj2.types.messaging.AmqpValue;
 import org.apache.qpid.protonj2.types.messaging.ApplicationProperties;
@@ -213,6 +222,76 @@ class ClientMessageTest {
         assertEquals("replyToGroupId", message.replyToGroupId());
     }
 
+    @Test
+    public void testCreateFromByteBufferWrapsWithoutCopy() throws ClientException {
+        final ByteBuffer payload = ByteBuffer.allocateDirect(4);
+        payload.put(new byte[] { 0, 1, 2, 3 }).flip();
+        payload.position(1);
+
+        Message<byte[]> message = Message.create(payload);
+
+        payload.put(3, (byte) 42);
+
+        assertArrayEquals(new byte[] { 1, 2, 42 }, message.body());
+        assertEquals(1, payload.position());
+
+        Message<?> decoded = ClientMessageSupport.decodeMessage(message.toAdvancedMessage().encode(null), null);
+
+        assertArrayEquals(new byte[] { 1, 2, 42 }, (byte[]) decoded.body());
+    }
+
+    @Test
+    public void testBodyBufferViewOfDecodedDataSections() throws ClientException {
+        ClientMessage<byte[]> message = ClientMessage.createAdvancedMessage();
+
+        message.addBodySection(new Data(new byte[] { 1, 2 }));
+        message.addBodySection(new Data(new byte[] { 3 }));
+        message.addBodySection(new Data(new byte[] { 4, 5 }));
+
+        final ProtonBuffer encoded = message.encode(null);
+        final AdvancedMessage<?> decoded = (AdvancedMessage<?>) ClientMessageSupport.decodeMessage(encoded, null);
+
+        ProtonBuffer body = decoded.bodyBuffer();
+
+        assertEquals(5, body.getReadableBytes());
+        for (int i = 1; i <= 5; ++i) {
+            assertEquals(i, body.readByte());
+        }
+
+        // Reading the view does not consume the message body
+        assertEquals(5, decoded.bodyBuffer().getReadableBytes());
+
+        // Decoded sections are views into the received payload
+        encoded.setByte(encoded.getWriteIndex() - 1, 42);
+        assertEquals(42, decoded.bodyBuffer().getByte(4));
+
+        final ByteBuffer byteBuffer = decoded.bodyByteBuffer();
+
+        assertTrue(byteBuffer.isReadOnly());
+        assertEquals(5, byteBuffer.remaining());
+        assertEquals(42, byteBuffer.get(4));
+    }
+
+    @Test
+    public void testBodyBufferWithProtonBufferBody() throws ClientException {
+        ProtonBuffer payload = ProtonByteBufferAllocator.DEFAULT.wrap(new byte[] { 1, 2, 3 });
+        AdvancedMessage<byte[]> message = AdvancedMessage.create(payload);
+
+        assertNotNull(message.bodyBuffer());
+        assertEquals(payload, message.bodyBuffer());
+        assertEquals(3, message.bodyByteBuffer().remaining());
+        assertNull(AdvancedMessage.create().bodyBuffer());
+        assertNull(Message.create().bodyByteBuffer());
+    }
+
+    @Test
+    public void testBodyBufferFailsWhenBodyIsNotData() throws ClientException {
+        Message<String> message = Message.create("test");
+
+        assertThrows(ClientException.class, () -> message.bodyByteBuffer());
+        assertThrows(ClientException.class, () -> message.toAdvancedMessage().bodyBuffer());
+    }
+
     @Test
     public void testBodySetGet() {
         ClientMessage<String> message = ClientMessage.create();
@@ -640,4 +719,96 @@ class ClientMessageTest {
             fail("Should not be any remaining footers");
         });
     }
+
+    @Test
+    public void testEncodeIntoAllocatorBufferMatchesDefaultEncoding() throws ClientException {
+        ClientMessage<String> message = ClientMessage.create(new AmqpValue<>("test"));
+
+        message.durable(true);
+        message.messageId("ID:1");
+        message.property("key", "value");
+
+        final ProtonBuffer expected = message.encode(Collections.singletonMap("da", "value"));
+
+        for (int i = 0; i < 3; ++i) {
+            final ProtonBuffer encoded = ClientMessageSupport.encodeMessage(
+                ProtonNettyByteBufferAllocator.DEFAULT, 8, message, Collections.singletonMap("da", "value"));
+
+            assertTrue(encoded instanceof ProtonNettyByteBuffer);
+            assertEquals(expected, encoded);
+
+            assertTrue(((ProtonNettyByteBuffer) encoded).unwrap().release());
+        }
+    }
+
+    @Test
+    public void testTemplateMessageEncodingMatchesFullEncoding() throws ClientException {
+        Message<byte[]> prototype = Message.create((byte[]) null);
+
+        prototype.durable(true);
+        prototype.priority((byte) 7);
+        prototype.annotation("x-opt-source", "sensor-1");
+        prototype.to("telemetry");
+        prototype.subject("reading");
+        prototype.contentType("application/octet-stream");
+        prototype.groupId("group");
+        prototype.property("region", "east");
+        prototype.footer("checksum", "none");
+
+        MessageTemplate<byte[]> template = MessageTemplate.create(prototype);
+
+        // Message ids of differing encoded widths change the size of the Properties list
+        final Object[] messageIds = new Object[] { "ID:1", "ID:" + new String(new char[300]).replace('\0', 'x'),
+                                                   new UnsignedLong(1), null };
+
+        for (int i = 0; i < messageIds.length; ++i) {
+            final byte[] body = new byte[] { 1, 2, 3, (byte) i };
+            final long creationTime = 1_000_000L + i;
+
+            Message<byte[]> expected = Message.create(body);
+            expected.durable(true);
+            expected.priority((byte) 7);
+            expected.annotation("x-opt-source", "sensor-1");
+            expected.messageId(messageIds[i]);
+            expected.to("telemetry");
+            expected.subject("reading");
+            expected.contentType("application/octet-stream");
+            expected.creationTime(creationTime);
+            expected.groupId("group");
+            expected.property("region", "east");
+            expected.footer("checksum", "none");
+
+            Message<byte[]> message = template.message(messageIds[i], creationTime, body);
+
+            assertEquals(messageIds[i], message.messageId());
+            assertEquals(creationTime, message.creationTime());
+            assertArrayEquals(body, message.body());
+            assertEquals(expected.toAdvancedMessage().encode(Collections.singletonMap("da", "value")),
+                         message.toAdvancedMessage().encode(Collections.singletonMap("da", "value")));
+            assertEquals(expected.toAdvancedMessage().encode(null), message.toAdvancedMessage().encode(null));
+        }
+    }
+
+    @Test
+    public void testTemplateWithoutPropertiesDecodesWithPatchedValues() throws ClientException {
+        MessageTemplate<String> template = MessageTemplate.create(Message.create().durable(true));
+
+        Message<String> message = template.message("ID:2", 42, "Hello");
+        Message<?> decoded = ClientMessageSupport.decodeMessage(message.toAdvancedMessage().encode(null), null);
+
+        assertTrue(decoded.durable());
+        assertEquals("ID:2", decoded.messageId());
+        assertEquals(42, decoded.creationTime());
+        assertEquals("Hello", decoded.body());
+    }
+
+    @Test
+    public void testTemplateMessageRejectsChangesToTemplateSections() throws ClientException {
+        MessageTemplate<String> template = MessageTemplate.create(Message.create().durable(true));
+
+        Message<String> message = template.message("ID:1", "Hello");
+        message.subject("changed");
+
+        assertThrows(ClientUnsupportedOperationException.class, () -> message.toAdvancedMessage().encode(null));
+    }
 }
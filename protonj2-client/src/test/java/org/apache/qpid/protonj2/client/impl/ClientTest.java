@@ -17,8 +17,10 @@
 package org.apache.qpid.protonj2.client.impl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -112,6 +114,20 @@ public class ClientTest extends ImperativeClientTestCase {
         Client.create().close();
     }
 
+    @Test
+    public void testClientsShareTimerWhichRemainsRunningWhileAnyClientIsOpen() throws Exception {
+        ClientInstance first = ClientInstance.create();
+        ClientInstance second = ClientInstance.create();
+
+        assertSame(first.timer(), second.timer());
+
+        first.close();
+
+        assertFalse(second.timer().isClosed());
+
+        second.close();
+    }
+
     @Test
     public void testCloseAllConnectionAndWait() throws Exception {
         try (ProtonTestServer firstPeer = new ProtonTestServer();
@@ -0,0 +1,334 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.qpid.protonj2.client.Client;
+import org.apache.qpid.protonj2.client.ConnectionPool;
+import org.apache.qpid.protonj2.client.ConnectionPoolOptions;
+import org.apache.qpid.protonj2.client.Delivery;
+import org.apache.qpid.protonj2.client.DeliveryMode;
+import org.apache.qpid.protonj2.client.LoadBalancingPolicy;
+import org.apache.qpid.protonj2.client.Message;
+import org.apache.qpid.protonj2.client.Receiver;
+import org.apache.qpid.protonj2.client.Sender;
+import org.apache.qpid.protonj2.client.SenderOptions;
+import org.apache.qpid.protonj2.client.Tracker;
+import org.apache.qpid.protonj2.client.exceptions.ClientIllegalStateException;
+import org.apache.qpid.protonj2.client.test.ImperativeClientTestCase;
+import org.apache.qpid.protonj2.client.test.Wait;
+import org.apache.qpid.protonj2.test.driver.ProtonTestServer;
+import org.apache.qpid.protonj2.types.messaging.AmqpValue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@Timeout(20)
+public class ConnectionPoolTest extends ImperativeClientTestCase {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConnectionPoolTest.class);
+
+    @Test
+    public void testCreatePoolRequiresAtLeastOneHost() throws Exception {
+        Client container = Client.create();
+
+        assertThrows(IllegalArgumentException.class, () -> container.openConnectionPool(new ConnectionPoolOptions()));
+        assertThrows(IllegalArgumentException.class, () -> new ConnectionPoolOptions().connectionsPerHost(0));
+
+        container.close();
+    }
+
+    @Test
+    public void testRoundRobinSendsAlternateBetweenPooledConnections() throws Exception {
+        try (ProtonTestServer peer1 = new ProtonTestServer();
+             ProtonTestServer peer2 = new ProtonTestServer()) {
+
+            scriptSenderAttach(peer1);
+            scriptSenderAttach(peer2);
+
+            ConnectionPoolOptions options = poolOptions(peer1, peer2).loadBalancingPolicy(LoadBalancingPolicy.ROUND_ROBIN);
+
+            Client container = Client.create();
+            ConnectionPool pool = container.openConnectionPool(options);
+
+            assertEquals(2, pool.connections().size());
+
+            Sender sender = pool.openSender("test-queue");
+            sender.openFuture().get(10, TimeUnit.SECONDS);
+
+            peer1.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer2.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer1.expectTransfer().withNonNullPayload();
+            peer1.expectTransfer().withNonNullPayload();
+            peer2.expectTransfer().withNonNullPayload();
+            peer2.expectTransfer().withNonNullPayload();
+
+            for (int i = 0; i < 4; ++i) {
+                assertNotNull(sender.send(Message.create("Hello World " + i)));
+            }
+
+            peer1.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer2.waitForScriptToComplete(5, TimeUnit.SECONDS);
+
+            scriptClose(peer1);
+            scriptClose(peer2);
+
+            sender.closeAsync().get(10, TimeUnit.SECONDS);
+            pool.closeAsync().get(10, TimeUnit.SECONDS);
+
+            peer1.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer2.waitForScriptToComplete(5, TimeUnit.SECONDS);
+
+            assertThrows(ClientIllegalStateException.class, () -> pool.openSender("test-queue"));
+        }
+    }
+
+    @Test
+    public void testLeastOutstandingSendsAvoidConnectionWithUnsettledDeliveries() throws Exception {
+        try (ProtonTestServer peer1 = new ProtonTestServer();
+             ProtonTestServer peer2 = new ProtonTestServer()) {
+
+            scriptSenderAttach(peer1);
+            scriptSenderAttach(peer2);
+
+            ConnectionPoolOptions options = poolOptions(peer1, peer2).loadBalancingPolicy(LoadBalancingPolicy.LEAST_OUTSTANDING);
+
+            Client container = Client.create();
+            ConnectionPool pool = container.openConnectionPool(options);
+            Sender sender = pool.openSender("test-queue");
+            sender.openFuture().get(10, TimeUnit.SECONDS);
+
+            peer1.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer2.waitForScriptToComplete(5, TimeUnit.SECONDS);
+
+            // First peer never settles so later sends are routed to the second peer which does
+            peer1.expectTransfer().withNonNullPayload();
+            peer2.expectTransfer().withNonNullPayload().respond().withSettled(true).withState().accepted();
+            peer2.expectTransfer().withNonNullPayload().respond().withSettled(true).withState().accepted();
+            peer2.expectTransfer().withNonNullPayload().respond().withSettled(true).withState().accepted();
+
+            Tracker unsettled = sender.send(Message.create("Hello World"));
+            for (int i = 0; i < 3; ++i) {
+                Tracker tracker = sender.send(Message.create("Hello World " + i));
+                tracker.settlementFuture().get(10, TimeUnit.SECONDS);
+                assertTrue(tracker.remoteSettled());
+            }
+
+            peer1.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer2.waitForScriptToComplete(5, TimeUnit.SECONDS);
+
+            assertFalse(unsettled.remoteSettled());
+
+            scriptClose(peer1);
+            scriptClose(peer2);
+
+            sender.closeAsync().get(10, TimeUnit.SECONDS);
+            pool.closeAsync().get(10, TimeUnit.SECONDS);
+
+            peer1.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer2.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testLeastOutstandingPresettledSendsAreNotCountedAsOutstanding() throws Exception {
+        try (ProtonTestServer peer1 = new ProtonTestServer();
+             ProtonTestServer peer2 = new ProtonTestServer()) {
+
+            scriptSenderAttach(peer1);
+            scriptSenderAttach(peer2);
+
+            ConnectionPoolOptions options = poolOptions(peer1, peer2).loadBalancingPolicy(LoadBalancingPolicy.LEAST_OUTSTANDING);
+
+            Client container = Client.create();
+            ConnectionPool pool = container.openConnectionPool(options);
+            Sender sender = pool.openSender("test-queue", new SenderOptions().deliveryMode(DeliveryMode.AT_MOST_ONCE));
+            sender.openFuture().get(10, TimeUnit.SECONDS);
+
+            peer1.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer2.waitForScriptToComplete(5, TimeUnit.SECONDS);
+
+            peer1.expectTransfer().withNonNullPayload().withSettled(true);
+            peer1.expectTransfer().withNonNullPayload().withSettled(true);
+            peer2.expectTransfer().withNonNullPayload().withSettled(true);
+            peer2.expectTransfer().withNonNullPayload().withSettled(true);
+
+            for (int i = 0; i < 4; ++i) {
+                Tracker tracker = sender.send(Message.create("Hello World " + i));
+                assertTrue(tracker.settled());
+            }
+
+            peer1.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer2.waitForScriptToComplete(5, TimeUnit.SECONDS);
+
+            // Neither link is held back by presettled sends that will never be settled remotely
+            assertEquals(0, ((ClientPooledSender) sender).outstanding());
+
+            scriptClose(peer1);
+            scriptClose(peer2);
+
+            sender.closeAsync().get(10, TimeUnit.SECONDS);
+            pool.closeAsync().get(10, TimeUnit.SECONDS);
+
+            peer1.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer2.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testFailedConnectionIsRemovedAndSendsUseRemainingConnections() throws Exception {
+        try (ProtonTestServer peer1 = new ProtonTestServer();
+             ProtonTestServer peer2 = new ProtonTestServer()) {
+
+            scriptSenderAttach(peer1);
+            peer1.dropAfterLastHandler(10);
+            scriptSenderAttach(peer2);
+
+            // Replacement is delayed beyond the life of the test so only failure handling is exercised
+            ConnectionPoolOptions options = poolOptions(peer1, peer2).loadBalancingPolicy(LoadBalancingPolicy.ROUND_ROBIN)
+                                                                     .replacementDelay(60_000);
+
+            Client container = Client.create();
+            ConnectionPool pool = container.openConnectionPool(options);
+            Sender sender = pool.openSender("test-queue");
+
+            peer1.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer2.waitForScriptToComplete(5, TimeUnit.SECONDS);
+
+            Wait.assertTrue("Failed connection should be removed from the pool", () -> pool.connections().size() == 1, 10_000, 10);
+
+            peer2.expectTransfer().withNonNullPayload();
+            peer2.expectTransfer().withNonNullPayload();
+
+            sender.send(Message.create("Hello World 1"));
+            sender.send(Message.create("Hello World 2"));
+
+            peer2.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer2.expectClose().respond();
+
+            pool.closeAsync().get(10, TimeUnit.SECONDS);
+
+            peer2.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testReceiveReturnsDeliveriesArrivingOnEachPooledConnection() throws Exception {
+        final byte[] payload = createEncodedMessage(new AmqpValue<>("Hello World"));
+
+        try (ProtonTestServer peer1 = new ProtonTestServer();
+             ProtonTestServer peer2 = new ProtonTestServer()) {
+
+            scriptReceiverAttach(peer1);
+            scriptReceiverAttach(peer2);
+
+            Client container = Client.create();
+            ConnectionPool pool = container.openConnectionPool(poolOptions(peer1, peer2));
+            Receiver receiver = pool.openReceiver("test-queue");
+            receiver.openFuture().get(10, TimeUnit.SECONDS);
+
+            peer1.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer2.waitForScriptToComplete(5, TimeUnit.SECONDS);
+
+            assertNull(receiver.tryReceive());
+            assertNull(receiver.receive(10, TimeUnit.MILLISECONDS));
+
+            peer1.expectDisposition().withSettled(true).withState().accepted();
+            peer2.expectDisposition().withSettled(true).withState().accepted();
+
+            peer2.remoteTransfer().withHandle(0)
+                                  .withDeliveryId(0)
+                                  .withDeliveryTag(new byte[] { 1 })
+                                  .withMessageFormat(0)
+                                  .withPayload(payload).later(10);
+            peer1.remoteTransfer().withHandle(0)
+                                  .withDeliveryId(0)
+                                  .withDeliveryTag(new byte[] { 1 })
+                                  .withMessageFormat(0)
+                                  .withPayload(payload).later(50);
+
+            for (int i = 0; i < 2; ++i) {
+                Delivery delivery = receiver.receive(10, TimeUnit.SECONDS);
+                assertNotNull(delivery);
+                assertEquals("Hello World", delivery.message().body());
+            }
+
+            assertNull(receiver.tryReceive());
+
+            peer1.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer2.waitForScriptToComplete(5, TimeUnit.SECONDS);
+
+            peer1.expectDetach().respond();
+            peer2.expectDetach().respond();
+            peer1.expectClose().respond();
+            peer2.expectClose().respond();
+
+            receiver.closeAsync().get(10, TimeUnit.SECONDS);
+            pool.closeAsync().get(10, TimeUnit.SECONDS);
+
+            peer1.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer2.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private ConnectionPoolOptions poolOptions(ProtonTestServer... peers) {
+        ConnectionPoolOptions options = new ConnectionPoolOptions();
+
+        for (ProtonTestServer peer : peers) {
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Connection pool test peer listening on: {}", remoteURI);
+
+            options.addHost(remoteURI.getHost(), remoteURI.getPort());
+        }
+
+        return options;
+    }
+
+    private static void scriptSenderAttach(ProtonTestServer peer) {
+        peer.expectSASLAnonymousConnect();
+        peer.expectOpen().respond();
+        peer.expectBegin().respond();
+        peer.expectAttach().ofSender().respond();
+        peer.remoteFlow().withLinkCredit(10).queue();
+    }
+
+    private static void scriptReceiverAttach(ProtonTestServer peer) {
+        peer.expectSASLAnonymousConnect();
+        peer.expectOpen().respond();
+        peer.expectBegin().respond();
+        peer.expectAttach().ofReceiver().respond();
+        peer.expectFlow().withLinkCredit(10);
+    }
+
+    private static void scriptClose(ProtonTestServer peer) {
+        peer.expectDetach().respond();
+        peer.expectClose().respond();
+    }
+}
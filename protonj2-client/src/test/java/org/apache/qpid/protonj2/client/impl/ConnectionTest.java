@@ -19,6 +19,7 @@ package org.apache.qpid.protonj2.client.impl;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -29,6 +30,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.qpid.protonj2.client.Client;
@@ -36,8 +38,10 @@ import org.apache.qpid.protonj2.client.ClientOptions;
 import org.apache.qpid.protonj2.client.Connection;
 import org.apache.qpid.protonj2.client.ConnectionOptions;
 import org.apache.qpid.protonj2.client.ErrorCondition;
+import org.apache.qpid.protonj2.client.Message;
 import org.apache.qpid.protonj2.client.Receiver;
 import org.apache.qpid.protonj2.client.Sender;
+import org.apache.qpid.protonj2.client.SenderOptions;
 import org.apache.qpid.protonj2.client.Session;
 import org.apache.qpid.protonj2.client.exceptions.ClientConnectionRedirectedException;
 import org.apache.qpid.protonj2.client.exceptions.ClientConnectionRemotelyClosedException;
@@ -321,6 +325,31 @@ public class ConnectionTest extends ImperativeClientTestCase {
         }
     }
 
+    @Test
+    public void testCreateConnectionWithOffloadedSASLPlainResponse() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer(testServerOptions())) {
+            peer.expectSASLPlainConnect("user", "pass");
+            peer.expectOpen().respond();
+            peer.expectClose().respond();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Connect test started, peer listening on: {}", remoteURI);
+
+            ConnectionOptions options = connectionOptions("user", "pass");
+            options.saslOptions().offloadResponses(true);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort(), options);
+
+            connection.openFuture().get(10, TimeUnit.SECONDS);
+            connection.closeAsync().get(10, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
     @Test
     public void testCreateConnectionWithCredentialsChoosesSASLPlainIfOffered() throws Exception {
         try (ProtonTestServer peer = new ProtonTestServer(testServerOptions())) {
@@ -1275,4 +1304,204 @@ public class ConnectionTest extends ImperativeClientTestCase {
     protected ConnectionOptions connectionOptions(String user, String password) {
         return new ConnectionOptions().user(user).password(password);
     }
+
+    @Test
+    public void testCachedSenderReusesSenderForSameAddress() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().ofSender().withTarget().withAddress("address-1").and().respond();
+            peer.expectAttach().ofSender().withTarget().withAddress("address-2").and().respond();
+            peer.expectAttach().ofSender().withTarget().withAddress("address-1").and().respond();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+
+            final SenderOptions options = new SenderOptions();
+
+            Sender sender1 = connection.cachedSender("address-1");
+            Sender sender2 = connection.cachedSender("address-2");
+            Sender sender3 = connection.cachedSender("address-1", options);
+
+            assertSame(sender1, connection.cachedSender("address-1"));
+            assertSame(sender2, connection.cachedSender("address-2"));
+            assertSame(sender3, connection.cachedSender("address-1", options));
+            assertNotSame(sender1, sender2);
+            assertNotSame(sender1, sender3);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectClose().respond();
+
+            connection.closeAsync().get(10, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testCachedSenderKeysOnSenderOptionValues() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().ofSender().withTarget().withAddress("address-1").and().respond();
+            peer.expectAttach().ofSender().withName("custom").withTarget().withAddress("address-1").and().respond();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+
+            final SenderOptions options = new SenderOptions();
+            options.targetOptions().capabilities("queue");
+
+            Sender sender1 = connection.cachedSender("address-1", options);
+
+            assertSame(sender1, connection.cachedSender("address-1", options.clone()));
+
+            options.linkName("custom");
+
+            Sender sender2 = connection.cachedSender("address-1", options);
+
+            assertNotSame(sender1, sender2);
+            assertSame(sender2, connection.cachedSender("address-1", options.clone()));
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectClose().respond();
+
+            connection.closeAsync().get(10, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testCachedSenderEvictsLeastRecentlyUsedSender() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().ofSender().withTarget().withAddress("address-1").and().respond();
+            peer.expectAttach().ofSender().withTarget().withAddress("address-2").and().respond();
+            peer.expectAttach().ofSender().withTarget().withAddress("address-3").and().respond();
+            peer.expectDetach().withClosed(true).withHandle(1).respond();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            ConnectionOptions options = new ConnectionOptions().senderCacheSize(2);
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort(), options);
+
+            Sender sender1 = connection.cachedSender("address-1");
+            Sender sender2 = connection.cachedSender("address-2");
+
+            sender2.openFuture().get();
+
+            // Touch the first so that the second is the least recently used
+            assertSame(sender1, connection.cachedSender("address-1"));
+
+            Sender sender3 = connection.cachedSender("address-3");
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+
+            assertSame(sender1, connection.cachedSender("address-1"));
+            assertSame(sender3, connection.cachedSender("address-3"));
+
+            peer.expectClose().respond();
+
+            connection.closeAsync().get(10, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testCachedSenderClosesIdleSenders() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().ofSender().withTarget().withAddress("address-1").and().respond();
+            peer.expectDetach().withClosed(true).withHandle(0).respond();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            ConnectionOptions options = new ConnectionOptions().senderCacheIdleTimeout(50);
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort(), options);
+
+            Sender sender = connection.cachedSender("address-1");
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectAttach().ofSender().withTarget().withAddress("address-1").and().respond();
+
+            assertNotSame(sender, connection.cachedSender("address-1"));
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectClose().respond();
+
+            connection.closeAsync().get(10, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testCachedSenderQueuesSendsWhileAttachIsInFlight() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().ofSender().withTarget().withAddress("address-1").and();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+
+            final Sender sender = connection.cachedSender("address-1");
+            final CountDownLatch sent = new CountDownLatch(1);
+
+            ForkJoinPool.commonPool().execute(() -> {
+                try {
+                    sender.send(Message.create("Hello World"));
+                    sent.countDown();
+                } catch (ClientException e) {
+                    LOG.info("Send failed with error: ", e);
+                }
+            });
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectTransfer().withNonNullPayload();
+            peer.respondToLastAttach().now();
+            peer.remoteFlow().withLinkCredit(10).now();
+
+            assertTrue(sent.await(10, TimeUnit.SECONDS));
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectClose().respond();
+
+            connection.closeAsync().get(10, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
 }
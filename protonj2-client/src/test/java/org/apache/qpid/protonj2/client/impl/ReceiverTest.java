@@ -23,9 +23,11 @@ import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
 
 import org.apache.qpid.protonj2.client.AdvancedMessage;
 import org.apache.qpid.protonj2.client.Client;
+import org.apache.qpid.protonj2.client.ClientOptions;
 import org.apache.qpid.protonj2.client.Connection;
 import org.apache.qpid.protonj2.client.ConnectionOptions;
 import org.apache.qpid.protonj2.client.Delivery;
@@ -45,6 +47,7 @@ import org.apache.qpid.protonj2.client.exceptions.ClientException;
 import org.apache.qpid.protonj2.client.exceptions.ClientIOException;
 import org.apache.qpid.protonj2.client.exceptions.ClientIllegalStateException;
 import org.apache.qpid.protonj2.client.exceptions.ClientLinkRemotelyClosedException;
+import org.apache.qpid.protonj2.client.exceptions.ClientMessageFormatViolationException;
 import org.apache.qpid.protonj2.client.exceptions.ClientOperationTimedOutException;
 import org.apache.qpid.protonj2.client.test.ImperativeClientTestCase;
 import org.apache.qpid.protonj2.test.driver.ProtonTestServer;
@@ -54,6 +57,7 @@ import org.apache.qpid.protonj2.test.driver.codec.messaging.TerminusDurability;
 import org.apache.qpid.protonj2.test.driver.codec.messaging.TerminusExpiryPolicy;
 import org.apache.qpid.protonj2.types.messaging.AmqpValue;
 import org.apache.qpid.protonj2.types.messaging.Data;
+import org.apache.qpid.protonj2.types.messaging.Properties;
 import org.apache.qpid.protonj2.types.messaging.Section;
 import org.apache.qpid.protonj2.types.transport.AmqpError;
 import org.apache.qpid.protonj2.types.transport.ReceiverSettleMode;
@@ -2041,6 +2045,49 @@ public class ReceiverTest extends ImperativeClientTestCase {
         }
     }
 
+    @Test
+    public void testBlockingReceiveWithParkingFutureTypeWakesOnArrival() throws Exception {
+        final byte[] payload = createEncodedMessage(new AmqpValue<>("Hello World"));
+
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).respond();
+            peer.expectFlow().withLinkCredit(10);
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create(new ClientOptions().id("parking-client").futureType("parking"));
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            Session session = connection.openSession();
+            Receiver receiver = session.openReceiver("test-queue");
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.remoteTransfer().withHandle(0)
+                                 .withDeliveryId(0)
+                                 .withDeliveryTag(new byte[] { 1 })
+                                 .withMore(false)
+                                 .withSettled(true)
+                                 .withMessageFormat(0)
+                                 .withPayload(payload).later(30);
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+
+            Delivery delivery = receiver.receive();
+            assertNotNull(delivery);
+            assertEquals("Hello World", delivery.message().body());
+
+            receiver.closeAsync();
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
     @Test
     public void testSessionWindowExpandedAsIncomingFramesArrive() throws Exception {
         final byte[] payload1 = new byte[255];
@@ -2260,4 +2307,126 @@ public class ReceiverTest extends ImperativeClientTestCase {
             peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
         }
     }
+
+    @Test
+    public void testReceiveCompressedMessageIsInflatedWhenCompressionNegotiated() throws Exception {
+        final byte[] body = new byte[4096];
+        Arrays.fill(body, (byte) 'a');
+
+        final Deflater deflater = new Deflater();
+        deflater.setInput(body);
+        deflater.finish();
+        final byte[] compressed = new byte[body.length];
+        final int compressedLength = deflater.deflate(compressed);
+        deflater.end();
+
+        final byte[] payload = createEncodedMessage(
+            new Properties().setContentEncoding("deflate"), new Data(Arrays.copyOf(compressed, compressedLength)));
+
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().withDesiredCapabilities("ANONYMOUS-RELAY", "DEFLATE-PAYLOAD")
+                             .respond()
+                             .withOfferedCapabilities("DEFLATE-PAYLOAD");
+            peer.expectBegin().respond();
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).respond();
+            peer.expectFlow().withLinkCredit(10);
+            peer.remoteTransfer().withHandle(0)
+                                 .withDeliveryId(0)
+                                 .withDeliveryTag(new byte[] { 1 })
+                                 .withMore(false)
+                                 .withSettled(true)
+                                 .withMessageFormat(0)
+                                 .withPayload(payload).queue();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            ConnectionOptions options = new ConnectionOptions().payloadCompression(true);
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort(), options);
+            Receiver receiver = connection.openReceiver("test-queue");
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+
+            Delivery delivery = receiver.receive(10, TimeUnit.SECONDS);
+            assertNotNull(delivery);
+
+            Message<Object> message = delivery.message();
+            assertNotNull(message);
+            assertNull(message.contentEncoding());
+            assertArrayEquals(body, (byte[]) message.body());
+
+            receiver.closeAsync().get(10, TimeUnit.SECONDS);
+            connection.closeAsync().get(10, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testReceiveCompressedMessageFailsWhenInflatedSizeExceedsLimit() throws Exception {
+        final byte[] body = new byte[4096];
+        Arrays.fill(body, (byte) 'a');
+
+        final Deflater deflater = new Deflater();
+        deflater.setInput(body);
+        deflater.finish();
+        final byte[] compressed = new byte[body.length];
+        final int compressedLength = deflater.deflate(compressed);
+        deflater.end();
+
+        final byte[] payload = createEncodedMessage(
+            new Properties().setContentEncoding("deflate"), new Data(Arrays.copyOf(compressed, compressedLength)));
+
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().withDesiredCapabilities("ANONYMOUS-RELAY", "DEFLATE-PAYLOAD")
+                             .respond()
+                             .withOfferedCapabilities("DEFLATE-PAYLOAD");
+            peer.expectBegin().respond();
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).respond();
+            peer.expectFlow().withLinkCredit(10);
+            peer.remoteTransfer().withHandle(0)
+                                 .withDeliveryId(0)
+                                 .withDeliveryTag(new byte[] { 1 })
+                                 .withMore(false)
+                                 .withSettled(true)
+                                 .withMessageFormat(0)
+                                 .withPayload(payload).queue();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            ConnectionOptions options = new ConnectionOptions().payloadCompression(true).payloadDecompressionLimit(1024);
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort(), options);
+            Receiver receiver = connection.openReceiver("test-queue");
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+
+            Delivery delivery = receiver.receive(10, TimeUnit.SECONDS);
+            assertNotNull(delivery);
+
+            try {
+                delivery.message();
+                fail("Should not decompress a body larger than the configured limit");
+            } catch (ClientMessageFormatViolationException ex) {
+                LOG.debug("Receive failed as expected: ", ex);
+            }
+
+            receiver.closeAsync().get(10, TimeUnit.SECONDS);
+            connection.closeAsync().get(10, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
 }
@@ -29,6 +29,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import org.apache.qpid.protonj2.client.Client;
 import org.apache.qpid.protonj2.client.Connection;
 import org.apache.qpid.protonj2.client.ConnectionOptions;
+import org.apache.qpid.protonj2.client.Sender;
 import org.apache.qpid.protonj2.client.Session;
 import org.apache.qpid.protonj2.client.exceptions.ClientConnectionSecurityException;
 import org.apache.qpid.protonj2.client.exceptions.ClientConnectionSecuritySaslException;
@@ -577,6 +578,67 @@ public class ReconnectTest extends ImperativeClientTestCase {
         }
     }
 
+    @Test
+    public void testWarmStandbyIsUsedToRecoverWhenConnectionDrops() throws Exception {
+        try (ProtonTestServer firstPeer = new ProtonTestServer();
+             ProtonTestServer finalPeer = new ProtonTestServer()) {
+
+            firstPeer.expectSASLAnonymousConnect();
+            firstPeer.expectOpen().respond();
+            firstPeer.expectBegin().respond();
+            firstPeer.expectAttach().ofSender().respond();
+            firstPeer.start();
+
+            finalPeer.expectSASLAnonymousConnect();
+            finalPeer.start();
+
+            final URI primaryURI = firstPeer.getServerURI();
+            final URI backupURI = finalPeer.getServerURI();
+
+            final CountDownLatch reconnected = new CountDownLatch(1);
+            final AtomicReference<String> connectedHost = new AtomicReference<>();
+            final AtomicReference<Integer> connectedPort = new AtomicReference<>();
+
+            ConnectionOptions options = new ConnectionOptions();
+            options.reconnectOptions().reconnectEnabled(true);
+            options.reconnectOptions().warmStandby(true);
+            options.reconnectOptions().addReconnectHost(backupURI.getHost(), backupURI.getPort());
+            options.reconnectedHandler((connection, event) -> {
+                connectedHost.set(event.host());
+                connectedPort.set(event.port());
+                reconnected.countDown();
+            });
+
+            Client container = Client.create();
+            Connection connection = container.connect(primaryURI.getHost(), primaryURI.getPort(), options);
+            Sender sender = connection.openSender("test");
+
+            sender.openFuture().get();
+
+            firstPeer.waitForScriptToComplete();
+            // The standby has authenticated with the backup but must not have sent an Open yet
+            finalPeer.waitForScriptToComplete();
+            finalPeer.expectOpen().respond();
+            finalPeer.expectBegin().respond();
+            finalPeer.expectAttach().ofSender().withTarget().withAddress("test").and().respond();
+
+            firstPeer.close();
+
+            assertTrue(reconnected.await(5, TimeUnit.SECONDS));
+            assertEquals(backupURI.getHost(), connectedHost.get());
+            assertEquals(backupURI.getPort(), connectedPort.get());
+
+            finalPeer.waitForScriptToComplete();
+            finalPeer.expectDetach().respond();
+            finalPeer.expectClose().respond();
+
+            sender.close();
+            connection.close();
+
+            finalPeer.waitForScriptToComplete();
+        }
+    }
+
     @Test
     public void testInitialReconnectDelayDoesNotApplyToInitialConnect() throws Exception {
         try (ProtonTestServer peer = new ProtonTestServer()) {
@@ -22,6 +22,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.Deflater;
 
 import org.apache.qpid.protonj2.client.Client;
 import org.apache.qpid.protonj2.client.Connection;
@@ -53,6 +54,8 @@ import org.apache.qpid.protonj2.test.driver.ProtonTestServer;
 import org.apache.qpid.protonj2.test.driver.codec.messaging.Released;
 import org.apache.qpid.protonj2.test.driver.codec.messaging.TerminusDurability;
 import org.apache.qpid.protonj2.test.driver.codec.messaging.TerminusExpiryPolicy;
+import org.apache.qpid.protonj2.types.messaging.Data;
+import org.apache.qpid.protonj2.types.messaging.Properties;
 import org.apache.qpid.protonj2.types.transport.AmqpError;
 import org.apache.qpid.protonj2.types.transport.LinkError;
 import org.apache.qpid.protonj2.types.transport.ReceiverSettleMode;
@@ -1775,7 +1778,6 @@ public class SenderTest extends ImperativeClientTestCase {
             });
 
             peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
-            peer.remoteFlow().withIncomingWindow(1).withNextIncomingId(1).withLinkCredit(10).now();
             peer.expectTransfer().withNonNullPayload().withMore(true);
             peer.remoteFlow().withIncomingWindow(1).withNextIncomingId(2).withLinkCredit(10).queue();
             peer.expectTransfer().withNonNullPayload().withMore(true);
@@ -1785,6 +1787,8 @@ public class SenderTest extends ImperativeClientTestCase {
             peer.expectTransfer().withNonNullPayload().withMore(true);
             peer.remoteFlow().withIncomingWindow(1).withNextIncomingId(5).withLinkCredit(10).queue();
             peer.expectTransfer().withNonNullPayload().withMore(false).accept();
+            // Expectations must be in place before the first flow lets the sender write.
+            peer.remoteFlow().withIncomingWindow(1).withNextIncomingId(1).withLinkCredit(10).now();
 
             peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
             peer.expectDetach().respond();
@@ -1914,10 +1918,11 @@ public class SenderTest extends ImperativeClientTestCase {
             });
 
             peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
-            peer.remoteFlow().withIncomingWindow(1).withDeliveryCount(0).withNextIncomingId(1).withLinkCredit(1).now();
             peer.expectTransfer().withNonNullPayload().withMore(false).respond().withSettled(true).withState().accepted();
             peer.remoteFlow().withIncomingWindow(1).withDeliveryCount(1).withNextIncomingId(2).withLinkCredit(1).queue();
             peer.expectTransfer().withNonNullPayload().withMore(false).respond().withSettled(true).withState().accepted();
+            // Expectations must be in place before the first flow lets the sender write.
+            peer.remoteFlow().withIncomingWindow(1).withDeliveryCount(0).withNextIncomingId(1).withLinkCredit(1).now();
 
             assertTrue(send2Completed.await(10, TimeUnit.SECONDS));
 
@@ -1984,7 +1989,6 @@ public class SenderTest extends ImperativeClientTestCase {
             });
 
             peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
-            peer.remoteFlow().withIncomingWindow(1).withDeliveryCount(0).withNextIncomingId(1).withLinkCredit(1).now();
             peer.expectTransfer().withNonNullPayload().withMore(true);
             peer.remoteFlow().withIncomingWindow(1).withDeliveryCount(0).withNextIncomingId(2).withLinkCredit(1).queue();
             peer.expectTransfer().withNonNullPayload().withMore(false).respond().withSettled(true).withState().accepted();
@@ -1992,6 +1996,8 @@ public class SenderTest extends ImperativeClientTestCase {
             peer.expectTransfer().withNonNullPayload().withMore(true);
             peer.remoteFlow().withIncomingWindow(1).withDeliveryCount(1).withNextIncomingId(4).withLinkCredit(1).queue();
             peer.expectTransfer().withNonNullPayload().withMore(false).respond().withSettled(true).withState().accepted();
+            // Expectations must be in place before the first flow lets the sender write.
+            peer.remoteFlow().withIncomingWindow(1).withDeliveryCount(0).withNextIncomingId(1).withLinkCredit(1).now();
 
             assertTrue(send2Completed.await(10, TimeUnit.SECONDS));
 
@@ -2240,4 +2246,64 @@ public class SenderTest extends ImperativeClientTestCase {
             peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
         }
     }
+
+    @Test
+    public void testSendCompressesLargeBodyWhenRemoteOffersCompression() throws Exception {
+        final byte[] body = new byte[4096];
+        Arrays.fill(body, (byte) 'a');
+
+        final Deflater deflater = new Deflater();
+        deflater.setInput(body);
+        deflater.finish();
+        final byte[] compressed = new byte[body.length];
+        final int compressedLength = deflater.deflate(compressed);
+        deflater.end();
+
+        final byte[] expectedCompressed = createEncodedMessage(
+            new Properties().setContentEncoding("deflate"), new Data(Arrays.copyOf(compressed, compressedLength)));
+        final byte[] expectedUncompressed = createEncodedMessage(new Data(new byte[] { 1, 2, 3 }));
+
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().withOfferedCapabilities("DEFLATE-PAYLOAD")
+                             .withDesiredCapabilities("ANONYMOUS-RELAY", "DEFLATE-PAYLOAD")
+                             .respond()
+                             .withOfferedCapabilities("DEFLATE-PAYLOAD");
+            peer.expectBegin().respond();
+            peer.expectAttach().ofSender().respond();
+            peer.remoteFlow().withLinkCredit(10).queue();
+            peer.expectTransfer().withPayload(expectedCompressed).accept();
+            peer.expectTransfer().withPayload(expectedUncompressed).accept();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Sender test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            ConnectionOptions options = new ConnectionOptions().payloadCompression(true);
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort(), options);
+            // Compression is only applied once the remote has offered the capability
+            connection.openFuture().get(10, TimeUnit.SECONDS);
+            Sender sender = connection.openSender("test-queue");
+
+            final Message<byte[]> message = Message.create(body);
+
+            sender.send(message).awaitSettlement(10, TimeUnit.SECONDS);
+            sender.send(Message.create(new byte[] { 1, 2, 3 })).awaitSettlement(10, TimeUnit.SECONDS);
+
+            // The application message is not modified by the compression applied on send
+            assertNull(message.contentEncoding());
+            assertEquals(body, message.body());
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+
+            sender.closeAsync().get(10, TimeUnit.SECONDS);
+            connection.closeAsync().get(10, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
 }
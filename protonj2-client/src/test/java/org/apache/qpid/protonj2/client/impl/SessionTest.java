@@ -18,6 +18,8 @@ package org.apache.qpid.protonj2.client.impl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -30,14 +32,21 @@ import java.util.concurrent.TimeUnit;
 import org.apache.qpid.protonj2.client.Client;
 import org.apache.qpid.protonj2.client.Connection;
 import org.apache.qpid.protonj2.client.ConnectionOptions;
+import org.apache.qpid.protonj2.client.Delivery;
 import org.apache.qpid.protonj2.client.ErrorCondition;
+import org.apache.qpid.protonj2.client.NextReceiverPolicy;
+import org.apache.qpid.protonj2.client.Receiver;
+import org.apache.qpid.protonj2.client.ReceiverOptions;
 import org.apache.qpid.protonj2.client.Session;
 import org.apache.qpid.protonj2.client.SessionOptions;
 import org.apache.qpid.protonj2.client.exceptions.ClientException;
 import org.apache.qpid.protonj2.client.exceptions.ClientIOException;
 import org.apache.qpid.protonj2.client.test.ImperativeClientTestCase;
+import org.apache.qpid.protonj2.client.test.Wait;
 import org.apache.qpid.protonj2.test.driver.ProtonTestServer;
+import org.apache.qpid.protonj2.types.messaging.AmqpValue;
 import org.apache.qpid.protonj2.types.transport.AmqpError;
+import org.apache.qpid.protonj2.types.transport.Role;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 import org.slf4j.Logger;
@@ -529,4 +538,235 @@ public class SessionTest extends ImperativeClientTestCase {
             peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
         }
     }
+
+    @Test
+    public void testNextReceiverTimesOutWhenNoDeliveriesArrive() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).respond();
+            peer.expectFlow().withLinkCredit(10);
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            Session session = connection.openSession();
+            Receiver receiver = session.openReceiver("test-queue");
+            receiver.openFuture().get();
+
+            assertNull(session.nextReceiver(0, TimeUnit.MILLISECONDS));
+            assertNull(session.nextReceiver(10, TimeUnit.MILLISECONDS));
+            assertNull(session.nextReceiver(NextReceiverPolicy.FIRST_AVAILABLE, 10, TimeUnit.MILLISECONDS));
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDetach().respond();
+            peer.expectEnd().respond();
+            peer.expectClose().respond();
+
+            receiver.close();
+            session.close();
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testNextReceiverWaitsForDeliveryOnAnyReceiver() throws Exception {
+        final byte[] payload = createEncodedMessage(new AmqpValue<>("Hello World"));
+
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).respond();
+            peer.expectFlow().withLinkCredit(10);
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).respond();
+            peer.expectFlow().withLinkCredit(10);
+            peer.remoteTransfer().withHandle(1)
+                                 .withDeliveryId(0)
+                                 .withDeliveryTag(new byte[] { 1 })
+                                 .withMore(false)
+                                 .withMessageFormat(0)
+                                 .withPayload(payload).afterDelay(50).queue();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            Session session = connection.openSession();
+            Receiver receiver1 = session.openReceiver("test-queue-1").openFuture().get();
+            Receiver receiver2 = session.openReceiver("test-queue-2").openFuture().get();
+
+            assertSame(receiver2, session.nextReceiver());
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDisposition().withSettled(true).withState().accepted();
+            peer.expectDetach().respond();
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+
+            Delivery delivery = receiver2.receive();
+            assertNotNull(delivery);
+            assertEquals("Hello World", delivery.message().body());
+            assertNull(receiver1.tryReceive());
+
+            receiver1.close();
+            receiver2.close();
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testNextReceiverAppliesSelectionPolicy() throws Exception {
+        final byte[] payload = createEncodedMessage(new AmqpValue<>("Hello World"));
+
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).respond();
+            peer.expectFlow().withLinkCredit(10);
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).respond();
+            peer.expectFlow().withLinkCredit(10);
+            for (int i = 0; i < 3; ++i) {
+                peer.remoteTransfer().withHandle(i < 2 ? 0 : 1)
+                                     .withDeliveryId(i)
+                                     .withDeliveryTag(new byte[] { (byte) i })
+                                     .withMore(false)
+                                     .withMessageFormat(0)
+                                     .withPayload(payload).queue();
+            }
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            Session session = connection.openSession();
+            ReceiverOptions options = new ReceiverOptions().autoAccept(false);
+            Receiver receiver1 = session.openReceiver("test-queue-1", options).openFuture().get();
+            Receiver receiver2 = session.openReceiver("test-queue-2", options).openFuture().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+
+            Wait.assertTrue(() -> receiver1.queuedDeliveries() == 2 && receiver2.queuedDeliveries() == 1);
+
+            assertSame(receiver1, session.nextReceiver(NextReceiverPolicy.ROUND_ROBIN));
+            assertSame(receiver2, session.nextReceiver(NextReceiverPolicy.ROUND_ROBIN));
+            assertSame(receiver1, session.nextReceiver(NextReceiverPolicy.ROUND_ROBIN));
+            assertSame(receiver1, session.nextReceiver(NextReceiverPolicy.LARGEST_BACKLOG));
+            assertSame(receiver2, session.nextReceiver(NextReceiverPolicy.SMALLEST_BACKLOG));
+            assertSame(receiver1, session.nextReceiver(NextReceiverPolicy.FIRST_AVAILABLE));
+
+            Receiver random = session.nextReceiver(NextReceiverPolicy.RANDOM);
+            assertTrue(random == receiver1 || random == receiver2);
+
+            assertNotNull(receiver1.receive());
+            assertNotNull(receiver1.receive());
+
+            assertSame(receiver2, session.nextReceiver(NextReceiverPolicy.FIRST_AVAILABLE));
+            assertSame(receiver2, session.nextReceiver(NextReceiverPolicy.LARGEST_BACKLOG));
+
+            peer.expectDetach().respond();
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+
+            receiver1.close();
+            receiver2.close();
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testConnectionNextReceiverUsesDefaultSessionReceivers() throws Exception {
+        final byte[] payload = createEncodedMessage(new AmqpValue<>("Hello World"));
+
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).respond();
+            peer.expectFlow().withLinkCredit(10);
+            peer.remoteTransfer().withHandle(0)
+                                 .withDeliveryId(0)
+                                 .withDeliveryTag(new byte[] { 1 })
+                                 .withMore(false)
+                                 .withMessageFormat(0)
+                                 .withPayload(payload).queue();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            ConnectionOptions options = new ConnectionOptions().defaultNextReceiverPolicy(NextReceiverPolicy.FIRST_AVAILABLE);
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort(), options);
+            Receiver receiver = connection.openReceiver("test-queue").openFuture().get();
+
+            assertSame(receiver, connection.nextReceiver(5, TimeUnit.SECONDS));
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDisposition().withSettled(true).withState().accepted();
+            peer.expectClose().respond();
+
+            assertNotNull(receiver.receive());
+
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testNextReceiverFailsWhenSessionRemotelyClosed() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).respond();
+            peer.expectFlow().withLinkCredit(10);
+            peer.remoteEnd().withErrorCondition(AmqpError.RESOURCE_DELETED.toString(), "Session was deleted").afterDelay(50).queue();
+            peer.expectEnd();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            Session session = connection.openSession();
+            session.openReceiver("test-queue").openFuture().get();
+
+            try {
+                session.nextReceiver();
+                fail("Should have failed when the session was remotely closed");
+            } catch (ClientException cliEx) {
+                // Expected
+            }
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectClose().respond();
+
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
 }
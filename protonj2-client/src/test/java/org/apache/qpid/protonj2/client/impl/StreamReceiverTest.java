@@ -39,6 +39,7 @@ import java.util.Random;
 import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
 
 import org.apache.qpid.protonj2.client.Client;
 import org.apache.qpid.protonj2.client.Connection;
@@ -1532,6 +1533,9 @@ class StreamReceiverTest extends ImperativeClientTestCase {
                 fail("Unknown test option");
             }
 
+            // The body can be fully read before the final empty transfer arrives.
+            Wait.assertTrue("Final transfer should arrive before the receiver is closed", delivery::completed);
+
             peer.expectDetach().respond();
             peer.expectEnd().respond();
             peer.expectClose().respond();
@@ -2777,4 +2781,73 @@ class StreamReceiverTest extends ImperativeClientTestCase {
 
         return buffer;
     }
+
+    @Test
+    public void testReadCompressedBodyFailsWhenInflatedSizeExceedsLimit() throws Exception {
+        final byte[] body = new byte[4096];
+        Arrays.fill(body, (byte) 'a');
+
+        final Deflater deflater = new Deflater();
+        deflater.setInput(body);
+        deflater.finish();
+        final byte[] compressed = new byte[body.length];
+        final int compressedLength = deflater.deflate(compressed);
+        deflater.end();
+
+        final byte[] payload = createEncodedMessage(
+            new Properties().setContentEncoding("deflate"), new Data(Arrays.copyOf(compressed, compressedLength)));
+
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().withDesiredCapabilities("ANONYMOUS-RELAY", "DEFLATE-PAYLOAD")
+                             .respond()
+                             .withOfferedCapabilities("DEFLATE-PAYLOAD");
+            peer.expectBegin().respond();
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).respond();
+            peer.expectFlow();
+            peer.remoteTransfer().withHandle(0)
+                                 .withDeliveryId(0)
+                                 .withDeliveryTag(new byte[] { 1 })
+                                 .withMore(false)
+                                 .withSettled(true)
+                                 .withMessageFormat(0)
+                                 .withPayload(payload).queue();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            final Client container = Client.create();
+            final ConnectionOptions options = new ConnectionOptions().payloadCompression(true).payloadDecompressionLimit(1024);
+            final Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort(), options);
+            final StreamReceiver receiver = connection.openStreamReceiver("test-queue");
+            final StreamDelivery delivery = receiver.receive();
+
+            assertNotNull(delivery);
+
+            final InputStream bodyStream = delivery.message().body();
+            assertNotNull(bodyStream);
+
+            final byte[] readBuffer = new byte[body.length];
+
+            assertThrows(IOException.class, () -> {
+                int offset = 0;
+                while (offset < readBuffer.length) {
+                    offset += bodyStream.read(readBuffer, offset, readBuffer.length - offset);
+                }
+            });
+
+            bodyStream.close();
+
+            peer.expectDetach().respond();
+            peer.expectEnd().respond();
+            peer.expectClose().respond();
+
+            receiver.closeAsync().get();
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
 }
@@ -69,12 +69,16 @@ import org.apache.qpid.protonj2.test.driver.matchers.types.EncodedPartialDataSec
 import org.apache.qpid.protonj2.types.messaging.AmqpValue;
 import org.apache.qpid.protonj2.types.messaging.Header;
 import org.apache.qpid.protonj2.types.transport.Role;
+import org.hamcrest.CustomTypeSafeMatcher;
+import org.hamcrest.Matcher;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * Tests the {@link message} implementation
  */
@@ -1606,7 +1610,6 @@ public class StreamSenderTest extends ImperativeClientTestCase {
             });
 
             peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
-            peer.remoteFlow().withIncomingWindow(1).withNextIncomingId(1).withLinkCredit(10).now();
             peer.expectTransfer().withNonNullPayload().withMore(true);
             peer.remoteFlow().withIncomingWindow(1).withNextIncomingId(2).withLinkCredit(10).queue();
             peer.expectTransfer().withNonNullPayload().withMore(true);
@@ -1616,6 +1619,8 @@ public class StreamSenderTest extends ImperativeClientTestCase {
             peer.expectTransfer().withNonNullPayload().withMore(true);
             peer.remoteFlow().withIncomingWindow(1).withNextIncomingId(5).withLinkCredit(10).queue();
             peer.expectTransfer().withNonNullPayload().withMore(false).accept();
+            // Expectations must be in place before the first flow lets the sender write.
+            peer.remoteFlow().withIncomingWindow(1).withNextIncomingId(1).withLinkCredit(10).now();
 
             peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
             peer.expectDetach().respond();
@@ -1750,10 +1755,11 @@ public class StreamSenderTest extends ImperativeClientTestCase {
             });
 
             peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
-            peer.remoteFlow().withIncomingWindow(1).withDeliveryCount(0).withNextIncomingId(1).withLinkCredit(1).now();
             peer.expectTransfer().withNonNullPayload().withMore(false).respond().withSettled(true).withState().accepted();
             peer.remoteFlow().withIncomingWindow(1).withDeliveryCount(1).withNextIncomingId(2).withLinkCredit(1).queue();
             peer.expectTransfer().withNonNullPayload().withMore(false).respond().withSettled(true).withState().accepted();
+            // Expectations must be in place before the first flow lets the sender write.
+            peer.remoteFlow().withIncomingWindow(1).withDeliveryCount(0).withNextIncomingId(1).withLinkCredit(1).now();
 
             assertTrue(send2Completed.await(10, TimeUnit.SECONDS));
 
@@ -1821,7 +1827,6 @@ public class StreamSenderTest extends ImperativeClientTestCase {
             });
 
             peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
-            peer.remoteFlow().withIncomingWindow(1).withDeliveryCount(0).withNextIncomingId(1).withLinkCredit(1).now();
             peer.expectTransfer().withNonNullPayload().withMore(true);
             peer.remoteFlow().withIncomingWindow(1).withDeliveryCount(0).withNextIncomingId(2).withLinkCredit(1).queue();
             peer.expectTransfer().withNonNullPayload().withMore(false).respond().withSettled(true).withState().accepted();
@@ -1829,6 +1834,8 @@ public class StreamSenderTest extends ImperativeClientTestCase {
             peer.expectTransfer().withNonNullPayload().withMore(true);
             peer.remoteFlow().withIncomingWindow(1).withDeliveryCount(1).withNextIncomingId(4).withLinkCredit(1).queue();
             peer.expectTransfer().withNonNullPayload().withMore(false).respond().withSettled(true).withState().accepted();
+            // Expectations must be in place before the first flow lets the sender write.
+            peer.remoteFlow().withIncomingWindow(1).withDeliveryCount(0).withNextIncomingId(1).withLinkCredit(1).now();
 
             assertTrue(send2Completed.await(10, TimeUnit.SECONDS));
 
@@ -2106,13 +2113,13 @@ public class StreamSenderTest extends ImperativeClientTestCase {
 
             peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
             peer.expectTransfer().withNullPayload().withMore(false).accept();
+            // grant one more credit once the complete arrives, queued so that it is sent ahead of
+            // the detach response instead of racing with the sender closing the link.
+            peer.remoteFlow().withIncomingWindow(1).withNextIncomingId(WRITE_COUNT + 1).withLinkCredit(1).queue();
             peer.expectDetach().respond();
             peer.expectEnd().respond();
             peer.expectClose().respond();
 
-            // grant one more credit for the complete to arrive.
-            peer.remoteFlow().withIncomingWindow(1).withNextIncomingId(WRITE_COUNT + 1).withLinkCredit(1).now();
-
             stream.close();
 
             sender.closeAsync().get();
@@ -2352,4 +2359,73 @@ public class StreamSenderTest extends ImperativeClientTestCase {
             peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
         }
     }
+
+    @Test
+    void testStreamMessageChunksAreSizedToFillEachFrame() throws Exception {
+        final Random random = new Random(System.nanoTime());
+        final byte[] array = new byte[4000];
+
+        random.nextBytes(array);
+
+        final EncodedCompositingDataSectionMatcher matcher = new EncodedCompositingDataSectionMatcher(array);
+
+        // Each chunk fills a 1024 byte frame less the transfer overhead with a Data section
+        // header and as much of the body as fits, the final chunk carries the remainder.
+        final int chunkSize = 1024 - ClientStreamSenderMessage.TRANSFER_FRAME_OVERHEAD;
+        final int fullChunks = array.length / (chunkSize - 8);
+
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().ofSender().respond();
+            peer.remoteFlow().withLinkCredit(100).queue();
+            for (int i = 0; i < fullChunks; ++i) {
+                peer.expectTransfer().withDeliveryId(0)
+                                     .withMore(true)
+                                     .withPayload(Matchers.allOf(payloadOfSize(chunkSize), matcher));
+            }
+            peer.expectTransfer().withDeliveryId(0)
+                                 .withMore(false)
+                                 .withPayload(Matchers.allOf(payloadOfSize(array.length - (fullChunks * (chunkSize - 8)) + 8), matcher));
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort(), new ConnectionOptions().maxFrameSize(1024));
+            StreamSender sender = connection.openStreamSender("test-queue");
+            StreamSenderMessage tracker = sender.beginMessage();
+
+            final OutputStream stream = tracker.body();
+
+            try {
+                stream.write(array);
+            } finally {
+                stream.close();
+            }
+
+            peer.waitForScriptToComplete();
+            peer.expectDetach().respond();
+            peer.expectEnd().respond();
+            peer.expectClose().respond();
+
+            sender.close();
+            connection.close();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private static Matcher<ByteBuf> payloadOfSize(int size) {
+        return new CustomTypeSafeMatcher<ByteBuf>("payload of " + size + " bytes") {
+
+            @Override
+            protected boolean matchesSafely(ByteBuf payload) {
+                return payload.readableBytes() == size;
+            }
+        };
+    }
 }
@@ -16,6 +16,7 @@
  */
 package org.apache.qpid.protonj2.client.impl;
 
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -38,9 +39,11 @@ import org.apache.qpid.protonj2.client.Receiver;
 import org.apache.qpid.protonj2.client.ReceiverOptions;
 import org.apache.qpid.protonj2.client.Sender;
 import org.apache.qpid.protonj2.client.Session;
+import org.apache.qpid.protonj2.client.SessionOptions;
 import org.apache.qpid.protonj2.client.StreamSender;
 import org.apache.qpid.protonj2.client.StreamSenderMessage;
 import org.apache.qpid.protonj2.client.Tracker;
+import org.apache.qpid.protonj2.client.Transaction;
 import org.apache.qpid.protonj2.client.exceptions.ClientConnectionRemotelyClosedException;
 import org.apache.qpid.protonj2.client.exceptions.ClientException;
 import org.apache.qpid.protonj2.client.exceptions.ClientIllegalStateException;
@@ -779,6 +782,194 @@ public class TransactionsTest extends ImperativeClientTestCase {
         }
     }
 
+    @Test
+    public void testBeginAndCommitPipelinedTransactions() throws Exception {
+        final byte[] txnId1 = new byte[] { 0, 1, 2, 3 };
+        final byte[] txnId2 = new byte[] { 1, 1, 2, 3 };
+        final byte[] txnId3 = new byte[] { 2, 1, 2, 3 };
+        final byte[] txnId4 = new byte[] { 3, 1, 2, 3 };
+
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectCoordinatorAttach().respond();
+            peer.remoteFlow().withLinkCredit(10).queue();
+            peer.expectDeclare().accept(txnId1);
+            peer.expectDischarge().withFail(false).withTxnId(txnId1).accept();
+            peer.expectDeclare().accept(txnId2);
+            peer.expectDischarge().withFail(false).withTxnId(txnId2).accept();
+            peer.expectDeclare().accept(txnId3);
+            peer.expectDischarge().withFail(false).withTxnId(txnId3).accept();
+            peer.expectDeclare().accept(txnId4);
+            peer.expectAttach().ofSender().respond();
+            peer.expectDischarge().withFail(true).withTxnId(txnId4).accept();
+            peer.expectEnd().respond();
+            peer.expectClose().respond();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            Session session = connection.openSession(new SessionOptions().pipelinedTransactions(true)).openFuture().get();
+
+            for (int i = 0; i < 3; ++i) {
+                LOG.info("Pipelined transaction declare and discharge cycle: {}", i);
+                session.beginTransaction();
+                session.commitTransaction();
+            }
+
+            // The attach response follows the spare's declare response so the spare is declared by now
+            session.openSender("test").openFuture().get();
+
+            // The unused spare transaction is rolled back ahead of the session end
+            session.closeAsync();
+            connection.closeAsync().get(10, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testSendUnderConcurrentlyDeclaredTransactions() throws Exception {
+        final byte[] txnId1 = new byte[] { 0, 1, 2, 3 };
+        final byte[] txnId2 = new byte[] { 1, 1, 2, 3 };
+
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().ofSender().respond();
+            peer.remoteFlow().withLinkCredit(3).queue();
+            peer.expectCoordinatorAttach().respond();
+            peer.remoteFlow().withLinkCredit(4).queue();
+            peer.expectDeclare().accept(txnId1);
+            peer.expectDeclare().accept(txnId2);
+            peer.expectTransfer().withHandle(0)
+                                 .withNonNullPayload()
+                                 .withState().transactional().withTxnId(txnId1).and()
+                                 .respond()
+                                 .withState().transactional().withTxnId(txnId1).withAccepted().and()
+                                 .withSettled(true);
+            peer.expectTransfer().withHandle(0)
+                                 .withNonNullPayload()
+                                 .withState().transactional().withTxnId(txnId2).and()
+                                 .respond()
+                                 .withState().transactional().withTxnId(txnId2).withAccepted().and()
+                                 .withSettled(true);
+            peer.expectTransfer().withHandle(0)
+                                 .withNonNullPayload()
+                                 .withState(nullValue())
+                                 .respond()
+                                 .withSettled(true)
+                                 .withState().accepted();
+            peer.expectDischarge().withFail(false).withTxnId(txnId2).accept();
+            peer.expectDischarge().withFail(true).withTxnId(txnId1).accept();
+            peer.expectEnd().respond();
+            peer.expectClose().respond();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            Session session = connection.openSession().openFuture().get();
+            Sender sender = session.openSender("address").openFuture().get();
+
+            final Transaction txn1 = session.declareTransaction();
+            final Transaction txn2 = session.declareTransaction();
+
+            assertTrue(txn1.isActive());
+            assertTrue(txn2.isActive());
+
+            final Tracker tracker1 = txn1.send(sender, Message.create("test-message-1"));
+            final Tracker tracker2 = txn2.send(sender, Message.create("test-message-2"));
+            final Tracker tracker3 = sender.send(Message.create("test-message-3"));
+
+            assertEquals(DeliveryState.Type.TRANSACTIONAL, tracker1.settlementFuture().get().remoteState().getType());
+            assertEquals(DeliveryState.Type.TRANSACTIONAL, tracker2.settlementFuture().get().remoteState().getType());
+            assertEquals(DeliveryState.Type.ACCEPTED, tracker3.settlementFuture().get().remoteState().getType());
+
+            txn2.commit();
+            assertFalse(txn2.isActive());
+            assertTrue(txn1.isActive());
+
+            try {
+                txn2.send(sender, Message.create("test-message-4"));
+                fail("Should not be able to send under a discharged transaction");
+            } catch (ClientTransactionNotActiveException cliEx) {
+                // Expected
+            }
+
+            txn1.rollback();
+            assertFalse(txn1.isActive());
+
+            session.closeAsync();
+            connection.closeAsync().get(10, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testAcceptUnderDeclaredTransaction() throws Exception {
+        final byte[] txnId = new byte[] { 0, 1, 2, 3 };
+
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().ofReceiver().respond();
+            peer.expectFlow();
+            peer.start();
+
+            final URI remoteURI = peer.getServerURI();
+            final byte[] payload = createEncodedMessage(new AmqpValue<>("Hello World"));
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            Session session = connection.openSession();
+            ReceiverOptions options = new ReceiverOptions().autoAccept(false);
+            Receiver receiver = session.openReceiver("test-queue", options).openFuture().get();
+
+            peer.expectCoordinatorAttach().respond();
+            peer.remoteFlow().withLinkCredit(2).queue();
+            peer.expectDeclare().accept(txnId);
+            peer.remoteTransfer().withHandle(0)
+                                 .withDeliveryId(0)
+                                 .withDeliveryTag(new byte[] { 1 })
+                                 .withMore(false)
+                                 .withMessageFormat(0)
+                                 .withPayload(payload).queue();
+            peer.expectDisposition().withSettled(true)
+                                    .withState().transactional().withTxnId(txnId).withAccepted();
+            peer.expectDischarge().withFail(false).withTxnId(txnId).accept();
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+
+            final Transaction txn = session.declareTransaction();
+
+            Delivery delivery = receiver.receive(10, TimeUnit.SECONDS);
+            assertNotNull(delivery);
+            assertEquals("Hello World", delivery.message().body());
+
+            txn.accept(delivery);
+            txn.commit();
+
+            receiver.closeAsync();
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
     @Test
     public void testCannotBeginSecondTransactionWhileFirstIsActive() throws Exception {
         try (ProtonTestServer peer = new ProtonTestServer()) {
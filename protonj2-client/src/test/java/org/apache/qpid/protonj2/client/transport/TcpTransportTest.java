@@ -33,6 +33,8 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonByteBufferAllocator;
+import org.apache.qpid.protonj2.buffer.ProtonCompositeBuffer;
 import org.apache.qpid.protonj2.buffer.ProtonNettyByteBuffer;
 import org.apache.qpid.protonj2.client.SslOptions;
 import org.apache.qpid.protonj2.client.TransportOptions;
@@ -543,6 +545,50 @@ public class TcpTransportTest extends ImperativeClientTestCase {
         assertTrue(exceptions.isEmpty());
     }
 
+    @Test
+    public void testGatheredDataSentIsReceivedWithoutReleasingPayload() throws Exception {
+        try (NettyEchoServer server = createEchoServer()) {
+            server.start();
+
+            int port = server.getServerPort();
+
+            Transport transport = createTransport(createTransportOptions(), createSSLOptions());
+            try {
+                transport.connect(HOSTNAME, port, testListener).awaitConnect();
+                LOG.info("Connected to server:{}:{} as expected.", HOSTNAME, port);
+            } catch (Exception e) {
+                fail("Should not have failed to connect to the server at " + HOSTNAME + ":" + port + " but got exception: " + e);
+            }
+
+            assertTrue(transport.isConnected());
+
+            ProtonBuffer header = transport.getBufferAllocator().outputBuffer(8);
+            header.writeLong(SEND_BYTE_COUNT);
+
+            ProtonNettyByteBuffer nettyPayload = new ProtonNettyByteBuffer(Unpooled.buffer(SEND_BYTE_COUNT));
+            ProtonBuffer heapPayload = ProtonByteBufferAllocator.DEFAULT.allocate(SEND_BYTE_COUNT);
+            for (int i = 0; i < SEND_BYTE_COUNT; ++i) {
+                nettyPayload.writeByte('A');
+                heapPayload.writeByte('B');
+            }
+
+            ProtonCompositeBuffer gathered = new ProtonCompositeBuffer();
+            gathered.append(header).append(nettyPayload.slice()).append(heapPayload.slice(1, SEND_BYTE_COUNT - 1));
+
+            final int expected = gathered.getReadableBytes();
+
+            transport.writeAndFlush(gathered);
+
+            assertTrue(Wait.waitFor(() -> bytesRead.get() == expected, 10000, 50));
+            assertEquals(1, ((ByteBuf) nettyPayload.unwrap()).refCnt());
+
+            transport.close();
+        }
+
+        assertTrue(!transportErrored);  // Normal shutdown does not trigger the event.
+        assertTrue(exceptions.isEmpty());
+    }
+
     @Test
     public void testMultipleDataPacketsSentAreReceived() throws Exception {
         doMultipleDataPacketsSentAndReceive(SEND_BYTE_COUNT, 1);
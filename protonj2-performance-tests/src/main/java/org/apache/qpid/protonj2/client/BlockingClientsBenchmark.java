@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Measures many application threads blocking on the client at once, each operation releases
+ * {@link #concurrency} tasks that perform a settled send and a blocking receive and then waits
+ * for all of them to finish.  Every task uses its own sender and receiver, as independent clients
+ * would, and its receiver grants a single credit for each receive so that the many receivers do
+ * not prefetch more messages than the tasks consume.
+ * <p>
+ * The tasks run either on platform threads or on virtual threads, the latter requires a JDK that
+ * provides {@code Executors.newVirtualThreadPerTaskExecutor()} and the benchmark fails its setup
+ * when run on an older JDK.  Comparing the {@code parking} future type against the monitor based
+ * types shows the cost of blocking that pins the carrier thread of a virtual thread.
+ * <p>
+ * The concurrency runs at ten thousand blocked clients by default alongside a smaller setting,
+ * platform threads at the larger setting need an OS that allows that many threads per process.
+ */
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BlockingClientsBenchmark extends ClientBenchmarkBase {
+
+    @Param({"platform", "virtual"})
+    private String threadType;
+
+    @Param({"progressive", "parking"})
+    private String futureType;
+
+    @Param({"1000", "10000"})
+    private int concurrency;
+
+    private ExecutorService tasks;
+    private Sender[] senders;
+    private Receiver[] receivers;
+    private Message<byte[]> message;
+
+    @Override
+    @Setup
+    public void init() throws Exception {
+        tasks = createExecutor(threadType);
+
+        super.init();
+
+        message = Message.create(payload);
+        senders = new Sender[concurrency];
+        receivers = new Receiver[concurrency];
+
+        final SenderOptions senderOptions = new SenderOptions().deliveryMode(deliveryMode);
+        final ReceiverOptions receiverOptions = new ReceiverOptions().deliveryMode(deliveryMode).creditWindow(0);
+
+        for (int i = 0; i < concurrency; ++i) {
+            senders[i] = connection.openSender(SEND_ADDRESS, senderOptions);
+            receivers[i] = connection.openReceiver(GENERATED_ADDRESS, receiverOptions);
+        }
+
+        for (int i = 0; i < concurrency; ++i) {
+            senders[i].openFuture().get();
+            receivers[i].openFuture().get();
+        }
+    }
+
+    @Override
+    @TearDown
+    public void shutdown() {
+        try {
+            super.shutdown();
+        } finally {
+            tasks.shutdownNow();
+        }
+    }
+
+    @Override
+    protected ClientOptions clientOptions() {
+        return super.clientOptions().futureType(futureType);
+    }
+
+    @Benchmark
+    public void blockingSendAndReceive() throws Exception {
+        final CountDownLatch done = new CountDownLatch(concurrency);
+        final AtomicReference<Exception> failure = new AtomicReference<>();
+
+        for (int i = 0; i < concurrency; ++i) {
+            final Sender sender = senders[i];
+            final Receiver receiver = receivers[i];
+
+            tasks.execute(() -> {
+                try {
+                    final Tracker tracker = sender.send(message);
+                    if (deliveryMode == DeliveryMode.AT_LEAST_ONCE) {
+                        tracker.awaitSettlement();
+                    }
+
+                    receiver.addCredit(1);
+                    receiver.receive().accept();
+                } catch (Exception e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        done.await();
+
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+
+    private static ExecutorService createExecutor(String threadType) throws Exception {
+        if ("virtual".equals(threadType)) {
+            try {
+                final Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                return (ExecutorService) factory.invoke(null);
+            } catch (NoSuchMethodException e) {
+                throw new UnsupportedOperationException(
+                    "Virtual threads require a JDK that provides Executors.newVirtualThreadPerTaskExecutor()");
+            }
+        } else {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        runBenchmark(BlockingClientsBenchmark.class);
+    }
+}
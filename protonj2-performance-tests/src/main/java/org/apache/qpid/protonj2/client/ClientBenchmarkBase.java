@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.qpid.protonj2.client.peer.LocalPeer;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Base for benchmarks that drive the client over loopback TCP against an in-process {@link LocalPeer}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public abstract class ClientBenchmarkBase {
+
+    public static final String SEND_ADDRESS = "benchmark";
+    public static final String GENERATED_ADDRESS = "generated";
+
+    @Param({"64", "1024", "65536"})
+    protected int payloadSize;
+
+    @Param({"AT_MOST_ONCE", "AT_LEAST_ONCE"})
+    protected DeliveryMode deliveryMode;
+
+    protected LocalPeer peer;
+    protected Client client;
+    protected Connection connection;
+    protected byte[] payload;
+
+    public void init() throws Exception {
+        payload = new byte[payloadSize];
+        new Random(payloadSize).nextBytes(payload);
+
+        peer = new LocalPeer();
+        peer.generate(GENERATED_ADDRESS, payload);
+        peer.start();
+
+        client = Client.create(clientOptions());
+        connection = client.connect(peer.host(), peer.port());
+        connection.openFuture().get();
+    }
+
+    /**
+     * @return the {@link ClientOptions} used to create the benchmarked {@link Client}.
+     */
+    protected ClientOptions clientOptions() {
+        return new ClientOptions().id("benchmark-client");
+    }
+
+    @TearDown
+    public void shutdown() {
+        try {
+            client.close();
+        } finally {
+            peer.close();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        runBenchmark(ClientBenchmarkBase.class);
+    }
+
+    public static void runBenchmark(Class<?> benchmarkClass) throws RunnerException {
+        final Options opt = new OptionsBuilder()
+            .include(benchmarkClass.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .shouldDoGC(true)
+            .warmupIterations(5)
+            .measurementIterations(5)
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client;
+
+import java.io.OutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Measures the client {@link Sender}, {@link StreamSender} and {@link Receiver} over loopback TCP.
+ * <p>
+ * Sends made with {@link DeliveryMode#AT_LEAST_ONCE} wait for the peer to settle each message so
+ * they report the full round trip, sends made with {@link DeliveryMode#AT_MOST_ONCE} only wait for
+ * the message to be handed to the connection.  Receives are served from a peer address that sends
+ * a fresh copy of the message for every credit the receiver grants.
+ */
+public class ClientTransferBenchmark extends ClientBenchmarkBase {
+
+    private Sender sender;
+    private StreamSender streamSender;
+    private Receiver receiver;
+    private Message<byte[]> message;
+
+    @Override
+    @Setup
+    public void init() throws Exception {
+        super.init();
+
+        message = Message.create(payload);
+        sender = connection.openSender(SEND_ADDRESS, new SenderOptions().deliveryMode(deliveryMode));
+        streamSender = connection.openStreamSender(SEND_ADDRESS, new StreamSenderOptions().deliveryMode(deliveryMode));
+        receiver = connection.openReceiver(GENERATED_ADDRESS, new ReceiverOptions().deliveryMode(deliveryMode));
+
+        sender.openFuture().get();
+        streamSender.openFuture().get();
+        receiver.openFuture().get();
+    }
+
+    @Benchmark
+    public Tracker send() throws Exception {
+        final Tracker tracker = sender.send(message);
+
+        if (deliveryMode == DeliveryMode.AT_LEAST_ONCE) {
+            tracker.awaitSettlement();
+        }
+
+        return tracker;
+    }
+
+    @Benchmark
+    public StreamTracker streamSend() throws Exception {
+        final StreamSenderMessage streamMessage = streamSender.beginMessage();
+
+        try (OutputStream body = streamMessage.body()) {
+            body.write(payload);
+        }
+
+        if (deliveryMode == DeliveryMode.AT_LEAST_ONCE) {
+            streamMessage.tracker().awaitSettlement();
+        }
+
+        return streamMessage.tracker();
+    }
+
+    @Benchmark
+    public void receive(Blackhole blackhole) throws Exception {
+        blackhole.consume(receiver.receive().message().body());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        runBenchmark(ClientTransferBenchmark.class);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.qpid.protonj2.client.exceptions.ClientException;
+import org.apache.qpid.protonj2.codec.CodecBenchmarkBase;
+import org.apache.qpid.protonj2.types.UnsignedLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Compares encoding every section of a telemetry style message against encoding the same
+ * message from a {@link MessageTemplate} that only encodes the message-id, creation-time and body.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MessageTemplateBenchmark {
+
+    @Param({"64", "1024"})
+    private int payloadSize;
+
+    private byte[] payload;
+    private Message<byte[]> message;
+    private MessageTemplate<byte[]> template;
+    private long sequence;
+    private Blackhole blackhole;
+
+    @Setup
+    public void init(Blackhole blackhole) throws ClientException {
+        this.blackhole = blackhole;
+        this.payload = new byte[payloadSize];
+        new Random(payloadSize).nextBytes(payload);
+
+        message = populate(Message.create(payload));
+        template = MessageTemplate.create(populate(Message.create((byte[]) null)));
+    }
+
+    private static Message<byte[]> populate(Message<byte[]> message) throws ClientException {
+        message.durable(true);
+        message.priority((byte) 5);
+        message.annotation("x-opt-device", "sensor-0001");
+        message.annotation("x-opt-site", "plant-7");
+        message.to("telemetry");
+        message.subject("temperature");
+        message.contentType("application/octet-stream");
+        message.property("unit", "celsius");
+        message.property("schema", 3);
+
+        return message;
+    }
+
+    @Benchmark
+    public void fullEncode() throws ClientException {
+        message.messageId(new UnsignedLong(++sequence));
+        message.creationTime(sequence);
+        message.body(payload);
+
+        blackhole.consume(message.toAdvancedMessage().encode(null));
+    }
+
+    @Benchmark
+    public void templateEncode() throws ClientException {
+        final Message<byte[]> templated = template.message(new UnsignedLong(++sequence), sequence, payload);
+
+        blackhole.consume(templated.toAdvancedMessage().encode(null));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        CodecBenchmarkBase.runBenchmark(MessageTemplateBenchmark.class);
+    }
+}
@@ -0,0 +1,382 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.load;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.qpid.protonj2.client.Client;
+import org.apache.qpid.protonj2.client.Connection;
+import org.apache.qpid.protonj2.client.Delivery;
+import org.apache.qpid.protonj2.client.DeliveryMode;
+import org.apache.qpid.protonj2.client.Message;
+import org.apache.qpid.protonj2.client.Receiver;
+import org.apache.qpid.protonj2.client.ReceiverOptions;
+import org.apache.qpid.protonj2.client.Sender;
+import org.apache.qpid.protonj2.client.SenderOptions;
+import org.apache.qpid.protonj2.client.StreamSender;
+import org.apache.qpid.protonj2.client.StreamSenderMessage;
+import org.apache.qpid.protonj2.client.StreamSenderOptions;
+import org.apache.qpid.protonj2.client.exceptions.ClientException;
+import org.apache.qpid.protonj2.client.peer.LocalPeer;
+
+/**
+ * Long running load generator that drives the client against a {@link LocalPeer} or a remote broker.
+ * <p>
+ * Producers stamp the send time into the first eight bytes of each message body and consumers use
+ * it to record end to end latency, so latency is only reported when producers and consumers share
+ * an address and run in this process.  Options are given as --name=value pairs:
+ * <pre>
+ *   --host          remote host, when omitted an in-process {@link LocalPeer} is started (localhost)
+ *   --port          remote port (5672)
+ *   --address       address that producers send to and consumers receive from (load)
+ *   --producers     number of producer threads (1)
+ *   --consumers     number of consumer threads (1)
+ *   --connections   number of connections shared by all producers and consumers, 0 for one each (0)
+ *   --size          message body size in bytes, at least eight (1024)
+ *   --mode          at-least-once or at-most-once (at-least-once)
+ *   --stream        send using a StreamSender (false)
+ *   --credit        receiver credit window (100)
+ *   --warmup        warm up time in seconds excluded from the summary (5)
+ *   --duration      measured run time in seconds (30)
+ *   --interval      reporting interval in seconds (1)
+ * </pre>
+ * Each interval reports the send and receive rates, the latency percentiles, the allocation rate
+ * of all live threads and the JVM thread count.
+ */
+public final class ClientLoadGenerator {
+
+    private static final int TIMESTAMP_SIZE = Long.BYTES;
+
+    private final Map<String, String> options;
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong received = new AtomicLong();
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final List<Thread> workers = new ArrayList<>();
+    private final List<Connection> connections = new ArrayList<>();
+
+    private volatile boolean running = true;
+
+    private Client client;
+    private LocalPeer peer;
+    private int nextConnection;
+
+    public ClientLoadGenerator(Map<String, String> options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        final Map<String, String> options = new HashMap<>();
+
+        for (String arg : args) {
+            if (!arg.startsWith("--") || arg.indexOf('=') < 0) {
+                throw new IllegalArgumentException("Options must be given as --name=value: " + arg);
+            }
+
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+
+        new ClientLoadGenerator(options).run();
+    }
+
+    public void run() throws Exception {
+        final int producers = intOption("producers", 1);
+        final int consumers = intOption("consumers", 1);
+        final int size = Math.max(TIMESTAMP_SIZE, intOption("size", 1024));
+        final long warmup = TimeUnit.SECONDS.toNanos(intOption("warmup", 5));
+        final long duration = TimeUnit.SECONDS.toNanos(intOption("duration", 30));
+        final long interval = TimeUnit.SECONDS.toNanos(Math.max(1, intOption("interval", 1)));
+        final String address = stringOption("address", "load");
+
+        String host = options.get("host");
+        int port = intOption("port", 5672);
+
+        if (host == null) {
+            peer = new LocalPeer();
+            if (producers == 0) {
+                peer.generate(address, new byte[size]);
+            }
+            peer.start();
+            host = peer.host();
+            port = peer.port();
+        }
+
+        client = Client.create();
+
+        try {
+            final int sharedConnections = intOption("connections", 0);
+            for (int i = 0; i < sharedConnections; ++i) {
+                connections.add(client.connect(host, port));
+            }
+
+            for (int i = 0; i < consumers; ++i) {
+                final Receiver receiver = nextConnection(host, port).openReceiver(address, receiverOptions());
+                receiver.openFuture().get();
+                startWorker("consumer-" + i, () -> consume(receiver));
+            }
+
+            for (int i = 0; i < producers; ++i) {
+                final Connection connection = nextConnection(host, port);
+                final Runnable producer;
+
+                if (booleanOption("stream", false)) {
+                    final StreamSender sender = connection.openStreamSender(address, streamSenderOptions());
+                    sender.openFuture().get();
+                    producer = () -> produce(sender, size);
+                } else {
+                    final Sender sender = connection.openSender(address, senderOptions());
+                    sender.openFuture().get();
+                    producer = () -> produce(sender, size);
+                }
+
+                startWorker("producer-" + i, producer);
+            }
+
+            report(warmup, duration, interval);
+        } finally {
+            running = false;
+
+            // Closing the client first releases any worker blocked waiting on credit.
+            client.close();
+
+            for (Thread worker : workers) {
+                worker.join(TimeUnit.SECONDS.toMillis(5));
+            }
+
+            if (peer != null) {
+                peer.close();
+            }
+        }
+    }
+
+    private void report(long warmup, long duration, long interval) throws InterruptedException {
+        final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        final LatencyHistogram intervalLatencies = new LatencyHistogram();
+        final LatencyHistogram totalLatencies = new LatencyHistogram();
+        final long start = System.nanoTime();
+        final long measureStart = start + warmup;
+        final long end = measureStart + duration;
+
+        long lastSent = 0;
+        long lastReceived = 0;
+        long lastAllocated = allocatedBytes(threads);
+        long lastTime = start;
+        long measuredSent = 0;
+        long measuredReceived = 0;
+        long measuredAllocated = 0;
+
+        System.out.printf("%-8s %12s %12s %10s %10s %10s %10s %12s %8s%n",
+            "phase", "sent/s", "recv/s", "p50(us)", "p99(us)", "p999(us)", "max(us)", "alloc(MB/s)", "threads");
+
+        while (System.nanoTime() < end) {
+            TimeUnit.NANOSECONDS.sleep(Math.min(interval, Math.max(0, end - System.nanoTime())));
+
+            final long now = System.nanoTime();
+            final long currentSent = sent.get();
+            final long currentReceived = received.get();
+            final long currentAllocated = allocatedBytes(threads);
+            final double seconds = (now - lastTime) / 1e9;
+            final boolean measuring = lastTime >= measureStart;
+
+            latencies.drainInto(intervalLatencies);
+
+            System.out.printf("%-8s %12.0f %12.0f %10.1f %10.1f %10.1f %10.1f %12.1f %8d%n",
+                measuring ? "measure" : "warmup",
+                (currentSent - lastSent) / seconds,
+                (currentReceived - lastReceived) / seconds,
+                intervalLatencies.percentile(50) / 1e3,
+                intervalLatencies.percentile(99) / 1e3,
+                intervalLatencies.percentile(99.9) / 1e3,
+                intervalLatencies.max() / 1e3,
+                (currentAllocated - lastAllocated) / seconds / (1024 * 1024),
+                threads.getThreadCount());
+
+            if (measuring) {
+                measuredSent += currentSent - lastSent;
+                measuredReceived += currentReceived - lastReceived;
+                measuredAllocated += currentAllocated - lastAllocated;
+                intervalLatencies.drainInto(totalLatencies);
+            } else {
+                intervalLatencies.reset();
+            }
+
+            lastSent = currentSent;
+            lastReceived = currentReceived;
+            lastAllocated = currentAllocated;
+            lastTime = now;
+        }
+
+        final double seconds = Math.max(1, (lastTime - measureStart)) / 1e9;
+
+        System.out.println();
+        System.out.printf("Summary over %.1f seconds%n", seconds);
+        System.out.printf("  throughput : %.0f sent/s, %.0f received/s%n", measuredSent / seconds, measuredReceived / seconds);
+        System.out.printf("  latency    : p50=%.1fus p99=%.1fus p999=%.1fus max=%.1fus (%d samples)%n",
+            totalLatencies.percentile(50) / 1e3, totalLatencies.percentile(99) / 1e3,
+            totalLatencies.percentile(99.9) / 1e3, totalLatencies.max() / 1e3, totalLatencies.count());
+        System.out.printf("  allocation : %.1f MB/s, %.0f bytes per message%n",
+            measuredAllocated / seconds / (1024 * 1024), measuredAllocated / (double) Math.max(1, measuredSent + measuredReceived));
+        System.out.printf("  threads    : %d live, %d peak%n", threads.getThreadCount(), threads.getPeakThreadCount());
+    }
+
+    private void produce(Sender sender, int size) {
+        final byte[] body = new byte[size];
+        final Message<byte[]> message = Message.create(body);
+
+        try {
+            while (running) {
+                writeTimestamp(body, System.nanoTime());
+                sender.send(message);
+                sent.incrementAndGet();
+            }
+        } catch (ClientException ex) {
+            if (running) {
+                ex.printStackTrace();
+            }
+        }
+    }
+
+    private void produce(StreamSender sender, int size) {
+        final byte[] body = new byte[size];
+
+        try {
+            while (running) {
+                final StreamSenderMessage message = sender.beginMessage();
+
+                writeTimestamp(body, System.nanoTime());
+
+                try (OutputStream stream = message.body()) {
+                    stream.write(body);
+                }
+
+                sent.incrementAndGet();
+            }
+        } catch (Exception ex) {
+            if (running) {
+                ex.printStackTrace();
+            }
+        }
+    }
+
+    private void consume(Receiver receiver) {
+        try {
+            while (running) {
+                final Delivery delivery = receiver.receive(100, TimeUnit.MILLISECONDS);
+                if (delivery == null) {
+                    continue;
+                }
+
+                final Object body = delivery.message().body();
+                if (body instanceof byte[] && ((byte[]) body).length >= TIMESTAMP_SIZE) {
+                    final long timestamp = readTimestamp((byte[]) body);
+                    if (timestamp != 0) {
+                        latencies.record(System.nanoTime() - timestamp);
+                    }
+                }
+
+                received.incrementAndGet();
+            }
+        } catch (ClientException ex) {
+            if (running) {
+                ex.printStackTrace();
+            }
+        }
+    }
+
+    private void startWorker(String name, Runnable work) {
+        final Thread worker = new Thread(work, "load-" + name);
+
+        worker.setDaemon(true);
+        workers.add(worker);
+        worker.start();
+    }
+
+    private Connection nextConnection(String host, int port) throws ClientException {
+        if (connections.isEmpty()) {
+            return client.connect(host, port);
+        } else {
+            return connections.get(nextConnection++ % connections.size());
+        }
+    }
+
+    private DeliveryMode deliveryMode() {
+        return "at-most-once".equalsIgnoreCase(stringOption("mode", "at-least-once")) ?
+            DeliveryMode.AT_MOST_ONCE : DeliveryMode.AT_LEAST_ONCE;
+    }
+
+    private SenderOptions senderOptions() {
+        return new SenderOptions().deliveryMode(deliveryMode());
+    }
+
+    private StreamSenderOptions streamSenderOptions() {
+        return new StreamSenderOptions().deliveryMode(deliveryMode());
+    }
+
+    private ReceiverOptions receiverOptions() {
+        return new ReceiverOptions().deliveryMode(deliveryMode()).creditWindow(intOption("credit", 100));
+    }
+
+    private static long allocatedBytes(ThreadMXBean threads) {
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            final com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+
+            long total = 0;
+            for (long allocated : allocations.getThreadAllocatedBytes(threads.getAllThreadIds())) {
+                total += Math.max(0, allocated);
+            }
+
+            return total;
+        } else {
+            return 0;
+        }
+    }
+
+    private static void writeTimestamp(byte[] body, long timestamp) {
+        for (int i = TIMESTAMP_SIZE - 1; i >= 0; --i) {
+            body[i] = (byte) timestamp;
+            timestamp >>>= 8;
+        }
+    }
+
+    private static long readTimestamp(byte[] body) {
+        long timestamp = 0;
+        for (int i = 0; i < TIMESTAMP_SIZE; ++i) {
+            timestamp = (timestamp << 8) | (body[i] & 0xFF);
+        }
+
+        return timestamp;
+    }
+
+    private String stringOption(String name, String defaultValue) {
+        return options.getOrDefault(name, defaultValue);
+    }
+
+    private int intOption(String name, int defaultValue) {
+        return options.containsKey(name) ? Integer.parseInt(options.get(name)) : defaultValue;
+    }
+
+    private boolean booleanOption(String name, boolean defaultValue) {
+        return options.containsKey(name) ? Boolean.parseBoolean(options.get(name)) : defaultValue;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.load;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed memory log-linear histogram of positive long values in the style of HdrHistogram.
+ * <p>
+ * Values are grouped into power of two buckets that are each split into a fixed number of linear
+ * sub-buckets, which bounds the relative error of any recorded value to below one percent while the
+ * whole range of a long fits into a few thousand counters.  Recording is lock free so one instance
+ * can be shared by many threads, and {@link #drainInto(LatencyHistogram)} lets a reporter collect an
+ * interval's worth of values while recording continues.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 8;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT >> 1;
+    private static final int BUCKET_COUNT = Long.SIZE - SUB_BUCKET_BITS + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray((BUCKET_COUNT + 1) * SUB_BUCKET_HALF);
+
+    public void record(long value) {
+        counts.incrementAndGet(indexOf(Math.max(0, value)));
+    }
+
+    /**
+     * Moves every recorded value into the target histogram and clears them from this one.
+     *
+     * @param target
+     *      the histogram that accumulates the values recorded in this one.
+     */
+    public void drainInto(LatencyHistogram target) {
+        for (int i = 0; i < counts.length(); ++i) {
+            final long count = counts.getAndSet(i, 0);
+            if (count != 0) {
+                target.counts.addAndGet(i, count);
+            }
+        }
+    }
+
+    public void reset() {
+        for (int i = 0; i < counts.length(); ++i) {
+            counts.set(i, 0);
+        }
+    }
+
+    public long count() {
+        long total = 0;
+        for (int i = 0; i < counts.length(); ++i) {
+            total += counts.get(i);
+        }
+
+        return total;
+    }
+
+    public long max() {
+        for (int i = counts.length() - 1; i >= 0; --i) {
+            if (counts.get(i) != 0) {
+                return highestValueAt(i);
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * @param percentile
+     *      the percentile to compute, between 0 and 100.
+     *
+     * @return the highest value equivalent to the value at the given percentile or zero if nothing was recorded.
+     */
+    public long percentile(double percentile) {
+        final long total = count();
+        if (total == 0) {
+            return 0;
+        }
+
+        final long target = Math.max(1, (long) Math.ceil((Math.min(percentile, 100.0) / 100.0) * total));
+
+        long seen = 0;
+        for (int i = 0; i < counts.length(); ++i) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return highestValueAt(i);
+            }
+        }
+
+        return max();
+    }
+
+    private static int indexOf(long value) {
+        final int bucket = Math.max(0, Long.SIZE - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+        final int subBucket = (int) (value >>> bucket);
+
+        return bucket * SUB_BUCKET_HALF + subBucket;
+    }
+
+    private static long highestValueAt(int index) {
+        final int bucket = Math.max(0, (index / SUB_BUCKET_HALF) - 1);
+        final long subBucket = index - (bucket * SUB_BUCKET_HALF);
+
+        return ((subBucket + 1) << bucket) - 1;
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.peer;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonByteBufferAllocator;
+import org.apache.qpid.protonj2.codec.CodecFactory;
+import org.apache.qpid.protonj2.codec.Encoder;
+import org.apache.qpid.protonj2.types.messaging.Data;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+
+/**
+ * A lightweight in-process AMQP peer used to benchmark the client over real loopback TCP.
+ * <p>
+ * Each accepted connection is serviced by its own proton {@link org.apache.qpid.protonj2.engine.Engine}
+ * running on a Netty event loop.  The peer accepts any SASL exchange, opens whatever the remote
+ * asks for and then behaves as follows:
+ * <ul>
+ *   <li>Deliveries sent to an address are accepted and settled and, when one or more receivers
+ *       are attached to the same address on any connection, echoed to one of them in turn.</li>
+ *   <li>Receivers attached to an address registered with {@link #generate(String, byte[])} are sent
+ *       a copy of the generated message for every unit of credit they grant.</li>
+ * </ul>
+ * Senders are granted a fixed credit window which is only replenished while the backlog of echoed
+ * deliveries for their address is below the configured limit, which keeps a slow consumer from
+ * causing unbounded growth in the peer.
+ */
+public class LocalPeer implements AutoCloseable {
+
+    public static final int DEFAULT_CREDIT_WINDOW = 1000;
+    public static final int DEFAULT_ADDRESS_BACKLOG = 10000;
+
+    private final ConcurrentHashMap<String, LocalPeerAddress> addresses = new ConcurrentHashMap<>();
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    private int creditWindow = DEFAULT_CREDIT_WINDOW;
+    private int addressBacklog = DEFAULT_ADDRESS_BACKLOG;
+    private int ioThreads;
+
+    private EventLoopGroup bossGroup;
+    private EventLoopGroup workerGroup;
+    private Channel serverChannel;
+    private int port;
+
+    /**
+     * @param creditWindow
+     *      the credit granted to, and kept topped up for, each sender that attaches to the peer.
+     *
+     * @return this {@link LocalPeer} instance.
+     */
+    public LocalPeer creditWindow(int creditWindow) {
+        this.creditWindow = creditWindow;
+        return this;
+    }
+
+    public int creditWindow() {
+        return creditWindow;
+    }
+
+    /**
+     * @param addressBacklog
+     *      the number of echoed deliveries an address can hold before its senders stop being granted credit.
+     *
+     * @return this {@link LocalPeer} instance.
+     */
+    public LocalPeer addressBacklog(int addressBacklog) {
+        this.addressBacklog = addressBacklog;
+        return this;
+    }
+
+    public int addressBacklog() {
+        return addressBacklog;
+    }
+
+    /**
+     * @param ioThreads
+     *      the number of Netty event loop threads that service connections, zero uses the Netty default.
+     *
+     * @return this {@link LocalPeer} instance.
+     */
+    public LocalPeer ioThreads(int ioThreads) {
+        this.ioThreads = ioThreads;
+        return this;
+    }
+
+    public int ioThreads() {
+        return ioThreads;
+    }
+
+    /**
+     * Registers a message that is sent to any receiver that attaches to the given address, one copy
+     * for each credit the receiver grants.  The message carries the given bytes in a single Data section.
+     *
+     * @param address
+     *      the address whose receivers should be sent the generated message.
+     * @param body
+     *      the bytes to carry in the body of each generated message.
+     *
+     * @return this {@link LocalPeer} instance.
+     */
+    public LocalPeer generate(String address, byte[] body) {
+        final Encoder encoder = CodecFactory.getDefaultEncoder();
+        final ProtonBuffer encoded = ProtonByteBufferAllocator.DEFAULT.allocate(body.length + 16);
+
+        encoder.writeObject(encoded, encoder.newEncoderState(), new Data(body));
+
+        address(address).generated(encoded);
+
+        return this;
+    }
+
+    public void start() throws InterruptedException {
+        start(0);
+    }
+
+    public void start(int port) throws InterruptedException {
+        if (started.compareAndSet(false, true)) {
+            bossGroup = new NioEventLoopGroup(1);
+            workerGroup = new NioEventLoopGroup(ioThreads);
+
+            ServerBootstrap server = new ServerBootstrap();
+            server.group(bossGroup, workerGroup);
+            server.channel(NioServerSocketChannel.class);
+            server.option(ChannelOption.SO_BACKLOG, 1024);
+            server.childOption(ChannelOption.TCP_NODELAY, true);
+            server.childHandler(new ChannelInitializer<Channel>() {
+
+                @Override
+                public void initChannel(Channel channel) throws Exception {
+                    channel.pipeline().addLast(new LocalPeerConnection(LocalPeer.this, channel));
+                }
+            });
+
+            serverChannel = server.bind("localhost", port).sync().channel();
+            this.port = ((InetSocketAddress) serverChannel.localAddress()).getPort();
+        }
+    }
+
+    public String host() {
+        return "localhost";
+    }
+
+    public int port() {
+        if (!started.get()) {
+            throw new IllegalStateException("Cannot get port of a non-started peer");
+        }
+
+        return port;
+    }
+
+    @Override
+    public void close() {
+        if (started.compareAndSet(true, false)) {
+            serverChannel.close().syncUninterruptibly();
+
+            bossGroup.shutdownGracefully(0, 100, TimeUnit.MILLISECONDS).awaitUninterruptibly();
+            workerGroup.shutdownGracefully(0, 100, TimeUnit.MILLISECONDS).awaitUninterruptibly();
+
+            addresses.clear();
+        }
+    }
+
+    LocalPeerAddress address(String name) {
+        return addresses.computeIfAbsent(name != null ? name : "", key -> new LocalPeerAddress(this, key));
+    }
+}
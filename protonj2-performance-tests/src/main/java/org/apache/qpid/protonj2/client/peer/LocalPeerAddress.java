@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.peer;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+
+/**
+ * Routing state for a single address on the {@link LocalPeer}, shared by every connection.
+ * <p>
+ * Deliveries are handed to the attached consumers in round robin order and counted against the
+ * address backlog until the consumer has written them, producers that find the backlog full park
+ * themselves here and are resumed once the consumers have drained it to half the limit.
+ */
+final class LocalPeerAddress {
+
+    private final String name;
+    private final int backlogLimit;
+    private final List<LocalPeerConsumer> consumers = new CopyOnWriteArrayList<>();
+    private final ConcurrentLinkedQueue<LocalPeerProducer> blockedProducers = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger backlog = new AtomicInteger();
+    private final AtomicInteger nextConsumer = new AtomicInteger();
+
+    private volatile ProtonBuffer generated;
+
+    LocalPeerAddress(LocalPeer peer, String name) {
+        this.name = name;
+        this.backlogLimit = peer.addressBacklog();
+    }
+
+    String name() {
+        return name;
+    }
+
+    ProtonBuffer generated() {
+        return generated;
+    }
+
+    void generated(ProtonBuffer message) {
+        this.generated = message;
+    }
+
+    void addConsumer(LocalPeerConsumer consumer) {
+        consumers.add(consumer);
+    }
+
+    void removeConsumer(LocalPeerConsumer consumer) {
+        consumers.remove(consumer);
+    }
+
+    /**
+     * Hands the given payload to the next consumer on this address, or drops it if there are none.
+     *
+     * @param payload
+     *      the payload of a delivery that arrived for this address, must not be shared with the engine.
+     */
+    void route(ProtonBuffer payload) {
+        final int count = consumers.size();
+
+        if (count > 0) {
+            try {
+                final LocalPeerConsumer consumer = consumers.get(Math.floorMod(nextConsumer.getAndIncrement(), count));
+                backlog.incrementAndGet();
+                consumer.enqueue(payload);
+            } catch (IndexOutOfBoundsException ex) {
+                // Consumer detached concurrently, treat the delivery as dropped.
+            }
+        }
+    }
+
+    /**
+     * Called once a routed payload has been written or discarded by its consumer.
+     */
+    void dispatched() {
+        if (backlog.decrementAndGet() <= backlogLimit / 2) {
+            resumeProducers();
+        }
+    }
+
+    boolean isBacklogged() {
+        return backlog.get() >= backlogLimit;
+    }
+
+    void block(LocalPeerProducer producer) {
+        blockedProducers.add(producer);
+
+        // Consumers may have drained the backlog before the producer was queued.
+        if (!isBacklogged()) {
+            resumeProducers();
+        }
+    }
+
+    private void resumeProducers() {
+        LocalPeerProducer producer;
+        while ((producer = blockedProducers.poll()) != null) {
+            producer.resume();
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.peer;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonNettyByteBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonNettyByteBufferAllocator;
+import org.apache.qpid.protonj2.engine.Connection;
+import org.apache.qpid.protonj2.engine.Engine;
+import org.apache.qpid.protonj2.engine.EngineFactory;
+import org.apache.qpid.protonj2.engine.sasl.SaslOutcome;
+import org.apache.qpid.protonj2.engine.sasl.SaslServerContext;
+import org.apache.qpid.protonj2.engine.sasl.SaslServerListener;
+import org.apache.qpid.protonj2.types.Symbol;
+import org.apache.qpid.protonj2.types.transport.AMQPHeader;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+
+/**
+ * Binds a single accepted socket to a proton {@link Engine} that answers for the {@link LocalPeer}.
+ * <p>
+ * All engine work happens on the channel event loop, writes made while reading or while running a
+ * task are batched and flushed once the read or task completes while any other writes, such as idle
+ * timeout heart beats, are flushed immediately.
+ */
+final class LocalPeerConnection extends SimpleChannelInboundHandler<ByteBuf> {
+
+    private static final Symbol[] MECHANISMS = new Symbol[] { Symbol.valueOf("ANONYMOUS"), Symbol.valueOf("PLAIN") };
+
+    private final LocalPeer peer;
+    private final Channel channel;
+    private final Engine engine;
+
+    private boolean batching;
+
+    LocalPeerConnection(LocalPeer peer, Channel channel) {
+        this.peer = peer;
+        this.channel = channel;
+        this.engine = EngineFactory.PROTON.createEngine();
+    }
+
+    LocalPeer peer() {
+        return peer;
+    }
+
+    /**
+     * Runs the given task on the connection event loop and flushes anything it wrote.
+     *
+     * @param task
+     *      the work to perform against this connection's engine.
+     */
+    void execute(Runnable task) {
+        if (channel.eventLoop().inEventLoop() && batching) {
+            task.run();
+        } else {
+            channel.eventLoop().execute(() -> {
+                batching = true;
+                try {
+                    if (engine.isRunning()) {
+                        task.run();
+                    }
+                } finally {
+                    batching = false;
+                    channel.flush();
+                }
+            });
+        }
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext context) throws Exception {
+        engine.configuration().setBufferAllocator(new ProtonNettyByteBufferAllocator() {
+
+            @Override
+            public ProtonBuffer outputBuffer(int initialCapacity) {
+                return new ProtonNettyByteBuffer(channel.alloc().ioBuffer(initialCapacity));
+            }
+
+            @Override
+            public ProtonBuffer outputBuffer(int initialCapacity, int maximumCapacity) {
+                return new ProtonNettyByteBuffer(channel.alloc().ioBuffer(initialCapacity, maximumCapacity));
+            }
+        });
+
+        engine.outputHandler(this::handleEngineOutput);
+        engine.errorHandler(failed -> channel.close());
+        engine.saslDriver().server().setListener(new LocalPeerSaslListener());
+
+        final Connection connection = engine.start();
+
+        connection.openHandler(this::handleRemoteOpen);
+        connection.closeHandler(remote -> remote.close());
+        connection.sessionOpenHandler(session -> {
+            session.closeHandler(remote -> remote.close());
+            session.open();
+        });
+        connection.receiverOpenHandler(receiver -> new LocalPeerProducer(this, receiver).open());
+        connection.senderOpenHandler(sender -> new LocalPeerConsumer(this, sender).open());
+
+        context.fireChannelActive();
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext context) throws Exception {
+        engine.shutdown();
+        context.fireChannelInactive();
+    }
+
+    @Override
+    protected void channelRead0(ChannelHandlerContext context, ByteBuf buffer) throws Exception {
+        batching = true;
+        engine.ingest(new ProtonNettyByteBuffer(buffer));
+    }
+
+    @Override
+    public void channelReadComplete(ChannelHandlerContext context) throws Exception {
+        batching = false;
+        context.flush();
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext context, Throwable cause) throws Exception {
+        engine.engineFailed(cause);
+        context.close();
+    }
+
+    private void handleRemoteOpen(Connection connection) {
+        connection.setContainerId("local-peer");
+        connection.open();
+
+        if (connection.getRemoteIdleTimeout() > 0) {
+            connection.tickAuto(channel.eventLoop());
+        }
+    }
+
+    private void handleEngineOutput(ProtonBuffer output, Runnable ioComplete) {
+        final ByteBuf nettyBuf;
+
+        if (output instanceof ProtonNettyByteBuffer) {
+            nettyBuf = (ByteBuf) output.unwrap();
+        } else {
+            // Header frames are not written into allocator provided buffers.
+            final ProtonNettyByteBuffer wrapped = new ProtonNettyByteBuffer(channel.alloc().ioBuffer(output.getReadableBytes()));
+            wrapped.writeBytes(output);
+            nettyBuf = wrapped.unwrap();
+        }
+
+        if (batching) {
+            channel.write(nettyBuf, channel.voidPromise());
+        } else {
+            channel.writeAndFlush(nettyBuf, channel.voidPromise());
+        }
+
+        if (ioComplete != null) {
+            ioComplete.run();
+        }
+    }
+
+    private static final class LocalPeerSaslListener implements SaslServerListener {
+
+        @Override
+        public void handleSaslHeader(SaslServerContext context, AMQPHeader header) {
+            context.sendMechanisms(MECHANISMS);
+        }
+
+        @Override
+        public void handleSaslInit(SaslServerContext context, Symbol mechanism, ProtonBuffer initResponse) {
+            context.sendOutcome(SaslOutcome.SASL_OK, null);
+        }
+
+        @Override
+        public void handleSaslResponse(SaslServerContext context, ProtonBuffer response) {
+            context.sendOutcome(SaslOutcome.SASL_OK, null);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.peer;
+
+import java.util.ArrayDeque;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.engine.OutgoingDelivery;
+import org.apache.qpid.protonj2.engine.Sender;
+import org.apache.qpid.protonj2.engine.impl.ProtonDeliveryTagGenerator;
+import org.apache.qpid.protonj2.types.messaging.Source;
+import org.apache.qpid.protonj2.types.messaging.Target;
+import org.apache.qpid.protonj2.types.transport.SenderSettleMode;
+
+/**
+ * Peer side of a client receiver, writes echoed or generated messages while the receiver grants credit.
+ */
+final class LocalPeerConsumer {
+
+    private final LocalPeerConnection connection;
+    private final LocalPeerAddress address;
+    private final Sender sender;
+    private final ArrayDeque<ProtonBuffer> pending = new ArrayDeque<>();
+
+    private boolean presettled;
+    private OutgoingDelivery current;
+    private ProtonBuffer currentPayload;
+
+    LocalPeerConsumer(LocalPeerConnection connection, Sender sender) {
+        final Source source = sender.getRemoteSource();
+
+        this.connection = connection;
+        this.sender = sender;
+        this.address = connection.peer().address(source != null ? source.getAddress() : null);
+    }
+
+    void open() {
+        presettled = sender.getRemoteSenderSettleMode() == SenderSettleMode.SETTLED;
+
+        sender.setSource(sender.getRemoteSource());
+        sender.setTarget((Target) sender.getRemoteTarget());
+        sender.setSenderSettleMode(sender.getRemoteSenderSettleMode());
+        sender.setReceiverSettleMode(sender.getRemoteReceiverSettleMode());
+        sender.setDeliveryTagGenerator(ProtonDeliveryTagGenerator.BUILTIN.POOLED.createGenerator());
+        sender.creditStateUpdateHandler(link -> pump());
+        sender.deliveryStateUpdatedHandler(delivery -> {
+            if (delivery.isRemotelySettled()) {
+                delivery.settle();
+            }
+        });
+        sender.detachHandler(link -> closed(link.detach()));
+        sender.closeHandler(link -> closed(link.close()));
+        sender.parentEndpointClosedHandler(link -> closed(link));
+        sender.engineShutdownHandler(engine -> closed(sender));
+        sender.open();
+
+        if (address.generated() == null) {
+            address.addConsumer(this);
+        }
+    }
+
+    /**
+     * Queues a payload routed from a producer on any connection, safe to call from any thread.
+     *
+     * @param payload
+     *      the encoded message to write to the remote receiver.
+     */
+    void enqueue(ProtonBuffer payload) {
+        connection.execute(() -> {
+            if (sender.isLocallyOpen()) {
+                pending.add(payload);
+                pump();
+            } else {
+                address.dispatched();
+            }
+        });
+    }
+
+    private void pump() {
+        final ProtonBuffer generated = address.generated();
+
+        while (sender.isSendable()) {
+            if (current == null) {
+                final ProtonBuffer next = generated != null ? generated.duplicate() : pending.poll();
+                if (next == null) {
+                    break;
+                }
+
+                current = sender.next();
+                currentPayload = next;
+
+                if (presettled) {
+                    current.settle();
+                }
+            }
+
+            current.writeBytes(currentPayload);
+
+            if (currentPayload.isReadable()) {
+                break;  // Session window is full, resume on the next credit state update.
+            }
+
+            current = null;
+            currentPayload = null;
+
+            if (generated == null) {
+                address.dispatched();
+            }
+        }
+    }
+
+    private void closed(Sender link) {
+        address.removeConsumer(this);
+
+        if (address.generated() == null) {
+            if (currentPayload != null) {
+                address.dispatched();
+            }
+
+            while (pending.poll() != null) {
+                address.dispatched();
+            }
+        }
+
+        current = null;
+        currentPayload = null;
+    }
+}
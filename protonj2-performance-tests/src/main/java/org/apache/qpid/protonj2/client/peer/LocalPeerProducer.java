@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.peer;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonByteBufferAllocator;
+import org.apache.qpid.protonj2.engine.IncomingDelivery;
+import org.apache.qpid.protonj2.engine.Receiver;
+import org.apache.qpid.protonj2.types.messaging.Accepted;
+import org.apache.qpid.protonj2.types.messaging.Target;
+
+/**
+ * Peer side of a client sender, grants credit and accepts every delivery that arrives.
+ */
+final class LocalPeerProducer {
+
+    private final LocalPeerConnection connection;
+    private final LocalPeerAddress address;
+    private final Receiver receiver;
+    private final int creditWindow;
+
+    private boolean blocked;
+
+    LocalPeerProducer(LocalPeerConnection connection, Receiver receiver) {
+        final Target target = receiver.getRemoteTarget();
+
+        this.connection = connection;
+        this.receiver = receiver;
+        this.creditWindow = connection.peer().creditWindow();
+        this.address = connection.peer().address(target != null ? target.getAddress() : null);
+    }
+
+    void open() {
+        receiver.setSource(receiver.getRemoteSource());
+        receiver.setTarget((Target) receiver.getRemoteTarget());
+        receiver.deliveryReadHandler(this::handleDeliveryRead);
+        receiver.detachHandler(link -> link.detach());
+        receiver.closeHandler(link -> link.close());
+        receiver.open();
+        receiver.addCredit(creditWindow);
+    }
+
+    /**
+     * Tops the link credit back up after the address backlog drained, safe to call from any thread.
+     */
+    void resume() {
+        connection.execute(() -> {
+            if (blocked && receiver.isLocallyOpen() && !receiver.isRemotelyClosedOrDetached()) {
+                blocked = false;
+                receiver.addCredit(creditWindow - receiver.getCredit());
+            }
+        });
+    }
+
+    private void handleDeliveryRead(IncomingDelivery delivery) {
+        if (delivery.isPartial() || delivery.isAborted()) {
+            return;
+        }
+
+        final ProtonBuffer payload = delivery.readAll();
+        if (payload != null) {
+            // The consumer may be serviced by another event loop so it gets its own copy.
+            address.route(ProtonByteBufferAllocator.DEFAULT.allocate(payload.getReadableBytes()).writeBytes(payload));
+        }
+
+        if (!delivery.isRemotelySettled()) {
+            delivery.disposition(Accepted.getInstance(), true);
+        }
+
+        if (address.isBacklogged()) {
+            if (!blocked) {
+                blocked = true;
+                address.block(this);
+            }
+        } else if (!blocked && receiver.getCredit() <= creditWindow / 2) {
+            receiver.addCredit(creditWindow - receiver.getCredit());
+        }
+    }
+}
@@ -21,6 +21,11 @@ import java.util.HashMap;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.codec.CodecBenchmarkBase;
+import org.apache.qpid.protonj2.codec.CodecFactory;
+import org.apache.qpid.protonj2.codec.Decoder;
+import org.apache.qpid.protonj2.codec.DecoderState;
+import org.apache.qpid.protonj2.codec.decoders.CompactMap;
+import org.apache.qpid.protonj2.codec.decoders.messaging.ApplicationPropertiesTypeDecoder;
 import org.apache.qpid.protonj2.types.UnsignedByte;
 import org.apache.qpid.protonj2.types.UnsignedInteger;
 import org.apache.qpid.protonj2.types.UnsignedShort;
@@ -34,6 +39,11 @@ public class ApplicationPropertiesBenchmark extends CodecBenchmarkBase {
 
     private Blackhole blackhole;
     private ApplicationProperties properties;
+    private ApplicationProperties compactProperties;
+
+    private final Decoder compactDecoder =
+        CodecFactory.getDefaultDecoder().registerDescribedTypeDecoder(new ApplicationPropertiesTypeDecoder(true));
+    private final DecoderState compactDecoderState = compactDecoder.newDecoderState();
 
     @Setup
     public void init(Blackhole blackhole) {
@@ -48,6 +58,9 @@ public class ApplicationPropertiesBenchmark extends CodecBenchmarkBase {
         properties.getValue().put("test1", UnsignedByte.valueOf((byte) 128));
         properties.getValue().put("test2", UnsignedShort.valueOf((short) 128));
         properties.getValue().put("test3", UnsignedInteger.valueOf((byte) 128));
+
+        compactProperties = new ApplicationProperties(new CompactMap<>(properties.getValue().size()));
+        compactProperties.getValue().putAll(properties.getValue());
     }
 
     @Benchmark
@@ -64,6 +77,20 @@ public class ApplicationPropertiesBenchmark extends CodecBenchmarkBase {
         return buffer;
     }
 
+    @Benchmark
+    public ProtonBuffer decodeCompact() throws IOException {
+        buffer.setReadIndex(0);
+        blackhole.consume(compactDecoder.readObject(buffer, compactDecoderState));
+        return buffer;
+    }
+
+    @Benchmark
+    public ProtonBuffer encodeCompact() {
+        buffer.clear();
+        encoder.writeObject(buffer, encoderState, compactProperties);
+        return buffer;
+    }
+
     public static void main(String[] args) throws RunnerException {
         runBenchmark(ApplicationPropertiesBenchmark.class);
     }
@@ -20,6 +20,10 @@ import java.io.IOException;
 import java.util.HashMap;
 
 import org.apache.qpid.protonj2.codec.CodecBenchmarkBase;
+import org.apache.qpid.protonj2.codec.CodecFactory;
+import org.apache.qpid.protonj2.codec.Decoder;
+import org.apache.qpid.protonj2.codec.DecoderState;
+import org.apache.qpid.protonj2.codec.decoders.messaging.MessageAnnotationsTypeDecoder;
 import org.apache.qpid.protonj2.types.Symbol;
 import org.apache.qpid.protonj2.types.UnsignedByte;
 import org.apache.qpid.protonj2.types.UnsignedInteger;
@@ -35,6 +39,10 @@ public class MessageAnnotationsBenchmark extends CodecBenchmarkBase {
     private MessageAnnotations annotations;
     private Blackhole blackhole;
 
+    private final Decoder compactDecoder =
+        CodecFactory.getDefaultDecoder().registerDescribedTypeDecoder(new MessageAnnotationsTypeDecoder(true));
+    private final DecoderState compactDecoderState = compactDecoder.newDecoderState();
+
     @Setup
     public void init(Blackhole blackhole) {
         this.blackhole = blackhole;
@@ -62,6 +70,12 @@ public class MessageAnnotationsBenchmark extends CodecBenchmarkBase {
         blackhole.consume(decoder.readObject(buffer, decoderState));
     }
 
+    @Benchmark
+    public void decodeCompact() throws IOException {
+        buffer.setReadIndex(0);
+        blackhole.consume(compactDecoder.readObject(buffer, compactDecoderState));
+    }
+
     public static void main(String[] args) throws RunnerException {
         runBenchmark(MessageAnnotationsBenchmark.class);
     }
@@ -18,7 +18,12 @@ package org.apache.qpid.protonj2.codec.messaging;
 
 import java.io.IOException;
 
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonByteBufferAllocator;
 import org.apache.qpid.protonj2.codec.CodecBenchmarkBase;
+import org.apache.qpid.protonj2.engine.DeliveryTagGenerator;
+import org.apache.qpid.protonj2.engine.impl.ProtonDeliveryTagGenerator;
+import org.apache.qpid.protonj2.types.DeliveryTag;
 import org.apache.qpid.protonj2.types.UnsignedInteger;
 import org.apache.qpid.protonj2.types.transport.Transfer;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -28,7 +33,13 @@ import org.openjdk.jmh.runner.RunnerException;
 
 public class TransferBenchmark extends CodecBenchmarkBase {
 
+    // Number of distinct tags cycled through when decoding transfers from a pooled tag sender
+    private static final int ROTATING_TAG_COUNT = 512;
+
     private Transfer transfer;
+    private Transfer pooledTagTransfer;
+    private DeliveryTagGenerator tagGenerator;
+    private ProtonBuffer rotatingTagsBuffer;
     private Blackhole blackhole;
 
     @Setup
@@ -36,6 +47,7 @@ public class TransferBenchmark extends CodecBenchmarkBase {
         this.blackhole = blackhole;
         super.init();
         initTransfer();
+        initRotatingTagsBuffer();
         encode();
     }
 
@@ -44,6 +56,23 @@ public class TransferBenchmark extends CodecBenchmarkBase {
         transfer.setDeliveryTag(new byte[] { 1, 2, 3 });
         transfer.setHandle(10);
         transfer.setMessageFormat(UnsignedInteger.ZERO.intValue());
+
+        tagGenerator = ProtonDeliveryTagGenerator.BUILTIN.POOLED.createGenerator();
+
+        pooledTagTransfer = new Transfer();
+        pooledTagTransfer.setHandle(10);
+        pooledTagTransfer.setMessageFormat(UnsignedInteger.ZERO.intValue());
+    }
+
+    private void initRotatingTagsBuffer() {
+        final DeliveryTagGenerator generator = ProtonDeliveryTagGenerator.BUILTIN.POOLED.createGenerator();
+
+        rotatingTagsBuffer = ProtonByteBufferAllocator.DEFAULT.allocate(bufferSize());
+
+        for (int i = 0; i < ROTATING_TAG_COUNT; ++i) {
+            pooledTagTransfer.setDeliveryTag(generator.nextTag());
+            encoder.writeObject(rotatingTagsBuffer, encoderState, pooledTagTransfer);
+        }
     }
 
     @Benchmark
@@ -58,6 +87,26 @@ public class TransferBenchmark extends CodecBenchmarkBase {
         blackhole.consume(decoder.readObject(buffer, decoderState));
     }
 
+    @Benchmark
+    public void encodeWithPooledTag() {
+        final DeliveryTag tag = tagGenerator.nextTag();
+
+        buffer.clear();
+        pooledTagTransfer.setDeliveryTag(tag);
+        encoder.writeObject(buffer, encoderState, pooledTagTransfer);
+
+        tag.release();
+    }
+
+    @Benchmark
+    public void decodeRotatingTags() throws IOException {
+        if (!rotatingTagsBuffer.isReadable()) {
+            rotatingTagsBuffer.setReadIndex(0);
+        }
+
+        blackhole.consume(decoder.readObject(rotatingTagsBuffer, decoderState));
+    }
+
     public static void main(String[] args) throws RunnerException {
         runBenchmark(TransferBenchmark.class);
     }
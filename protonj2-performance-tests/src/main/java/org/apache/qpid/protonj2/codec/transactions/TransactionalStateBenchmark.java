@@ -0,0 +1,82 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.codec.transactions;
+
+import org.apache.qpid.protonj2.codec.CodecBenchmarkBase;
+import org.apache.qpid.protonj2.types.Binary;
+import org.apache.qpid.protonj2.types.messaging.Accepted;
+import org.apache.qpid.protonj2.types.transactions.TransactionalState;
+import org.apache.qpid.protonj2.types.transport.DeliveryState;
+import org.apache.qpid.protonj2.types.transport.Disposition;
+import org.apache.qpid.protonj2.types.transport.Role;
+import org.apache.qpid.protonj2.types.transport.Transfer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Compares the cost of encoding the per message Transfer and Disposition performatives
+ * when the message is sent or accepted inside a transaction versus outside of one.
+ */
+public class TransactionalStateBenchmark extends CodecBenchmarkBase {
+
+    @Param({"false", "true"})
+    private boolean transacted;
+
+    private Transfer transfer;
+    private Disposition disposition;
+
+    @Setup
+    public void init() {
+        super.init();
+
+        final Binary txnId = new Binary(new byte[] { 0, 1, 2, 3, 4, 5, 6, 7 });
+        final DeliveryState sendState = transacted ? new TransactionalState().setTxnId(txnId) : null;
+        final DeliveryState acceptState = transacted ?
+            new TransactionalState().setTxnId(txnId).setOutcome(Accepted.getInstance()) : Accepted.getInstance();
+
+        transfer = new Transfer();
+        transfer.setDeliveryTag(new byte[] { 1, 2, 3 });
+        transfer.setHandle(10);
+        transfer.setDeliveryId(1);
+        transfer.setMessageFormat(0);
+        transfer.setState(sendState);
+
+        disposition = new Disposition();
+        disposition.setRole(Role.RECEIVER);
+        disposition.setSettled(true);
+        disposition.setState(acceptState);
+        disposition.setFirst(2);
+    }
+
+    @Benchmark
+    public void encodeTransfer() {
+        buffer.clear();
+        encoder.writeObject(buffer, encoderState, transfer);
+    }
+
+    @Benchmark
+    public void encodeDisposition() {
+        buffer.clear();
+        encoder.writeObject(buffer, encoderState, disposition);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        runBenchmark(TransactionalStateBenchmark.class);
+    }
+}
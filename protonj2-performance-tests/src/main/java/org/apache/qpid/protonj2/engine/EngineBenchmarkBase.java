@@ -0,0 +1,276 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.engine;
+
+import java.util.ArrayDeque;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonByteBufferAllocator;
+import org.apache.qpid.protonj2.engine.impl.ProtonDeliveryTagGenerator;
+import org.apache.qpid.protonj2.types.messaging.Accepted;
+import org.apache.qpid.protonj2.types.messaging.Source;
+import org.apache.qpid.protonj2.types.messaging.Target;
+import org.apache.qpid.protonj2.types.transport.ReceiverSettleMode;
+import org.apache.qpid.protonj2.types.transport.SenderSettleMode;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Base for benchmarks that drive the full engine send and receive path.
+ * <p>
+ * Two {@link Engine} instances are wired back to back in memory with the output of each
+ * engine queued and later ingested by the other, which stands in for the IO layer that
+ * would normally sit between them.  A {@link Sender} is opened on the client engine and
+ * the server engine answers with a {@link Receiver} that consumes each delivery and, when
+ * the delivery was not sent pre-settled, accepts and settles it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public abstract class EngineBenchmarkBase {
+
+    public static final int DEFAULT_CREDIT_WINDOW = 1000;
+
+    @Param({"64", "1024", "65536"})
+    protected int payloadSize;
+
+    @Param({"16384", "65536"})
+    protected int maxFrameSize;
+
+    @Param({"0", "262144"})
+    protected int sessionCapacity;
+
+    @Param({"true", "false"})
+    protected boolean presettled;
+
+    protected Engine clientEngine;
+    protected Engine serverEngine;
+
+    protected Connection connection;
+    protected Session session;
+    protected Sender sender;
+    protected Receiver receiver;
+
+    protected ProtonBuffer payload;
+
+    private final ArrayDeque<ProtonBuffer> clientOutput = new ArrayDeque<>();
+    private final ArrayDeque<ProtonBuffer> serverOutput = new ArrayDeque<>();
+
+    private Blackhole blackhole;
+
+    /**
+     * It could be overridden to allow the credit granted by the receiving side to be
+     * sized differently from {@link #DEFAULT_CREDIT_WINDOW}
+     *
+     * @return the amount of credit the receiver keeps topped up for the sender.
+     */
+    protected int creditWindow() {
+        return DEFAULT_CREDIT_WINDOW;
+    }
+
+    public void init(Blackhole blackhole) {
+        this.blackhole = blackhole;
+
+        initPayload();
+        initServerEngine();
+        initClientEngine();
+    }
+
+    @TearDown
+    public void shutdown() {
+        clientEngine.shutdown();
+        serverEngine.shutdown();
+        clientOutput.clear();
+        serverOutput.clear();
+    }
+
+    /**
+     * Sends a single complete delivery from the client sender, moving frames between the
+     * two engines only when the sender cannot make progress without doing so.
+     *
+     * @return the {@link OutgoingDelivery} that was sent.
+     */
+    protected final OutgoingDelivery send() {
+        awaitSendable();
+
+        final OutgoingDelivery delivery = sender.next();
+
+        if (presettled) {
+            delivery.settle();
+        }
+
+        payload.setReadIndex(0);
+        delivery.writeBytes(payload);
+
+        // Large payloads with small session windows must wait for the remote to read
+        // and update the incoming window before the remaining frames can be written.
+        while (payload.isReadable()) {
+            awaitSendable();
+            delivery.writeBytes(payload);
+        }
+
+        return delivery;
+    }
+
+    /**
+     * Moves all pending output from each engine into its peer until both sides go quiet.
+     *
+     * @return true if any frames were exchanged between the two engines.
+     */
+    protected final boolean pump() {
+        boolean progress = false;
+
+        while (!clientOutput.isEmpty() || !serverOutput.isEmpty()) {
+            progress = true;
+
+            ProtonBuffer buffer;
+            while ((buffer = clientOutput.poll()) != null) {
+                serverEngine.ingest(buffer);
+            }
+            while ((buffer = serverOutput.poll()) != null) {
+                clientEngine.ingest(buffer);
+            }
+        }
+
+        return progress;
+    }
+
+    private void awaitSendable() {
+        while (!sender.isSendable()) {
+            if (!pump()) {
+                throw new IllegalStateException("Sender cannot make progress and no frames are pending");
+            }
+        }
+    }
+
+    private void initPayload() {
+        final Random random = new Random(payloadSize);
+        final byte[] bytes = new byte[payloadSize];
+
+        random.nextBytes(bytes);
+
+        payload = ProtonByteBufferAllocator.DEFAULT.wrap(bytes);
+    }
+
+    private void initServerEngine() {
+        serverEngine = EngineFactory.PROTON.createNonSaslEngine();
+        serverEngine.outputHandler((buffer, ioComplete) -> {
+            serverOutput.add(buffer);
+            if (ioComplete != null) {
+                ioComplete.run();
+            }
+        });
+
+        final Connection serverConnection = serverEngine.start();
+
+        serverConnection.setMaxFrameSize(maxFrameSize);
+        serverConnection.openHandler(remote -> remote.open());
+        serverConnection.sessionOpenHandler(remote -> remote.setIncomingCapacity(sessionCapacity).open());
+        serverConnection.receiverOpenHandler(remote -> {
+            receiver = remote;
+            receiver.setSource(remote.getRemoteSource());
+            receiver.setTarget((Target) remote.getRemoteTarget());
+            receiver.setReceiverSettleMode(ReceiverSettleMode.FIRST);
+            receiver.deliveryReadHandler(this::handleDeliveryRead);
+            receiver.open();
+            receiver.addCredit(creditWindow());
+        });
+    }
+
+    private void initClientEngine() {
+        clientEngine = EngineFactory.PROTON.createNonSaslEngine();
+        clientEngine.outputHandler((buffer, ioComplete) -> {
+            clientOutput.add(buffer);
+            if (ioComplete != null) {
+                ioComplete.run();
+            }
+        });
+
+        connection = clientEngine.start();
+        connection.setMaxFrameSize(maxFrameSize).open();
+        session = connection.session().open();
+        sender = session.sender("engine-benchmark");
+        sender.setSenderSettleMode(presettled ? SenderSettleMode.SETTLED : SenderSettleMode.UNSETTLED);
+        sender.setSource(new Source());
+        sender.setTarget(new Target());
+        sender.setDeliveryTagGenerator(ProtonDeliveryTagGenerator.BUILTIN.POOLED.createGenerator());
+        sender.deliveryStateUpdatedHandler(delivery -> {
+            if (delivery.isRemotelySettled()) {
+                delivery.settle();
+            }
+        });
+        sender.open();
+
+        pump();
+
+        if (!sender.isRemotelyOpen() || receiver == null) {
+            throw new IllegalStateException("Loopback engines failed to open the benchmark link");
+        }
+    }
+
+    private void handleDeliveryRead(IncomingDelivery delivery) {
+        final ProtonBuffer received = delivery.readAll();
+        if (received != null) {
+            blackhole.consume(received);
+        }
+
+        if (!delivery.isPartial()) {
+            if (!delivery.isRemotelySettled()) {
+                delivery.disposition(Accepted.getInstance(), true);
+            }
+
+            final int credit = receiver.getCredit();
+            if (credit < creditWindow() / 2) {
+                receiver.addCredit(creditWindow() - credit);
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        runBenchmark(EngineBenchmarkBase.class);
+    }
+
+    public static void runBenchmark(Class<?> benchmarkClass) throws RunnerException {
+        final Options opt = new OptionsBuilder()
+            .include(benchmarkClass.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .shouldDoGC(true)
+            .warmupIterations(5)
+            .measurementIterations(5)
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+}
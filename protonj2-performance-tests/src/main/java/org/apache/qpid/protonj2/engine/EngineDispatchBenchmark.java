@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.engine;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonByteBufferAllocator;
+import org.apache.qpid.protonj2.types.messaging.Source;
+import org.apache.qpid.protonj2.types.messaging.Target;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Measures the cost of routing incoming frames to their session and link as the number of
+ * links open on a connection grows.
+ * <p>
+ * The client engine opens the configured number of senders spread across the configured number
+ * of sessions and the server engine answers each with a receiver.  A link flow frame is then
+ * captured from the server for every link and the benchmark feeds those frames to the client
+ * engine in a strided order so that every ingest has to look up a different channel and handle.
+ * <p>
+ * When the fused pipeline is disabled a pass-through handler is placed at the front of the client
+ * engine pipeline.  The added handler only sees outgoing work, incoming frames are consumed by
+ * the performative handler before reaching it, so the comparison isolates the cost of routing
+ * each frame through the generic handler chain.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EngineDispatchBenchmark {
+
+    private static final int STRIDE = 7919;
+
+    @Param({"1", "64", "1024", "4096"})
+    private int linkCount;
+
+    @Param({"1", "16"})
+    private int sessionCount;
+
+    @Param({"true", "false"})
+    private boolean fusedPipeline;
+
+    private Engine clientEngine;
+    private Engine serverEngine;
+
+    private final ArrayDeque<ProtonBuffer> clientOutput = new ArrayDeque<>();
+    private final ArrayDeque<ProtonBuffer> serverOutput = new ArrayDeque<>();
+
+    private final List<Receiver> receivers = new ArrayList<>();
+
+    private ProtonBuffer[] flowFrames;
+    private int nextFrame;
+
+    @Setup
+    public void init() {
+        serverEngine = EngineFactory.PROTON.createNonSaslEngine();
+        serverEngine.outputHandler((buffer, ioComplete) -> {
+            serverOutput.add(buffer);
+            if (ioComplete != null) {
+                ioComplete.run();
+            }
+        });
+
+        final Connection serverConnection = serverEngine.start();
+
+        serverConnection.openHandler(remote -> remote.open());
+        serverConnection.sessionOpenHandler(remote -> remote.open());
+        serverConnection.receiverOpenHandler(remote -> {
+            remote.setSource(remote.getRemoteSource());
+            remote.setTarget((Target) remote.getRemoteTarget());
+            remote.open();
+            receivers.add(remote);
+        });
+
+        clientEngine = EngineFactory.PROTON.createNonSaslEngine();
+        if (!fusedPipeline) {
+            clientEngine.pipeline().addFirst("pass-through", new EngineHandler() {});
+        }
+        clientEngine.outputHandler((buffer, ioComplete) -> {
+            clientOutput.add(buffer);
+            if (ioComplete != null) {
+                ioComplete.run();
+            }
+        });
+
+        final Connection connection = clientEngine.start().open();
+        final Session[] sessions = new Session[sessionCount];
+
+        for (int i = 0; i < sessionCount; ++i) {
+            sessions[i] = connection.session().open();
+        }
+
+        for (int i = 0; i < linkCount; ++i) {
+            final Sender sender = sessions[i % sessionCount].sender("dispatch-" + i);
+            sender.setSource(new Source());
+            sender.setTarget(new Target());
+            sender.open();
+        }
+
+        pump();
+
+        if (receivers.size() != linkCount) {
+            throw new IllegalStateException("Loopback engines failed to open all benchmark links");
+        }
+
+        // Capture one encoded link flow per link, the same flow can be replayed indefinitely
+        // as it carries the same delivery count and credit every time.
+        flowFrames = new ProtonBuffer[linkCount];
+        for (int i = 0; i < linkCount; ++i) {
+            receivers.get(i).addCredit(1);
+
+            final ProtonBuffer captured = ProtonByteBufferAllocator.DEFAULT.allocate();
+            ProtonBuffer buffer;
+            while ((buffer = serverOutput.poll()) != null) {
+                captured.writeBytes(buffer);
+            }
+
+            flowFrames[i] = captured;
+        }
+
+        // Deliver the captured frames once so that the replayed frames are steady state updates.
+        for (ProtonBuffer frame : flowFrames) {
+            clientEngine.ingest(frame.duplicate());
+        }
+        clientOutput.clear();
+    }
+
+    @TearDown
+    public void shutdown() {
+        clientEngine.shutdown();
+        serverEngine.shutdown();
+        clientOutput.clear();
+        serverOutput.clear();
+        receivers.clear();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(100)
+    public void dispatchLinkFlow() {
+        for (int i = 0; i < 100; ++i) {
+            nextFrame = (nextFrame + STRIDE) % linkCount;
+            clientEngine.ingest(flowFrames[nextFrame].duplicate());
+        }
+
+        clientOutput.clear();
+    }
+
+    private void pump() {
+        while (!clientOutput.isEmpty() || !serverOutput.isEmpty()) {
+            ProtonBuffer buffer;
+            while ((buffer = clientOutput.poll()) != null) {
+                serverEngine.ingest(buffer);
+            }
+            while ((buffer = serverOutput.poll()) != null) {
+                clientEngine.ingest(buffer);
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        EngineBenchmarkBase.runBenchmark(EngineDispatchBenchmark.class);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.engine;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Measures the cost of moving messages through the full engine send and receive path.
+ * <p>
+ * The round trip benchmark sends one message and waits for it to be received and settled
+ * before returning which gives a per message latency, the batch benchmark keeps the sender
+ * writing for as long as credit and session window allow and so reports messages per second.
+ * Running with the GC profiler enabled reports the bytes allocated per message.
+ */
+public class EngineTransferBenchmark extends EngineBenchmarkBase {
+
+    public static final int BATCH_SIZE = 100;
+
+    @Override
+    @Setup
+    public void init(Blackhole blackhole) {
+        super.init(blackhole);
+    }
+
+    @Benchmark
+    @BenchmarkMode({ Mode.AverageTime, Mode.SampleTime })
+    public void sendAndSettle(Blackhole blackhole) {
+        blackhole.consume(send());
+        pump();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void sendBatch(Blackhole blackhole) {
+        for (int i = 0; i < BATCH_SIZE; ++i) {
+            blackhole.consume(send());
+        }
+        pump();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        runBenchmark(EngineTransferBenchmark.class);
+    }
+}
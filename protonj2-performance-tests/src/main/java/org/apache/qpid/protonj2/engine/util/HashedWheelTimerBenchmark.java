@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.engine.util;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Compares scheduling and then cancelling batches of timeouts on a {@link HashedWheelTimer} against
+ * doing the same with a {@link ScheduledThreadPoolExecutor}, which models the per request and per
+ * blocked send timeouts that are almost always cancelled before they expire.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class HashedWheelTimerBenchmark {
+
+    private static final Runnable NO_OP = () -> {};
+    private static final Executor DIRECT = Runnable::run;
+
+    @Param({"16", "1024"})
+    private int outstanding;
+
+    private ScheduledThreadPoolExecutor executor;
+    private HashedWheelTimer timer;
+
+    private ScheduledFuture<?>[] futures;
+    private HashedWheelTimer.Timeout[] timeouts;
+
+    @Setup
+    public void init() {
+        executor = new ScheduledThreadPoolExecutor(1);
+        executor.setRemoveOnCancelPolicy(true);
+        timer = new HashedWheelTimer("benchmark-timer");
+
+        futures = new ScheduledFuture<?>[outstanding];
+        timeouts = new HashedWheelTimer.Timeout[outstanding];
+    }
+
+    @TearDown
+    public void shutdown() {
+        executor.shutdownNow();
+        timer.close();
+    }
+
+    @Benchmark
+    public void scheduledExecutorScheduleAndCancel() {
+        for (int i = 0; i < outstanding; ++i) {
+            futures[i] = executor.schedule(NO_OP, 30, TimeUnit.SECONDS);
+        }
+
+        for (int i = 0; i < outstanding; ++i) {
+            futures[i].cancel(false);
+        }
+    }
+
+    @Benchmark
+    public void hashedWheelTimerScheduleAndCancel() {
+        for (int i = 0; i < outstanding; ++i) {
+            timeouts[i] = timer.schedule(DIRECT, NO_OP, 30, TimeUnit.SECONDS);
+        }
+
+        for (int i = 0; i < outstanding; ++i) {
+            timeouts[i].cancel();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        RingQueueBenchmark.runBenchmark(HashedWheelTimerBenchmark.class);
+    }
+}
@@ -48,6 +48,7 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 public abstract class MapBenchmarkBase {
 
     public static final int DEFAULT_MAP_VALUE_RANGE = 8192;
+    public static final int UNSETTLED_WINDOW = 64;
 
     protected final String DUMMY_STRING = "ASDFGHJ";
     protected final Random random = new Random();
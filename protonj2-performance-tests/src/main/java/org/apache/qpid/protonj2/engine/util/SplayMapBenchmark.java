@@ -35,6 +35,7 @@ public class SplayMapBenchmark extends MapBenchmarkBase {
 
     private SplayMap<String> sqMap;
     private SplayMap<String> sqFilledMap;
+    private int nextDeliveryId;
 
     @Override
     @Setup
@@ -66,6 +67,14 @@ public class SplayMapBenchmark extends MapBenchmarkBase {
         }
     }
 
+    @Benchmark
+    public void unsettledWindowWithPrimitive(Blackhole blackHole) {
+        for (int i = 0; i < DEFAULT_MAP_VALUE_RANGE; ++i) {
+            sqMap.put(nextDeliveryId, DUMMY_STRING);
+            blackHole.consume(sqMap.remove(nextDeliveryId++ - UNSETTLED_WINDOW));
+        }
+    }
+
     @Override
     protected Map<UnsignedInteger, String> createMap() {
         return new SplayMap<>();
@@ -128,14 +128,16 @@ public interface Decoder {
     /**
      * This method expects to read a {@link Binary} encoded type from the provided buffer and
      * constructs a {@link DeliveryTag} type that wraps the bytes encoded.  If the encoding is
-     * a NULL AMQP type then this method returns <code>null</code>.
+     * a NULL AMQP type then this method returns <code>null</code>.  Implementations may return
+     * a previously decoded tag instance with matching bytes in order to avoid allocating for the
+     * short tags most senders reuse, callers must therefore not modify the returned tag bytes.
      *
      * @param buffer
      *      The buffer to read a Binary encoded value from
      * @param state
      *      The current encoding state.
      *
-     * @return a new DeliveryTag instance or null if an AMQP NULL encoding is found.
+     * @return a DeliveryTag instance or null if an AMQP NULL encoding is found.
      *
      * @throws DecodeException if an error occurs while decoding the {@link DeliveryTag} instance.
      */
@@ -0,0 +1,422 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.codec.decoders;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Insertion ordered {@link Map} implementation that stores its keys and values in two parallel
+ * arrays, intended for the small maps carried in message sections such as the application
+ * properties and message annotations.
+ * <p>
+ * Small maps are searched with a linear scan of the key array which needs no per entry objects
+ * and no hash table.  Once the map grows beyond {@link #LINEAR_SCAN_THRESHOLD} entries an open
+ * addressing table of entry positions is built so that lookups remain constant time for larger
+ * maps.  Removal shifts the following entries down to preserve insertion order so this map is
+ * not suited to workloads that remove many entries from large maps.
+ * <p>
+ * This map is not thread safe.
+ *
+ * @param <K> The key type stored in the map
+ * @param <V> The value type stored in the map
+ */
+public final class CompactMap<K, V> extends AbstractMap<K, V> {
+
+    /**
+     * The number of entries above which lookups use a hash table instead of a linear scan.
+     */
+    public static final int LINEAR_SCAN_THRESHOLD = 8;
+
+    private static final int DEFAULT_CAPACITY = 4;
+
+    private Object[] keys;
+    private Object[] values;
+    private int size;
+    private int modCount;
+
+    // Open addressing table of entry position plus one, zero marks an empty slot.
+    private int[] index;
+
+    private EntrySet entrySet;
+
+    /**
+     * Creates a new empty {@link CompactMap} with a default initial capacity.
+     */
+    public CompactMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty {@link CompactMap} sized to hold the given number of entries.
+     *
+     * @param capacity
+     *      The number of entries the map can hold before it must grow.
+     */
+    public CompactMap(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Initial capacity cannot be negative: " + capacity);
+        }
+
+        this.keys = new Object[capacity];
+        this.values = new Object[capacity];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        for (int i = 0; i < size; ++i) {
+            if (Objects.equals(value, values[i])) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V get(Object key) {
+        final int position = indexOf(key);
+        return position >= 0 ? (V) values[position] : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V put(K key, V value) {
+        final int position = indexOf(key);
+
+        if (position >= 0) {
+            final V oldValue = (V) values[position];
+            values[position] = value;
+            return oldValue;
+        }
+
+        if (size == keys.length) {
+            final int newCapacity = Math.max(DEFAULT_CAPACITY, size + (size >> 1) + 1);
+            keys = Arrays.copyOf(keys, newCapacity);
+            values = Arrays.copyOf(values, newCapacity);
+        }
+
+        keys[size] = key;
+        values[size] = value;
+        size++;
+        modCount++;
+
+        if (index != null) {
+            if (size * 2 > index.length) {
+                rebuildIndex();
+            } else {
+                insertIndex(key, size - 1);
+            }
+        } else if (size > LINEAR_SCAN_THRESHOLD) {
+            rebuildIndex();
+        }
+
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V remove(Object key) {
+        final int position = indexOf(key);
+
+        if (position < 0) {
+            return null;
+        }
+
+        final V oldValue = (V) values[position];
+
+        removeAt(position);
+
+        return oldValue;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(keys, 0, size, null);
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+        index = null;
+        modCount++;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        final int expectedModCount = modCount;
+
+        for (int i = 0; i < size; ++i) {
+            action.accept((K) keys[i], (V) values[i]);
+        }
+
+        if (expectedModCount != modCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Returns the key stored at the given position in insertion order which allows callers such
+     * as the map encoders to visit the entries without creating an iterator or entry objects.
+     *
+     * @param position
+     *      The position of the entry whose key should be returned.
+     *
+     * @return the key stored at the given position.
+     */
+    @SuppressWarnings("unchecked")
+    public K keyAt(int position) {
+        checkPosition(position);
+        return (K) keys[position];
+    }
+
+    /**
+     * Returns the value stored at the given position in insertion order.
+     *
+     * @param position
+     *      The position of the entry whose value should be returned.
+     *
+     * @return the value stored at the given position.
+     */
+    @SuppressWarnings("unchecked")
+    public V valueAt(int position) {
+        checkPosition(position);
+        return (V) values[position];
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+
+        return entrySet;
+    }
+
+    //----- Internal implementation
+
+    private int indexOf(Object key) {
+        if (index == null) {
+            for (int i = 0; i < size; ++i) {
+                if (Objects.equals(key, keys[i])) {
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+
+        final int mask = index.length - 1;
+
+        for (int slot = hash(key) & mask; index[slot] != 0; slot = (slot + 1) & mask) {
+            final int position = index[slot] - 1;
+            if (Objects.equals(key, keys[position])) {
+                return position;
+            }
+        }
+
+        return -1;
+    }
+
+    private void removeAt(int position) {
+        final int moved = size - position - 1;
+
+        if (moved > 0) {
+            System.arraycopy(keys, position + 1, keys, position, moved);
+            System.arraycopy(values, position + 1, values, position, moved);
+        }
+
+        size--;
+        keys[size] = null;
+        values[size] = null;
+        modCount++;
+
+        // Positions after the removed entry have shifted so the index must be recreated
+        if (index != null) {
+            if (size > LINEAR_SCAN_THRESHOLD) {
+                rebuildIndex();
+            } else {
+                index = null;
+            }
+        }
+    }
+
+    private void rebuildIndex() {
+        // Sized to keep the table at most half full so that probe sequences stay short
+        index = new int[Integer.highestOneBit(size * 2 - 1) << 1];
+
+        for (int i = 0; i < size; ++i) {
+            insertIndex(keys[i], i);
+        }
+    }
+
+    private void insertIndex(Object key, int position) {
+        final int mask = index.length - 1;
+
+        int slot = hash(key) & mask;
+        while (index[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+
+        index[slot] = position + 1;
+    }
+
+    private void checkPosition(int position) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException("Position " + position + " is out of range for map of size " + size);
+        }
+    }
+
+    private static int hash(Object key) {
+        final int hash = Objects.hashCode(key);
+        return hash ^ (hash >>> 16);
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>> {
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            CompactMap.this.clear();
+        }
+
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return new EntryIterator();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<K, V>> {
+
+        private int next;
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            if (next >= size) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturned = next++;
+
+            return new MapEntry(lastReturned);
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            removeAt(lastReturned);
+
+            next = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    private final class MapEntry implements Entry<K, V> {
+
+        private final int position;
+
+        MapEntry(int position) {
+            this.position = position;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public K getKey() {
+            return (K) keys[position];
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public V getValue() {
+            return (V) values[position];
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public V setValue(V value) {
+            final V oldValue = (V) values[position];
+            values[position] = value;
+            return oldValue;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Map.Entry)) {
+                return false;
+            }
+
+            final Map.Entry<?, ?> entry = (Map.Entry<?, ?>) other;
+
+            return Objects.equals(getKey(), entry.getKey()) && Objects.equals(getValue(), entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.codec.decoders;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.types.DeliveryTag;
+
+/**
+ * Direct mapped cache of short {@link DeliveryTag} values read from incoming transfers.
+ * <p>
+ * Senders commonly reuse a small set of short delivery tags (a pooled tag generator cycles
+ * through the same numeric values as deliveries are settled) so rather than allocating a
+ * new tag and backing array for every transfer read the decoder looks up the tag bytes in
+ * this cache and hands out the previously decoded instance when the bytes match.  A cache
+ * hit compares the bytes in place in the incoming buffer and performs no allocation, a miss
+ * decodes a new tag which then replaces the existing entry in its slot.
+ * <p>
+ * Tags returned from this cache are shared between deliveries and so their bytes must never
+ * be modified.  This cache is not thread safe and is owned by a single {@link ProtonDecoderState}.
+ */
+final class DeliveryTagCache {
+
+    /**
+     * The largest encoded tag size that will be looked up in the cache.
+     */
+    static final int MAX_CACHED_TAG_SIZE = Long.BYTES;
+
+    // Sized so that the default tag pool of the sender side pooled generator fits without collision
+    private static final int CACHE_SIZE = 1024;
+    private static final int CACHE_MASK = CACHE_SIZE - 1;
+
+    private final DeliveryTag.ProtonDeliveryTag[] entries = new DeliveryTag.ProtonDeliveryTag[CACHE_SIZE];
+
+    /**
+     * Reads a delivery tag of the given length from the buffer returning a cached tag
+     * instance when one with matching bytes is available.  The caller must ensure that
+     * the length does not exceed {@link #MAX_CACHED_TAG_SIZE} and that the buffer holds
+     * at least that many readable bytes.
+     *
+     * @param buffer
+     *      The buffer to read the tag bytes from.
+     * @param length
+     *      The number of bytes that make up the encoded tag.
+     *
+     * @return a {@link DeliveryTag} whose bytes match those read from the buffer.
+     */
+    DeliveryTag readDeliveryTag(ProtonBuffer buffer, int length) {
+        final int readIndex = buffer.getReadIndex();
+
+        // Tags are folded as an unsigned big endian value so the numeric tags produced by the
+        // built in generators map to distinct slots until the counter exceeds the cache size.
+        long value = 0;
+        for (int i = 0; i < length; ++i) {
+            value = value << 8 | (buffer.getByte(readIndex + i) & 0xFF);
+        }
+
+        final int hash = (int) (value ^ (value >>> 32));
+        final int slot = (hash ^ (hash >>> 16)) & CACHE_MASK;
+        final DeliveryTag.ProtonDeliveryTag cached = entries[slot];
+
+        if (cached != null && matches(cached.tagBytes(), buffer, readIndex, length)) {
+            buffer.skipBytes(length);
+            return cached;
+        }
+
+        final byte[] tagBytes = new byte[length];
+        buffer.readBytes(tagBytes);
+
+        return entries[slot] = new DeliveryTag.ProtonDeliveryTag(tagBytes);
+    }
+
+    private static boolean matches(byte[] tagBytes, ProtonBuffer buffer, int readIndex, int length) {
+        if (tagBytes.length != length) {
+            return false;
+        }
+
+        for (int i = 0; i < length; ++i) {
+            if (tagBytes[i] != buffer.getByte(readIndex + i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
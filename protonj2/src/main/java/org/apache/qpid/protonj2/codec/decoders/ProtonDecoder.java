@@ -775,9 +775,9 @@ public final class ProtonDecoder implements Decoder {
 
         switch (encodingCode) {
             case EncodingCodes.VBIN8:
-                return new DeliveryTag.ProtonDeliveryTag(binary8Decoder.readValueAsArray(buffer, state));
+                return readDeliveryTag(buffer, state, binary8Decoder.readSize(buffer));
             case EncodingCodes.VBIN32:
-                return new DeliveryTag.ProtonDeliveryTag(binary32Decoder.readValueAsArray(buffer, state));
+                return readDeliveryTag(buffer, state, binary32Decoder.readSize(buffer));
             case EncodingCodes.NULL:
                 return null;
             default:
@@ -785,6 +785,22 @@ public final class ProtonDecoder implements Decoder {
         }
     }
 
+    private DeliveryTag readDeliveryTag(ProtonBuffer buffer, DecoderState state, int length) throws DecodeException {
+        if (length > buffer.getReadableBytes()) {
+            throw new DecodeException(
+                String.format("Binary data size %d is specified to be greater than the amount " +
+                              "of data available (%d)", length, buffer.getReadableBytes()));
+        }
+
+        if (length <= DeliveryTagCache.MAX_CACHED_TAG_SIZE && state instanceof ProtonDecoderState) {
+            return ((ProtonDecoderState) state).getDeliveryTagCache().readDeliveryTag(buffer, length);
+        } else {
+            final byte[] tagBytes = new byte[length];
+            buffer.readBytes(tagBytes);
+            return new DeliveryTag.ProtonDeliveryTag(tagBytes);
+        }
+    }
+
     @Override
     public String readString(ProtonBuffer buffer, DecoderState state) throws DecodeException {
         final byte encodingCode = readEncodingCode(buffer);
@@ -39,6 +39,7 @@ public final class ProtonDecoderState implements DecoderState {
     private final char[] decodeCache = new char[MAX_CHAR_BUFFER_CAHCE_SIZE];
 
     private UTF8Decoder stringDecoder;
+    private DeliveryTagCache deliveryTagCache;
 
     public ProtonDecoderState(ProtonDecoder decoder) {
         this.decoder = decoder;
@@ -63,6 +64,18 @@ public final class ProtonDecoderState implements DecoderState {
         this.stringDecoder = stringDecoder;
     }
 
+    /*
+     * The cache is kept with the state and not the decoder since the decoder instance can be shared
+     * across engines and threads while each state is confined to the one that created it.
+     */
+    DeliveryTagCache getDeliveryTagCache() {
+        if (deliveryTagCache == null) {
+            deliveryTagCache = new DeliveryTagCache();
+        }
+
+        return deliveryTagCache;
+    }
+
     @Override
     public String decodeUTF8(ProtonBuffer buffer, int length) throws DecodeException {
         if (stringDecoder == null) {
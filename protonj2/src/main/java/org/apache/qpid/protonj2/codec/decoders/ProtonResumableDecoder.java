@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.codec.decoders;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonCompositeBuffer;
+import org.apache.qpid.protonj2.codec.DecodeException;
+import org.apache.qpid.protonj2.codec.Decoder;
+import org.apache.qpid.protonj2.codec.DecoderState;
+import org.apache.qpid.protonj2.codec.EncodingCodes;
+import org.apache.qpid.protonj2.codec.TypeDecoder;
+
+/**
+ * Resumable AMQP type decoder that accumulates encoded bytes as they arrive in chunks and
+ * only decodes a value once all of its encoding is available.
+ * <p>
+ * Unlike the {@link ProtonStreamDecoder} this decoder never blocks waiting on more input, the
+ * caller appends each chunk as it arrives and checks {@link #remainingBytesNeeded()} to learn
+ * whether the next value can be read or how many more bytes must be supplied first.  The size
+ * of the next value is computed from the AMQP encoding codes and size prefixes using absolute
+ * reads over the buffered bytes, appended chunks are not copied and consumed chunks are released
+ * as decoding progresses.
+ */
+public final class ProtonResumableDecoder {
+
+    private final Decoder decoder;
+    private final DecoderState decoderState;
+    private final ProtonCompositeBuffer buffer = new ProtonCompositeBuffer();
+
+    /**
+     * Creates a new resumable decoder that decodes values using the provided {@link Decoder}.
+     *
+     * @param decoder
+     *      The buffer based decoder used once a complete value has been accumulated.
+     */
+    public ProtonResumableDecoder(Decoder decoder) {
+        this.decoder = decoder;
+        this.decoderState = decoder.newDecoderState();
+    }
+
+    /**
+     * Appends the readable bytes of the given chunk to the bytes awaiting decode, the chunk is
+     * not copied and should not be modified by the caller afterwards.
+     *
+     * @param chunk
+     *      The next chunk of encoded bytes.
+     *
+     * @return this {@link ProtonResumableDecoder} instance.
+     */
+    public ProtonResumableDecoder append(ProtonBuffer chunk) {
+        if (chunk.isReadable()) {
+            buffer.reclaimRead();
+            buffer.append(chunk);
+        }
+
+        return this;
+    }
+
+    /**
+     * @return the number of bytes that have been appended and not yet consumed.
+     */
+    public int getReadableBytes() {
+        return buffer.getReadableBytes();
+    }
+
+    /**
+     * Provides access to the bytes that have been appended but not yet consumed, reads from the
+     * returned buffer consume those bytes.
+     *
+     * @return the buffer that holds the accumulated bytes.
+     */
+    public ProtonBuffer getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Computes how many more bytes must be appended before the next value is fully buffered, the
+     * value returned may be a lower bound when not enough bytes have arrived to read the size of
+     * the value, callers should append at least that many bytes and check again.
+     *
+     * @return the number of additional bytes needed before the next value can be read or zero if it can be read now.
+     *
+     * @throws DecodeException if the buffered bytes do not start with a valid AMQP encoding.
+     */
+    public long remainingBytesNeeded() throws DecodeException {
+        return Math.max(0, requiredLength(buffer.getReadIndex(), false) - buffer.getReadableBytes());
+    }
+
+    /**
+     * Computes how many more bytes must be appended before the type constructor of the next value
+     * is fully buffered, this includes any descriptor and the size prefix of variable width types
+     * which allows the type of the next value and its encoded size to be determined.
+     *
+     * @return the number of additional bytes needed before the next type constructor can be read.
+     *
+     * @throws DecodeException if the buffered bytes do not start with a valid AMQP encoding.
+     */
+    public long remainingHeaderBytesNeeded() throws DecodeException {
+        return Math.max(0, requiredLength(buffer.getReadIndex(), true) - buffer.getReadableBytes());
+    }
+
+    /**
+     * Reads the {@link TypeDecoder} for the next value without consuming any bytes.
+     *
+     * @return the type decoder for the next value.
+     *
+     * @throws DecodeException if the type constructor is not fully buffered or cannot be decoded.
+     */
+    public TypeDecoder<?> peekNextTypeDecoder() throws DecodeException {
+        checkAvailable(remainingHeaderBytesNeeded());
+
+        final int readIndex = buffer.getReadIndex();
+        try {
+            return decoder.readNextTypeDecoder(buffer, decoderState);
+        } finally {
+            buffer.setReadIndex(readIndex);
+        }
+    }
+
+    /**
+     * Reads the {@link TypeDecoder} for the next value consuming the type constructor, the caller
+     * is then responsible for consuming the encoded value.
+     *
+     * @return the type decoder for the next value.
+     *
+     * @throws DecodeException if the type constructor is not fully buffered or cannot be decoded.
+     */
+    public TypeDecoder<?> readNextTypeDecoder() throws DecodeException {
+        checkAvailable(remainingHeaderBytesNeeded());
+
+        return decoder.readNextTypeDecoder(buffer, decoderState);
+    }
+
+    /**
+     * Reads the next value from the accumulated bytes.
+     *
+     * @return the decoded value.
+     *
+     * @throws DecodeException if the value is not fully buffered or cannot be decoded.
+     */
+    public Object readObject() throws DecodeException {
+        checkAvailable(remainingBytesNeeded());
+
+        try {
+            return decoder.readObject(buffer, decoderState);
+        } finally {
+            buffer.reclaimRead();
+        }
+    }
+
+    //----- Internal implementation
+
+    private static void checkAvailable(long remaining) throws DecodeException {
+        if (remaining > 0) {
+            throw new DecodeException("Next value is incomplete, " + remaining + " more bytes are needed");
+        }
+    }
+
+    /*
+     * Returns the length of the encoding that starts at the given offset, or when the bytes that
+     * carry its size have not arrived yet the length that must be buffered to learn it.
+     */
+    private long requiredLength(int offset, boolean headerOnly) throws DecodeException {
+        final int writeIndex = buffer.getWriteIndex();
+
+        if (offset >= writeIndex) {
+            return offset - buffer.getReadIndex() + 1;
+        }
+
+        final byte encodingCode = buffer.getByte(offset);
+
+        if (encodingCode == EncodingCodes.DESCRIBED_TYPE_INDICATOR) {
+            final long descriptorEnd = buffer.getReadIndex() + requiredLength(offset + 1, false);
+            if (descriptorEnd > writeIndex) {
+                return descriptorEnd - buffer.getReadIndex();
+            }
+
+            return requiredLength((int) descriptorEnd, headerOnly);
+        }
+
+        final int start = offset - buffer.getReadIndex();
+
+        switch ((encodingCode & 0xF0) >>> 4) {
+            case 0x4:
+                return start + 1;
+            case 0x5:
+                return start + (headerOnly ? 1 : 2);
+            case 0x6:
+                return start + (headerOnly ? 1 : 3);
+            case 0x7:
+                return start + (headerOnly ? 1 : 5);
+            case 0x8:
+                return start + (headerOnly ? 1 : 9);
+            case 0x9:
+                return start + (headerOnly ? 1 : 17);
+            case 0xA:
+            case 0xC:
+            case 0xE:
+                if (headerOnly || offset + 1 >= writeIndex) {
+                    return start + 2;
+                } else {
+                    return start + 2 + (buffer.getByte(offset + 1) & 0xFF);
+                }
+            case 0xB:
+            case 0xD:
+            case 0xF:
+                if (headerOnly || offset + 4 >= writeIndex) {
+                    return start + 5;
+                } else {
+                    return start + 5 + (buffer.getInt(offset + 1) & 0xFFFFFFFFL);
+                }
+            default:
+                throw new DecodeException("Expected encoding code type but got: " + encodingCode);
+        }
+    }
+}
@@ -29,6 +29,7 @@ import org.apache.qpid.protonj2.codec.StreamDecoderState;
 import org.apache.qpid.protonj2.codec.StreamTypeDecoder;
 import org.apache.qpid.protonj2.codec.TypeDecoder;
 import org.apache.qpid.protonj2.codec.decoders.AbstractDescribedTypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.CompactMap;
 import org.apache.qpid.protonj2.codec.decoders.primitives.MapTypeDecoder;
 import org.apache.qpid.protonj2.codec.decoders.primitives.NullTypeDecoder;
 import org.apache.qpid.protonj2.types.Symbol;
@@ -40,6 +41,28 @@ import org.apache.qpid.protonj2.types.messaging.ApplicationProperties;
  */
 public final class ApplicationPropertiesTypeDecoder extends AbstractDescribedTypeDecoder<ApplicationProperties> {
 
+    private final boolean compactMaps;
+
+    /**
+     * Creates a new {@link ApplicationPropertiesTypeDecoder} that decodes the application properties
+     * into a {@link LinkedHashMap}.
+     */
+    public ApplicationPropertiesTypeDecoder() {
+        this(false);
+    }
+
+    /**
+     * Creates a new {@link ApplicationPropertiesTypeDecoder} that can optionally decode the application properties
+     * into a {@link CompactMap} which stores the entries in flat arrays instead of a hash table of
+     * entry objects, reducing the allocations made for the small maps most messages carry.
+     *
+     * @param compactMaps
+     *      should decoded maps use the {@link CompactMap} implementation.
+     */
+    public ApplicationPropertiesTypeDecoder(boolean compactMaps) {
+        this.compactMaps = compactMaps;
+    }
+
     @Override
     public Class<ApplicationProperties> getTypeClass() {
         return ApplicationProperties.class;
@@ -115,7 +138,7 @@ public final class ApplicationPropertiesTypeDecoder extends AbstractDescribedTyp
         Decoder decoder = state.getDecoder();
 
         // Count include both key and value so we must include that in the loop
-        Map<String, Object> map = new LinkedHashMap<>(count);
+        Map<String, Object> map = createMap(count);
         for (int i = 0; i < count / 2; i++) {
             String key = decoder.readString(buffer, state);
             Object value = decoder.readObject(buffer, state);
@@ -181,7 +204,7 @@ public final class ApplicationPropertiesTypeDecoder extends AbstractDescribedTyp
         StreamDecoder decoder = state.getDecoder();
 
         // Count include both key and value so we must include that in the loop
-        Map<String, Object> map = new LinkedHashMap<>(count);
+        Map<String, Object> map = createMap(count);
         for (int i = 0; i < count / 2; i++) {
             String key = decoder.readString(stream, state);
             Object value = decoder.readObject(stream, state);
@@ -191,4 +214,8 @@ public final class ApplicationPropertiesTypeDecoder extends AbstractDescribedTyp
 
         return map;
     }
+
+    private Map<String, Object> createMap(int count) {
+        return compactMaps ? new CompactMap<>(count / 2) : new LinkedHashMap<>(count);
+    }
 }
@@ -41,6 +41,28 @@ public final class DataTypeDecoder extends AbstractDescribedTypeDecoder<Data> {
 
     private static final Data EMPTY_DATA = new Data((Binary) null);
 
+    private final boolean sliceValues;
+
+    /**
+     * Creates a new {@link DataTypeDecoder} that copies the bytes of each decoded value.
+     */
+    public DataTypeDecoder() {
+        this(false);
+    }
+
+    /**
+     * Creates a new {@link DataTypeDecoder} that can optionally return {@link Data} sections whose
+     * value is a view of the bytes in the buffer being decoded instead of a copy of them.  A view
+     * avoids copying each body section but keeps the whole source buffer reachable and reflects any
+     * later changes to it, so it should only be used when the decoded buffer is not reused.
+     *
+     * @param sliceValues
+     *      should decoded values be views of the source buffer instead of copies.
+     */
+    public DataTypeDecoder(boolean sliceValues) {
+        this.sliceValues = sliceValues;
+    }
+
     @Override
     public Class<Data> getTypeClass() {
         return Data.class;
@@ -80,15 +102,22 @@ public final class DataTypeDecoder extends AbstractDescribedTypeDecoder<Data> {
         }
 
         final int position = buffer.getReadIndex();
-        final ProtonBuffer data = ProtonByteBufferAllocator.DEFAULT.allocate(size, size);
+        final ProtonBuffer data;
 
-        if (data.hasArray()) {
-            buffer.getBytes(position, data.getArray(), data.getArrayOffset(), size);
+        if (sliceValues) {
+            data = buffer.slice(position, size);
         } else {
-            buffer.getBytes(position, data, 0, size);
+            data = ProtonByteBufferAllocator.DEFAULT.allocate(size, size);
+
+            if (data.hasArray()) {
+                buffer.getBytes(position, data.getArray(), data.getArrayOffset(), size);
+            } else {
+                buffer.getBytes(position, data, 0, size);
+            }
+
+            data.setWriteIndex(size);
         }
 
-        data.setWriteIndex(size);
         buffer.setReadIndex(position + size);
 
         return new Data(new Binary(data));
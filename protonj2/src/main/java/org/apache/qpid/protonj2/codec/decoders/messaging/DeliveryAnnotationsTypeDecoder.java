@@ -27,6 +27,7 @@ import org.apache.qpid.protonj2.codec.StreamDecoderState;
 import org.apache.qpid.protonj2.codec.StreamTypeDecoder;
 import org.apache.qpid.protonj2.codec.TypeDecoder;
 import org.apache.qpid.protonj2.codec.decoders.AbstractDescribedTypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.CompactMap;
 import org.apache.qpid.protonj2.codec.decoders.primitives.MapTypeDecoder;
 import org.apache.qpid.protonj2.codec.decoders.primitives.NullTypeDecoder;
 import org.apache.qpid.protonj2.types.Symbol;
@@ -38,6 +39,28 @@ import org.apache.qpid.protonj2.types.messaging.DeliveryAnnotations;
  */
 public final class DeliveryAnnotationsTypeDecoder extends AbstractDescribedTypeDecoder<DeliveryAnnotations> {
 
+    private final boolean compactMaps;
+
+    /**
+     * Creates a new {@link DeliveryAnnotationsTypeDecoder} that decodes the delivery annotations
+     * into a {@link LinkedHashMap}.
+     */
+    public DeliveryAnnotationsTypeDecoder() {
+        this(false);
+    }
+
+    /**
+     * Creates a new {@link DeliveryAnnotationsTypeDecoder} that can optionally decode the delivery annotations
+     * into a {@link CompactMap} which stores the entries in flat arrays instead of a hash table of
+     * entry objects, reducing the allocations made for the small maps most messages carry.
+     *
+     * @param compactMaps
+     *      should decoded maps use the {@link CompactMap} implementation.
+     */
+    public DeliveryAnnotationsTypeDecoder(boolean compactMaps) {
+        this.compactMaps = compactMaps;
+    }
+
     @Override
     public Class<DeliveryAnnotations> getTypeClass() {
         return DeliveryAnnotations.class;
@@ -115,7 +138,7 @@ public final class DeliveryAnnotationsTypeDecoder extends AbstractDescribedTypeD
         }
 
         // Count include both key and value so we must include that in the loop
-        Map<Symbol, Object> map = new LinkedHashMap<>(count);
+        Map<Symbol, Object> map = createMap(count);
         for (int i = 0; i < count / 2; i++) {
             Symbol key = state.getDecoder().readSymbol(buffer, state);
             Object value = state.getDecoder().readObject(buffer, state);
@@ -183,7 +206,7 @@ public final class DeliveryAnnotationsTypeDecoder extends AbstractDescribedTypeD
         int count = mapDecoder.readCount(stream);
 
         // Count include both key and value so we must include that in the loop
-        Map<Symbol, Object> map = new LinkedHashMap<>(count);
+        Map<Symbol, Object> map = createMap(count);
         for (int i = 0; i < count / 2; i++) {
             Symbol key = state.getDecoder().readSymbol(stream, state);
             Object value = state.getDecoder().readObject(stream, state);
@@ -193,4 +216,8 @@ public final class DeliveryAnnotationsTypeDecoder extends AbstractDescribedTypeD
 
         return map;
     }
+
+    private Map<Symbol, Object> createMap(int count) {
+        return compactMaps ? new CompactMap<>(count / 2) : new LinkedHashMap<>(count);
+    }
 }
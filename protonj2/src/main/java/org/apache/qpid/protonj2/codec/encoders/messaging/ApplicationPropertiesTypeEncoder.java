@@ -20,6 +20,7 @@ import java.util.Map;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.codec.EncoderState;
+import org.apache.qpid.protonj2.codec.decoders.CompactMap;
 import org.apache.qpid.protonj2.codec.encoders.AbstractDescribedMapTypeEncoder;
 import org.apache.qpid.protonj2.types.Symbol;
 import org.apache.qpid.protonj2.types.UnsignedLong;
@@ -59,12 +60,21 @@ public final class ApplicationPropertiesTypeEncoder extends AbstractDescribedMap
         }
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public void writeMapEntries(ProtonBuffer buffer, EncoderState state, ApplicationProperties value) {
         // Write the Map elements and then compute total size written.
-        for (Map.Entry<String, Object> entry : value.getValue().entrySet()) {
-            state.getEncoder().writeString(buffer, state, entry.getKey());
-            state.getEncoder().writeObject(buffer, state, entry.getValue());
+        if (value.getValue() instanceof CompactMap) {
+            final CompactMap<String, Object> map = (CompactMap<String, Object>) value.getValue();
+            for (int i = 0; i < map.size(); ++i) {
+                state.getEncoder().writeString(buffer, state, map.keyAt(i));
+                state.getEncoder().writeObject(buffer, state, map.valueAt(i));
+            }
+        } else {
+            for (Map.Entry<String, Object> entry : value.getValue().entrySet()) {
+                state.getEncoder().writeString(buffer, state, entry.getKey());
+                state.getEncoder().writeObject(buffer, state, entry.getValue());
+            }
         }
     }
 }
@@ -51,7 +51,7 @@ public final class DataTypeEncoder extends AbstractDescribedTypeEncoder<Data> {
         buffer.writeByte(EncodingCodes.SMALLULONG);
         buffer.writeByte(Data.DESCRIPTOR_CODE.byteValue());
 
-        state.getEncoder().writeBinary(buffer, state, value.getValue());
+        state.getEncoder().writeBinary(buffer, state, value.getBinary());
     }
 
     @Override
@@ -20,6 +20,7 @@ import java.util.Map;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.codec.EncoderState;
+import org.apache.qpid.protonj2.codec.decoders.CompactMap;
 import org.apache.qpid.protonj2.codec.encoders.AbstractDescribedMapTypeEncoder;
 import org.apache.qpid.protonj2.types.Symbol;
 import org.apache.qpid.protonj2.types.UnsignedLong;
@@ -59,12 +60,21 @@ public final class MessageAnnotationsTypeEncoder extends AbstractDescribedMapTyp
         }
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public void writeMapEntries(ProtonBuffer buffer, EncoderState state, MessageAnnotations value) {
         // Write the Map elements and then compute total size written.
-        for (Map.Entry<Symbol, Object> entry : value.getValue().entrySet()) {
-            state.getEncoder().writeSymbol(buffer, state, entry.getKey());
-            state.getEncoder().writeObject(buffer, state, entry.getValue());
+        if (value.getValue() instanceof CompactMap) {
+            final CompactMap<Symbol, Object> map = (CompactMap<Symbol, Object>) value.getValue();
+            for (int i = 0; i < map.size(); ++i) {
+                state.getEncoder().writeSymbol(buffer, state, map.keyAt(i));
+                state.getEncoder().writeObject(buffer, state, map.valueAt(i));
+            }
+        } else {
+            for (Map.Entry<Symbol, Object> entry : value.getValue().entrySet()) {
+                state.getEncoder().writeSymbol(buffer, state, entry.getKey());
+                state.getEncoder().writeObject(buffer, state, entry.getValue());
+            }
         }
     }
 }
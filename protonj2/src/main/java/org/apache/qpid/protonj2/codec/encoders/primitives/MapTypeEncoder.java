@@ -25,6 +25,7 @@ import org.apache.qpid.protonj2.codec.EncodeException;
 import org.apache.qpid.protonj2.codec.EncoderState;
 import org.apache.qpid.protonj2.codec.EncodingCodes;
 import org.apache.qpid.protonj2.codec.TypeEncoder;
+import org.apache.qpid.protonj2.codec.decoders.CompactMap;
 import org.apache.qpid.protonj2.codec.encoders.AbstractPrimitiveTypeEncoder;
 
 /**
@@ -62,28 +63,36 @@ public final class MapTypeEncoder extends AbstractPrimitiveTypeEncoder<Map> {
         buffer.writeInt(value.size() * 2);
 
         // Write the list elements and then compute total size written.
-        Set<Map.Entry> entries = value.entrySet();
-        for (Entry entry : entries) {
-            Object entryKey = entry.getKey();
-            Object entryValue = entry.getValue();
-
-            TypeEncoder keyEncoder = state.getEncoder().getTypeEncoder(entryKey);
-            if (keyEncoder == null) {
-                throw new EncodeException("Cannot find encoder for type " + entryKey);
+        if (value instanceof CompactMap) {
+            final CompactMap map = (CompactMap) value;
+            for (int i = 0; i < map.size(); ++i) {
+                writeEntry(buffer, state, map.keyAt(i), map.valueAt(i));
             }
-
-            keyEncoder.writeType(buffer, state, entryKey);
-
-            TypeEncoder valueEncoder = state.getEncoder().getTypeEncoder(entryValue);
-            if (valueEncoder == null) {
-                throw new EncodeException("Cannot find encoder for type " + entryValue);
+        } else {
+            Set<Map.Entry> entries = value.entrySet();
+            for (Entry entry : entries) {
+                writeEntry(buffer, state, entry.getKey(), entry.getValue());
             }
-
-            valueEncoder.writeType(buffer, state, entryValue);
         }
 
         // Move back and write the size
         int endIndex = buffer.getWriteIndex();
         buffer.setInt(startIndex, endIndex - startIndex - 4);
     }
+
+    private void writeEntry(ProtonBuffer buffer, EncoderState state, Object entryKey, Object entryValue) {
+        TypeEncoder keyEncoder = state.getEncoder().getTypeEncoder(entryKey);
+        if (keyEncoder == null) {
+            throw new EncodeException("Cannot find encoder for type " + entryKey);
+        }
+
+        keyEncoder.writeType(buffer, state, entryKey);
+
+        TypeEncoder valueEncoder = state.getEncoder().getTypeEncoder(entryValue);
+        if (valueEncoder == null) {
+            throw new EncodeException("Cannot find encoder for type " + entryValue);
+        }
+
+        valueEncoder.writeType(buffer, state, entryValue);
+    }
 }
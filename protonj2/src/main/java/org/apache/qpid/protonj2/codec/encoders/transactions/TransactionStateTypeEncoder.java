@@ -22,6 +22,7 @@ import org.apache.qpid.protonj2.codec.EncodingCodes;
 import org.apache.qpid.protonj2.codec.encoders.AbstractDescribedListTypeEncoder;
 import org.apache.qpid.protonj2.types.Symbol;
 import org.apache.qpid.protonj2.types.UnsignedLong;
+import org.apache.qpid.protonj2.types.messaging.Accepted;
 import org.apache.qpid.protonj2.types.transactions.TransactionalState;
 
 /**
@@ -29,6 +30,43 @@ import org.apache.qpid.protonj2.types.transactions.TransactionalState;
  */
 public final class TransactionStateTypeEncoder extends AbstractDescribedListTypeEncoder<TransactionalState> {
 
+    private static final byte[] ENCODED_PREAMBLE = new byte[] { EncodingCodes.DESCRIBED_TYPE_INDICATOR,
+                                                                EncodingCodes.SMALLULONG,
+                                                                TransactionalState.DESCRIPTOR_CODE.byteValue(),
+                                                                EncodingCodes.LIST32 };
+
+    private static final byte[] ENCODED_ACCEPTED = new byte[] { EncodingCodes.DESCRIBED_TYPE_INDICATOR,
+                                                                EncodingCodes.SMALLULONG,
+                                                                Accepted.DESCRIPTOR_CODE.byteValue(),
+                                                                EncodingCodes.LIST0 };
+
+    @Override
+    public void writeType(ProtonBuffer buffer, EncoderState state, TransactionalState value) {
+        final ProtonBuffer txnId = value.getTxnId() != null ? value.getTxnId().asProtonBuffer() : null;
+
+        // The states used on every transacted send and accept are written from fixed encodings
+        // with only the txn-id copied in, anything else goes through the generic list encoding.
+        if (txnId != null && txnId.getReadableBytes() <= 255 &&
+            (value.getOutcome() == null || value.getOutcome() instanceof Accepted)) {
+
+            final boolean accepted = value.getOutcome() != null;
+            final int txnIdLength = txnId.getReadableBytes();
+
+            buffer.writeBytes(ENCODED_PREAMBLE);
+            buffer.writeInt(Integer.BYTES + Short.BYTES + txnIdLength + (accepted ? ENCODED_ACCEPTED.length : 0));
+            buffer.writeInt(accepted ? 2 : 1);
+            buffer.writeByte(EncodingCodes.VBIN8);
+            buffer.writeByte((byte) txnIdLength);
+            buffer.writeBytes(txnId, txnId.getReadIndex(), txnIdLength);
+
+            if (accepted) {
+                buffer.writeBytes(ENCODED_ACCEPTED);
+            }
+        } else {
+            super.writeType(buffer, state, value);
+        }
+    }
+
     @Override
     public UnsignedLong getDescriptorCode() {
         return TransactionalState.DESCRIPTOR_CODE;
@@ -108,6 +108,21 @@ public interface Connection extends Endpoint<Connection> {
      */
     Connection tickAuto(ScheduledExecutorService executor);
 
+    /**
+     * Convenience method which is the same as calling {@link Engine#tickAuto(TimeoutScheduler)}.
+     *
+     * @param scheduler
+     *      The {@link TimeoutScheduler} used to schedule the idle timeout checks.
+     *
+     * @return this {@link Connection} instance.
+     *
+     * @throws IllegalStateException if the {@link Engine} is already performing auto tick handling.
+     * @throws EngineStateException if the Engine state precludes accepting new input.
+     *
+     * @see Engine#tickAuto(TimeoutScheduler)
+     */
+    Connection tickAuto(TimeoutScheduler scheduler);
+
     /**
      * @return the local connection state only
      */
@@ -198,6 +198,22 @@ public interface Engine extends Consumer<ProtonBuffer> {
      */
     Engine tickAuto(ScheduledExecutorService executor) throws IllegalStateException, EngineStateException;
 
+    /**
+     * Allows the engine to manage idle timeout processing using a {@link TimeoutScheduler} that can be
+     * shared by many engines, which avoids each engine keeping its own scheduled task in the queue of
+     * an executor service.  The scheduler must run each idle timeout check within the single threaded
+     * execution context where all transport work is done.
+     *
+     * @param scheduler
+     *      The {@link TimeoutScheduler} used to schedule the idle timeout checks.
+     *
+     * @throws IllegalStateException if the {@link Engine} is already performing auto tick handling.
+     * @throws EngineStateException if the Engine state precludes accepting new input.
+     *
+     * @return this {@link Engine}
+     */
+    Engine tickAuto(TimeoutScheduler scheduler) throws IllegalStateException, EngineStateException;
+
     /**
      * Gets the EnginePipeline for this Engine.
      *
@@ -60,4 +60,28 @@ public interface EngineConfiguration {
      */
     boolean isTraceFrames();
 
+    /**
+     * Controls whether transfer frames that carry a large payload are written as a gathering
+     * write.  When enabled the frame header and performative are encoded into a buffer obtained
+     * from the configured {@link ProtonBufferAllocator} and the payload bytes of the frame are
+     * appended as a view of the sender's payload buffer instead of being copied into the frame,
+     * the resulting frame is handed to the engine output handler as a
+     * {@link org.apache.qpid.protonj2.buffer.ProtonCompositeBuffer} whose first buffer is the one
+     * allocated by the engine.
+     * <p>
+     * The payload buffers given to a sender must not be modified until the write complete
+     * callback for the frames that carry them has been signaled when this mode is enabled.
+     *
+     * @param gatheringFrameWrites
+     *      true to enable gathering writes of large transfer payloads.
+     *
+     * @return this {@link EngineConfiguration} for chaining.
+     */
+    EngineConfiguration setGatheringFrameWrites(boolean gatheringFrameWrites);
+
+    /**
+     * @return true if the engine will write large transfer payloads without copying them.
+     */
+    boolean isGatheringFrameWrites();
+
 }
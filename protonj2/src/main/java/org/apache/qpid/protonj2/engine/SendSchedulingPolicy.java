@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.engine;
+
+/**
+ * Policy used by a {@link Session} to decide the order in which its {@link Sender} links are
+ * notified that they can send again once the session outgoing window reopens.
+ * <p>
+ * Only senders that hold link credit are tracked, each is notified through the handler
+ * registered with {@link Sender#creditStateUpdateHandler(EventHandler)} and the session stops
+ * notifying senders as soon as the window fills up again.
+ */
+public enum SendSchedulingPolicy {
+
+    /**
+     * Senders are notified in turn, a sender that was notified moves behind every other
+     * waiting sender so that no single link is always offered the window first.
+     */
+    ROUND_ROBIN,
+
+    /**
+     * Deficit weighted round robin where each sender earns its {@link Sender#getSendWeight()}
+     * in frames each round and pays for every frame it writes.  A sender that writes more
+     * than its share is skipped in later rounds until the other senders catch up.
+     */
+    DEFICIT_WEIGHTED,
+
+    /**
+     * Senders with a higher {@link Sender#getSendPriority()} are always notified before senders
+     * with a lower priority, senders of equal priority are notified in round robin order.
+     */
+    PRIORITY
+
+}
@@ -134,6 +134,59 @@ public interface Sender extends Link<Sender> {
      */
     DeliveryTagGenerator getDeliveryTagGenerator();
 
+    /**
+     * Sets the priority of this {@link Sender} relative to the other senders of its {@link Session}
+     * which is used when the session is configured with the {@link SendSchedulingPolicy#PRIORITY}
+     * scheduling policy.
+     *
+     * @param priority
+     *      The send priority between zero and nine with higher values being notified first (default is four).
+     *
+     * @return this {@link Sender} instance.
+     *
+     * @throws IllegalArgumentException if the priority value is outside the allowed range.
+     */
+    Sender setSendPriority(int priority) throws IllegalArgumentException;
+
+    /**
+     * @return the send priority configured for this {@link Sender}.
+     */
+    int getSendPriority();
+
+    /**
+     * Sets the share of the session outgoing window that this {@link Sender} is given relative to
+     * the other senders of its {@link Session} when the session is configured with the
+     * {@link SendSchedulingPolicy#DEFICIT_WEIGHTED} scheduling policy.
+     *
+     * @param weight
+     *      The number of frames this sender earns in each scheduling round (default is one).
+     *
+     * @return this {@link Sender} instance.
+     *
+     * @throws IllegalArgumentException if the weight value is less than one.
+     */
+    Sender setSendWeight(int weight) throws IllegalArgumentException;
+
+    /**
+     * @return the send weight configured for this {@link Sender}.
+     */
+    int getSendWeight();
+
+    /**
+     * @return the number of times this {@link Sender} was notified after waiting for the session window to reopen.
+     */
+    long getSendWaitCount();
+
+    /**
+     * @return the total time in nanoseconds this {@link Sender} has spent waiting for the session window to reopen.
+     */
+    long getTotalSendWaitTime();
+
+    /**
+     * @return the longest time in nanoseconds this {@link Sender} has waited for the session window to reopen.
+     */
+    long getMaxSendWaitTime();
+
     //----- Event handlers for the Sender
 
     /**
@@ -148,6 +148,22 @@ public interface Session extends Endpoint<Session> {
      */
     int getRemainingOutgoingCapacity();
 
+    /**
+     * Sets the policy used to decide the order in which senders of this {@link Session} are
+     * notified that they can send once the session outgoing window becomes writable again.
+     *
+     * @param policy
+     *      The {@link SendSchedulingPolicy} to use (default is {@link SendSchedulingPolicy#ROUND_ROBIN}).
+     *
+     * @return this {@link Session} instance.
+     */
+    Session setSendSchedulingPolicy(SendSchedulingPolicy policy);
+
+    /**
+     * @return the {@link SendSchedulingPolicy} used to order the senders of this {@link Session}.
+     */
+    SendSchedulingPolicy getSendSchedulingPolicy();
+
     /**
      * Set the handle max value for this Session.
      *
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.engine;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schedules delayed tasks on behalf of an {@link Engine} so that its idle timeout processing can
+ * share a single timer with other engines instead of each engine keeping its own scheduled task
+ * in the queue of an executor service.  The scheduler must run each task within the single threaded
+ * execution context where all work for the engine takes place.
+ */
+@FunctionalInterface
+public interface TimeoutScheduler {
+
+    /**
+     * Schedules the given task to run once the delay has elapsed.
+     *
+     * @param task
+     *      The task to run when the delay elapses.
+     * @param delay
+     *      The delay before the task is run.
+     * @param unit
+     *      The time unit of the delay value.
+     *
+     * @return a {@link Cancellable} that cancels the task if it has not yet run.
+     */
+    Cancellable schedule(Runnable task, long delay, TimeUnit unit);
+
+    /**
+     * Handle to a task scheduled with a {@link TimeoutScheduler}.
+     */
+    @FunctionalInterface
+    interface Cancellable {
+
+        /**
+         * Cancels the scheduled task, a task that has already run is unaffected.
+         */
+        void cancel();
+
+    }
+}
@@ -19,7 +19,6 @@ package org.apache.qpid.protonj2.engine.impl;
 import java.lang.ref.SoftReference;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -36,10 +35,12 @@ import org.apache.qpid.protonj2.engine.Receiver;
 import org.apache.qpid.protonj2.engine.Sender;
 import org.apache.qpid.protonj2.engine.Session;
 import org.apache.qpid.protonj2.engine.SessionState;
+import org.apache.qpid.protonj2.engine.TimeoutScheduler;
 import org.apache.qpid.protonj2.engine.TransactionManager;
 import org.apache.qpid.protonj2.engine.exceptions.EngineFailedException;
 import org.apache.qpid.protonj2.engine.exceptions.EngineStateException;
 import org.apache.qpid.protonj2.engine.exceptions.ProtocolViolationException;
+import org.apache.qpid.protonj2.engine.util.HandleTable;
 import org.apache.qpid.protonj2.logging.ProtonLogger;
 import org.apache.qpid.protonj2.logging.ProtonLoggerFactory;
 import org.apache.qpid.protonj2.types.Symbol;
@@ -70,13 +71,13 @@ public class ProtonConnection extends ProtonEndpoint<Connection> implements Conn
     private Open remoteOpen;
     private AMQPHeader remoteHeader;
 
-    private Map<Integer, ProtonSession> localSessions = new HashMap<>();
-    private Map<Integer, ProtonSession> remoteSessions = new HashMap<>();
+    private final HandleTable<ProtonSession> localSessions = new HandleTable<>();
+    private final HandleTable<ProtonSession> remoteSessions = new HandleTable<>();
 
     // These would be sessions that were begun and ended before the remote ever
     // responded with a matching being and end.  The remote is required to complete
     // these before answering a new begin sequence on the same local channel.
-    private Map<Integer, SoftReference<ProtonSession>> zombieSessions = new LinkedHashMap<>();
+    private final HandleTable<SoftReference<ProtonSession>> zombieSessions = new HandleTable<>();
 
     private ConnectionState localState = ConnectionState.IDLE;
     private ConnectionState remoteState = ConnectionState.IDLE;
@@ -186,6 +187,13 @@ public class ProtonConnection extends ProtonEndpoint<Connection> implements Conn
         return this;
     }
 
+    @Override
+    public Connection tickAuto(TimeoutScheduler scheduler) {
+        checkConnectionClosed("Cannot call tickAuto on an already closed Connection");
+        engine.tickAuto(scheduler);
+        return this;
+    }
+
     @Override
     public boolean isLocallyClosed() {
         return getState() == ConnectionState.CLOSED;
@@ -708,17 +716,24 @@ public class ProtonConnection extends ProtonEndpoint<Connection> implements Conn
             result = Collections.EMPTY_SET;
         } else {
             result = new HashSet<>(localSessions.size());
-            result.addAll(localSessions.values());
-            result.addAll(remoteSessions.values());
+            localSessions.forEach(result::add);
+            remoteSessions.forEach(result::add);
         }
 
         return result;
     }
 
     private int findFreeLocalChannel() {
-        for (int i = 0; i <= localOpen.getChannelMax(); ++i) {
-            if (!localSessions.containsKey(i) && !zombieSessions.containsKey(i)) {
-                return i;
+        if (zombieSessions.isEmpty()) {
+            final long channel = localSessions.nextFreeKey(localOpen.getChannelMax());
+            if (channel >= 0) {
+                return (int) channel;
+            }
+        } else {
+            for (int i = 0; i <= localOpen.getChannelMax(); ++i) {
+                if (!localSessions.containsKey(i) && !zombieSessions.containsKey(i)) {
+                    return i;
+                }
             }
         }
 
@@ -33,6 +33,7 @@ import org.apache.qpid.protonj2.engine.EngineState;
 import org.apache.qpid.protonj2.engine.EventHandler;
 import org.apache.qpid.protonj2.engine.HeaderEnvelope;
 import org.apache.qpid.protonj2.engine.OutgoingAMQPEnvelope;
+import org.apache.qpid.protonj2.engine.TimeoutScheduler;
 import org.apache.qpid.protonj2.engine.exceptions.EngineFailedException;
 import org.apache.qpid.protonj2.engine.exceptions.EngineNotStartedException;
 import org.apache.qpid.protonj2.engine.exceptions.EngineNotWritableException;
@@ -74,6 +75,8 @@ public class ProtonEngine implements Engine {
     // Idle Timeout Check data
     private ScheduledFuture<?> nextIdleTimeoutCheck;
     private ScheduledExecutorService idleTimeoutExecutor;
+    private TimeoutScheduler idleTimeoutScheduler;
+    private TimeoutScheduler.Cancellable nextIdleTimeoutTimeout;
     private int lastInputSequence;
     private int lastOutputSequence;
     private long localIdleDeadline = 0;
@@ -146,11 +149,7 @@ public class ProtonEngine implements Engine {
             state = EngineState.SHUTDOWN;
             writable = false;
 
-            if (nextIdleTimeoutCheck != null) {
-                LOG.trace("Cancelling scheduled Idle Timeout Check");
-                nextIdleTimeoutCheck.cancel(false);
-                nextIdleTimeoutCheck = null;
-            }
+            cancelIdleTimeoutCheck();
 
             try {
                 pipeline.fireEngineStateChanged();
@@ -177,7 +176,7 @@ public class ProtonEngine implements Engine {
             throw new IllegalStateException("Cannot tick on a Connection that is not opened or an engine that has been shut down.");
         }
 
-        if (idleTimeoutExecutor != null) {
+        if (isAutoTicking()) {
             throw new IllegalStateException("Automatic ticking previously initiated.");
         }
 
@@ -197,7 +196,7 @@ public class ProtonEngine implements Engine {
             throw new IllegalStateException("Cannot tick on a Connection that is not opened.");
         }
 
-        if (idleTimeoutExecutor != null) {
+        if (isAutoTicking()) {
             throw new IllegalStateException("Automatic ticking previously initiated.");
         }
 
@@ -214,6 +213,27 @@ public class ProtonEngine implements Engine {
         return this;
     }
 
+    @Override
+    public ProtonEngine tickAuto(TimeoutScheduler scheduler) throws IllegalStateException, EngineStateException {
+        checkShutdownOrFailed("Cannot start auto tick on an Engine that has been shutdown or failed");
+
+        Objects.requireNonNull(scheduler);
+
+        if (connection.getState() != ConnectionState.ACTIVE) {
+            throw new IllegalStateException("Cannot tick on a Connection that is not opened.");
+        }
+
+        if (isAutoTicking()) {
+            throw new IllegalStateException("Automatic ticking previously initiated.");
+        }
+
+        LOG.trace("Auto Idle Timeout Check being initiated using scheduler: {}", scheduler);
+        idleTimeoutScheduler = scheduler;
+        scheduleIdleTimeoutCheck(new IdleTimeoutCheck(), 0);
+
+        return this;
+    }
+
     @Override
     public ProtonEngine ingest(ProtonBuffer input) throws EngineStateException {
         checkShutdownOrFailed("Cannot ingest data into an Engine that has been shutdown or failed");
@@ -244,11 +264,7 @@ public class ProtonEngine implements Engine {
             failureCause = cause;
             writable = false;
 
-            if (nextIdleTimeoutCheck != null) {
-                LOG.trace("Cancelling scheduled Idle Timeout Check");
-                nextIdleTimeoutCheck.cancel(false);
-                nextIdleTimeoutCheck = null;
-            }
+            cancelIdleTimeoutCheck();
 
             failure = ProtonExceptionSupport.createFailedException(cause);
 
@@ -466,6 +482,32 @@ public class ProtonEngine implements Engine {
         return deadline;
     }
 
+    private boolean isAutoTicking() {
+        return idleTimeoutExecutor != null || idleTimeoutScheduler != null;
+    }
+
+    private void scheduleIdleTimeoutCheck(IdleTimeoutCheck check, long delay) {
+        if (idleTimeoutScheduler != null) {
+            nextIdleTimeoutTimeout = idleTimeoutScheduler.schedule(check, delay, TimeUnit.MILLISECONDS);
+        } else {
+            nextIdleTimeoutCheck = idleTimeoutExecutor.schedule(check, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void cancelIdleTimeoutCheck() {
+        if (nextIdleTimeoutCheck != null) {
+            LOG.trace("Cancelling scheduled Idle Timeout Check");
+            nextIdleTimeoutCheck.cancel(false);
+            nextIdleTimeoutCheck = null;
+        }
+
+        if (nextIdleTimeoutTimeout != null) {
+            LOG.trace("Cancelling scheduled Idle Timeout Check");
+            nextIdleTimeoutTimeout.cancel();
+            nextIdleTimeoutTimeout = null;
+        }
+    }
+
     private final class IdleTimeoutCheck implements Runnable {
 
         // TODO - Pick reasonable values
@@ -500,7 +542,7 @@ public class ProtonEngine implements Engine {
 
                         checkScheduled = true;
                         LOG.trace("IdleTimeoutCheck rescheduling with delay: {}", delay);
-                        nextIdleTimeoutCheck = idleTimeoutExecutor.schedule(this, delay, TimeUnit.MILLISECONDS);
+                        scheduleIdleTimeoutCheck(this, delay);
                     }
 
                     // TODO - If no local timeout but remote hasn't opened we might return zero and not
@@ -514,6 +556,7 @@ public class ProtonEngine implements Engine {
 
             if (!checkScheduled) {
                 nextIdleTimeoutCheck = null;
+                nextIdleTimeoutTimeout = null;
                 LOG.trace("Auto Idle Timeout Check task exiting and will not be rescheduled");
             }
         }
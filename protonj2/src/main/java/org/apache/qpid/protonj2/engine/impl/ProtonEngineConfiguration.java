@@ -35,6 +35,7 @@ public class ProtonEngineConfiguration implements EngineConfiguration {
     private final ProtonEngine engine;
 
     private ProtonBufferAllocator allocator = ProtonByteBufferAllocator.DEFAULT;
+    private boolean gatheringFrameWrites;
 
     private long effectiveMaxInboundFrameSize = ProtonConstants.MIN_MAX_AMQP_FRAME_SIZE;
     private long effectiveMaxOutboundFrameSize = ProtonConstants.MIN_MAX_AMQP_FRAME_SIZE;
@@ -79,6 +80,17 @@ public class ProtonEngineConfiguration implements EngineConfiguration {
         }
     }
 
+    @Override
+    public ProtonEngineConfiguration setGatheringFrameWrites(boolean gatheringFrameWrites) {
+        this.gatheringFrameWrites = gatheringFrameWrites;
+        return this;
+    }
+
+    @Override
+    public boolean isGatheringFrameWrites() {
+        return gatheringFrameWrites;
+    }
+
     //---- proton specific APIs
 
     void recomputeEffectiveFrameSizeLimits() {
@@ -30,6 +30,13 @@ import org.apache.qpid.protonj2.engine.exceptions.ProtonException;
 
 /**
  * Pipeline of {@link EngineHandler} instances used to process IO
+ * <p>
+ * When the pipeline holds exactly the standard AMQP handlers (performative, frame logging, frame
+ * decoding and frame encoding in that order) incoming frames are dispatched directly from the frame
+ * decoder to the performative handler and outgoing performatives directly to the frame encoder
+ * instead of walking the handler context chain.  Any other arrangement of handlers, including the
+ * SASL handler during authentication or a subclass of one of the standard handlers, uses the generic
+ * handler chain.
  */
 public class ProtonEnginePipeline implements EnginePipeline {
 
@@ -38,6 +45,9 @@ public class ProtonEnginePipeline implements EnginePipeline {
 
     private final ProtonEngine engine;
 
+    // Direct dispatch between the standard handlers, only set while the pipeline contains nothing else.
+    private FusedPipeline fused;
+
     ProtonEnginePipeline(ProtonEngine engine) {
         if (engine == null) {
             throw new IllegalArgumentException("Parent transport cannot be null");
@@ -80,6 +90,8 @@ public class ProtonEnginePipeline implements EnginePipeline {
         oldFirst.previous = newFirst;
         head.next = newFirst;
 
+        updateFusedPipeline();
+
         try {
             newFirst.handler().handlerAdded(newFirst);
         } catch (Throwable e) {
@@ -108,6 +120,8 @@ public class ProtonEnginePipeline implements EnginePipeline {
         oldLast.next = newLast;
         tail.previous = newLast;
 
+        updateFusedPipeline();
+
         try {
             newLast.handler().handlerAdded(newLast);
         } catch (Throwable e) {
@@ -125,6 +139,8 @@ public class ProtonEnginePipeline implements EnginePipeline {
             head.next = oldFirst.next;
             head.next.previous = head;
 
+            updateFusedPipeline();
+
             try {
                 oldFirst.handler().handlerRemoved(oldFirst);
             } catch (Throwable e) {
@@ -143,6 +159,8 @@ public class ProtonEnginePipeline implements EnginePipeline {
             tail.previous = oldLast.previous;
             tail.previous.next = tail;
 
+            updateFusedPipeline();
+
             try {
                 oldLast.handler().handlerRemoved(oldLast);
             } catch (Throwable e) {
@@ -174,6 +192,8 @@ public class ProtonEnginePipeline implements EnginePipeline {
             }
 
             if (removed != null) {
+                updateFusedPipeline();
+
                 try {
                     removed.handler().handlerRemoved(removed);
                 } catch (Throwable e) {
@@ -206,6 +226,8 @@ public class ProtonEnginePipeline implements EnginePipeline {
             }
 
             if (removed != null) {
+                updateFusedPipeline();
+
                 try {
                     removed.handler().handlerRemoved(removed);
                 } catch (Throwable e) {
@@ -298,7 +320,11 @@ public class ProtonEnginePipeline implements EnginePipeline {
     @Override
     public ProtonEnginePipeline fireRead(ProtonBuffer input) {
         try {
-            tail.fireRead(input);
+            if (fused != null) {
+                fused.fireRead(input);
+            } else {
+                tail.fireRead(input);
+            }
         } catch (Throwable error) {
             engine.engineFailed(error);
             throw error;
@@ -353,7 +379,11 @@ public class ProtonEnginePipeline implements EnginePipeline {
     @Override
     public ProtonEnginePipeline fireWrite(OutgoingAMQPEnvelope envelope) {
         try {
-            head.fireWrite(envelope);
+            if (fused != null) {
+                fused.fireWrite(envelope);
+            } else {
+                head.fireWrite(envelope);
+            }
         } catch (Throwable error) {
             engine.engineFailed(error);
             throw error;
@@ -375,7 +405,11 @@ public class ProtonEnginePipeline implements EnginePipeline {
     @Override
     public ProtonEnginePipeline fireWrite(ProtonBuffer buffer, Runnable ioComplete) {
         try {
-            head.fireWrite(buffer, ioComplete);
+            if (fused != null) {
+                fused.fireWrite(buffer, ioComplete);
+            } else {
+                head.fireWrite(buffer, ioComplete);
+            }
         } catch (Throwable error) {
             engine.engineFailed(error);
             throw error;
@@ -385,10 +419,225 @@ public class ProtonEnginePipeline implements EnginePipeline {
 
     //----- Internal implementation
 
+    /*
+     * Test entry point to validate detection of the standard pipeline.
+     */
+    boolean isFused() {
+        return fused != null;
+    }
+
     private ProtonEngineHandlerContext createContext(String name, EngineHandler handler) {
         return new ProtonEngineHandlerContext(name, engine, handler);
     }
 
+    private void updateFusedPipeline() {
+        final ProtonEngineHandlerContext performative = head.next;
+        final ProtonEngineHandlerContext logging = performative.next;
+        final ProtonEngineHandlerContext decoding = logging.next;
+        final ProtonEngineHandlerContext encoding = decoding.next;
+
+        if (isHandlerOfType(performative, ProtonPerformativeHandler.class) &&
+            isHandlerOfType(logging, ProtonFrameLoggingHandler.class) &&
+            isHandlerOfType(decoding, ProtonFrameDecodingHandler.class) &&
+            isHandlerOfType(encoding, ProtonFrameEncodingHandler.class) && encoding.next == tail) {
+
+            fused = new FusedPipeline(performative, logging, decoding, encoding);
+        } else {
+            fused = null;
+        }
+    }
+
+    private boolean isHandlerOfType(ProtonEngineHandlerContext context, Class<?> handlerType) {
+        return context != head && context != tail && context.handler().getClass() == handlerType;
+    }
+
+    //----- Direct dispatch between the standard pipeline handlers
+
+    private final class FusedPipeline {
+
+        private final ProtonEngineHandlerContext performativeContext;
+        private final ProtonPerformativeHandler performativeHandler;
+        private final ProtonEngineHandlerContext loggingContext;
+        private final ProtonFrameLoggingHandler loggingHandler;
+        private final FusedDecodingContext decodingContext;
+        private final ProtonFrameDecodingHandler decodingHandler;
+        private final FusedEncodingContext encodingContext;
+        private final ProtonFrameEncodingHandler encodingHandler;
+
+        FusedPipeline(ProtonEngineHandlerContext performative, ProtonEngineHandlerContext logging,
+                      ProtonEngineHandlerContext decoding, ProtonEngineHandlerContext encoding) {
+
+            this.performativeContext = performative;
+            this.performativeHandler = (ProtonPerformativeHandler) performative.handler();
+            this.loggingContext = logging;
+            this.loggingHandler = (ProtonFrameLoggingHandler) logging.handler();
+            this.decodingContext = new FusedDecodingContext(decoding, this);
+            this.decodingHandler = (ProtonFrameDecodingHandler) decoding.handler();
+            this.encodingContext = new FusedEncodingContext(encoding, this);
+            this.encodingHandler = (ProtonFrameEncodingHandler) encoding.handler();
+        }
+
+        void fireRead(ProtonBuffer input) {
+            decodingHandler.handleRead(decodingContext, input);
+        }
+
+        void fireRead(IncomingAMQPEnvelope envelope) {
+            if (loggingHandler.isLoggingFrames()) {
+                loggingHandler.handleRead(loggingContext, envelope);
+            } else {
+                performativeHandler.handleRead(performativeContext, envelope);
+            }
+        }
+
+        void fireWrite(OutgoingAMQPEnvelope envelope) {
+            if (loggingHandler.isLoggingFrames()) {
+                loggingHandler.handleWrite(loggingContext, envelope);
+            } else {
+                encodingHandler.handleWrite(encodingContext, envelope);
+            }
+        }
+
+        void fireWrite(ProtonBuffer buffer, Runnable ioComplete) {
+            try {
+                engine.dispatchWriteToEventHandler(buffer, ioComplete);
+            } catch (Throwable error) {
+                throw engine.engineFailed(error);
+            }
+        }
+    }
+
+    /*
+     * Stands in for one of the standard handler contexts while the pipeline is fused, any event
+     * not dispatched directly is passed on to the context it replaces.  Should the pipeline be
+     * modified while a handler still holds this context all events fall back to the replaced
+     * context which the pipeline keeps up to date.
+     */
+    private abstract class FusedHandlerContext extends ProtonEngineHandlerContext {
+
+        protected final ProtonEngineHandlerContext context;
+        protected final FusedPipeline pipeline;
+
+        public FusedHandlerContext(ProtonEngineHandlerContext context, FusedPipeline pipeline) {
+            super(context.name(), engine, context.handler());
+
+            this.context = context;
+            this.pipeline = pipeline;
+        }
+
+        protected boolean isFused() {
+            return fused == pipeline;
+        }
+
+        @Override
+        public int interestMask() {
+            return context.interestMask();
+        }
+
+        @Override
+        public ProtonEngineHandlerContext interestMask(int mask) {
+            return context.interestMask(mask);
+        }
+
+        @Override
+        public void fireEngineStarting() {
+            context.fireEngineStarting();
+        }
+
+        @Override
+        public void fireEngineStateChanged() {
+            context.fireEngineStateChanged();
+        }
+
+        @Override
+        public void fireFailed(EngineFailedException failure) {
+            context.fireFailed(failure);
+        }
+
+        @Override
+        public void fireRead(ProtonBuffer buffer) {
+            context.fireRead(buffer);
+        }
+
+        @Override
+        public void fireRead(HeaderEnvelope header) {
+            context.fireRead(header);
+        }
+
+        @Override
+        public void fireRead(SASLEnvelope envelope) {
+            context.fireRead(envelope);
+        }
+
+        @Override
+        public void fireRead(IncomingAMQPEnvelope envelope) {
+            context.fireRead(envelope);
+        }
+
+        @Override
+        public void fireWrite(OutgoingAMQPEnvelope envelope) {
+            context.fireWrite(envelope);
+        }
+
+        @Override
+        public void fireWrite(SASLEnvelope envelope) {
+            context.fireWrite(envelope);
+        }
+
+        @Override
+        public void fireWrite(HeaderEnvelope envelope) {
+            context.fireWrite(envelope);
+        }
+
+        @Override
+        public void fireWrite(ProtonBuffer buffer, Runnable ioComplete) {
+            context.fireWrite(buffer, ioComplete);
+        }
+    }
+
+    /*
+     * Decoded AMQP frames go straight to the performative handler, or to the frame logger when
+     * frame logging is enabled.
+     */
+    private final class FusedDecodingContext extends FusedHandlerContext {
+
+        public FusedDecodingContext(ProtonEngineHandlerContext context, FusedPipeline pipeline) {
+            super(context, pipeline);
+        }
+
+        @Override
+        public void fireRead(IncomingAMQPEnvelope envelope) {
+            if (isFused()) {
+                pipeline.fireRead(envelope);
+            } else {
+                context.fireRead(envelope);
+            }
+        }
+    }
+
+    /*
+     * Encoded frames go straight to the engine output handler as they would on reaching the
+     * write boundary of the handler chain.
+     */
+    private final class FusedEncodingContext extends FusedHandlerContext {
+
+        public FusedEncodingContext(ProtonEngineHandlerContext context, FusedPipeline pipeline) {
+            super(context, pipeline);
+        }
+
+        @Override
+        public void fireWrite(ProtonBuffer buffer, Runnable ioComplete) {
+            if (isFused()) {
+                try {
+                    engine.dispatchWriteToEventHandler(buffer, ioComplete);
+                } catch (Throwable error) {
+                    throw engine.engineFailed(error);
+                }
+            } else {
+                context.fireWrite(buffer, ioComplete);
+            }
+        }
+    }
+
     //----- Synthetic handler context that bounds the pipeline
 
     private class EngineHandlerContextReadBoundry extends ProtonEngineHandlerContext {
@@ -102,14 +102,12 @@ public class ProtonFrameDecodingHandler implements EngineHandler, SaslPerformati
     @Override
     public void handleRead(EngineHandlerContext context, SASLEnvelope envelope) {
         envelope.getBody().invoke(this, context);
-        ((ProtonEngineHandlerContext) context).interestMask(ProtonEngineHandlerContext.HANDLER_READS);
         context.fireRead(envelope);
     }
 
     @Override
     public void handleWrite(EngineHandlerContext context, SASLEnvelope envelope) {
         envelope.invoke(this, context);
-        ((ProtonEngineHandlerContext) context).interestMask(ProtonEngineHandlerContext.HANDLER_READS);
         context.fireWrite(envelope);
     }
 
@@ -120,6 +118,8 @@ public class ProtonFrameDecodingHandler implements EngineHandler, SaslPerformati
         // When we have read or written a SASL Outcome the next value to be read
         // should be an AMQP Header to begin the next phase of the connection.
         this.stage = new HeaderParsingStage();
+        // Once the SASL exchange is complete there is no need to inspect outgoing work.
+        ((ProtonEngineHandlerContext) context).interestMask(ProtonEngineHandlerContext.HANDLER_READS);
     }
 
     //---- Methods to transition between stages
@@ -18,6 +18,7 @@ package org.apache.qpid.protonj2.engine.impl;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.buffer.ProtonByteBufferAllocator;
+import org.apache.qpid.protonj2.buffer.ProtonCompositeBuffer;
 import org.apache.qpid.protonj2.codec.CodecFactory;
 import org.apache.qpid.protonj2.codec.EncodeException;
 import org.apache.qpid.protonj2.codec.Encoder;
@@ -39,6 +40,7 @@ public class ProtonFrameEncodingHandler implements EngineHandler {
     public static final byte SASL_FRAME_TYPE = (byte) 1;
 
     private static final int AMQP_PERFORMATIVE_PAD = 256;
+    private static final int GATHERED_PAYLOAD_THRESHOLD = 1024;
     private static final int FRAME_HEADER_SIZE = 8;
     private static final int FRAME_DOFF_SIZE = 2;
 
@@ -93,6 +95,12 @@ public class ProtonFrameEncodingHandler implements EngineHandler {
     @Override
     public void handleWrite(EngineHandlerContext context, OutgoingAMQPEnvelope envelope) {
         final ProtonBuffer payload = envelope.getPayload() == null ? EMPTY_BUFFER : envelope.getPayload();
+
+        if (payload.getReadableBytes() >= GATHERED_PAYLOAD_THRESHOLD && configuration.isGatheringFrameWrites()) {
+            writeGatheredFrame(context, envelope, payload);
+            return;
+        }
+
         final int maxFrameSize = (int) configuration.getOutboundMaxFrameSize();
         final int outputBufferSize = Math.min(maxFrameSize, AMQP_PERFORMATIVE_PAD + payload.getReadableBytes());
         final ProtonBuffer output = configuration.getBufferAllocator().outputBuffer(outputBufferSize, maxFrameSize);
@@ -109,15 +117,49 @@ public class ProtonFrameEncodingHandler implements EngineHandler {
             output.writeBytes(payload);
         }
 
-        // Now fill in the frame header with the specified information
-        output.setInt(FRAME_START_BYTE, output.getReadableBytes());
-        output.setByte(FRAME_DOFF_BYTE, FRAME_DOFF_SIZE);
-        output.setByte(FRAME_TYPE_BYTE, AMQP_FRAME_TYPE);
-        output.setShort(FRAME_CHANNEL_BYTE, (short) envelope.getChannel());
+        writeFrameHeader(output, output.getReadableBytes(), envelope.getChannel());
 
         context.fireWrite(output, envelope::handleOutgoingFrameWriteComplete);
     }
 
+    /*
+     * Writes the frame header and performative into a small buffer and then appends a slice of the
+     * payload behind it so that the payload bytes are never copied by the engine, the output handler
+     * can hand the buffers to a gathering write.
+     */
+    private void writeGatheredFrame(EngineHandlerContext context, OutgoingAMQPEnvelope envelope, ProtonBuffer payload) {
+        final int maxFrameSize = (int) configuration.getOutboundMaxFrameSize();
+        final ProtonBuffer output = configuration.getBufferAllocator().outputBuffer(AMQP_PERFORMATIVE_PAD, maxFrameSize);
+
+        writePerformative(output, amqpEncoder, amqpEncoderState, envelope.getBody());
+
+        int payloadSize = payload.getReadableBytes();
+
+        if (payloadSize > output.getMaxWritableBytes()) {
+            envelope.handlePayloadToLarge();
+
+            writePerformative(output, amqpEncoder, amqpEncoderState, envelope.getBody());
+
+            payloadSize = output.getMaxWritableBytes();
+        }
+
+        writeFrameHeader(output, output.getReadableBytes() + payloadSize, envelope.getChannel());
+
+        final ProtonCompositeBuffer frame = new ProtonCompositeBuffer(maxFrameSize);
+
+        frame.append(output).append(payload.slice(payload.getReadIndex(), payloadSize));
+        payload.skipBytes(payloadSize);
+
+        context.fireWrite(frame, envelope::handleOutgoingFrameWriteComplete);
+    }
+
+    private static void writeFrameHeader(ProtonBuffer target, int frameSize, int channel) {
+        target.setInt(FRAME_START_BYTE, frameSize);
+        target.setByte(FRAME_DOFF_BYTE, FRAME_DOFF_SIZE);
+        target.setByte(FRAME_TYPE_BYTE, AMQP_FRAME_TYPE);
+        target.setShort(FRAME_CHANNEL_BYTE, (short) channel);
+    }
+
     private static void writePerformative(ProtonBuffer target, Encoder encoder, EncoderState state, Performative performative) {
         target.setWriteIndex(FRAME_HEADER_SIZE);
 
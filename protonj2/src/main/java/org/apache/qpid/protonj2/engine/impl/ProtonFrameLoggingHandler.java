@@ -58,6 +58,13 @@ public class ProtonFrameLoggingHandler implements EngineHandler {
         return traceFrames;
     }
 
+    /**
+     * @return true if incoming and outgoing frames are currently traced or logged by this handler.
+     */
+    boolean isLoggingFrames() {
+        return traceFrames || LOG.isTraceEnabled();
+    }
+
     @Override
     public void handleRead(EngineHandlerContext context, HeaderEnvelope header) {
         if (traceFrames) {
@@ -35,6 +35,8 @@ public class ProtonOutgoingDelivery implements OutgoingDelivery {
     private long deliveryId = DELIVERY_INACTIVE;
 
     private DeliveryTag deliveryTag;
+    private long deferredTagValue;
+    private boolean deferredTag;
 
     private boolean complete;
     private int messageFormat;
@@ -85,6 +87,11 @@ public class ProtonOutgoingDelivery implements OutgoingDelivery {
 
     @Override
     public DeliveryTag getTag() {
+        if (deferredTag) {
+            deliveryTag = new ProtonSequentialTagGenerator.ProtonNumericDeliveryTag(deferredTagValue);
+            deferredTag = false;
+        }
+
         return deliveryTag;
     }
 
@@ -99,6 +106,7 @@ public class ProtonOutgoingDelivery implements OutgoingDelivery {
             this.deliveryTag = null;
         }
 
+        this.deferredTag = false;
         this.deliveryTag = new DeliveryTag.ProtonDeliveryTag(deliveryTag);
 
         return this;
@@ -106,6 +114,7 @@ public class ProtonOutgoingDelivery implements OutgoingDelivery {
 
     @Override
     public OutgoingDelivery setTag(DeliveryTag deliveryTag) {
+        this.deferredTag = false;
         this.deliveryTag = deliveryTag;
         return this;
     }
@@ -258,6 +267,20 @@ public class ProtonOutgoingDelivery implements OutgoingDelivery {
         }
     }
 
+    boolean hasDeferredTag() {
+        return deferredTag;
+    }
+
+    long getDeferredTagValue() {
+        return deferredTagValue;
+    }
+
+    void setDeferredTag(long tagValue) {
+        this.deliveryTag = null;
+        this.deferredTagValue = tagValue;
+        this.deferredTag = true;
+    }
+
     long getDeliveryId() {
         return deliveryId;
     }
@@ -16,6 +16,7 @@
  */
 package org.apache.qpid.protonj2.engine.impl;
 
+import java.util.ArrayDeque;
 import java.util.Queue;
 
 import org.apache.qpid.protonj2.engine.util.RingQueue;
@@ -27,6 +28,11 @@ import org.apache.qpid.protonj2.types.DeliveryTag;
  * messages.  When not using cached tags the generator creates new tags using a
  * running tag counter of type {@link Long} that assumes that when it wraps the user
  * has already release all tags within the lower range of the tag counter.
+ * <p>
+ * Tags created once the fixed pool is exhausted are also reused once released, they are
+ * held in an overflow pool that grows to the largest number of deliveries that were
+ * unsettled at the same time so that a sender with a deep unsettled window stops
+ * allocating tags once that window has been reached.
  */
 public class ProtonPooledTagGenerator extends ProtonSequentialTagGenerator {
 
@@ -34,6 +40,7 @@ public class ProtonPooledTagGenerator extends ProtonSequentialTagGenerator {
 
     private final int tagPoolSize;
     private final Queue<ProtonPooledDeliveryTag> tagPool;
+    private final ArrayDeque<ProtonPooledDeliveryTag> overflowPool = new ArrayDeque<>();
 
     public ProtonPooledTagGenerator() {
         this(DEFAULT_MAX_NUM_POOLED_TAGS);
@@ -55,6 +62,10 @@ public class ProtonPooledTagGenerator extends ProtonSequentialTagGenerator {
     @Override
     public DeliveryTag nextTag() {
         ProtonPooledDeliveryTag nextTag = tagPool.poll();
+        if (nextTag == null) {
+            nextTag = overflowPool.poll();
+        }
+
         if (nextTag != null) {
             return nextTag.checkOut();
         } else {
@@ -63,20 +74,14 @@ public class ProtonPooledTagGenerator extends ProtonSequentialTagGenerator {
     }
 
     private DeliveryTag createTag() {
-        DeliveryTag nextTag = null;
+        final ProtonPooledDeliveryTag nextTag = new ProtonPooledDeliveryTag(nextTagId++);
 
-        if (nextTagId >= 0 && nextTagId < tagPoolSize) {
-            // Pooled tag that will return to pool on next release.
-            nextTag = new ProtonPooledDeliveryTag((byte) nextTagId++).checkOut();
-        } else {
-            // Non-pooled tag that will not return to the pool on next release.
-            nextTag = super.nextTag();
-            if (nextTagId == 0) {
-                nextTagId = tagPoolSize;
-            }
+        // Skip over the values of the fixed pool tags when the tag counter wraps
+        if (nextTagId == 0) {
+            nextTagId = tagPoolSize;
         }
 
-        return nextTag;
+        return nextTag.checkOut();
     }
 
     /*
@@ -105,7 +110,9 @@ public class ProtonPooledTagGenerator extends ProtonSequentialTagGenerator {
         @Override
         public void release() {
             if (checkedOut) {
-                tagPool.offer(this);
+                if (!tagPool.offer(this)) {
+                    overflowPool.push(this);
+                }
                 checkedOut = false;
             }
         }
@@ -31,8 +31,7 @@ import org.apache.qpid.protonj2.engine.Receiver;
 import org.apache.qpid.protonj2.engine.Session;
 import org.apache.qpid.protonj2.engine.exceptions.ProtocolViolationException;
 import org.apache.qpid.protonj2.engine.util.DeliveryIdTracker;
-import org.apache.qpid.protonj2.engine.util.LinkedSplayMap;
-import org.apache.qpid.protonj2.engine.util.SplayMap;
+import org.apache.qpid.protonj2.engine.util.SequenceWindowMap;
 import org.apache.qpid.protonj2.types.UnsignedInteger;
 import org.apache.qpid.protonj2.types.transport.Attach;
 import org.apache.qpid.protonj2.types.transport.DeliveryState;
@@ -54,7 +53,7 @@ public class ProtonReceiver extends ProtonLink<Receiver> implements Receiver {
 
     private final ProtonSessionIncomingWindow sessionWindow;
     private final DeliveryIdTracker currentDeliveryId = new DeliveryIdTracker();
-    private final SplayMap<ProtonIncomingDelivery> unsettled = new LinkedSplayMap<>();
+    private final SequenceWindowMap<ProtonIncomingDelivery> unsettled = new SequenceWindowMap<>();
 
     private DeliveryState defaultDeliveryState;
     private LinkCreditState drainStateSnapshot;
@@ -178,7 +177,7 @@ public class ProtonReceiver extends ProtonLink<Receiver> implements Receiver {
         checkLinkOperable("Cannot apply disposition");
         Objects.requireNonNull(filter, "Supplied filter cannot be null");
 
-        List<UnsignedInteger> toRemove = settle ? new ArrayList<>() : Collections.EMPTY_LIST;
+        List<ProtonIncomingDelivery> matched = new ArrayList<>();
 
         unsettled.forEach((deliveryId, delivery) -> {
             if (filter.test(delivery)) {
@@ -187,14 +186,18 @@ public class ProtonReceiver extends ProtonLink<Receiver> implements Receiver {
                 }
                 if (settle) {
                     delivery.locallySettled();
-                    toRemove.add(deliveryId);
                 }
-                sessionWindow.processDisposition(this, delivery);
+                matched.add(delivery);
             }
         });
 
-        if (!toRemove.isEmpty()) {
-            toRemove.forEach(deliveryId -> unsettled.remove(deliveryId));
+        if (!matched.isEmpty()) {
+            if (settle) {
+                matched.forEach(delivery -> unsettled.remove((int) delivery.getDeliveryId()));
+            }
+
+            // Matches are visited in delivery id order so consecutive deliveries can share one frame
+            sessionWindow.processDisposition(this, matched);
         }
 
         return this;
@@ -30,8 +30,7 @@ import org.apache.qpid.protonj2.engine.OutgoingDelivery;
 import org.apache.qpid.protonj2.engine.Sender;
 import org.apache.qpid.protonj2.engine.Session;
 import org.apache.qpid.protonj2.engine.util.DeliveryIdTracker;
-import org.apache.qpid.protonj2.engine.util.LinkedSplayMap;
-import org.apache.qpid.protonj2.engine.util.SplayMap;
+import org.apache.qpid.protonj2.engine.util.SequenceWindowMap;
 import org.apache.qpid.protonj2.types.UnsignedInteger;
 import org.apache.qpid.protonj2.types.transport.Attach;
 import org.apache.qpid.protonj2.types.transport.DeliveryState;
@@ -48,7 +47,7 @@ public class ProtonSender extends ProtonLink<Sender> implements Sender {
 
     private final ProtonSessionOutgoingWindow sessionWindow;
     private final DeliveryIdTracker currentDeliveryId = new DeliveryIdTracker();
-    private final SplayMap<ProtonOutgoingDelivery> unsettled = new LinkedSplayMap<>();
+    private final SequenceWindowMap<ProtonOutgoingDelivery> unsettled = new SequenceWindowMap<>();
 
     private EventHandler<OutgoingDelivery> deliveryUpdatedEventHandler = null;
     private EventHandler<Sender> linkCreditUpdatedHandler = null;
@@ -57,6 +56,17 @@ public class ProtonSender extends ProtonLink<Sender> implements Sender {
     private DeliveryTagGenerator autoTagGenerator;
     private OutgoingDelivery current;
 
+    private int sendPriority = ProtonSessionSendScheduler.DEFAULT_PRIORITY;
+    private int sendWeight = 1;
+    private long sendWaitCount;
+    private long totalSendWaitTime;
+    private long maxSendWaitTime;
+
+    // State owned by the session send scheduler
+    boolean scheduled;
+    int sendDeficit;
+    long scheduledAt;
+
     /**
      * Create a new {@link Sender} instance with the given {@link Session} parent.
      *
@@ -162,10 +172,16 @@ public class ProtonSender extends ProtonLink<Sender> implements Sender {
         if (current != null) {
             throw new IllegalStateException("Current delivery is not complete and cannot be advanced.");
         } else {
-            current = new ProtonOutgoingDelivery(this);
-            if (autoTagGenerator != null) {
-                current.setTag(autoTagGenerator.nextTag());
+            final ProtonOutgoingDelivery delivery = new ProtonOutgoingDelivery(this);
+
+            if (autoTagGenerator != null && autoTagGenerator.getClass() == ProtonSequentialTagGenerator.class) {
+                // Sequential tags are only created on demand, transfers write the tag value directly
+                delivery.setDeferredTag(((ProtonSequentialTagGenerator) autoTagGenerator).nextTagValue());
+            } else if (autoTagGenerator != null) {
+                delivery.setTag(autoTagGenerator.nextTag());
             }
+
+            current = delivery;
         }
 
         return current;
@@ -261,8 +277,9 @@ public class ProtonSender extends ProtonLink<Sender> implements Sender {
         }
 
         if (isLocallyOpen()) {
-            if (getCredit() > 0 && !sendable) {
+            if (getCredit() > 0) {
                 sendable = true;
+                sessionWindow.getScheduler().schedule(this);
             }
 
             signalLinkCreditStateUpdated();
@@ -281,6 +298,59 @@ public class ProtonSender extends ProtonLink<Sender> implements Sender {
         return this;
     }
 
+    @Override
+    public Sender setSendPriority(int priority) {
+        if (priority < ProtonSessionSendScheduler.MIN_PRIORITY || priority > ProtonSessionSendScheduler.MAX_PRIORITY) {
+            throw new IllegalArgumentException("Send priority must be between " + ProtonSessionSendScheduler.MIN_PRIORITY +
+                                               " and " + ProtonSessionSendScheduler.MAX_PRIORITY + " but was: " + priority);
+        }
+
+        sessionWindow.getScheduler().reprioritize(this, priority);
+        this.sendPriority = priority;
+        return this;
+    }
+
+    @Override
+    public int getSendPriority() {
+        return sendPriority;
+    }
+
+    @Override
+    public Sender setSendWeight(int weight) {
+        if (weight < 1) {
+            throw new IllegalArgumentException("Send weight must be greater than zero but was: " + weight);
+        }
+
+        this.sendWeight = weight;
+        return this;
+    }
+
+    @Override
+    public int getSendWeight() {
+        return sendWeight;
+    }
+
+    @Override
+    public long getSendWaitCount() {
+        return sendWaitCount;
+    }
+
+    @Override
+    public long getTotalSendWaitTime() {
+        return totalSendWaitTime;
+    }
+
+    @Override
+    public long getMaxSendWaitTime() {
+        return maxSendWaitTime;
+    }
+
+    void recordSendWait(long waitTime) {
+        sendWaitCount++;
+        totalSendWaitTime += waitTime;
+        maxSendWaitTime = Math.max(maxSendWaitTime, waitTime);
+    }
+
     //----- Delivery output related access points
 
     void send(ProtonOutgoingDelivery delivery, ProtonBuffer buffer, boolean complete) {
@@ -391,17 +461,20 @@ public class ProtonSender extends ProtonLink<Sender> implements Sender {
         localAttach.setInitialDeliveryCount(currentDeliveryId.longValue());
         if (getCredit() > 0) {
             sendable = true;
+            sessionWindow.getScheduler().schedule(this);
         }
     }
 
     @Override
     protected void transitionedToLocallyDetached() {
         sendable = false;
+        sessionWindow.getScheduler().unschedule(this);
     }
 
     @Override
     protected void transitionedToLocallyClosed() {
         sendable = false;
+        sessionWindow.getScheduler().unschedule(this);
     }
 
     @Override
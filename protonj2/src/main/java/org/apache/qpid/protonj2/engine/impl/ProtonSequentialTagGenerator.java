@@ -35,6 +35,14 @@ public class ProtonSequentialTagGenerator extends ProtonDeliveryTagGenerator {
         return new ProtonNumericDeliveryTag(nextTagId++);
     }
 
+    /*
+     * Returns the value of the next tag without creating a tag instance, senders using this exact
+     * generator defer creating a delivery's tag until it is asked for and write the value directly.
+     */
+    long nextTagValue() {
+        return nextTagId++;
+    }
+
     /*
      * Test entry point to validate tag cache and tag counter overflow.
      */
@@ -52,17 +60,8 @@ public class ProtonSequentialTagGenerator extends ProtonDeliveryTagGenerator {
 
         @Override
         public int tagLength() {
-            if (tagValue < 0) {
-                return Long.BYTES;
-            } else if (tagValue <= 0x00000000000000FFl) {
-                return Byte.BYTES;
-            } else if (tagValue <= 0x000000000000FFFFl) {
-                return Short.BYTES;
-            } else if (tagValue <= 0x00000000FFFFFFFFl) {
-                return Integer.BYTES;
-            } else {
-                return Long.BYTES;
-            }        }
+            return tagLength(tagValue);
+        }
 
         @Override
         public byte[] tagBytes() {
@@ -126,6 +125,24 @@ public class ProtonSequentialTagGenerator extends ProtonDeliveryTagGenerator {
 
         @Override
         public void writeTo(ProtonBuffer buffer) {
+            writeTo(buffer, tagValue);
+        }
+
+        static int tagLength(long tagValue) {
+            if (tagValue < 0) {
+                return Long.BYTES;
+            } else if (tagValue <= 0x00000000000000FFl) {
+                return Byte.BYTES;
+            } else if (tagValue <= 0x000000000000FFFFl) {
+                return Short.BYTES;
+            } else if (tagValue <= 0x00000000FFFFFFFFl) {
+                return Integer.BYTES;
+            } else {
+                return Long.BYTES;
+            }
+        }
+
+        static void writeTo(ProtonBuffer buffer, long tagValue) {
             if (tagValue < 0) {
                 buffer.writeLong(tagValue);
             } else if (tagValue <= 0x00000000000000FFl) {
@@ -139,4 +156,54 @@ public class ProtonSequentialTagGenerator extends ProtonDeliveryTagGenerator {
             }
         }
     }
+
+    /*
+     * Numeric tag whose value is updated for each transfer written by a session, it carries the tag
+     * value of a delivery whose tag has not been created into the Transfer encoding and is never
+     * retained once the transfer has been written.  Copies are independent numeric tags.
+     */
+    static final class ProtonTransferNumericDeliveryTag implements DeliveryTag {
+
+        private long tagValue;
+
+        ProtonTransferNumericDeliveryTag setTagValue(long tagValue) {
+            this.tagValue = tagValue;
+            return this;
+        }
+
+        @Override
+        public int tagLength() {
+            return ProtonNumericDeliveryTag.tagLength(tagValue);
+        }
+
+        @Override
+        public byte[] tagBytes() {
+            return copy().tagBytes();
+        }
+
+        @Override
+        public ProtonBuffer tagBuffer() {
+            return copy().tagBuffer();
+        }
+
+        @Override
+        public void release() {
+            // Nothing to do in this implementation
+        }
+
+        @Override
+        public DeliveryTag copy() {
+            return new ProtonNumericDeliveryTag(tagValue);
+        }
+
+        @Override
+        public String toString() {
+            return "{" + tagValue + "}";
+        }
+
+        @Override
+        public void writeTo(ProtonBuffer buffer) {
+            ProtonNumericDeliveryTag.writeTo(buffer, tagValue);
+        }
+    }
 }
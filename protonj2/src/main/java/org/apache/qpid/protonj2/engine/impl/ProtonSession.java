@@ -16,11 +16,13 @@
  */
 package org.apache.qpid.protonj2.engine.impl;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -30,6 +32,7 @@ import org.apache.qpid.protonj2.engine.EventHandler;
 import org.apache.qpid.protonj2.engine.Link;
 import org.apache.qpid.protonj2.engine.LinkState;
 import org.apache.qpid.protonj2.engine.Receiver;
+import org.apache.qpid.protonj2.engine.SendSchedulingPolicy;
 import org.apache.qpid.protonj2.engine.Sender;
 import org.apache.qpid.protonj2.engine.Session;
 import org.apache.qpid.protonj2.engine.SessionState;
@@ -38,7 +41,7 @@ import org.apache.qpid.protonj2.engine.TransactionManager;
 import org.apache.qpid.protonj2.engine.exceptions.EngineFailedException;
 import org.apache.qpid.protonj2.engine.exceptions.EngineStateException;
 import org.apache.qpid.protonj2.engine.exceptions.ProtocolViolationException;
-import org.apache.qpid.protonj2.engine.util.SplayMap;
+import org.apache.qpid.protonj2.engine.util.HandleTable;
 import org.apache.qpid.protonj2.types.Symbol;
 import org.apache.qpid.protonj2.types.UnsignedInteger;
 import org.apache.qpid.protonj2.types.transport.Attach;
@@ -69,8 +72,8 @@ public class ProtonSession extends ProtonEndpoint<Session> implements Session {
     private final Map<String, ProtonSender> senderByNameMap = new HashMap<>();
     private final Map<String, ProtonReceiver> receiverByNameMap = new HashMap<>();
 
-    private final SplayMap<ProtonLink<?>> localLinks = new SplayMap<>();
-    private final SplayMap<ProtonLink<?>> remoteLinks = new SplayMap<>();
+    private final HandleTable<ProtonLink<?>> localLinks = new HandleTable<>();
+    private final HandleTable<ProtonLink<?>> remoteLinks = new HandleTable<>();
 
     private final Flow cachedFlow = new Flow();
 
@@ -209,6 +212,17 @@ public class ProtonSession extends ProtonEndpoint<Session> implements Session {
         return outgoingWindow.getRemainingOutgoingCapacity();
     }
 
+    @Override
+    public Session setSendSchedulingPolicy(SendSchedulingPolicy policy) {
+        outgoingWindow.getScheduler().setPolicy(policy);
+        return this;
+    }
+
+    @Override
+    public SendSchedulingPolicy getSendSchedulingPolicy() {
+        return outgoingWindow.getScheduler().getPolicy();
+    }
+
     @Override
     public Session setHandleMax(long handleMax) throws IllegalStateException {
         checkNotOpened("Cannot set handle max on already opened Session");
@@ -596,6 +610,10 @@ public class ProtonSession extends ProtonEndpoint<Session> implements Session {
     void freeLink(ProtonLink<?> linkToFree) {
         freeLocalHandle(linkToFree.getHandle());
 
+        if (linkToFree.isSender()) {
+            outgoingWindow.getScheduler().unschedule((ProtonSender) linkToFree);
+        }
+
         if (linkToFree.isRemotelyClosed() || linkToFree.isRemotelyDetached()) {
             if (linkToFree.isReceiver()) {
                 receiverByNameMap.remove(linkToFree.getName());
@@ -716,7 +734,12 @@ public class ProtonSession extends ProtonEndpoint<Session> implements Session {
     private void fireSessionBegin() {
         connection.getEngine().fireWrite(localBegin, localChannel);
         localBeginSent = true;
-        allLinks().forEach(link -> link.trySyncLocalStateWithRemote());
+
+        // Links opened before the begin was written are synced in handle order so their attach
+        // frames are written in the order the links were opened.
+        final List<ProtonLink<?>> pendingLinks = new ArrayList<>(localLinks.size());
+        localLinks.forEach(pendingLinks::add);
+        pendingLinks.forEach(link -> link.trySyncLocalStateWithRemote());
     }
 
     private void fireSessionEnd() {
@@ -726,11 +749,10 @@ public class ProtonSession extends ProtonEndpoint<Session> implements Session {
     }
 
     long findFreeLocalHandle(ProtonLink<?> link) {
-        for (long i = 0; i <= localBegin.getHandleMax(); ++i) {
-            if (!localLinks.containsKey((int) i)) {
-                localLinks.put((int) i, link);
-                return i;
-            }
+        final long handle = localLinks.nextFreeKey(localBegin.getHandleMax());
+        if (handle >= 0) {
+            localLinks.put((int) handle, link);
+            return handle;
         }
 
         throw new IllegalStateException("no local handle available for allocation");
@@ -16,10 +16,13 @@
  */
 package org.apache.qpid.protonj2.engine.impl;
 
+import java.util.List;
+import java.util.Objects;
+
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.engine.exceptions.ProtocolViolationException;
 import org.apache.qpid.protonj2.engine.util.SequenceNumber;
-import org.apache.qpid.protonj2.engine.util.SplayMap;
+import org.apache.qpid.protonj2.engine.util.SequenceWindowMap;
 import org.apache.qpid.protonj2.types.UnsignedInteger;
 import org.apache.qpid.protonj2.types.transport.Begin;
 import org.apache.qpid.protonj2.types.transport.Disposition;
@@ -57,7 +60,7 @@ public class ProtonSessionIncomingWindow {
     private long maxFrameSize;
     private long incomingBytes;
 
-    private SplayMap<ProtonIncomingDelivery> unsettled = new SplayMap<>();
+    private SequenceWindowMap<ProtonIncomingDelivery> unsettled = new SequenceWindowMap<>();
 
     public ProtonSessionIncomingWindow(ProtonSession session) {
         this.session = session;
@@ -231,14 +234,60 @@ public class ProtonSessionIncomingWindow {
                 unsettled.remove((int) delivery.getDeliveryId());
             }
 
-            cachedDisposition.reset();
-            cachedDisposition.setFirst(delivery.getDeliveryId());
-            cachedDisposition.setRole(Role.RECEIVER);
-            cachedDisposition.setSettled(delivery.isSettled());
-            cachedDisposition.setState(delivery.getState());
+            writeDisposition(delivery, delivery);
+        }
+    }
+
+    /*
+     * Deliveries must be given in delivery id order, runs of consecutive delivery ids that share the
+     * same settlement and state are written as a single ranged disposition.
+     */
+    void processDisposition(ProtonReceiver receiver, List<ProtonIncomingDelivery> deliveries) {
+        ProtonIncomingDelivery first = null;
+        ProtonIncomingDelivery last = null;
+
+        for (ProtonIncomingDelivery delivery : deliveries) {
+            if (delivery.isRemotelySettled()) {
+                continue;
+            }
+
+            if (delivery.isSettled()) {
+                unsettled.remove((int) delivery.getDeliveryId());
+            }
 
-            engine.fireWrite(cachedDisposition, session.getLocalChannel());
+            if (first != null && extendsRange(last, delivery)) {
+                last = delivery;
+            } else {
+                if (first != null) {
+                    writeDisposition(first, last);
+                }
+
+                first = last = delivery;
+            }
+        }
+
+        if (first != null) {
+            writeDisposition(first, last);
+        }
+    }
+
+    private static boolean extendsRange(ProtonIncomingDelivery last, ProtonIncomingDelivery next) {
+        return (int) next.getDeliveryId() == (int) last.getDeliveryId() + 1 &&
+               next.isSettled() == last.isSettled() &&
+               Objects.equals(next.getState(), last.getState());
+    }
+
+    private void writeDisposition(ProtonIncomingDelivery first, ProtonIncomingDelivery last) {
+        cachedDisposition.reset();
+        cachedDisposition.setFirst(first.getDeliveryId());
+        if (first != last) {
+            cachedDisposition.setLast(last.getDeliveryId());
         }
+        cachedDisposition.setRole(Role.RECEIVER);
+        cachedDisposition.setSettled(first.isSettled());
+        cachedDisposition.setState(first.getState());
+
+        engine.fireWrite(cachedDisposition, session.getLocalChannel());
     }
 
     void deliveryRead(ProtonIncomingDelivery delivery, int bytesRead) {
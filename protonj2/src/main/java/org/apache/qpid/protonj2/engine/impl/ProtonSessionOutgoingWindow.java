@@ -16,11 +16,9 @@
  */
 package org.apache.qpid.protonj2.engine.impl;
 
-import java.util.Set;
-
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.engine.OutgoingAMQPEnvelope;
-import org.apache.qpid.protonj2.engine.util.SplayMap;
+import org.apache.qpid.protonj2.engine.util.SequenceWindowMap;
 import org.apache.qpid.protonj2.types.DeliveryTag;
 import org.apache.qpid.protonj2.types.transport.Begin;
 import org.apache.qpid.protonj2.types.transport.Disposition;
@@ -58,7 +56,8 @@ public class ProtonSessionOutgoingWindow {
     private long remoteIncomingWindow;
     private int remoteNextIncomingId = nextOutgoingId;
 
-    private final SplayMap<ProtonOutgoingDelivery> unsettled = new SplayMap<>();
+    private final SequenceWindowMap<ProtonOutgoingDelivery> unsettled = new SequenceWindowMap<>();
+    private final ProtonSessionSendScheduler scheduler = new ProtonSessionSendScheduler(this);
 
     public ProtonSessionOutgoingWindow(ProtonSession session) {
         this.session = session;
@@ -114,6 +113,14 @@ public class ProtonSessionOutgoingWindow {
         return remoteIncomingWindow > 0 && locallyWritable;
     }
 
+    boolean isLocallyWritable() {
+        return locallyWritable;
+    }
+
+    ProtonSessionSendScheduler getScheduler() {
+        return scheduler;
+    }
+
     private void updateOutgoingWindowState() {
         final boolean oldWritable = locallyWritable;
         final int maxFrameSize = (int) session.getEngine().configuration().getOutboundMaxFrameSize();
@@ -134,32 +141,14 @@ public class ProtonSessionOutgoingWindow {
         }
 
         if (!oldWritable && locallyWritable) {
-            Set<ProtonSender> senders = session.senders();
-            for (ProtonSender sender : senders) {
-                if (sender.getCredit() > 0) {
-                    sender.signalLinkCreditStateUpdated();
-                }
-
-                if (!locallyWritable) {
-                    break;
-                }
-            }
+            scheduler.dispatch();
         }
     }
 
     private void handleOutgoingFrameWriteComplete() {
         if (--pendingOutgoingWrites <= outgoingWindowLowWaterMark && outgoingCapacity != 0  && !locallyWritable) {
             locallyWritable = true;
-            Set<ProtonSender> senders = session.senders();
-            for (ProtonSender sender : senders) {
-                if (sender.getCredit() > 0) {
-                    sender.signalLinkCreditStateUpdated();
-                }
-
-                if (!locallyWritable) {
-                    break;
-                }
-            }
+            scheduler.dispatch();
         }
     }
 
@@ -254,6 +243,8 @@ public class ProtonSessionOutgoingWindow {
 
     private final Disposition cachedDisposition = new Disposition();
     private final Transfer cachedTransfer = new Transfer();
+    private final ProtonSequentialTagGenerator.ProtonTransferNumericDeliveryTag cachedTransferTag =
+        new ProtonSequentialTagGenerator.ProtonTransferNumericDeliveryTag();
 
     private void handlePayloadToLargeRequiresSplitFrames(Performative performative) {
         cachedTransfer.setMore(true);
@@ -283,9 +274,14 @@ public class ProtonSessionOutgoingWindow {
                 nextOutgoingId++;
                 remoteIncomingWindow--;
                 locallyWritable = ++pendingOutgoingWrites < outgoingWindowHighWaterMark;
+                if (!locallyWritable) {
+                    scheduler.windowBlocked();
+                }
 
                 // Only the first transfer requires the delivery tag, afterwards we can omit it for efficiency.
-                if (delivery.getTransferCount() == 0) {
+                if (delivery.getTransferCount() == 0 && delivery.hasDeferredTag()) {
+                    cachedTransfer.setDeliveryTag(cachedTransferTag.setTagValue(delivery.getDeferredTagValue()));
+                } else if (delivery.getTransferCount() == 0) {
                     cachedTransfer.setDeliveryTag(delivery.getTag());
                 } else {
                     cachedTransfer.setDeliveryTag((DeliveryTag) null);
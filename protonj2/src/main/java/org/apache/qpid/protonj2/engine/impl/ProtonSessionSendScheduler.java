@@ -0,0 +1,265 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.engine.impl;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+
+import org.apache.qpid.protonj2.engine.SendSchedulingPolicy;
+
+/**
+ * Decides the order in which the senders of a session are notified that they can send when the
+ * session outgoing window becomes writable again.
+ * <p>
+ * Only senders that have been granted credit are tracked so the cost of each wake up is bounded
+ * by the number of senders that could actually make use of the window.  Senders whose credit has
+ * been used up are dropped lazily when they reach the front of their queue and are added back
+ * the next time the remote grants them credit, senders that are closed or detached are dropped
+ * immediately.
+ */
+final class ProtonSessionSendScheduler {
+
+    static final int MIN_PRIORITY = 0;
+    static final int MAX_PRIORITY = 9;
+    static final int DEFAULT_PRIORITY = 4;
+
+    private final ProtonSessionOutgoingWindow window;
+
+    // One queue per priority level, policies other than priority only use the lowest level.
+    @SuppressWarnings("unchecked")
+    private final ArrayDeque<ProtonSender>[] queues = new ArrayDeque[MAX_PRIORITY + 1];
+
+    private SendSchedulingPolicy policy = SendSchedulingPolicy.ROUND_ROBIN;
+
+    private long windowBlockedAt;
+    private boolean dispatching;
+    private boolean redispatch;
+
+    ProtonSessionSendScheduler(ProtonSessionOutgoingWindow window) {
+        this.window = window;
+
+        for (int i = 0; i < queues.length; ++i) {
+            queues[i] = new ArrayDeque<>();
+        }
+    }
+
+    SendSchedulingPolicy getPolicy() {
+        return policy;
+    }
+
+    void setPolicy(SendSchedulingPolicy policy) {
+        Objects.requireNonNull(policy, "Send scheduling policy cannot be null");
+
+        if (this.policy != policy) {
+            final ArrayDeque<ProtonSender> scheduled = new ArrayDeque<>();
+            for (int i = queues.length - 1; i >= 0; --i) {
+                scheduled.addAll(queues[i]);
+                queues[i].clear();
+            }
+
+            this.policy = policy;
+
+            for (ProtonSender sender : scheduled) {
+                sender.sendDeficit = 0;
+                queueFor(sender).add(sender);
+            }
+        }
+    }
+
+    /**
+     * Begins tracking the given sender if it is not already tracked, called whenever the sender is
+     * granted credit by the remote.
+     *
+     * @param sender
+     *      The sender that now holds credit.
+     */
+    void schedule(ProtonSender sender) {
+        if (!sender.scheduled) {
+            sender.scheduled = true;
+            sender.scheduledAt = System.nanoTime();
+            queueFor(sender).add(sender);
+        }
+    }
+
+    /**
+     * Stops tracking the given sender, called when the sender is locally closed, detached or freed
+     * so that links which are done with the session are not held until the next window wake up.
+     *
+     * @param sender
+     *      The sender that should no longer be notified of session window updates.
+     */
+    void unschedule(ProtonSender sender) {
+        if (sender.scheduled) {
+            sender.scheduled = false;
+            sender.sendDeficit = 0;
+            queueFor(sender).remove(sender);
+        }
+    }
+
+    /**
+     * Moves an already tracked sender to the queue matching its updated priority.
+     *
+     * @param sender
+     *      The sender whose priority is about to change.
+     * @param priority
+     *      The new priority that will be assigned to the sender.
+     */
+    void reprioritize(ProtonSender sender, int priority) {
+        if (sender.scheduled && policy == SendSchedulingPolicy.PRIORITY) {
+            queues[sender.getSendPriority()].remove(sender);
+            queues[priority].add(sender);
+        }
+    }
+
+    /**
+     * Records that the session outgoing window has filled so that the time senders spend waiting
+     * for it to reopen can be measured.
+     */
+    void windowBlocked() {
+        if (windowBlockedAt == 0) {
+            windowBlockedAt = System.nanoTime();
+        }
+    }
+
+    /**
+     * Notifies the tracked senders in policy order for as long as the session window stays writable.
+     */
+    void dispatch() {
+        if (dispatching) {
+            // A sender write completed synchronously and reopened the window, the outer
+            // dispatch picks this up once the current notification returns.
+            redispatch = true;
+            return;
+        }
+
+        dispatching = true;
+        try {
+            do {
+                redispatch = false;
+
+                if (policy == SendSchedulingPolicy.DEFICIT_WEIGHTED) {
+                    dispatchWeighted(queues[MIN_PRIORITY]);
+                } else {
+                    for (int i = queues.length - 1; i >= 0 && window.isLocallyWritable(); --i) {
+                        dispatchInTurn(queues[i]);
+                    }
+                }
+            } while (redispatch && window.isLocallyWritable());
+
+            if (window.isLocallyWritable()) {
+                windowBlockedAt = 0;
+            }
+        } finally {
+            dispatching = false;
+        }
+    }
+
+    /*
+     * Test entry point to validate that senders are no longer tracked.
+     */
+    int scheduledCount() {
+        int count = 0;
+        for (ArrayDeque<ProtonSender> queue : queues) {
+            count += queue.size();
+        }
+
+        return count;
+    }
+
+    //----- Internal scheduling implementation
+
+    private ArrayDeque<ProtonSender> queueFor(ProtonSender sender) {
+        return policy == SendSchedulingPolicy.PRIORITY ? queues[sender.getSendPriority()] : queues[MIN_PRIORITY];
+    }
+
+    private void dispatchInTurn(ArrayDeque<ProtonSender> queue) {
+        // Each sender present at the start is offered the window once, the sender is moved to
+        // the back before notification so anything it triggers sees a consistent queue.
+        for (int remaining = queue.size(); remaining > 0 && window.isLocallyWritable(); --remaining) {
+            final ProtonSender sender = queue.poll();
+
+            if (isSchedulable(sender)) {
+                queue.add(sender);
+                notifySender(sender);
+            } else {
+                sender.scheduled = false;
+            }
+        }
+    }
+
+    private void dispatchWeighted(ArrayDeque<ProtonSender> queue) {
+        while (!queue.isEmpty() && window.isLocallyWritable()) {
+            boolean skipped = false;
+            int framesWritten = 0;
+
+            for (int remaining = queue.size(); remaining > 0 && window.isLocallyWritable(); --remaining) {
+                final ProtonSender sender = queue.poll();
+
+                if (!isSchedulable(sender)) {
+                    sender.scheduled = false;
+                    sender.sendDeficit = 0;
+                    continue;
+                }
+
+                queue.add(sender);
+                sender.sendDeficit += sender.getSendWeight();
+
+                if (sender.sendDeficit <= 0) {
+                    skipped = true;
+                    continue;
+                }
+
+                final int nextOutgoingId = window.getNextOutgoingId();
+
+                notifySender(sender);
+
+                final int written = window.getNextOutgoingId() - nextOutgoingId;
+
+                framesWritten += written;
+                // A sender that had nothing to write does not carry its quantum into later rounds.
+                sender.sendDeficit = written == 0 ? 0 : sender.sendDeficit - written;
+            }
+
+            if (framesWritten == 0) {
+                if (!skipped) {
+                    break;
+                }
+
+                // Only senders that are paying off earlier writes want the window, the debt is
+                // forgiven rather than leaving the window idle while it is paid off.
+                for (ProtonSender sender : queue) {
+                    sender.sendDeficit = Math.max(0, sender.sendDeficit);
+                }
+            }
+        }
+    }
+
+    private static boolean isSchedulable(ProtonSender sender) {
+        return sender.getCredit() > 0 && sender.isLocallyOpen();
+    }
+
+    private void notifySender(ProtonSender sender) {
+        final long now = System.nanoTime();
+
+        if (windowBlockedAt != 0) {
+            sender.recordSendWait(now - Math.max(windowBlockedAt, sender.scheduledAt));
+        }
+
+        sender.scheduledAt = now;
+        sender.signalLinkCreditStateUpdated();
+    }
+}
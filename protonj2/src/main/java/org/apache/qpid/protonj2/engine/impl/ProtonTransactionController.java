@@ -29,6 +29,7 @@ import org.apache.qpid.protonj2.buffer.ProtonByteBufferAllocator;
 import org.apache.qpid.protonj2.codec.CodecFactory;
 import org.apache.qpid.protonj2.codec.Encoder;
 import org.apache.qpid.protonj2.codec.EncoderState;
+import org.apache.qpid.protonj2.codec.EncodingCodes;
 import org.apache.qpid.protonj2.engine.Engine;
 import org.apache.qpid.protonj2.engine.EventHandler;
 import org.apache.qpid.protonj2.engine.OutgoingDelivery;
@@ -41,6 +42,7 @@ import org.apache.qpid.protonj2.engine.exceptions.EngineFailedException;
 import org.apache.qpid.protonj2.engine.exceptions.EngineStateException;
 import org.apache.qpid.protonj2.logging.ProtonLogger;
 import org.apache.qpid.protonj2.logging.ProtonLoggerFactory;
+import org.apache.qpid.protonj2.types.Binary;
 import org.apache.qpid.protonj2.types.Symbol;
 import org.apache.qpid.protonj2.types.messaging.AmqpValue;
 import org.apache.qpid.protonj2.types.messaging.Rejected;
@@ -81,6 +83,8 @@ public class ProtonTransactionController extends ProtonEndpoint<TransactionContr
     private final Encoder commandEncoder = CodecFactory.getEncoder();
     private final ProtonBuffer encoding = ProtonByteBufferAllocator.DEFAULT.allocate();
 
+    private int encodedDischargeTxnIdLength = -1;
+
     private final Set<Transaction<TransactionController>> transactions = new HashSet<>();
 
     private EventHandler<Transaction<TransactionController>> declaredEventHandler;
@@ -208,20 +212,37 @@ public class ProtonTransactionController extends ProtonEndpoint<TransactionContr
         protonTxn.setState(TransactionState.DISCHARGING);
         protonTxn.setDischargeState(failed ? DischargeState.ROLLBACK : DischargeState.COMMIT);
 
-        Discharge discharge = new Discharge();
-        discharge.setFail(failed);
-        discharge.setTxnId(transaction.getTxnId());
-
-        commandEncoder.writeObject(encoding.clear(), commandEncoder.getCachedEncoderState(), new AmqpValue<>(discharge));
-
         OutgoingDelivery command = senderLink.next();
         command.setMessageFormat(0);
         command.setLinkedResource(transaction);
-        command.writeBytes(encoding);
+        command.writeBytes(encodeDischarge(transaction.getTxnId(), failed));
 
         return this;
     }
 
+    private ProtonBuffer encodeDischarge(Binary txnId, boolean failed) {
+        // Coordinators generally hand out transaction Ids of a fixed size so the previous Discharge
+        // encoding is reused when the size matches by overwriting the txn-id and trailing fail bytes.
+        if (txnId != null && txnId.asProtonBuffer() != null && txnId.getLength() == encodedDischargeTxnIdLength) {
+            final ProtonBuffer txnIdBuffer = txnId.asProtonBuffer();
+            final int failIndex = encoding.getWriteIndex() - 1;
+
+            encoding.setBytes(failIndex - encodedDischargeTxnIdLength, txnIdBuffer, txnIdBuffer.getReadIndex(), encodedDischargeTxnIdLength);
+            encoding.setByte(failIndex, failed ? EncodingCodes.BOOLEAN_TRUE : EncodingCodes.BOOLEAN_FALSE);
+            encoding.setReadIndex(0);
+        } else {
+            final Discharge discharge = new Discharge();
+            discharge.setFail(failed);
+            discharge.setTxnId(txnId);
+
+            commandEncoder.writeObject(encoding.clear(), commandEncoder.getCachedEncoderState(), new AmqpValue<>(discharge));
+
+            encodedDischargeTxnIdLength = txnId != null && txnId.asProtonBuffer() != null ? txnId.getLength() : -1;
+        }
+
+        return encoding;
+    }
+
     @Override
     public TransactionController declaredHandler(EventHandler<Transaction<TransactionController>> declaredEventHandler) {
         this.declaredEventHandler = declaredEventHandler;
@@ -29,6 +29,8 @@ import javax.security.sasl.SaslException;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.buffer.ProtonByteBufferAllocator;
+import org.apache.qpid.protonj2.engine.sasl.client.ScramKeyCache.CacheKey;
+import org.apache.qpid.protonj2.engine.sasl.client.ScramKeyCache.ScramKeys;
 
 abstract class AbstractScramSHAMechanism extends AbstractMechanism {
 
@@ -38,6 +40,7 @@ abstract class AbstractScramSHAMechanism extends AbstractMechanism {
     private final String clientNonce;
     private final String digestName;
     private final String hmacName;
+    private final ScramKeyCache keyCache;
 
     private String serverNonce;
     private byte[] salt;
@@ -56,9 +59,14 @@ abstract class AbstractScramSHAMechanism extends AbstractMechanism {
     private State state = State.INITIAL;
 
     AbstractScramSHAMechanism(final String digestName, final String hmacName, final String clientNonce) {
+        this(digestName, hmacName, clientNonce, null);
+    }
+
+    AbstractScramSHAMechanism(final String digestName, final String hmacName, final String clientNonce, final ScramKeyCache keyCache) {
         this.digestName = digestName;
         this.hmacName = hmacName;
         this.clientNonce = clientNonce;
+        this.keyCache = keyCache;
     }
 
     @Override
@@ -150,7 +158,7 @@ abstract class AbstractScramSHAMechanism extends AbstractMechanism {
             }
 
             byte[] passwordBytes = saslPrep(new String(credentials.password())).getBytes(StandardCharsets.UTF_8);
-            byte[] saltedPassword = generateSaltedPassword(passwordBytes);
+            ScramKeys keys = getOrComputeKeys(passwordBytes);
 
             String clientFinalMessageWithoutProof =
                     "c=" + Base64.getEncoder().encodeToString(GS2_HEADER.getBytes(StandardCharsets.US_ASCII))
@@ -159,18 +167,14 @@ abstract class AbstractScramSHAMechanism extends AbstractMechanism {
             String authMessage = clientFirstMessageBare
                     + "," + serverFirstMessage + "," + clientFinalMessageWithoutProof;
 
-            byte[] clientKey = computeHmac(saltedPassword, "Client Key");
-            byte[] storedKey = MessageDigest.getInstance(digestName).digest(clientKey);
+            byte[] clientSignature = computeHmac(keys.storedKey(), authMessage);
 
-            byte[] clientSignature = computeHmac(storedKey, authMessage);
-
-            byte[] clientProof = clientKey.clone();
+            byte[] clientProof = keys.clientKey().clone();
             for (int i = 0; i < clientProof.length; i++) {
                 clientProof[i] ^= clientSignature[i];
             }
 
-            byte[] serverKey = computeHmac(saltedPassword, "Server Key");
-            serverSignature = computeHmac(serverKey, authMessage);
+            serverSignature = computeHmac(keys.serverKey(), authMessage);
 
             String finalMessageWithProof = clientFinalMessageWithoutProof
                     + ",p=" + Base64.getEncoder().encodeToString(clientProof);
@@ -196,6 +200,31 @@ abstract class AbstractScramSHAMechanism extends AbstractMechanism {
         }
     }
 
+    private ScramKeys getOrComputeKeys(final byte[] passwordBytes) throws SaslException, NoSuchAlgorithmException {
+        if (keyCache == null) {
+            return computeKeys(passwordBytes);
+        }
+
+        final CacheKey cacheKey = new CacheKey(hmacName, MessageDigest.getInstance(digestName).digest(passwordBytes), salt, iterationCount);
+
+        ScramKeys keys = keyCache.get(cacheKey);
+        if (keys == null) {
+            keys = computeKeys(passwordBytes);
+            keyCache.put(cacheKey, keys);
+        }
+
+        return keys;
+    }
+
+    private ScramKeys computeKeys(final byte[] passwordBytes) throws SaslException, NoSuchAlgorithmException {
+        final byte[] saltedPassword = generateSaltedPassword(passwordBytes);
+        final byte[] clientKey = computeHmac(saltedPassword, "Client Key");
+        final byte[] storedKey = MessageDigest.getInstance(digestName).digest(clientKey);
+        final byte[] serverKey = computeHmac(saltedPassword, "Server Key");
+
+        return new ScramKeys(clientKey, storedKey, serverKey);
+    }
+
     private byte[] computeHmac(final byte[] key, final String string) throws SaslException {
         Mac mac = createHmac(key);
         mac.update(string.getBytes(StandardCharsets.US_ASCII));
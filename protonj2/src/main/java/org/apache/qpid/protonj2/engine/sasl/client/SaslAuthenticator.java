@@ -17,11 +17,13 @@
 package org.apache.qpid.protonj2.engine.sasl.client;
 
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
 import javax.security.sasl.SaslException;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.engine.EventHandler;
+import org.apache.qpid.protonj2.engine.exceptions.EngineStateException;
 import org.apache.qpid.protonj2.engine.sasl.SaslClientContext;
 import org.apache.qpid.protonj2.engine.sasl.SaslClientListener;
 import org.apache.qpid.protonj2.engine.sasl.SaslOutcome;
@@ -43,6 +45,9 @@ public class SaslAuthenticator implements SaslClientListener {
     private EventHandler<SaslOutcome> saslCompleteHandler;
     private Mechanism chosenMechanism;
 
+    private Executor responseWorker;
+    private Executor engineExecutor;
+
     /**
      * Creates a new SASL Authenticator initialized with the given credentials provider instance.  Because no
      * {@link Mechanism} selector is given the full set of supported SASL mechanisms will be chosen from when
@@ -78,6 +83,29 @@ public class SaslAuthenticator implements SaslClientListener {
         return this;
     }
 
+    /**
+     * Configures this authenticator to compute the chosen {@link Mechanism} responses on the given worker
+     * instead of on the thread that delivered the SASL frame from the remote.  Mechanisms such as SCRAM
+     * perform CPU heavy work when answering a challenge and running that work on the worker keeps it from
+     * stalling the IO thread that drives the engine.  Once a response has been computed it is written from
+     * a task given to the engine executor which must run its tasks on the thread that owns the engine.
+     *
+     * @param responseWorker
+     *      The {@link Executor} that computes the mechanism initial and challenge responses.
+     * @param engineExecutor
+     *      The {@link Executor} that runs tasks on the thread that owns the engine.
+     *
+     * @return this {@link SaslAuthenticator} instance.
+     */
+    public SaslAuthenticator offloadResponses(Executor responseWorker, Executor engineExecutor) {
+        Objects.requireNonNull(responseWorker, "A worker to compute responses on is required");
+        Objects.requireNonNull(engineExecutor, "An executor that runs tasks on the engine thread is required");
+
+        this.responseWorker = responseWorker;
+        this.engineExecutor = engineExecutor;
+        return this;
+    }
+
     @Override
     public void handleSaslMechanisms(SaslClientContext context, Symbol[] mechanisms) {
         chosenMechanism = selector.select(mechanisms, credentials);
@@ -91,30 +119,24 @@ public class SaslAuthenticator implements SaslClientListener {
 
         LOG.debug("SASL Negotiations proceeding using selected mechanisms: {}", chosenMechanism);
 
-        ProtonBuffer initialResponse = null;
-        try {
-            initialResponse = chosenMechanism.getInitialResponse(credentials);
-        } catch (SaslException se) {
-            context.saslFailure(se);
-        } catch (Throwable unknown) {
-            context.saslFailure(new SaslException("Unknown error while fetching initial response", unknown));
-        }
+        final Mechanism mechanism = chosenMechanism;
 
-        context.sendChosenMechanism(chosenMechanism.getName(), credentials.vhost(), initialResponse);
+        computeResponse(context,
+                        () -> mechanism.getInitialResponse(credentials),
+                        response -> context.sendChosenMechanism(mechanism.getName(), credentials.vhost(), response),
+                        "Unknown error while fetching initial response");
     }
 
     @Override
     public void handleSaslChallenge(SaslClientContext context, ProtonBuffer challenge) {
-        ProtonBuffer response = null;
-        try {
-            response = chosenMechanism.getChallengeResponse(credentials, challenge);
-        } catch (SaslException se) {
-            context.saslFailure(se);
-        } catch (Exception unknown) {
-            context.saslFailure(new SaslException("Unknown error while fetching challenge response", unknown));
-        }
-
-        context.sendResponse(response);
+        final Mechanism mechanism = chosenMechanism;
+        // The challenge buffer belongs to the incoming frame and cannot be held once this call returns.
+        final ProtonBuffer retained = responseWorker != null && challenge != null ? challenge.copy() : challenge;
+
+        computeResponse(context,
+                        () -> mechanism.getChallengeResponse(credentials, retained),
+                        response -> context.sendResponse(response),
+                        "Unknown error while fetching challenge response");
     }
 
     @Override
@@ -130,4 +152,65 @@ public class SaslAuthenticator implements SaslClientListener {
             context.saslFailure(new SaslException("Unknown error while verifying SASL negotiations completion", unknown));
         }
     }
+
+    //----- Mechanism response computation
+
+    @FunctionalInterface
+    private interface ResponseFunction {
+
+        ProtonBuffer compute() throws SaslException;
+
+    }
+
+    private void computeResponse(SaslClientContext context, ResponseFunction function, EventHandler<ProtonBuffer> sender, String unknownErrorMessage) {
+        if (responseWorker == null) {
+            completeResponse(context, function, sender, unknownErrorMessage);
+        } else {
+            responseWorker.execute(() -> {
+                ProtonBuffer response = null;
+                SaslException failure = null;
+
+                try {
+                    response = function.compute();
+                } catch (SaslException se) {
+                    failure = se;
+                } catch (Throwable unknown) {
+                    failure = new SaslException(unknownErrorMessage, unknown);
+                }
+
+                final ProtonBuffer computed = response;
+                final SaslException error = failure;
+
+                engineExecutor.execute(() -> {
+                    if (context.isDone()) {
+                        return;
+                    } else if (error != null) {
+                        context.saslFailure(error);
+                    } else {
+                        try {
+                            sender.handle(computed);
+                        } catch (EngineStateException ese) {
+                            LOG.trace("Engine stopped before the computed SASL response could be sent: {}", ese.getMessage());
+                        }
+                    }
+                });
+            });
+        }
+    }
+
+    private static void completeResponse(SaslClientContext context, ResponseFunction function, EventHandler<ProtonBuffer> sender, String unknownErrorMessage) {
+        final ProtonBuffer response;
+
+        try {
+            response = function.compute();
+        } catch (SaslException se) {
+            context.saslFailure(se);
+            return;
+        } catch (Throwable unknown) {
+            context.saslFailure(new SaslException(unknownErrorMessage, unknown));
+            return;
+        }
+
+        sender.handle(response);
+    }
 }
@@ -0,0 +1,148 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.engine.sasl.client;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache of the keys a SCRAM mechanism derives from a password, salt and iteration count.
+ * <p>
+ * Deriving the salted password runs the Hi() function for as many iterations as the server asks
+ * for which is by design expensive, a client that reconnects many connections with the same
+ * credentials would otherwise repeat that work for every one of them.  The cache is keyed by a
+ * digest of the password rather than the password itself and is safe to share across threads.
+ * SCRAM mechanisms only use a cache when one is given to them, the owner of the cache controls
+ * which mechanisms share derived keys and for how long they are retained.
+ */
+public final class ScramKeyCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = 64;
+
+    private final Map<CacheKey, ScramKeys> entries;
+
+    /**
+     * Creates a new cache that retains the derived keys of at most the given number of salted
+     * passwords, evicting the least recently used entry once the limit is reached.
+     *
+     * @param maxEntries
+     *      The maximum number of entries the cache will hold.
+     */
+    public ScramKeyCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("The maximum number of cache entries must be greater than zero");
+        }
+
+        this.entries = new LinkedHashMap<CacheKey, ScramKeys>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, ScramKeys> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    synchronized ScramKeys get(CacheKey key) {
+        return entries.get(key);
+    }
+
+    synchronized void put(CacheKey key, ScramKeys keys) {
+        entries.put(key, keys);
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * The client and server keys derived from a single salted password.
+     */
+    static final class ScramKeys {
+
+        private final byte[] clientKey;
+        private final byte[] storedKey;
+        private final byte[] serverKey;
+
+        ScramKeys(byte[] clientKey, byte[] storedKey, byte[] serverKey) {
+            this.clientKey = clientKey;
+            this.storedKey = storedKey;
+            this.serverKey = serverKey;
+        }
+
+        byte[] clientKey() {
+            return clientKey;
+        }
+
+        byte[] storedKey() {
+            return storedKey;
+        }
+
+        byte[] serverKey() {
+            return serverKey;
+        }
+    }
+
+    /**
+     * Identifies a salted password by HMAC algorithm, password digest, salt and iteration count.
+     */
+    static final class CacheKey {
+
+        private final String hmacName;
+        private final byte[] passwordDigest;
+        private final byte[] salt;
+        private final int iterations;
+        private final int hashCode;
+
+        CacheKey(String hmacName, byte[] passwordDigest, byte[] salt, int iterations) {
+            this.hmacName = hmacName;
+            this.passwordDigest = passwordDigest;
+            this.salt = salt;
+            this.iterations = iterations;
+
+            int result = hmacName.hashCode();
+            result = 31 * result + Arrays.hashCode(passwordDigest);
+            result = 31 * result + Arrays.hashCode(salt);
+            result = 31 * result + iterations;
+
+            this.hashCode = result;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            } else if (!(other instanceof CacheKey)) {
+                return false;
+            }
+
+            final CacheKey key = (CacheKey) other;
+
+            return iterations == key.iterations &&
+                   hmacName.equals(key.hmacName) &&
+                   Arrays.equals(passwordDigest, key.passwordDigest) &&
+                   Arrays.equals(salt, key.salt);
+        }
+    }
+}
@@ -34,11 +34,26 @@ public class ScramSHA1Mechanism extends AbstractScramSHAMechanism {
         this(UUID.randomUUID().toString());
     }
 
+    /**
+     * Creates a mechanism that reuses the keys derived from a salted password held in the given cache.
+     *
+     * @param keyCache
+     *      The {@link ScramKeyCache} shared with other mechanisms that authenticate with the same credentials.
+     */
+    public ScramSHA1Mechanism(ScramKeyCache keyCache) {
+        this(UUID.randomUUID().toString(), keyCache);
+    }
+
     /** For unit testing */
     ScramSHA1Mechanism(String clientNonce) {
         super(SHA_1, HMAC_SHA_1, clientNonce);
     }
 
+    /** For unit testing */
+    ScramSHA1Mechanism(String clientNonce, ScramKeyCache keyCache) {
+        super(SHA_1, HMAC_SHA_1, clientNonce, keyCache);
+    }
+
     @Override
     public Symbol getName() {
         return SCRAM_SHA_1;
@@ -34,11 +34,26 @@ public class ScramSHA256Mechanism extends AbstractScramSHAMechanism {
         this(UUID.randomUUID().toString());
     }
 
+    /**
+     * Creates a mechanism that reuses the keys derived from a salted password held in the given cache.
+     *
+     * @param keyCache
+     *      The {@link ScramKeyCache} shared with other mechanisms that authenticate with the same credentials.
+     */
+    public ScramSHA256Mechanism(ScramKeyCache keyCache) {
+        this(UUID.randomUUID().toString(), keyCache);
+    }
+
     /** For unit testing */
     ScramSHA256Mechanism(String clientNonce) {
         super(SHA_256, HMAC_SHA_256, clientNonce);
     }
 
+    /** For unit testing */
+    ScramSHA256Mechanism(String clientNonce, ScramKeyCache keyCache) {
+        super(SHA_256, HMAC_SHA_256, clientNonce, keyCache);
+    }
+
     @Override
     public Symbol getName() {
         return SCRAM_SHA_256;
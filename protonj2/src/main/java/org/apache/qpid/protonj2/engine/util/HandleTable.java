@@ -0,0 +1,262 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.engine.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.apache.qpid.protonj2.types.UnsignedInteger;
+
+/**
+ * Routing table that maps AMQP channel and handle numbers to the object they identify.
+ * <p>
+ * Channels and handles are chosen from the lowest free value by both peers which keeps the set
+ * of values in use small and dense, so the values are stored in an array indexed directly by the
+ * channel or handle number giving allocation free constant time lookups when routing incoming
+ * frames.  Values that would leave the array mostly empty, such as a remote that picks very large
+ * handle numbers, are stored in a {@link SplayMap} instead so that memory use is bounded by the
+ * number of entries and not by the largest number used.
+ * <p>
+ * Keys are treated as unsigned integer values.
+ *
+ * @param <E> The type stored in the table
+ */
+public final class HandleTable<E> {
+
+    private static final int INITIAL_CAPACITY = 8;
+    private static final int MAX_DENSE_CAPACITY = 1 << 16;
+
+    private Object[] slots;
+    private SplayMap<E> overflow;
+
+    private int denseSize;
+    private int lowestFree;
+
+    /**
+     * Creates a new empty {@link HandleTable}.
+     */
+    public HandleTable() {
+        this.slots = new Object[INITIAL_CAPACITY];
+    }
+
+    /**
+     * @return the number of entries stored in this table.
+     */
+    public int size() {
+        return denseSize + (overflow == null ? 0 : overflow.size());
+    }
+
+    /**
+     * @return true if there are no entries stored in this table.
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Gets the value mapped to the given channel or handle.
+     *
+     * @param key
+     *      the channel or handle whose value should be returned.
+     *
+     * @return the mapped value or null if nothing is mapped to the given key.
+     */
+    @SuppressWarnings("unchecked")
+    public E get(int key) {
+        if (key >= 0 && key < slots.length) {
+            return (E) slots[key];
+        } else if (overflow != null) {
+            return overflow.get(key);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * @param key
+     *      the channel or handle to check for a mapping
+     *
+     * @return true if the given key has a value mapped to it in this table.
+     */
+    public boolean containsKey(int key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Maps the given value to the provided channel or handle.
+     *
+     * @param key
+     *      the channel or handle to map the value to.
+     * @param value
+     *      the value to store which cannot be null.
+     *
+     * @return the value that was previously mapped to the key or null if there was none.
+     */
+    @SuppressWarnings("unchecked")
+    public E put(int key, E value) {
+        if (value == null) {
+            throw new NullPointerException("Cannot store a null value in the table");
+        }
+
+        if (key >= 0 && (key < slots.length || ensureDenseCapacity(key))) {
+            final E oldValue = (E) slots[key];
+            slots[key] = value;
+
+            if (oldValue == null) {
+                denseSize++;
+                if (key == lowestFree) {
+                    advanceLowestFree();
+                }
+            }
+
+            return oldValue;
+        } else {
+            if (overflow == null) {
+                overflow = new SplayMap<>();
+            }
+
+            return overflow.put(key, value);
+        }
+    }
+
+    /**
+     * Removes any value mapped to the given channel or handle.
+     *
+     * @param key
+     *      the channel or handle whose mapping should be removed.
+     *
+     * @return the value that was mapped to the key or null if there was none.
+     */
+    @SuppressWarnings("unchecked")
+    public E remove(int key) {
+        if (key >= 0 && key < slots.length) {
+            final E oldValue = (E) slots[key];
+
+            if (oldValue != null) {
+                slots[key] = null;
+                denseSize--;
+                lowestFree = Math.min(lowestFree, key);
+            }
+
+            return oldValue;
+        } else if (overflow != null) {
+            return overflow.remove(key);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Finds the lowest channel or handle value that currently has no mapping.
+     *
+     * @param maxKey
+     *      the largest value that can be returned (treated as unsigned).
+     *
+     * @return the lowest unmapped key that is not greater than the given maximum, or -1 if none.
+     */
+    public long nextFreeKey(long maxKey) {
+        long candidate = lowestFree;
+
+        // Only reached once the dense slots are full, continues on past them until a free value.
+        while (candidate <= maxKey && containsKey((int) candidate)) {
+            candidate++;
+        }
+
+        return candidate <= maxKey ? candidate : -1;
+    }
+
+    /**
+     * Performs the given action for each value in this table.
+     *
+     * @param action
+     *      the action to perform on each stored value.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        final Object[] current = slots;
+
+        for (int i = 0; i < current.length; ++i) {
+            if (current[i] != null) {
+                action.accept((E) current[i]);
+            }
+        }
+
+        if (overflow != null) {
+            overflow.forEach(action);
+        }
+    }
+
+    /**
+     * Removes all mappings from this table.
+     */
+    public void clear() {
+        Arrays.fill(slots, null);
+        denseSize = 0;
+        lowestFree = 0;
+
+        if (overflow != null) {
+            overflow.clear();
+        }
+    }
+
+    //----- Internal implementation
+
+    private void advanceLowestFree() {
+        do {
+            lowestFree++;
+        } while (lowestFree < slots.length && slots[lowestFree] != null);
+    }
+
+    private boolean ensureDenseCapacity(int key) {
+        // Only grow when the table would stay at least half full, otherwise the entry overflows.
+        if (key >= MAX_DENSE_CAPACITY || key > (denseSize + 1) * 2 + INITIAL_CAPACITY) {
+            return false;
+        }
+
+        int newCapacity = slots.length;
+        while (newCapacity <= key) {
+            newCapacity <<= 1;
+        }
+
+        slots = Arrays.copyOf(slots, newCapacity);
+
+        // Values that overflowed earlier move into the dense region where they now fit.
+        if (overflow != null && !overflow.isEmpty()) {
+            final int capacity = newCapacity;
+            final List<UnsignedInteger> moved = new ArrayList<>();
+
+            overflow.forEach((overflowKey, value) -> {
+                final int index = overflowKey.intValue();
+                if (index >= 0 && index < capacity) {
+                    slots[index] = value;
+                    moved.add(overflowKey);
+                }
+            });
+
+            moved.forEach(movedKey -> overflow.remove(movedKey.intValue()));
+            denseSize += moved.size();
+
+            while (lowestFree < slots.length && slots[lowestFree] != null) {
+                lowestFree++;
+            }
+        }
+
+        return true;
+    }
+}
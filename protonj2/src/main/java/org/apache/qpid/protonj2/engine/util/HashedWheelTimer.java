@@ -0,0 +1,472 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.engine.util;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import org.apache.qpid.protonj2.logging.ProtonLogger;
+import org.apache.qpid.protonj2.logging.ProtonLoggerFactory;
+
+/**
+ * Timer that tracks scheduled tasks in a hashed wheel of time slots which allows for
+ * constant time scheduling and cancellation of tasks at the cost of timing precision.
+ * <p>
+ * A single worker thread advances the wheel one slot every tick and hands each task whose
+ * deadline has passed to the {@link Executor} it was scheduled with, the task itself never
+ * runs on the timer thread.  This makes the timer well suited to the many short lived
+ * timeouts that are scheduled by connections and that are in most cases cancelled before
+ * they expire, as neither operation requires the timer thread or a shared lock.  Tasks can
+ * fire up to one tick duration later than requested.
+ */
+public final class HashedWheelTimer implements AutoCloseable {
+
+    private static final ProtonLogger LOG = ProtonLoggerFactory.getLogger(HashedWheelTimer.class);
+
+    /**
+     * Default duration in milliseconds of a single tick of the wheel
+     */
+    public static final long DEFAULT_TICK_DURATION = 10;
+
+    /**
+     * Default number of slots in the wheel
+     */
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private static final int WORKER_INIT = 0;
+    private static final int WORKER_STARTED = 1;
+    private static final int WORKER_SHUTDOWN = 2;
+
+    private static final AtomicIntegerFieldUpdater<HashedWheelTimer> WORKER_STATE_UPDATER =
+        AtomicIntegerFieldUpdater.newUpdater(HashedWheelTimer.class, "workerState");
+
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelled = new ConcurrentLinkedQueue<>();
+    private final Bucket[] wheel;
+    private final int mask;
+    private final long tickDuration;
+    private final String name;
+
+    private Thread worker;
+    private long tick;  // Only accessed from the worker thread
+
+    private volatile int workerState;
+    private volatile long startTime;
+
+    /**
+     * Creates a new timer using the default tick duration and wheel size.
+     *
+     * @param name
+     *      The name given to the timer worker thread.
+     */
+    public HashedWheelTimer(String name) {
+        this(name, DEFAULT_TICK_DURATION, TimeUnit.MILLISECONDS, DEFAULT_WHEEL_SIZE);
+    }
+
+    /**
+     * Creates a new timer with the given tick duration and wheel size.
+     *
+     * @param name
+     *      The name given to the timer worker thread.
+     * @param tickDuration
+     *      The duration of a single tick of the wheel.
+     * @param unit
+     *      The time unit of the tick duration.
+     * @param wheelSize
+     *      The number of slots in the wheel, rounded up to the next power of two.
+     */
+    public HashedWheelTimer(String name, long tickDuration, TimeUnit unit, int wheelSize) {
+        Objects.requireNonNull(name, "Timer name cannot be null");
+        Objects.requireNonNull(unit, "Tick duration unit cannot be null");
+
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("Tick duration must be greater than zero: " + tickDuration);
+        }
+        if (wheelSize <= 0 || wheelSize > (1 << 30)) {
+            throw new IllegalArgumentException("Wheel size must be in the range [1, 2^30]: " + wheelSize);
+        }
+
+        int normalizedSize = 1;
+        while (normalizedSize < wheelSize) {
+            normalizedSize <<= 1;
+        }
+
+        this.wheel = new Bucket[normalizedSize];
+        for (int i = 0; i < normalizedSize; ++i) {
+            wheel[i] = new Bucket();
+        }
+
+        this.mask = normalizedSize - 1;
+        this.tickDuration = unit.toNanos(tickDuration);
+        this.name = name;
+
+        if (this.tickDuration >= Long.MAX_VALUE / normalizedSize) {
+            throw new IllegalArgumentException("Tick duration is too large for a wheel of size: " + normalizedSize);
+        }
+    }
+
+    /**
+     * Schedules the given task to be handed to the provided executor once the delay has elapsed.
+     *
+     * @param executor
+     *      The {@link Executor} that will run the task once the timeout expires.
+     * @param task
+     *      The task to run when the timeout expires.
+     * @param delay
+     *      The delay before the timeout expires.
+     * @param unit
+     *      The time unit of the delay value.
+     *
+     * @return a {@link Timeout} that can be used to cancel the scheduled task.
+     *
+     * @throws IllegalStateException if the timer has been closed.
+     */
+    public Timeout schedule(Executor executor, Runnable task, long delay, TimeUnit unit) {
+        Objects.requireNonNull(executor, "Timeout executor cannot be null");
+        Objects.requireNonNull(task, "Timeout task cannot be null");
+        Objects.requireNonNull(unit, "Timeout delay unit cannot be null");
+
+        start();
+
+        long deadline = System.nanoTime() + unit.toNanos(Math.max(0, delay)) - startTime;
+        if (delay > 0 && deadline < 0) {
+            deadline = Long.MAX_VALUE; // Guard against overflow.
+        }
+
+        final Timeout timeout = new Timeout(this, executor, task, deadline);
+        pending.add(timeout);
+
+        return timeout;
+    }
+
+    /**
+     * @return true if this timer has been closed and will not accept new tasks.
+     */
+    public boolean isClosed() {
+        return workerState == WORKER_SHUTDOWN;
+    }
+
+    /**
+     * Stops the timer worker thread, any task that has not yet expired is discarded without
+     * being run.
+     */
+    @Override
+    public void close() {
+        if (WORKER_STATE_UPDATER.getAndSet(this, WORKER_SHUTDOWN) == WORKER_STARTED) {
+            final Thread worker;
+            synchronized (this) {
+                worker = this.worker;
+            }
+
+            // A worker that has not been assigned yet will see the shutdown state and exit on start.
+            if (worker == null) {
+                return;
+            }
+
+            worker.interrupt();
+
+            if (Thread.currentThread() != worker) {
+                boolean interrupted = false;
+                while (worker.isAlive()) {
+                    try {
+                        worker.join(100);
+                    } catch (InterruptedException ignored) {
+                        interrupted = true;
+                    }
+                }
+
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "HashedWheelTimer { " + name + " }";
+    }
+
+    //----- Internal implementation
+
+    private void start() {
+        switch (workerState) {
+            case WORKER_INIT:
+                if (WORKER_STATE_UPDATER.compareAndSet(this, WORKER_INIT, WORKER_STARTED)) {
+                    synchronized (this) {
+                        final Thread thread = new Thread(this::run, name);
+                        thread.setDaemon(true);
+                        worker = thread;
+                        startTime = System.nanoTime();
+                        if (startTime == 0) {
+                            startTime = 1; // Zero is used to indicate not yet started
+                        }
+                        thread.start();
+                        notifyAll();
+                    }
+                }
+                break;
+            case WORKER_STARTED:
+                break;
+            case WORKER_SHUTDOWN:
+                throw new IllegalStateException("Cannot schedule tasks on a closed timer");
+            default:
+                throw new IllegalStateException("Invalid timer worker state: " + workerState);
+        }
+
+        // Another thread could still be starting the worker so await the start time.
+        while (startTime == 0) {
+            synchronized (this) {
+                if (startTime == 0) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("Interrupted while waiting for timer to start");
+                    }
+                }
+            }
+        }
+    }
+
+    private void run() {
+        while (workerState == WORKER_STARTED) {
+            if (waitForNextTick()) {
+                processCancelled();
+                transferPending();
+                wheel[(int) (tick & mask)].expire();
+                tick++;
+            }
+        }
+
+        for (Bucket bucket : wheel) {
+            bucket.clear();
+        }
+
+        pending.clear();
+        cancelled.clear();
+    }
+
+    private boolean waitForNextTick() {
+        final long deadline = tickDuration * (tick + 1);
+
+        while (true) {
+            final long currentTime = System.nanoTime() - startTime;
+            final long sleepTimeMs = (deadline - currentTime + 999_999) / 1_000_000;
+
+            if (sleepTimeMs <= 0) {
+                return true;
+            }
+
+            try {
+                Thread.sleep(sleepTimeMs);
+            } catch (InterruptedException ignored) {
+                if (workerState == WORKER_SHUTDOWN) {
+                    return false;
+                }
+            }
+        }
+    }
+
+    private void processCancelled() {
+        Timeout timeout;
+        while ((timeout = cancelled.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void transferPending() {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; ++i) {
+            final Timeout timeout = pending.poll();
+            if (timeout == null) {
+                break;
+            }
+
+            if (timeout.isCancelled()) {
+                continue;
+            }
+
+            final long calculated = timeout.deadline / tickDuration;
+            timeout.remainingRounds = (calculated - tick) / wheel.length;
+
+            // Deadlines that have already passed are expired on the current tick.
+            final long ticks = Math.max(calculated, tick);
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    /**
+     * Handle to a task scheduled on a {@link HashedWheelTimer}.
+     */
+    public static final class Timeout {
+
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+
+        private static final AtomicIntegerFieldUpdater<Timeout> STATE_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+        private final HashedWheelTimer timer;
+        private final Executor executor;
+        private final Runnable task;
+        private final long deadline;
+
+        private volatile int state = ST_INIT;
+
+        // Only accessed from the timer worker thread
+        private long remainingRounds;
+        private Timeout next;
+        private Timeout prev;
+        private Bucket bucket;
+
+        private Timeout(HashedWheelTimer timer, Executor executor, Runnable task, long deadline) {
+            this.timer = timer;
+            this.executor = executor;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancels the scheduled task if it has not already expired or been cancelled.
+         *
+         * @return true if the task was cancelled by this call.
+         */
+        public boolean cancel() {
+            if (STATE_UPDATER.compareAndSet(this, ST_INIT, ST_CANCELLED)) {
+                timer.cancelled.add(this);
+                return true;
+            }
+
+            return false;
+        }
+
+        /**
+         * @return true if the task was cancelled before it expired.
+         */
+        public boolean isCancelled() {
+            return state == ST_CANCELLED;
+        }
+
+        /**
+         * @return true if the timeout expired and the task was handed to its executor.
+         */
+        public boolean isExpired() {
+            return state == ST_EXPIRED;
+        }
+
+        private void expire() {
+            if (STATE_UPDATER.compareAndSet(this, ST_INIT, ST_EXPIRED)) {
+                try {
+                    executor.execute(task);
+                } catch (RejectedExecutionException ree) {
+                    LOG.trace("Expired timeout task rejected by its executor: ", ree);
+                } catch (Throwable t) {
+                    LOG.warn("Error while dispatching expired timeout task: ", t);
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "Timeout { deadline=" + deadline + ", state=" + state + " }";
+        }
+    }
+
+    /*
+     * Doubly linked list of timeouts that occupy a single slot in the wheel.
+     */
+    private static final class Bucket {
+
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void expire() {
+            Timeout timeout = head;
+
+            // Slot assignment ensures that any timeout with no rounds remaining has a
+            // deadline that falls before the end of the tick currently being processed.
+            while (timeout != null) {
+                final Timeout next = timeout.next;
+
+                if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    timeout.expire();
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+
+                timeout = next;
+            }
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+
+            final Timeout next = timeout.next;
+
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+
+            if (timeout == head) {
+                if (timeout == tail) {
+                    head = tail = null;
+                } else {
+                    head = next;
+                }
+            } else if (timeout == tail) {
+                tail = timeout.prev;
+            }
+
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+        void clear() {
+            head = tail = null;
+        }
+    }
+}
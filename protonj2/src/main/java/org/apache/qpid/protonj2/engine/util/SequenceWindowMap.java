@@ -0,0 +1,479 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.engine.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.apache.qpid.protonj2.types.UnsignedInteger;
+
+/**
+ * Map of values keyed by an unsigned 32 bit sequence number, such as an AMQP delivery id, that is
+ * optimized for keys which are added in sequence order and mostly removed in that same order.
+ * <p>
+ * Entries are stored in a growable circular array indexed by their offset from the oldest sequence
+ * number in the window, removed entries leave an empty slot behind that is reclaimed once the entries
+ * before it are removed.  Sequence numbers are compared using serial number arithmetic so the window
+ * continues to work as keys wrap around from the maximum unsigned value back to zero.
+ * <p>
+ * When an old entry is left behind while many newer entries are added and removed the window would
+ * otherwise keep growing to span the gap, so once the window becomes sparse the oldest entries are
+ * moved into a {@link LinkedSplayMap} which keeps them in sequence order.  Iteration visits entries in
+ * the order they were added as long as keys are added in sequence order.
+ * <p>
+ * Null values are not supported.
+ *
+ * @param <E> The type stored in the map entries
+ */
+public class SequenceWindowMap<E> extends AbstractMap<UnsignedInteger, E> {
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /*
+     * The window always grows while it is smaller than this, past that point if less than one
+     * in every MAX_SPARSE_FACTOR slots holds an entry the oldest entries are moved to overflow.
+     */
+    private static final int MIN_SPARSE_CAPACITY = 1024;
+    private static final int MAX_SPARSE_FACTOR = 8;
+
+    private Object[] window;
+    private int head;        // array index of the oldest sequence in the window
+    private int base;        // sequence number stored at the head slot
+    private int span;        // number of slots from the head to the newest entry inclusive
+    private int windowSize;  // number of entries actually stored in the window
+
+    private LinkedSplayMap<E> overflow;
+    private int modCount;
+
+    private EntrySet entrySet;
+
+    public SequenceWindowMap() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public SequenceWindowMap(int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be greater than zero: " + initialCapacity);
+        }
+
+        int capacity = 1;
+        while (capacity < Math.min(initialCapacity, MAX_CAPACITY)) {
+            capacity <<= 1;
+        }
+
+        this.window = new Object[capacity];
+    }
+
+    @Override
+    public int size() {
+        return windowSize + (overflow == null ? 0 : overflow.size());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return windowSize == 0 && (overflow == null || overflow.isEmpty());
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < span; ++i) {
+            window[slot(i)] = null;
+        }
+
+        head = 0;
+        base = 0;
+        span = 0;
+        windowSize = 0;
+        modCount++;
+
+        if (overflow != null) {
+            overflow.clear();
+        }
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public E get(Object key) {
+        return get(((UnsignedInteger) key).intValue());
+    }
+
+    @Override
+    public E put(UnsignedInteger key, E value) {
+        return put(key.intValue(), value);
+    }
+
+    @Override
+    public E remove(Object key) {
+        return remove(((UnsignedInteger) key).intValue());
+    }
+
+    /**
+     * Gets the value stored for the given primitive sequence number.
+     *
+     * @param sequence
+     *      The unsigned sequence number whose value should be returned.
+     *
+     * @return the value stored for the given sequence number or null if none is stored.
+     */
+    @SuppressWarnings("unchecked")
+    public E get(int sequence) {
+        final int offset = sequence - base;
+
+        if (offset >= 0 && offset < span) {
+            final Object value = window[slot(offset)];
+            if (value != null) {
+                return (E) value;
+            }
+        }
+
+        return hasOverflow() ? overflow.get(sequence) : null;
+    }
+
+    /**
+     * Stores the given value using the provided primitive sequence number as the key.
+     *
+     * @param sequence
+     *      The unsigned sequence number that identifies the value.
+     * @param value
+     *      The value to store, which cannot be null.
+     *
+     * @return the value previously stored for the sequence number or null if none was stored.
+     */
+    @SuppressWarnings("unchecked")
+    public E put(int sequence, E value) {
+        Objects.requireNonNull(value, "This map does not support null values");
+
+        if (hasOverflow() && overflow.containsKey(sequence)) {
+            return overflow.put(sequence, value);
+        }
+
+        if (span == 0) {
+            startWindow(sequence, value);
+            return null;
+        }
+
+        int offset = sequence - base;
+
+        if (offset < 0) {
+            // Keys older than the window are not expected but are kept in ordered overflow.
+            overflow().put(sequence, value);
+            modCount++;
+            return null;
+        } else if (offset < span) {
+            final int slot = slot(offset);
+            final E old = (E) window[slot];
+
+            window[slot] = value;
+            if (old == null) {
+                windowSize++;
+                modCount++;
+            }
+
+            return old;
+        }
+
+        if (offset >= window.length) {
+            makeRoom(offset);
+
+            if (span == 0) {
+                startWindow(sequence, value);
+                return null;
+            }
+
+            offset = sequence - base;
+        }
+
+        // Slots between the previous newest entry and this one are already empty.
+        window[slot(offset)] = value;
+        span = offset + 1;
+        windowSize++;
+        modCount++;
+
+        return null;
+    }
+
+    /**
+     * Removes the value stored for the given primitive sequence number.
+     *
+     * @param sequence
+     *      The unsigned sequence number whose value should be removed.
+     *
+     * @return the value that was removed or null if none was stored.
+     */
+    @SuppressWarnings("unchecked")
+    public E remove(int sequence) {
+        final int offset = sequence - base;
+
+        if (offset >= 0 && offset < span) {
+            final int slot = slot(offset);
+            final E value = (E) window[slot];
+
+            if (value != null) {
+                window[slot] = null;
+                windowSize--;
+                modCount++;
+
+                if (offset == 0) {
+                    compactHead();
+                } else if (offset == span - 1) {
+                    compactTail();
+                }
+
+                return value;
+            }
+        }
+
+        if (hasOverflow()) {
+            final E value = overflow.remove(sequence);
+            if (value != null) {
+                modCount++;
+            }
+            return value;
+        }
+
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super UnsignedInteger, ? super E> action) {
+        Objects.requireNonNull(action);
+
+        final int expectedModCount = modCount;
+
+        if (hasOverflow()) {
+            overflow.forEach(action);
+        }
+
+        for (int i = 0; i < span; ++i) {
+            final Object value = window[slot(i)];
+            if (value != null) {
+                action.accept(UnsignedInteger.valueOf(base + i), (E) value);
+            }
+        }
+
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public Set<Entry<UnsignedInteger, E>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+
+        return entrySet;
+    }
+
+    //----- Internal implementation
+
+    private int slot(int offset) {
+        return (head + offset) & (window.length - 1);
+    }
+
+    private boolean hasOverflow() {
+        return overflow != null && !overflow.isEmpty();
+    }
+
+    private LinkedSplayMap<E> overflow() {
+        if (overflow == null) {
+            overflow = new LinkedSplayMap<>();
+        }
+
+        return overflow;
+    }
+
+    private void startWindow(int sequence, E value) {
+        head = 0;
+        base = sequence;
+        span = 1;
+        window[0] = value;
+        windowSize = 1;
+        modCount++;
+    }
+
+    private void compactHead() {
+        while (span > 0 && window[head] == null) {
+            head = (head + 1) & (window.length - 1);
+            base++;
+            span--;
+        }
+
+        if (span == 0) {
+            head = 0;
+        }
+    }
+
+    private void compactTail() {
+        while (span > 0 && window[slot(span - 1)] == null) {
+            span--;
+        }
+    }
+
+    /*
+     * Ensures that the window can hold an entry at the given offset from the current base either by
+     * growing the array or by moving the oldest entries to overflow when the window is mostly empty.
+     */
+    @SuppressWarnings("unchecked")
+    private void makeRoom(int offset) {
+        while (span > 0 && offset >= window.length) {
+            final boolean sparse = window.length >= MIN_SPARSE_CAPACITY && offset >= windowSize * MAX_SPARSE_FACTOR;
+
+            if (sparse || window.length == MAX_CAPACITY) {
+                final int previousBase = base;
+
+                overflow().put(base, (E) window[head]);
+                window[head] = null;
+                windowSize--;
+                compactHead();
+
+                offset -= base - previousBase;
+            } else {
+                grow(offset + 1);
+            }
+        }
+    }
+
+    private void grow(int required) {
+        int capacity = window.length;
+        while (capacity < required && capacity < MAX_CAPACITY) {
+            capacity <<= 1;
+        }
+
+        final Object[] resized = new Object[capacity];
+        for (int i = 0; i < span; ++i) {
+            resized[i] = window[slot(i)];
+        }
+
+        window = resized;
+        head = 0;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<UnsignedInteger, E>> {
+
+        @Override
+        public Iterator<Entry<UnsignedInteger, E>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return SequenceWindowMap.this.size();
+        }
+
+        @Override
+        public void clear() {
+            SequenceWindowMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<UnsignedInteger, E>> {
+
+        private final Iterator<Entry<UnsignedInteger, E>> overflowIterator;
+
+        private int expectedModCount = modCount;
+        private int cursor = base;
+        private boolean lastFromOverflow;
+        private Entry<UnsignedInteger, E> last;
+
+        EntryIterator() {
+            overflowIterator = hasOverflow() ? overflow.entrySet().iterator() : null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (overflowIterator != null && overflowIterator.hasNext()) {
+                return true;
+            }
+
+            return seekWindowEntry();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Entry<UnsignedInteger, E> next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            if (overflowIterator != null && overflowIterator.hasNext()) {
+                lastFromOverflow = true;
+                last = new SimpleImmutableEntry<>(overflowIterator.next());
+            } else if (seekWindowEntry()) {
+                final int sequence = cursor++;
+                lastFromOverflow = false;
+                last = new SimpleImmutableEntry<>(UnsignedInteger.valueOf(sequence), (E) window[slot(sequence - base)]);
+            } else {
+                throw new NoSuchElementException();
+            }
+
+            return last;
+        }
+
+        @Override
+        public void remove() {
+            if (last == null) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            if (lastFromOverflow) {
+                overflowIterator.remove();
+                modCount++;
+            } else {
+                SequenceWindowMap.this.remove(last.getKey().intValue());
+            }
+
+            expectedModCount = modCount;
+            last = null;
+        }
+
+        /*
+         * Moves the cursor to the next occupied window slot, the window base only ever moves
+         * forward so the cursor resumes from whichever of the two is further along.
+         */
+        private boolean seekWindowEntry() {
+            if (cursor - base < 0) {
+                cursor = base;
+            }
+
+            while (cursor - base < span) {
+                if (window[slot(cursor - base)] != null) {
+                    return true;
+                }
+
+                cursor++;
+            }
+
+            return false;
+        }
+    }
+}
@@ -556,6 +556,9 @@ public class SplayMap<E> implements NavigableMap<UnsignedInteger, E> {
         if (node.left != null) {
             replacement = splay(node.left, node.key);
             replacement.right = node.right;
+            if (replacement.right != null) {
+                replacement.right.parent = replacement;
+            }
         }
 
         if (replacement != null) {
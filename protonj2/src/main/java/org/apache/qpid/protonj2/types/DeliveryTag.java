@@ -91,8 +91,7 @@ public interface DeliveryTag {
         private static final byte[] EMPTY_TAG_ARRAY = new byte[0];
 
         private final byte[] tagBytes;
-        private ProtonBuffer tagView;
-        private Integer hashCode;
+        private int hashCode;
 
         public ProtonDeliveryTag() {
             this.tagBytes = EMPTY_TAG_ARRAY;
@@ -111,7 +110,6 @@ public interface DeliveryTag {
                 this.tagBytes = new byte[tagBytes.getReadableBytes()];
                 tagBytes.getBytes(tagBytes.getReadIndex(), this.tagBytes);
             }
-            this.tagView = tagBytes;
         }
 
         @Override
@@ -126,11 +124,8 @@ public interface DeliveryTag {
 
         @Override
         public ProtonBuffer tagBuffer() {
-            if (tagView == null) {
-                tagView = ProtonByteBufferAllocator.DEFAULT.wrap(tagBytes);
-            }
-
-            return tagView;
+            // Decoded tags can be shared so each caller gets its own view with independent indices
+            return ProtonByteBufferAllocator.DEFAULT.wrap(tagBytes);
         }
 
         @Override
@@ -145,11 +140,11 @@ public interface DeliveryTag {
 
         @Override
         public int hashCode() {
-            if (hashCode == null) {
+            if (hashCode == 0) {
                 hashCode = Arrays.hashCode(tagBytes);
             }
 
-            return hashCode.intValue();
+            return hashCode;
         }
 
         @Override
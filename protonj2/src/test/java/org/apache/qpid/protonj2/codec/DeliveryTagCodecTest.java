@@ -17,8 +17,12 @@
 package org.apache.qpid.protonj2.codec;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
@@ -66,4 +70,86 @@ public class DeliveryTagCodecTest extends CodecTestSupport {
         assertArrayEquals(tagBytes, tag1.tagBytes());
         assertArrayEquals(tagBytes, tag2.tagBytes());
     }
+
+    @Test
+    public void testReadShortDeliveryTagsReusesPreviouslyDecodedTags() throws Exception {
+        ProtonBuffer buffer = ProtonByteBufferAllocator.DEFAULT.allocate(32, 32);
+
+        buffer.writeByte(EncodingCodes.VBIN8);
+        buffer.writeByte(2);
+        buffer.writeShort((short) 512);
+        buffer.writeByte(EncodingCodes.VBIN8);
+        buffer.writeByte(1);
+        buffer.writeByte(1);
+        buffer.writeByte(EncodingCodes.VBIN32);
+        buffer.writeInt(2);
+        buffer.writeShort((short) 512);
+        buffer.writeByte(EncodingCodes.VBIN8);
+        buffer.writeByte(0);
+        buffer.writeByte(EncodingCodes.VBIN8);
+        buffer.writeByte(0);
+
+        DeliveryTag tag1 = decoder.readDeliveryTag(buffer, decoderState);
+        DeliveryTag tag2 = decoder.readDeliveryTag(buffer, decoderState);
+        DeliveryTag tag3 = decoder.readDeliveryTag(buffer, decoderState);
+        DeliveryTag tag4 = decoder.readDeliveryTag(buffer, decoderState);
+        DeliveryTag tag5 = decoder.readDeliveryTag(buffer, decoderState);
+
+        assertFalse(buffer.isReadable());
+
+        assertArrayEquals(new byte[] { 2, 0 }, tag1.tagBytes());
+        assertArrayEquals(new byte[] { 1 }, tag2.tagBytes());
+        assertArrayEquals(new byte[0], tag4.tagBytes());
+        assertNotEquals(tag1, tag2);
+        assertSame(tag1, tag3);
+        assertSame(tag4, tag5);
+    }
+
+    @Test
+    public void testShortDeliveryTagsAreNotSharedBetweenDecoderStates() throws Exception {
+        ProtonBuffer buffer = ProtonByteBufferAllocator.DEFAULT.allocate(32, 32);
+
+        buffer.writeByte(EncodingCodes.VBIN8);
+        buffer.writeByte(1);
+        buffer.writeByte(1);
+        buffer.writeByte(EncodingCodes.VBIN8);
+        buffer.writeByte(1);
+        buffer.writeByte(1);
+
+        DeliveryTag tag1 = decoder.readDeliveryTag(buffer, decoderState);
+        DeliveryTag tag2 = decoder.readDeliveryTag(buffer, decoder.newDecoderState());
+
+        assertEquals(tag1, tag2);
+        assertNotSame(tag1, tag2);
+    }
+
+    @Test
+    public void testSharedDeliveryTagHandsOutIndependentBufferViews() throws Exception {
+        ProtonBuffer buffer = ProtonByteBufferAllocator.DEFAULT.allocate(32, 32);
+
+        buffer.writeByte(EncodingCodes.VBIN8);
+        buffer.writeByte(2);
+        buffer.writeShort((short) 512);
+
+        DeliveryTag tag = decoder.readDeliveryTag(buffer, decoderState);
+
+        tag.tagBuffer().readShort();
+
+        assertEquals(2, tag.tagBuffer().getReadableBytes());
+        assertNotSame(tag.tagBuffer(), tag.tagBuffer());
+    }
+
+    @Test
+    public void testReadDeliveryTagFailsWhenSizeExceedsAvailableBytes() throws Exception {
+        ProtonBuffer buffer = ProtonByteBufferAllocator.DEFAULT.allocate(32, 32);
+
+        buffer.writeByte(EncodingCodes.VBIN8);
+        buffer.writeByte(4);
+        buffer.writeShort((short) 512);
+
+        try {
+            decoder.readDeliveryTag(buffer, decoderState);
+            fail("Should not allow read of tag with insufficient bytes");
+        } catch (DecodeException e) {}
+    }
 }
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.codec.decoders;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class CompactMapTest {
+
+    @Test
+    public void testPutGetAndReplace() {
+        Map<String, Object> map = new CompactMap<>();
+
+        assertTrue(map.isEmpty());
+        assertNull(map.put("one", 1));
+        assertNull(map.put("two", 2));
+        assertEquals(1, map.put("one", 11));
+
+        assertEquals(2, map.size());
+        assertEquals(11, map.get("one"));
+        assertEquals(2, map.get("two"));
+        assertNull(map.get("three"));
+        assertTrue(map.containsKey("two"));
+        assertTrue(map.containsValue(11));
+        assertFalse(map.containsValue(1));
+    }
+
+    @Test
+    public void testNullKeysAndValues() {
+        Map<String, Object> map = new CompactMap<>(0);
+
+        map.put(null, "null-key");
+        map.put("null-value", null);
+
+        assertEquals("null-key", map.get(null));
+        assertTrue(map.containsKey("null-value"));
+        assertNull(map.get("null-value"));
+    }
+
+    @Test
+    public void testInsertionOrderPreservedAcrossIndexPromotion() {
+        doTestMatchesLinkedHashMap(CompactMap.LINEAR_SCAN_THRESHOLD);
+        doTestMatchesLinkedHashMap(CompactMap.LINEAR_SCAN_THRESHOLD + 1);
+        doTestMatchesLinkedHashMap(1024);
+    }
+
+    private void doTestMatchesLinkedHashMap(int count) {
+        Map<Integer, Object> expected = new LinkedHashMap<>();
+        Map<Integer, Object> map = new CompactMap<>();
+
+        for (int i = count; i > 0; --i) {
+            expected.put(i * 31, "value-" + i);
+            map.put(i * 31, "value-" + i);
+        }
+
+        assertEquals(expected, map);
+        assertEquals(map, expected);
+        assertEquals(expected.hashCode(), map.hashCode());
+        assertEquals(expected.toString(), map.toString());
+        assertArrayEquals(expected.keySet().toArray(), map.keySet().toArray());
+
+        for (int i = 1; i <= count; i += 2) {
+            assertEquals(expected.remove(i * 31), map.remove(i * 31));
+        }
+
+        assertEquals(expected.size(), map.size());
+        assertArrayEquals(expected.keySet().toArray(), map.keySet().toArray());
+
+        for (Integer key : expected.keySet()) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+
+        assertNull(map.get(31));
+    }
+
+    @Test
+    public void testIndexedAccessFollowsInsertionOrder() {
+        CompactMap<String, Object> map = new CompactMap<>();
+
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("c", 3);
+        map.remove("b");
+
+        assertEquals("a", map.keyAt(0));
+        assertEquals(1, map.valueAt(0));
+        assertEquals("c", map.keyAt(1));
+        assertEquals(3, map.valueAt(1));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> map.keyAt(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> map.valueAt(-1));
+    }
+
+    @Test
+    public void testEntryIteratorRemoveAndSetValue() {
+        Map<String, Object> map = new CompactMap<>();
+
+        for (int i = 0; i < 16; ++i) {
+            map.put("key-" + i, i);
+        }
+
+        Iterator<Map.Entry<String, Object>> iterator = map.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Object> entry = iterator.next();
+            if (((Integer) entry.getValue()) % 2 == 0) {
+                iterator.remove();
+            } else {
+                entry.setValue(-1);
+            }
+        }
+
+        assertEquals(8, map.size());
+        map.forEach((key, value) -> assertEquals(-1, value));
+        assertFalse(map.containsKey("key-0"));
+        assertTrue(map.containsKey("key-15"));
+    }
+
+    @Test
+    public void testModificationDuringIterationIsDetected() {
+        Map<String, Object> map = new CompactMap<>();
+
+        map.put("a", 1);
+        map.put("b", 2);
+
+        Iterator<String> iterator = map.keySet().iterator();
+        iterator.next();
+        map.put("c", 3);
+
+        assertThrows(ConcurrentModificationException.class, () -> iterator.next());
+    }
+
+    @Test
+    public void testClear() {
+        Map<String, Object> map = new CompactMap<>();
+
+        for (int i = 0; i < 32; ++i) {
+            map.put("key-" + i, i);
+        }
+
+        map.clear();
+
+        assertTrue(map.isEmpty());
+        assertNull(map.get("key-1"));
+
+        map.put("key-1", 1);
+        assertEquals(1, map.get("key-1"));
+    }
+}
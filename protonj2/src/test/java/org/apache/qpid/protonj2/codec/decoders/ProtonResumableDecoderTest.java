@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.codec.decoders;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonByteBufferAllocator;
+import org.apache.qpid.protonj2.codec.CodecTestSupport;
+import org.apache.qpid.protonj2.codec.DecodeException;
+import org.apache.qpid.protonj2.codec.EncodingCodes;
+import org.apache.qpid.protonj2.codec.decoders.primitives.BinaryTypeDecoder;
+import org.apache.qpid.protonj2.types.Binary;
+import org.apache.qpid.protonj2.types.messaging.ApplicationProperties;
+import org.apache.qpid.protonj2.types.messaging.Data;
+import org.apache.qpid.protonj2.types.messaging.Header;
+import org.junit.jupiter.api.Test;
+
+public class ProtonResumableDecoderTest extends CodecTestSupport {
+
+    @Test
+    public void testReadValuesAppendedOneByteAtATime() throws IOException {
+        final ProtonBuffer encoded = ProtonByteBufferAllocator.DEFAULT.allocate();
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("key", "value");
+        properties.put("count", 42);
+
+        final Header header = new Header();
+        header.setDurable(true);
+        header.setPriority((byte) 7);
+
+        encoder.writeObject(encoded, encoderState, header);
+        encoder.writeObject(encoded, encoderState, new ApplicationProperties(properties));
+        encoder.writeObject(encoded, encoderState, "done");
+
+        final int encodedSize = encoded.getReadableBytes();
+        final ProtonResumableDecoder resumable = new ProtonResumableDecoder(decoder);
+
+        Header decodedHeader = null;
+        ApplicationProperties decodedProperties = null;
+        String decodedString = null;
+
+        for (int i = 0; i < encodedSize; ++i) {
+            resumable.append(encoded.copy(i, 1));
+
+            if (resumable.remainingBytesNeeded() == 0) {
+                if (decodedHeader == null) {
+                    decodedHeader = (Header) resumable.readObject();
+                } else if (decodedProperties == null) {
+                    decodedProperties = (ApplicationProperties) resumable.readObject();
+                } else {
+                    decodedString = (String) resumable.readObject();
+                }
+            }
+        }
+
+        assertEquals(0, resumable.getReadableBytes());
+        assertTrue(decodedHeader.isDurable());
+        assertEquals(7, decodedHeader.getPriority());
+        assertEquals(properties, decodedProperties.getValue());
+        assertEquals("done", decodedString);
+    }
+
+    @Test
+    public void testRemainingBytesNeededForLargeBinaryOnceSizeKnown() throws IOException {
+        final ProtonBuffer encoded = ProtonByteBufferAllocator.DEFAULT.allocate();
+        final byte[] payload = new byte[LARGE_SIZE];
+        payload[0] = 1;
+        payload[LARGE_SIZE - 1] = 2;
+
+        encoder.writeObject(encoded, encoderState, new Data(payload));
+
+        final ProtonResumableDecoder resumable = new ProtonResumableDecoder(decoder);
+
+        // Descriptor and Binary constructor arrive before the size of the payload
+        resumable.append(encoded.copy(0, 4));
+        assertEquals(4, resumable.remainingHeaderBytesNeeded());
+        assertTrue(resumable.remainingBytesNeeded() > 0);
+
+        resumable.append(encoded.copy(4, 4));
+        assertEquals(0, resumable.remainingHeaderBytesNeeded());
+        assertEquals(LARGE_SIZE, resumable.remainingBytesNeeded());
+        assertEquals(Data.class, resumable.peekNextTypeDecoder().getTypeClass());
+
+        try {
+            resumable.readObject();
+            fail("Should not decode a value that is not fully buffered");
+        } catch (DecodeException dex) {}
+
+        resumable.append(encoded.copy(8, encoded.getReadableBytes() - 8));
+        assertEquals(0, resumable.remainingBytesNeeded());
+
+        final Data decoded = (Data) resumable.readObject();
+
+        assertArrayEquals(payload, decoded.getValue());
+        assertEquals(0, resumable.getReadableBytes());
+    }
+
+    @Test
+    public void testReadBinarySizeAndLeavePayloadUnread() throws IOException {
+        final ProtonBuffer encoded = ProtonByteBufferAllocator.DEFAULT.allocate();
+
+        encoder.writeObject(encoded, encoderState, new Data(new Binary(new byte[SMALL_SIZE])));
+
+        final ProtonResumableDecoder resumable = new ProtonResumableDecoder(decoder);
+
+        resumable.append(encoded.copy(0, 3));
+        assertEquals(1, resumable.remainingHeaderBytesNeeded());
+        resumable.append(encoded.copy(3, 1));
+        assertEquals(1, resumable.remainingHeaderBytesNeeded());
+        resumable.append(encoded.copy(4, encoded.getReadableBytes() - 4));
+        assertEquals(0, resumable.remainingHeaderBytesNeeded());
+
+        assertEquals(Data.class, resumable.readNextTypeDecoder().getTypeClass());
+
+        final BinaryTypeDecoder binaryDecoder = (BinaryTypeDecoder) resumable.readNextTypeDecoder();
+
+        assertEquals(SMALL_SIZE, binaryDecoder.readSize(resumable.getBuffer()));
+        assertEquals(SMALL_SIZE, resumable.getReadableBytes());
+    }
+
+    @Test
+    public void testInvalidEncodingCodeThrowsDecodeException() throws IOException {
+        final ProtonResumableDecoder resumable = new ProtonResumableDecoder(decoder);
+
+        assertEquals(1, resumable.remainingBytesNeeded());
+
+        resumable.append(ProtonByteBufferAllocator.DEFAULT.wrap(new byte[] { (byte) 0x01 }));
+
+        try {
+            resumable.remainingBytesNeeded();
+            fail("Should fail on an invalid encoding code");
+        } catch (DecodeException dex) {}
+
+        final ProtonResumableDecoder described = new ProtonResumableDecoder(decoder);
+        described.append(ProtonByteBufferAllocator.DEFAULT.wrap(new byte[] { EncodingCodes.DESCRIBED_TYPE_INDICATOR }));
+
+        assertEquals(1, described.remainingHeaderBytesNeeded());
+    }
+}
@@ -16,6 +16,7 @@
  */
 package org.apache.qpid.protonj2.codec.messaging;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -34,6 +35,7 @@ import org.apache.qpid.protonj2.codec.CodecTestSupport;
 import org.apache.qpid.protonj2.codec.DecodeException;
 import org.apache.qpid.protonj2.codec.EncodingCodes;
 import org.apache.qpid.protonj2.codec.TypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.CompactMap;
 import org.apache.qpid.protonj2.codec.decoders.messaging.ApplicationPropertiesTypeDecoder;
 import org.apache.qpid.protonj2.codec.encoders.messaging.ApplicationPropertiesTypeEncoder;
 import org.apache.qpid.protonj2.types.messaging.ApplicationProperties;
@@ -280,4 +282,32 @@ public class ApplicationPropertiesTypeCodecTest extends CodecTestSupport {
             assertEquals(array[i].getValue(), resultArray[i].getValue());
         }
     }
+
+    @Test
+    public void testEncodeDecodeWithCompactMaps() throws IOException {
+        ProtonBuffer buffer = ProtonByteBufferAllocator.DEFAULT.allocate();
+
+        decoder.registerDescribedTypeDecoder(new ApplicationPropertiesTypeDecoder(true));
+
+        Map<String, Object> propertiesMap = new LinkedHashMap<>();
+        for (int i = 0; i < SMALL_SIZE; ++i) {
+            propertiesMap.put("key-" + i, i);
+        }
+
+        encoder.writeObject(buffer, encoderState, new ApplicationProperties(propertiesMap));
+
+        final ApplicationProperties decoded = (ApplicationProperties) decoder.readObject(buffer, decoderState);
+
+        assertTrue(decoded.getValue() instanceof CompactMap);
+        assertEquals(propertiesMap, decoded.getValue());
+        assertArrayEquals(propertiesMap.keySet().toArray(), decoded.getValue().keySet().toArray());
+
+        // Encoding the compact map should produce the same bytes as the original map
+        ProtonBuffer expected = ProtonByteBufferAllocator.DEFAULT.allocate();
+        encoder.writeObject(expected, encoderState, new ApplicationProperties(propertiesMap));
+        buffer.clear();
+        encoder.writeObject(buffer, encoderState, decoded);
+
+        assertEquals(expected, buffer);
+    }
 }
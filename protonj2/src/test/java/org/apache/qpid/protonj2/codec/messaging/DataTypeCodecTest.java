@@ -26,14 +26,18 @@ import static org.junit.jupiter.api.Assertions.fail;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
 import java.util.UUID;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.buffer.ProtonByteBufferAllocator;
+import org.apache.qpid.protonj2.buffer.ProtonNioByteBuffer;
 import org.apache.qpid.protonj2.codec.CodecTestSupport;
 import org.apache.qpid.protonj2.codec.DecodeException;
+import org.apache.qpid.protonj2.codec.Decoder;
 import org.apache.qpid.protonj2.codec.EncodingCodes;
 import org.apache.qpid.protonj2.codec.TypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.ProtonDecoderFactory;
 import org.apache.qpid.protonj2.codec.decoders.messaging.DataTypeDecoder;
 import org.apache.qpid.protonj2.codec.encoders.messaging.DataTypeEncoder;
 import org.apache.qpid.protonj2.codec.util.SimplePojo;
@@ -94,6 +98,43 @@ public class DataTypeCodecTest extends CodecTestSupport {
         }
     }
 
+    @Test
+    public void testDecodeDataAsViewOfSourceBuffer() throws IOException {
+        ProtonBuffer buffer = ProtonByteBufferAllocator.DEFAULT.allocate();
+        Decoder slicingDecoder = ProtonDecoderFactory.create().registerDescribedTypeDecoder(new DataTypeDecoder(true));
+
+        encoder.writeObject(buffer, encoderState, new Data(new byte[] { 1, 2, 3 }));
+        encoder.writeObject(buffer, encoderState, new Data(new byte[] { 4, 5 }));
+
+        final int bodyIndex = buffer.getReadIndex() + 5;
+
+        Data first = (Data) slicingDecoder.readObject(buffer, slicingDecoder.newDecoderState());
+        Data second = (Data) slicingDecoder.readObject(buffer, slicingDecoder.newDecoderState());
+
+        assertFalse(buffer.isReadable());
+        assertArrayEquals(new byte[] { 1, 2, 3 }, first.getValue());
+        assertArrayEquals(new byte[] { 4, 5 }, second.getValue());
+
+        // A view shares the bytes of the source buffer
+        buffer.setByte(bodyIndex, 42);
+        assertEquals(42, first.getBinary().asProtonBuffer().getByte(0));
+    }
+
+    @Test
+    public void testEncodeDataBackedByDirectByteBuffer() throws IOException {
+        ProtonBuffer buffer = ProtonByteBufferAllocator.DEFAULT.allocate();
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(3);
+        direct.put(new byte[] { 1, 2, 3 }).flip();
+
+        encoder.writeObject(buffer, encoderState, new Data(new ProtonNioByteBuffer(direct)));
+
+        Data decoded = (Data) decoder.readObject(buffer, decoderState);
+
+        assertArrayEquals(new byte[] { 1, 2, 3 }, decoded.getValue());
+        assertEquals(0, direct.position());
+    }
+
     @Test
     public void testDecodeDataWithPayloadInUpperBoundsOfSmallBinaryEncoding() throws IOException {
         ProtonBuffer buffer = ProtonByteBufferAllocator.DEFAULT.allocate();
@@ -19,6 +19,7 @@ package org.apache.qpid.protonj2.codec.security;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -88,6 +89,21 @@ public class SaslOutcomeTypeCodecTest extends CodecTestSupport {
         assertArrayEquals(data, result.getAdditionalData().getArray());
     }
 
+    @Test
+    public void testEncodeDecodeTypeWithoutAdditionalData() throws Exception {
+        ProtonBuffer buffer = ProtonByteBufferAllocator.DEFAULT.allocate();
+
+        SaslOutcome input = new SaslOutcome();
+        input.setCode(SaslCode.OK);
+
+        encoder.writeObject(buffer, encoderState, input);
+
+        final SaslOutcome result = (SaslOutcome) decoder.readObject(buffer, decoderState);
+
+        assertEquals(SaslCode.OK, result.getCode());
+        assertNull(result.getAdditionalData());
+    }
+
     @Test
     public void testSkipValue() throws IOException {
         ProtonBuffer buffer = ProtonByteBufferAllocator.DEFAULT.allocate();
@@ -83,6 +83,63 @@ public class TransactionStateTypeCodecTest extends CodecTestSupport {
         assertArrayEquals(new byte[] { 2, 4, 6, 8 }, result.getTxnId().getArray());
     }
 
+    @Test
+    public void testEncodeDecodeTypeWithoutOutcome() throws Exception {
+        ProtonBuffer buffer = ProtonByteBufferAllocator.DEFAULT.allocate();
+
+        TransactionalState input = new TransactionalState();
+        input.setTxnId(new Binary(new byte[] { 2, 4, 6, 8 }));
+
+        encoder.writeObject(buffer, encoderState, input);
+
+        final TransactionalState result = (TransactionalState) decoder.readObject(buffer, decoderState);
+
+        assertNull(result.getOutcome());
+        assertArrayEquals(new byte[] { 2, 4, 6, 8 }, result.getTxnId().getArray());
+    }
+
+    @Test
+    public void testEncodeAcceptedStateWritesExpectedBytes() throws Exception {
+        ProtonBuffer buffer = ProtonByteBufferAllocator.DEFAULT.allocate();
+
+        TransactionalState input = new TransactionalState();
+        input.setTxnId(new Binary(new byte[] { 0, 0, 1, 2, 3, 0 }, 2, 3));
+        input.setOutcome(Accepted.getInstance());
+
+        encoder.writeObject(buffer, encoderState, input);
+
+        final byte[] expected = new byte[] { EncodingCodes.DESCRIBED_TYPE_INDICATOR, EncodingCodes.SMALLULONG, 0x34,
+                                             EncodingCodes.LIST32, 0, 0, 0, 13, 0, 0, 0, 2,
+                                             EncodingCodes.VBIN8, 3, 1, 2, 3,
+                                             EncodingCodes.DESCRIBED_TYPE_INDICATOR, EncodingCodes.SMALLULONG, 0x24, EncodingCodes.LIST0 };
+        final byte[] actual = new byte[buffer.getReadableBytes()];
+
+        buffer.getBytes(buffer.getReadIndex(), actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void testEncodeDecodeTypeWithLargeTxnIdAndReleasedOutcome() throws Exception {
+        ProtonBuffer buffer = ProtonByteBufferAllocator.DEFAULT.allocate();
+
+        final byte[] txnId = new byte[512];
+        for (int i = 0; i < txnId.length; ++i) {
+            txnId[i] = (byte) i;
+        }
+
+        TransactionalState input = new TransactionalState();
+        input.setTxnId(new Binary(txnId));
+        input.setOutcome(Released.getInstance());
+
+        encoder.writeObject(buffer, encoderState, input);
+
+        final TransactionalState result = (TransactionalState) decoder.readObject(buffer, decoderState);
+
+        assertSame(Released.getInstance(), result.getOutcome());
+        assertArrayEquals(txnId, result.getTxnId().arrayCopy());
+    }
+
     @Test
     public void testSkipValue() throws IOException {
         ProtonBuffer buffer = ProtonByteBufferAllocator.DEFAULT.allocate();
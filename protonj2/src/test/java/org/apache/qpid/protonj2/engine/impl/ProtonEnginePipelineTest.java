@@ -16,16 +16,27 @@
  */
 package org.apache.qpid.protonj2.engine.impl;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.engine.Engine;
 import org.apache.qpid.protonj2.engine.EngineHandler;
 import org.apache.qpid.protonj2.engine.EngineHandlerContext;
 import org.apache.qpid.protonj2.engine.HeaderEnvelope;
+import org.apache.qpid.protonj2.engine.OutgoingAMQPEnvelope;
 import org.apache.qpid.protonj2.engine.util.FrameReadSinkTransportHandler;
 import org.apache.qpid.protonj2.engine.util.FrameWriteSinkTransportHandler;
+import org.apache.qpid.protonj2.types.transport.AMQPHeader;
+import org.apache.qpid.protonj2.types.transport.Open;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -419,4 +430,94 @@ public class ProtonEnginePipelineTest {
         Mockito.verify(handler).handlerAdded(Mockito.any(EngineHandlerContext.class));
         Mockito.verifyNoMoreInteractions(handler);
     }
+
+    //----- Tests for the fused standard pipeline -------------------------------//
+
+    @Test
+    public void testStandardPipelineUsesFusedDispatch() {
+        ProtonEnginePipeline pipeline = createStandardPipeline();
+
+        assertTrue(pipeline.isFused());
+
+        pipeline.addLast("test", Mockito.mock(EngineHandler.class));
+        assertFalse(pipeline.isFused());
+
+        pipeline.remove("test");
+        assertTrue(pipeline.isFused());
+
+        pipeline.removeFirst();
+        assertFalse(pipeline.isFused());
+    }
+
+    @Test
+    public void testStandardPipelineIsFusedOnceSaslHandlerRemoved() {
+        ProtonEnginePipeline pipeline = new ProtonEnginePipeline(engine);
+
+        pipeline.addLast(ProtonConstants.AMQP_PERFORMATIVE_HANDLER, new ProtonPerformativeHandler());
+        pipeline.addLast(ProtonConstants.SASL_PERFORMATIVE_HANDLER, Mockito.mock(EngineHandler.class));
+        pipeline.addLast(ProtonConstants.FRAME_LOGGING_HANDLER, new ProtonFrameLoggingHandler());
+        pipeline.addLast(ProtonConstants.FRAME_DECODING_HANDLER, new ProtonFrameDecodingHandler());
+        pipeline.addLast(ProtonConstants.FRAME_ENCODING_HANDLER, new ProtonFrameEncodingHandler());
+
+        assertFalse(pipeline.isFused());
+
+        pipeline.remove(ProtonConstants.SASL_PERFORMATIVE_HANDLER);
+        assertTrue(pipeline.isFused());
+    }
+
+    @Test
+    public void testSubclassedStandardHandlerIsNotFused() {
+        ProtonEnginePipeline pipeline = new ProtonEnginePipeline(engine);
+
+        pipeline.addLast(ProtonConstants.AMQP_PERFORMATIVE_HANDLER, new ProtonPerformativeHandler() {});
+        pipeline.addLast(ProtonConstants.FRAME_LOGGING_HANDLER, new ProtonFrameLoggingHandler());
+        pipeline.addLast(ProtonConstants.FRAME_DECODING_HANDLER, new ProtonFrameDecodingHandler());
+        pipeline.addLast(ProtonConstants.FRAME_ENCODING_HANDLER, new ProtonFrameEncodingHandler());
+
+        assertFalse(pipeline.isFused());
+    }
+
+    @Test
+    public void testHandlerAddedToStandardPipelineSeesOutgoingPerformatives() {
+        Engine engine = new ProtonEngineFactory().createNonSaslEngine();
+
+        final List<Object> performatives = new ArrayList<>();
+        final List<ProtonBuffer> output = new ArrayList<>();
+
+        engine.pipeline().addFirst("spy", new EngineHandler() {
+
+            @Override
+            public void handleWrite(EngineHandlerContext context, OutgoingAMQPEnvelope envelope) {
+                performatives.add(envelope.getBody());
+                context.fireWrite(envelope);
+            }
+        });
+
+        engine.outputHandler((buffer, ioComplete) -> output.add(buffer));
+        engine.start().open();
+        engine.ingest(AMQPHeader.getAMQPHeader().getBuffer());
+
+        assertEquals(1, performatives.size());
+        assertTrue(performatives.get(0) instanceof Open);
+
+        // AMQP Header and then the Open frame
+        assertEquals(2, output.size());
+
+        engine.pipeline().remove("spy");
+        engine.connection().close();
+
+        assertEquals(1, performatives.size());
+        assertEquals(3, output.size());
+    }
+
+    private ProtonEnginePipeline createStandardPipeline() {
+        ProtonEnginePipeline pipeline = new ProtonEnginePipeline(engine);
+
+        pipeline.addLast(ProtonConstants.AMQP_PERFORMATIVE_HANDLER, new ProtonPerformativeHandler());
+        pipeline.addLast(ProtonConstants.FRAME_LOGGING_HANDLER, new ProtonFrameLoggingHandler());
+        pipeline.addLast(ProtonConstants.FRAME_DECODING_HANDLER, new ProtonFrameDecodingHandler());
+        pipeline.addLast(ProtonConstants.FRAME_ENCODING_HANDLER, new ProtonFrameEncodingHandler());
+
+        return pipeline;
+    }
 }
@@ -28,6 +28,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.security.sasl.SaslException;
@@ -42,6 +43,7 @@ import org.apache.qpid.protonj2.engine.EngineState;
 import org.apache.qpid.protonj2.engine.HeaderEnvelope;
 import org.apache.qpid.protonj2.engine.SASLEnvelope;
 import org.apache.qpid.protonj2.engine.Session;
+import org.apache.qpid.protonj2.engine.TimeoutScheduler;
 import org.apache.qpid.protonj2.engine.exceptions.EngineNotStartedException;
 import org.apache.qpid.protonj2.engine.exceptions.EngineShutdownException;
 import org.apache.qpid.protonj2.engine.exceptions.EngineStateException;
@@ -447,6 +449,51 @@ public class ProtonEngineTest extends ProtonEngineTestSupport {
         assertNull(failure);
     }
 
+    @Test
+    public void testTickAutoWithSchedulerSchedulesCheckAndPreventsDoubleInvocation() {
+        Engine engine = EngineFactory.PROTON.createNonSaslEngine();
+        engine.errorHandler(result -> failure = result.failureCause());
+        ProtonTestConnector peer = createTestPeer(engine);
+
+        Connection connection = engine.start();
+        assertNotNull(connection);
+
+        peer.expectAMQPHeader().respondWithAMQPHeader();
+        peer.expectOpen().respond();
+        peer.expectClose().respond();
+
+        connection.open();
+
+        final TimeoutScheduler scheduler = Mockito.mock(TimeoutScheduler.class);
+
+        engine.tickAuto(scheduler);
+
+        Mockito.verify(scheduler).schedule(Mockito.any(Runnable.class), Mockito.eq(0L), Mockito.eq(TimeUnit.MILLISECONDS));
+
+        try {
+            engine.tickAuto(scheduler);
+            fail("Should not be able call tickAuto more than once.");
+        } catch (IllegalStateException ise) {
+        }
+
+        try {
+            engine.tickAuto(Mockito.mock(ScheduledExecutorService.class));
+            fail("Should not be able call tickAuto more than once.");
+        } catch (IllegalStateException ise) {
+        }
+
+        try {
+            engine.tick(5000);
+            fail("Should not be able call tick after enabling the auto tick feature.");
+        } catch (IllegalStateException ise) {
+        }
+
+        connection.close();
+
+        peer.waitForScriptToComplete();
+        assertNull(failure);
+    }
+
     @Test
     public void testCannotCallTickAfterTickAutoCalled() {
         Engine engine = EngineFactory.PROTON.createNonSaslEngine();
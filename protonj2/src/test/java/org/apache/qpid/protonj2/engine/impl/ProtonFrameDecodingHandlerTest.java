@@ -32,10 +32,15 @@ import org.apache.qpid.protonj2.engine.Engine;
 import org.apache.qpid.protonj2.engine.EngineHandlerContext;
 import org.apache.qpid.protonj2.engine.HeaderEnvelope;
 import org.apache.qpid.protonj2.engine.IncomingAMQPEnvelope;
+import org.apache.qpid.protonj2.engine.SASLEnvelope;
 import org.apache.qpid.protonj2.engine.exceptions.ProtocolViolationException;
 import org.apache.qpid.protonj2.engine.util.FrameReadSinkTransportHandler;
 import org.apache.qpid.protonj2.engine.util.FrameRecordingTransportHandler;
 import org.apache.qpid.protonj2.engine.util.FrameWriteSinkTransportHandler;
+import org.apache.qpid.protonj2.types.Symbol;
+import org.apache.qpid.protonj2.types.security.SaslCode;
+import org.apache.qpid.protonj2.types.security.SaslMechanisms;
+import org.apache.qpid.protonj2.types.security.SaslOutcome;
 import org.apache.qpid.protonj2.types.transport.AMQPHeader;
 import org.apache.qpid.protonj2.types.transport.Open;
 import org.junit.jupiter.api.BeforeEach;
@@ -112,6 +117,26 @@ public class ProtonFrameDecodingHandlerTest {
         assertEquals(AMQPHeader.getSASLHeader(), header.getBody());
     }
 
+    @Test
+    public void testDecodeAMQPHeaderAfterSaslOutcomeWrittenFollowingOtherSaslWrites() {
+        Engine engine = createEngine();
+
+        engine.start();
+
+        engine.pipeline().fireRead(AMQPHeader.getSASLHeader().getBuffer());
+        engine.pipeline().fireWrite(new SASLEnvelope(new SaslMechanisms().setSaslServerMechanisms(Symbol.valueOf("ANONYMOUS"))));
+        engine.pipeline().fireWrite(new SASLEnvelope(new SaslOutcome().setCode(SaslCode.OK)));
+
+        // Decoder must now expect the AMQP Header that begins the next phase of the connection
+        engine.pipeline().fireRead(AMQPHeader.getAMQPHeader().getBuffer());
+
+        assertEquals(2, testHandler.getFramesRead().size());
+        Object frame = testHandler.getFramesRead().get(1);
+        assertTrue(frame instanceof HeaderEnvelope);
+        HeaderEnvelope header = (HeaderEnvelope) frame;
+        assertEquals(AMQPHeader.getAMQPHeader(), header.getBody());
+    }
+
     @Test
     public void testInvalidHeaderBytesTriggersError() {
         ProtonFrameDecodingHandler handler = createFrameDecoder();
@@ -16,7 +16,9 @@
  */
 package org.apache.qpid.protonj2.engine.impl;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -25,6 +27,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.buffer.ProtonByteBufferAllocator;
+import org.apache.qpid.protonj2.buffer.ProtonCompositeBuffer;
 import org.apache.qpid.protonj2.codec.CodecFactory;
 import org.apache.qpid.protonj2.codec.Decoder;
 import org.apache.qpid.protonj2.codec.DecoderState;
@@ -234,6 +237,128 @@ class ProtonFrameEncodingHandlerTest {
         assertEquals(transfer.getMore(), decodedTransfer.getMore());
     }
 
+    @Test
+    void testGatheringWriteDoesNotCopyPayloadThatFitsIntoFrame() {
+        Mockito.when(configuration.isGatheringFrameWrites()).thenReturn(Boolean.TRUE);
+
+        ProtonFrameEncodingHandler handler = new ProtonFrameEncodingHandler();
+        handler.handlerAdded(context);
+
+        Transfer transfer = new Transfer();
+        transfer.setHandle(0);
+        transfer.setDeliveryId(0);
+        transfer.setDeliveryTag(new byte[] {0});
+
+        final byte[] payload = new byte[4096];
+
+        random.nextBytes(payload);
+
+        final ProtonBuffer payloadBuffer = ProtonByteBufferAllocator.DEFAULT.wrap(payload);
+
+        OutgoingAMQPEnvelope frame = framePool.take(transfer, 32, payloadBuffer);
+
+        handler.handleWrite(context, frame);
+
+        ArgumentCaptor<ProtonBuffer> argument = ArgumentCaptor.forClass(ProtonBuffer.class);
+        Mockito.verify(context).fireWrite(argument.capture(), Mockito.any(Runnable.class));
+
+        ProtonBuffer output = argument.getValue();
+
+        assertTrue(output instanceof ProtonCompositeBuffer);
+        assertEquals(2, ((ProtonCompositeBuffer) output).numberOfBuffers());
+        assertFalse(payloadBuffer.isReadable());
+
+        // Changes to the payload are visible in the frame as it is not a copy
+        payload[0] = (byte) ~payload[0];
+
+        final int bufferSize = output.getReadableBytes();
+
+        assertEquals(bufferSize, output.readInt());
+        assertEquals(FRAME_DOFF_SIZE, output.readByte());
+        assertEquals(AMQP_FRAME_TYPE, output.readByte());
+        assertEquals(32, output.readShort());
+
+        final Transfer decodedTransfer = decode(output);
+        assertEquals(transfer.getHandle(), decodedTransfer.getHandle());
+        assertEquals(transfer.getDeliveryTag(), decodedTransfer.getDeliveryTag());
+        assertEquals(payload.length, output.getReadableBytes());
+
+        final byte[] written = new byte[payload.length];
+        output.readBytes(written);
+        assertArrayEquals(payload, written);
+    }
+
+    @Test
+    void testGatheringWriteOfPayloadThatDoesNotFitIntoFrame() {
+        Mockito.when(configuration.isGatheringFrameWrites()).thenReturn(Boolean.TRUE);
+
+        ProtonFrameEncodingHandler handler = new ProtonFrameEncodingHandler();
+        handler.handlerAdded(context);
+
+        Transfer transfer = new Transfer();
+        transfer.setHandle(0);
+        transfer.setDeliveryId(0);
+        transfer.setDeliveryTag(new byte[] {0});
+
+        final byte[] payload = new byte[(int) (configuration.getOutboundMaxFrameSize() * 2)];
+        final AtomicBoolean toLargeHandlerCalled = new AtomicBoolean();
+
+        random.nextBytes(payload);
+
+        final ProtonBuffer payloadBuffer = ProtonByteBufferAllocator.DEFAULT.wrap(payload);
+
+        OutgoingAMQPEnvelope frame = framePool.take(transfer, 32, payloadBuffer);
+        frame.setPayloadToLargeHandler((performative) -> {
+            transfer.setMore(true);
+            toLargeHandlerCalled.set(true);
+        });
+
+        handler.handleWrite(context, frame);
+
+        ArgumentCaptor<ProtonBuffer> argument = ArgumentCaptor.forClass(ProtonBuffer.class);
+        Mockito.verify(context).fireWrite(argument.capture(), Mockito.any(Runnable.class));
+
+        ProtonBuffer output = argument.getValue();
+
+        assertTrue(toLargeHandlerCalled.get());
+        assertTrue(output instanceof ProtonCompositeBuffer);
+        assertEquals(configuration.getOutboundMaxFrameSize(), output.getReadableBytes());
+
+        final int bufferSize = output.getReadableBytes();
+
+        assertEquals(bufferSize, output.readInt());
+        assertEquals(FRAME_DOFF_SIZE, output.readByte());
+        assertEquals(AMQP_FRAME_TYPE, output.readByte());
+        assertEquals(32, output.readShort());
+
+        final Transfer decodedTransfer = decode(output);
+        assertTrue(decodedTransfer.getMore());
+        assertEquals(payload.length - output.getReadableBytes(), payloadBuffer.getReadableBytes());
+        assertEquals(payload[0], output.readByte());
+    }
+
+    @Test
+    void testGatheringWriteCopiesSmallPayloads() {
+        Mockito.when(configuration.isGatheringFrameWrites()).thenReturn(Boolean.TRUE);
+
+        ProtonFrameEncodingHandler handler = new ProtonFrameEncodingHandler();
+        handler.handlerAdded(context);
+
+        Transfer transfer = new Transfer();
+        transfer.setHandle(0);
+        transfer.setDeliveryId(0);
+        transfer.setDeliveryTag(new byte[] {0});
+
+        OutgoingAMQPEnvelope frame = framePool.take(transfer, 32, ProtonByteBufferAllocator.DEFAULT.wrap(new byte[64]));
+
+        handler.handleWrite(context, frame);
+
+        ArgumentCaptor<ProtonBuffer> argument = ArgumentCaptor.forClass(ProtonBuffer.class);
+        Mockito.verify(context).fireWrite(argument.capture(), Mockito.any(Runnable.class));
+
+        assertFalse(argument.getValue() instanceof ProtonCompositeBuffer);
+    }
+
     private Transfer decode(ProtonBuffer encoded) {
         Decoder decoder = CodecFactory.getDecoder();
         DecoderState decoderState = decoder.newDecoderState();
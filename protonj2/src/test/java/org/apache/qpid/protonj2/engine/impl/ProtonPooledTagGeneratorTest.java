@@ -25,6 +25,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 
 import org.apache.qpid.protonj2.engine.DeliveryTagGenerator;
 import org.apache.qpid.protonj2.types.DeliveryTag;
@@ -180,6 +181,46 @@ public class ProtonPooledTagGeneratorTest {
         }
     }
 
+    @Test
+    public void testPooledTagsAreUniqueAcrossTheWholePool() {
+        ProtonPooledTagGenerator generator = new ProtonPooledTagGenerator();
+
+        final HashSet<DeliveryTag> tags = new HashSet<>();
+
+        for (int i = 0; i < ProtonPooledTagGenerator.DEFAULT_MAX_NUM_POOLED_TAGS * 2; ++i) {
+            final DeliveryTag tag = generator.nextTag();
+            assertTrue(tags.add(new DeliveryTag.ProtonDeliveryTag(tag.tagBytes())), "Duplicate tag created: " + tag);
+        }
+    }
+
+    @Test
+    public void testTagsCreatedBeyondPoolSizeAreReusedAfterRelease() {
+        final int poolSize = 4;
+
+        ProtonPooledTagGenerator generator = new ProtonPooledTagGenerator(poolSize);
+
+        final ArrayList<DeliveryTag> tags = new ArrayList<>(poolSize * 2);
+
+        for (int i = 0; i < poolSize * 2; ++i) {
+            tags.add(generator.nextTag());
+        }
+
+        tags.forEach(tag -> tag.release());
+
+        final ArrayList<DeliveryTag> reused = new ArrayList<>(poolSize * 2);
+
+        for (int i = 0; i < poolSize * 2; ++i) {
+            reused.add(generator.nextTag());
+        }
+
+        for (int i = 0; i < poolSize; ++i) {
+            assertSame(tags.get(i), reused.get(i));
+        }
+
+        assertTrue(reused.containsAll(tags));
+        assertFalse(tags.contains(generator.nextTag()));
+    }
+
     private short getShort(byte[] tagBytes) {
         return (short) ((tagBytes[0] & 0xFF) << 8 | (tagBytes[1] & 0xFF) << 0);
     }
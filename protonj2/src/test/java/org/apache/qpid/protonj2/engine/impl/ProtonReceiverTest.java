@@ -4132,9 +4132,7 @@ public class ProtonReceiverTest extends ProtonEngineTestSupport {
 
         peer.waitForScriptToComplete();
         peer.expectDisposition().withFirst(Integer.MAX_VALUE)
-                                .withSettled(true)
-                                .withState().accepted();
-        peer.expectDisposition().withFirst(Integer.MAX_VALUE + 1)
+                                .withLast(Integer.MAX_VALUE + 1)
                                 .withSettled(true)
                                 .withState().accepted();
         peer.expectDetach().respond();
@@ -4154,6 +4152,61 @@ public class ProtonReceiverTest extends ProtonEngineTestSupport {
         assertNull(failure);
     }
 
+    @Test
+    public void testFilteredDispositionWritesRangesOfConsecutiveDeliveries() {
+        Engine engine = EngineFactory.PROTON.createNonSaslEngine();
+        engine.errorHandler(result -> failure = result.failureCause());
+        ProtonTestConnector peer = createTestPeer(engine);
+
+        final byte[] payload = new byte[] { 1 };
+
+        peer.expectAMQPHeader().respondWithAMQPHeader();
+        peer.expectOpen().respond().withContainerId("driver");
+        peer.expectBegin().respond();
+        peer.expectAttach().respond();
+        peer.expectFlow().withLinkCredit(5);
+        for (int i = 0; i < 5; ++i) {
+            peer.remoteTransfer().withDeliveryId(i)
+                                 .withDeliveryTag(new byte[] { (byte) i })
+                                 .withMore(false)
+                                 .withMessageFormat(0)
+                                 .withPayload(payload).queue();
+        }
+
+        Connection connection = engine.start().open();
+        Session session = connection.session().open();
+        Receiver receiver = session.receiver("receiver");
+
+        receiver.addCredit(5);
+        receiver.open();
+
+        peer.waitForScriptToComplete();
+        peer.expectDisposition().withFirst(0)
+                                .withLast(1)
+                                .withSettled(true)
+                                .withState().accepted();
+        peer.expectDisposition().withFirst(3)
+                                .withLast(4)
+                                .withSettled(true)
+                                .withState().accepted();
+        peer.expectDisposition().withFirst(2)
+                                .withLast(nullValue())
+                                .withSettled(false)
+                                .withState().released();
+        peer.expectDetach().respond();
+
+        assertEquals(5, receiver.unsettled().size());
+        receiver.disposition((delivery) -> delivery.getTag().tagBuffer().getByte(0) != 2, Accepted.getInstance(), true);
+        assertEquals(1, receiver.unsettled().size());
+        receiver.disposition((delivery) -> true, Released.getInstance(), false);
+        assertEquals(1, receiver.unsettled().size());
+
+        receiver.close();
+
+        peer.waitForScriptToComplete();
+        assertNull(failure);
+    }
+
     @Test
     public void testUnsettledCollectionDispositionsAfterReceivingTransfersThatCrossSignedIntDeliveryIdRange() {
         Engine engine = EngineFactory.PROTON.createNonSaslEngine();
@@ -4249,12 +4302,7 @@ public class ProtonReceiverTest extends ProtonEngineTestSupport {
 
         peer.waitForScriptToComplete();
         peer.expectDisposition().withFirst(UnsignedInteger.MAX_VALUE.intValue())
-                                .withSettled(true)
-                                .withState().accepted();
-        peer.expectDisposition().withFirst(0)
-                                .withSettled(true)
-                                .withState().accepted();
-        peer.expectDisposition().withFirst(1)
+                                .withLast(1)
                                 .withSettled(true)
                                 .withState().accepted();
         peer.expectDetach().respond();
@@ -20,6 +20,7 @@ import static org.hamcrest.CoreMatchers.anyOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -91,6 +92,39 @@ public class ProtonSenderTest extends ProtonEngineTestSupport {
 
     private static final ProtonLogger LOG = ProtonLoggerFactory.getLogger(ProtonSenderTest.class);
 
+    @Test
+    public void testSendPriorityAndWeightValidation() throws Exception {
+        Engine engine = EngineFactory.PROTON.createNonSaslEngine();
+        engine.errorHandler(result -> failure = result.failureCause());
+        ProtonTestConnector peer = createTestPeer(engine);
+
+        peer.expectAMQPHeader().respondWithAMQPHeader();
+        peer.expectOpen().respond().withContainerId("driver");
+        peer.expectBegin().respond();
+
+        Connection connection = engine.start().open();
+        Session session = connection.session().open();
+        Sender sender = session.sender("test");
+
+        assertEquals(4, sender.getSendPriority());
+        assertEquals(1, sender.getSendWeight());
+        assertEquals(0, sender.getSendWaitCount());
+        assertEquals(0, sender.getTotalSendWaitTime());
+        assertEquals(0, sender.getMaxSendWaitTime());
+
+        assertThrows(IllegalArgumentException.class, () -> sender.setSendPriority(-1));
+        assertThrows(IllegalArgumentException.class, () -> sender.setSendPriority(10));
+        assertThrows(IllegalArgumentException.class, () -> sender.setSendWeight(0));
+
+        sender.setSendPriority(9).setSendWeight(5);
+
+        assertEquals(9, sender.getSendPriority());
+        assertEquals(5, sender.getSendWeight());
+
+        peer.waitForScriptToComplete();
+        assertNull(failure);
+    }
+
     @Test
     public void testLocalLinkStateCannotBeChangedAfterOpen() throws Exception {
         Engine engine = EngineFactory.PROTON.createNonSaslEngine();
@@ -3001,6 +3035,12 @@ public class ProtonSenderTest extends ProtonEngineTestSupport {
         assertTrue(delivery3.isSettled());
         assertTrue(delivery3.isRemotelySettled());
 
+        // Sequential tags are written without creating the tag which is then created on request
+        assertArrayEquals(new byte[] {0}, delivery1.getTag().tagBytes());
+        assertArrayEquals(new byte[] {1}, delivery2.getTag().tagBytes());
+        assertArrayEquals(new byte[] {2}, delivery3.getTag().tagBytes());
+        assertSame(delivery1.getTag(), delivery1.getTag());
+
         peer.expectDetach().respond();
         peer.expectClose().respond();
 
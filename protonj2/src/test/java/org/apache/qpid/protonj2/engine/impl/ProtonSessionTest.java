@@ -30,7 +30,10 @@ import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.IOException;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.TimeUnit;
@@ -44,10 +47,12 @@ import org.apache.qpid.protonj2.engine.ConnectionState;
 import org.apache.qpid.protonj2.engine.DeliveryTagGenerator;
 import org.apache.qpid.protonj2.engine.Engine;
 import org.apache.qpid.protonj2.engine.EngineFactory;
+import org.apache.qpid.protonj2.engine.EventHandler;
 import org.apache.qpid.protonj2.engine.IncomingDelivery;
 import org.apache.qpid.protonj2.engine.Link;
 import org.apache.qpid.protonj2.engine.OutgoingDelivery;
 import org.apache.qpid.protonj2.engine.Receiver;
+import org.apache.qpid.protonj2.engine.SendSchedulingPolicy;
 import org.apache.qpid.protonj2.engine.Sender;
 import org.apache.qpid.protonj2.engine.Session;
 import org.apache.qpid.protonj2.engine.exceptions.EngineFailedException;
@@ -113,6 +118,38 @@ public class ProtonSessionTest extends ProtonEngineTestSupport {
         assertNull(failure);
     }
 
+    @Test
+    public void testLinksOpenedBeforeBeginIsWrittenAreAttachedInHandleOrder() throws Exception {
+        Engine engine = EngineFactory.PROTON.createNonSaslEngine();
+        engine.errorHandler(result -> failure = result.failureCause());
+        ProtonTestConnector peer = createTestPeer(engine);
+
+        peer.expectAMQPHeader().respondWithAMQPHeader();
+        peer.expectOpen().respond().withContainerId("driver");
+        peer.expectBegin().respond();
+        for (int i = 0; i < 8; ++i) {
+            peer.expectAttach().withHandle(i).withName("link-" + i);
+        }
+
+        Connection connection = engine.start();
+        Session session = connection.session();
+        session.open();
+
+        for (int i = 0; i < 8; ++i) {
+            if (i % 2 == 0) {
+                session.sender("link-" + i).open();
+            } else {
+                session.receiver("link-" + i).open();
+            }
+        }
+
+        connection.open();
+
+        peer.waitForScriptToComplete();
+
+        assertNull(failure);
+    }
+
     @Test
     public void testEngineShutdownEventNeitherEndClosed() throws Exception {
         doTestEngineShutdownEvent(false, false);
@@ -2214,6 +2251,243 @@ public class ProtonSessionTest extends ProtonEngineTestSupport {
         assertNull(failure);
     }
 
+    @Test
+    public void testClosedSendersWithCreditAreNoLongerScheduled() throws Exception {
+        Engine engine = EngineFactory.PROTON.createNonSaslEngine();
+        engine.errorHandler(result -> failure = result.failureCause());
+        ProtonTestConnector peer = createTestPeer(engine);
+
+        final int senderCount = 100;
+
+        peer.expectAMQPHeader().respondWithAMQPHeader();
+        peer.expectOpen().respond();
+        peer.expectBegin().respond();
+
+        Connection connection = engine.start().open();
+        ProtonSession session = (ProtonSession) connection.session().open();
+
+        for (int i = 0; i < senderCount; ++i) {
+            peer.expectAttach().respond();
+            peer.remoteFlow().withLinkCredit(10).queue();
+
+            Sender sender = session.sender("test-" + i).open();
+
+            assertTrue(sender.isSendable());
+            assertEquals(1, session.getOutgoingWindow().getScheduler().scheduledCount());
+
+            peer.expectDetach().withClosed(i % 2 == 0).respond();
+
+            if (i % 2 == 0) {
+                sender.close();
+            } else {
+                sender.detach();
+            }
+
+            assertEquals(0, session.getOutgoingWindow().getScheduler().scheduledCount());
+        }
+
+        peer.waitForScriptToComplete();
+        assertNull(failure);
+    }
+
+    @Test
+    public void testRoundRobinSchedulingRotatesWhichSenderIsNotifiedFirst() throws Exception {
+        Engine engine = EngineFactory.PROTON.createNonSaslEngine();
+        engine.errorHandler(result -> failure = result.failureCause());
+        Queue<Runnable> asyncIOCallbacks = new ArrayDeque<>();
+        ProtonTestConnector peer = createTestPeer(engine, asyncIOCallbacks);
+
+        final byte[] payload = new byte[] {0, 1, 2, 3, 4};
+        final DeliveryTagGenerator generator = ProtonDeliveryTagGenerator.BUILTIN.POOLED.createGenerator();
+
+        peer.expectAMQPHeader().respondWithAMQPHeader();
+        peer.expectOpen().withMaxFrameSize(1024).respond();
+        peer.expectBegin().respond();
+        peer.expectAttach().respond();
+        peer.remoteFlow().withLinkCredit(20).queue();
+        peer.expectAttach().respond();
+        peer.remoteFlow().withLinkCredit(20).queue();
+
+        Connection connection = engine.start().setMaxFrameSize(1024).open();
+        Session session = connection.session().setOutgoingCapacity(2048).open();
+        Sender sender1 = session.sender("test1").setDeliveryTagGenerator(generator).open();
+        Sender sender2 = session.sender("test2").setDeliveryTagGenerator(generator).open();
+
+        assertEquals(SendSchedulingPolicy.ROUND_ROBIN, session.getSendSchedulingPolicy());
+
+        peer.waitForScriptToComplete();
+        for (int i = 0; i < 4; ++i) {
+            peer.expectTransfer().withPayload(payload);
+        }
+
+        final List<String> notified = new ArrayList<>();
+        final EventHandler<Sender> handler = (self) -> {
+            notified.add(self.getName());
+            self.next().writeBytes(ProtonByteBufferAllocator.DEFAULT.wrap(payload));
+        };
+
+        sender1.creditStateUpdateHandler(handler);
+        sender2.creditStateUpdateHandler(handler);
+
+        // Open, Begin, Attach, Attach
+        asyncIOCallbacks.forEach(runner -> runner.run());
+        asyncIOCallbacks.clear();
+
+        sender1.next().writeBytes(ProtonByteBufferAllocator.DEFAULT.wrap(payload));
+        sender2.next().writeBytes(ProtonByteBufferAllocator.DEFAULT.wrap(payload));
+
+        assertFalse(sender1.isSendable());
+        assertFalse(sender2.isSendable());
+
+        // Each time a frame's worth of window frees up a different sender is offered it first.
+        asyncIOCallbacks.poll().run();
+        asyncIOCallbacks.poll().run();
+
+        assertEquals(Arrays.asList("test1", "test2"), notified);
+        assertEquals(1, sender1.getSendWaitCount());
+        assertEquals(1, sender2.getSendWaitCount());
+        assertTrue(sender1.getMaxSendWaitTime() <= sender1.getTotalSendWaitTime());
+
+        peer.waitForScriptToComplete();
+        assertNull(failure);
+    }
+
+    @Test
+    public void testPrioritySchedulingAlwaysNotifiesHigherPrioritySenderFirst() throws Exception {
+        Engine engine = EngineFactory.PROTON.createNonSaslEngine();
+        engine.errorHandler(result -> failure = result.failureCause());
+        Queue<Runnable> asyncIOCallbacks = new ArrayDeque<>();
+        ProtonTestConnector peer = createTestPeer(engine, asyncIOCallbacks);
+
+        final byte[] payload = new byte[] {0, 1, 2, 3, 4};
+        final DeliveryTagGenerator generator = ProtonDeliveryTagGenerator.BUILTIN.POOLED.createGenerator();
+
+        peer.expectAMQPHeader().respondWithAMQPHeader();
+        peer.expectOpen().withMaxFrameSize(1024).respond();
+        peer.expectBegin().respond();
+        peer.expectAttach().respond();
+        peer.remoteFlow().withLinkCredit(20).queue();
+        peer.expectAttach().respond();
+        peer.remoteFlow().withLinkCredit(20).queue();
+
+        Connection connection = engine.start().setMaxFrameSize(1024).open();
+        Session session = connection.session().setOutgoingCapacity(2048).open();
+        Sender sender1 = session.sender("test1").setDeliveryTagGenerator(generator).open();
+        Sender sender2 = session.sender("test2").setDeliveryTagGenerator(generator).open();
+
+        session.setSendSchedulingPolicy(SendSchedulingPolicy.PRIORITY);
+        sender2.setSendPriority(9);
+
+        assertEquals(SendSchedulingPolicy.PRIORITY, session.getSendSchedulingPolicy());
+
+        peer.waitForScriptToComplete();
+        for (int i = 0; i < 4; ++i) {
+            peer.expectTransfer().withPayload(payload);
+        }
+
+        final List<String> notified = new ArrayList<>();
+        final EventHandler<Sender> handler = (self) -> {
+            notified.add(self.getName());
+            self.next().writeBytes(ProtonByteBufferAllocator.DEFAULT.wrap(payload));
+        };
+
+        sender1.creditStateUpdateHandler(handler);
+        sender2.creditStateUpdateHandler(handler);
+
+        // Open, Begin, Attach, Attach
+        asyncIOCallbacks.forEach(runner -> runner.run());
+        asyncIOCallbacks.clear();
+
+        sender1.next().writeBytes(ProtonByteBufferAllocator.DEFAULT.wrap(payload));
+        sender2.next().writeBytes(ProtonByteBufferAllocator.DEFAULT.wrap(payload));
+
+        asyncIOCallbacks.poll().run();
+        asyncIOCallbacks.poll().run();
+
+        assertEquals(Arrays.asList("test2", "test2"), notified);
+        assertEquals(0, sender1.getSendWaitCount());
+
+        peer.waitForScriptToComplete();
+        assertNull(failure);
+    }
+
+    @Test
+    public void testDeficitWeightedSchedulingSkipsSenderThatUsedMoreThanItsShare() throws Exception {
+        Engine engine = EngineFactory.PROTON.createNonSaslEngine();
+        engine.errorHandler(result -> failure = result.failureCause());
+        Queue<Runnable> asyncIOCallbacks = new ArrayDeque<>();
+        ProtonTestConnector peer = createTestPeer(engine, asyncIOCallbacks);
+
+        final byte[] payload = new byte[] {0, 1, 2, 3, 4};
+        final DeliveryTagGenerator generator = ProtonDeliveryTagGenerator.BUILTIN.POOLED.createGenerator();
+
+        peer.expectAMQPHeader().respondWithAMQPHeader();
+        peer.expectOpen().withMaxFrameSize(1024).respond();
+        peer.expectBegin().respond();
+        peer.expectAttach().respond();
+        peer.remoteFlow().withLinkCredit(20).queue();
+        peer.expectAttach().respond();
+        peer.remoteFlow().withLinkCredit(20).queue();
+
+        Connection connection = engine.start().setMaxFrameSize(1024).open();
+        Session session = connection.session().setOutgoingCapacity(4096).open();
+        Sender chatty = session.sender("test1").setDeliveryTagGenerator(generator).open();
+        Sender quiet = session.sender("test2").setDeliveryTagGenerator(generator).open();
+
+        session.setSendSchedulingPolicy(SendSchedulingPolicy.DEFICIT_WEIGHTED);
+
+        peer.waitForScriptToComplete();
+        for (int i = 0; i < 8; ++i) {
+            peer.expectTransfer().withPayload(payload);
+        }
+
+        final AtomicInteger chattyNotified = new AtomicInteger();
+        final AtomicInteger quietNotified = new AtomicInteger();
+
+        // Write until the window fills each time it is offered.
+        chatty.creditStateUpdateHandler((self) -> {
+            chattyNotified.incrementAndGet();
+            while (self.isSendable()) {
+                self.next().writeBytes(ProtonByteBufferAllocator.DEFAULT.wrap(payload));
+            }
+        });
+        quiet.creditStateUpdateHandler((self) -> {
+            quietNotified.incrementAndGet();
+            self.next().writeBytes(ProtonByteBufferAllocator.DEFAULT.wrap(payload));
+        });
+
+        // Open, Begin, Attach, Attach
+        asyncIOCallbacks.forEach(runner -> runner.run());
+        asyncIOCallbacks.clear();
+
+        // Four frames fills the window, freeing two reopens it.
+        for (int i = 0; i < 2; ++i) {
+            chatty.next().writeBytes(ProtonByteBufferAllocator.DEFAULT.wrap(payload));
+            quiet.next().writeBytes(ProtonByteBufferAllocator.DEFAULT.wrap(payload));
+        }
+
+        assertFalse(chatty.isSendable());
+
+        asyncIOCallbacks.poll().run();
+        asyncIOCallbacks.poll().run();
+
+        // The chatty sender is first in line and takes the whole reopened window.
+        assertEquals(1, chattyNotified.get());
+        assertEquals(0, quietNotified.get());
+
+        asyncIOCallbacks.poll().run();
+        asyncIOCallbacks.poll().run();
+
+        // Having used more than its share the chatty sender is passed over until the quiet one catches up.
+        assertEquals(1, chattyNotified.get());
+        assertEquals(2, quietNotified.get());
+        assertEquals(1, chatty.getSendWaitCount());
+        assertEquals(2, quiet.getSendWaitCount());
+
+        peer.waitForScriptToComplete();
+        assertNull(failure);
+    }
+
     @Test
     public void testReduceOutgoingWindowDoesNotStopSenderIfSomeWindowRemaining() throws Exception {
         Engine engine = EngineFactory.PROTON.createNonSaslEngine();
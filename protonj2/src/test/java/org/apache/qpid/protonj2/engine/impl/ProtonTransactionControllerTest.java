@@ -442,6 +442,56 @@ class ProtonTransactionControllerTest extends ProtonEngineTestSupport {
         assertNull(failure);
     }
 
+    @Test
+    public void testTransactionControllerDischargesManyTransactionsWithSameSizedIds() {
+        Engine engine = EngineFactory.PROTON.createNonSaslEngine();
+        engine.errorHandler(result -> failure = result.failureCause());
+        ProtonTestConnector peer = createTestPeer(engine);
+
+        Coordinator coordinator = new Coordinator();
+        coordinator.setCapabilities(TxnCapability.LOCAL_TXN);
+        Source source = new Source();
+        source.setOutcomes(DEFAULT_OUTCOMES);
+
+        final byte[][] TXN_IDS = new byte[][] { new byte[] { 1, 2, 3, 4 },
+                                                new byte[] { 2, 2, 3, 4 },
+                                                new byte[] { 3, 2, 3, 4, 5 },
+                                                new byte[] { 4, 2, 3, 4, 5 } };
+
+        peer.expectAMQPHeader().respondWithAMQPHeader();
+        peer.expectOpen().respond();
+        peer.expectBegin().respond();
+        peer.expectAttach().respond();
+        peer.remoteFlow().withLinkCredit(TXN_IDS.length * 2).queue();
+        for (int i = 0; i < TXN_IDS.length; ++i) {
+            peer.expectDeclare().accept(TXN_IDS[i]);
+            peer.expectDischarge().withFail(i % 2 == 0).withTxnId(TXN_IDS[i]).accept();
+        }
+        peer.expectDetach().withClosed(true).respond();
+
+        Connection connection = engine.start().open();
+        Session session = connection.session().open();
+        TransactionController txnController = session.coordinator("test-coordinator");
+
+        txnController.setSource(source);
+        txnController.setCoordinator(coordinator);
+        txnController.open();
+
+        for (int i = 0; i < TXN_IDS.length; ++i) {
+            Transaction<TransactionController> txn = txnController.newTransaction();
+
+            txnController.declare(txn);
+            assertArrayEquals(TXN_IDS[i], txn.getTxnId().arrayCopy());
+            txnController.discharge(txn, i % 2 == 0);
+            assertTrue(txn.isDischarged());
+        }
+
+        txnController.close();
+
+        peer.waitForScriptToComplete();
+        assertNull(failure);
+    }
+
     @Test
     public void testTransactionControllerDeclareAndDischargeOneTransactionDirect() {
         doTestTransactionControllerDeclareAndDischargeOneTransaction(false);
@@ -25,6 +25,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.security.Principal;
+import java.util.ArrayDeque;
+import java.util.Queue;
 
 import javax.security.sasl.SaslException;
 
@@ -253,6 +255,75 @@ public class ProtonSaslClientTest extends ProtonEngineTestSupport {
         assertTrue(failure instanceof SaslException);
     }
 
+    @Test
+    public void testSaslPlainConnectionWithOffloadedResponses() throws Exception {
+        Engine engine = EngineFactory.PROTON.createEngine();
+        engine.errorHandler(result -> failure = result.failureCause());
+        ProtonTestConnector peer = createTestPeer(engine);
+
+        String user = "user";
+        String pass = "qwerty123456";
+
+        peer.expectSASLPlainConnect(user, pass);
+        peer.expectOpen().respond();
+        peer.expectClose().respond();
+
+        final Queue<Runnable> worker = new ArrayDeque<>();
+        final Queue<Runnable> engineTasks = new ArrayDeque<>();
+
+        engine.saslDriver().client().setListener(
+            createSaslPlainAuthenticator(user, pass).offloadResponses(worker::add, engineTasks::add));
+
+        Connection connection = engine.start().open();
+
+        assertEquals(1, worker.size());
+        assertTrue(engineTasks.isEmpty());
+        assertFalse(engine.saslDriver().client().isDone());
+
+        worker.poll().run();
+
+        assertEquals(1, engineTasks.size());
+        assertFalse(engine.saslDriver().client().isDone());
+
+        engineTasks.poll().run();
+
+        assertTrue(engine.saslDriver().client().isDone());
+
+        connection.close();
+
+        peer.waitForScriptToComplete();
+
+        assertNull(failure);
+    }
+
+    @Test
+    public void testOffloadedResponseNotSentAfterEngineShutdown() throws Exception {
+        Engine engine = EngineFactory.PROTON.createEngine();
+        engine.errorHandler(result -> failure = result.failureCause());
+        ProtonTestConnector peer = createTestPeer(engine);
+
+        peer.expectSASLHeader().respondWithSASLPHeader();
+        peer.remoteSaslMechanisms().withMechanisms("PLAIN").queue();
+
+        final Queue<Runnable> worker = new ArrayDeque<>();
+        final Queue<Runnable> engineTasks = new ArrayDeque<>();
+
+        engine.saslDriver().client().setListener(
+            createSaslPlainAuthenticator("user", "pass").offloadResponses(worker::add, engineTasks::add));
+
+        engine.start().open();
+
+        assertEquals(1, worker.size());
+
+        worker.poll().run();
+        engine.shutdown();
+        engineTasks.poll().run();
+
+        peer.waitForScriptToComplete();
+
+        assertNull(failure);
+    }
+
     private SaslAuthenticator createSaslPlainAuthenticator(String user, String password) {
         SaslCredentialsProvider credentials = new SaslCredentialsProvider() {
 
@@ -20,6 +20,7 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.charset.StandardCharsets;
@@ -118,4 +119,35 @@ public class ScramSHA256MechanismTest extends AbstractScramSHAMechanismTestBase
 
         mechanism.verifyCompletion();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testSaltedPasswordKeysAreSharedThroughCache() throws Exception {
+        ScramKeyCache cache = new ScramKeyCache(2);
+
+        for (int i = 0; i < 2; ++i) {
+            Mechanism mechanism = new ScramSHA256Mechanism(CLIENT_NONCE, cache);
+
+            assertEquals(EXPECTED_CLIENT_INITIAL_RESPONSE, mechanism.getInitialResponse(getTestCredentials()));
+            assertEquals(EXPECTED_CLIENT_FINAL_MESSAGE, mechanism.getChallengeResponse(getTestCredentials(), SERVER_FIRST_MESSAGE));
+            mechanism.getChallengeResponse(getTestCredentials(), SERVER_FINAL_MESSAGE);
+            mechanism.verifyCompletion();
+
+            assertEquals(1, cache.size());
+        }
+
+        for (int i = 0; i < 2; ++i) {
+            Mechanism mechanism = new ScramSHA256Mechanism(CLIENT_NONCE, cache);
+
+            mechanism.getInitialResponse(getTestCredentials());
+            mechanism.getChallengeResponse(credentials(TEST_USERNAME, TEST_PASSWORD + i), SERVER_FIRST_MESSAGE);
+        }
+
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testKeyCacheRequiresPositiveMaximumEntries() throws Exception {
+        assertThrows(IllegalArgumentException.class, () -> new ScramKeyCache(0));
+        assertThrows(IllegalArgumentException.class, () -> new ScramKeyCache(-1));
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.engine.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.apache.qpid.protonj2.logging.ProtonLogger;
+import org.apache.qpid.protonj2.logging.ProtonLoggerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test {@link HandleTable} type
+ */
+public class HandleTableTest {
+
+    protected static final ProtonLogger LOG = ProtonLoggerFactory.getLogger(HandleTableTest.class);
+
+    protected long seed;
+    protected Random random;
+
+    @BeforeEach
+    public void setUp() {
+        seed = System.nanoTime();
+        random = new Random();
+        random.setSeed(seed);
+    }
+
+    @Test
+    public void testPutGetAndRemove() {
+        HandleTable<String> table = new HandleTable<>();
+
+        assertTrue(table.isEmpty());
+
+        for (int i = 0; i < 100; ++i) {
+            assertNull(table.put(i, "value-" + i));
+        }
+
+        assertEquals(100, table.size());
+        assertFalse(table.isEmpty());
+
+        for (int i = 0; i < 100; ++i) {
+            assertTrue(table.containsKey(i));
+            assertEquals("value-" + i, table.get(i));
+        }
+
+        assertEquals("value-50", table.put(50, "replaced"));
+        assertEquals(100, table.size());
+
+        for (int i = 0; i < 100; ++i) {
+            assertEquals(i == 50 ? "replaced" : "value-" + i, table.remove(i));
+            assertNull(table.remove(i));
+        }
+
+        assertTrue(table.isEmpty());
+    }
+
+    @Test
+    public void testPutNullValueThrows() {
+        HandleTable<String> table = new HandleTable<>();
+
+        assertThrows(NullPointerException.class, () -> table.put(0, null));
+    }
+
+    @Test
+    public void testNextFreeKeyReusesLowestReleasedKey() {
+        HandleTable<String> table = new HandleTable<>();
+
+        for (int i = 0; i < 10; ++i) {
+            assertEquals(i, table.nextFreeKey(65535));
+            table.put(i, "value-" + i);
+        }
+
+        table.remove(7);
+        table.remove(3);
+
+        assertEquals(3, table.nextFreeKey(65535));
+        table.put(3, "value-3");
+        assertEquals(7, table.nextFreeKey(65535));
+        table.put(7, "value-7");
+        assertEquals(10, table.nextFreeKey(65535));
+    }
+
+    @Test
+    public void testNextFreeKeyHonorsMaximum() {
+        HandleTable<String> table = new HandleTable<>();
+
+        table.put(0, "zero");
+        table.put(1, "one");
+
+        assertEquals(-1, table.nextFreeKey(1));
+        assertEquals(2, table.nextFreeKey(2));
+
+        table.remove(0);
+
+        assertEquals(0, table.nextFreeKey(1));
+    }
+
+    @Test
+    public void testSparseKeysAreStoredAndMovedWhenTableGrows() {
+        HandleTable<String> table = new HandleTable<>();
+
+        table.put(100, "sparse");
+        table.put(Integer.MAX_VALUE, "max-int");
+        table.put(-1, "max-handle");
+
+        assertEquals(3, table.size());
+        assertEquals("sparse", table.get(100));
+        assertEquals("max-int", table.get(Integer.MAX_VALUE));
+        assertEquals("max-handle", table.get(-1));
+
+        for (int i = 0; i < 100; ++i) {
+            table.put(i, "value-" + i);
+        }
+
+        assertEquals(103, table.size());
+        assertEquals("sparse", table.get(100));
+        assertEquals(101, table.nextFreeKey(0xFFFFFFFFL));
+
+        assertEquals("sparse", table.remove(100));
+        assertEquals("max-handle", table.remove(-1));
+        assertEquals(101, table.size());
+        assertEquals(100, table.nextFreeKey(0xFFFFFFFFL));
+    }
+
+    @Test
+    public void testForEachVisitsAllValues() {
+        HandleTable<Integer> table = new HandleTable<>();
+        Set<Integer> expected = new HashSet<>();
+
+        for (int i = 0; i < 32; i += 2) {
+            table.put(i, i);
+            expected.add(i);
+        }
+
+        table.put(70000, 70000);
+        expected.add(70000);
+
+        Set<Integer> visited = new HashSet<>();
+        table.forEach(visited::add);
+
+        assertEquals(expected, visited);
+
+        table.clear();
+
+        assertTrue(table.isEmpty());
+        assertEquals(0, table.nextFreeKey(10));
+        table.forEach(value -> {
+            throw new AssertionError("Should not visit any values after clear");
+        });
+    }
+
+    @Test
+    public void testRandomOperationsMatchHashMap() {
+        HandleTable<Integer> table = new HandleTable<>();
+        Map<Integer, Integer> expected = new HashMap<>();
+
+        try {
+            for (int i = 0; i < 10000; ++i) {
+                final int key = random.nextInt(10) == 0 ? random.nextInt() : random.nextInt(512);
+
+                if (random.nextBoolean()) {
+                    assertEquals(expected.put(key, i), table.put(key, i));
+                } else {
+                    assertEquals(expected.remove(key), table.remove(key));
+                }
+
+                assertEquals(expected.size(), table.size());
+            }
+
+            for (Map.Entry<Integer, Integer> entry : expected.entrySet()) {
+                assertEquals(entry.getValue(), table.get(entry.getKey()));
+            }
+        } catch (Throwable error) {
+            LOG.info("Random seed was: {}", seed);
+            throw error;
+        }
+    }
+}
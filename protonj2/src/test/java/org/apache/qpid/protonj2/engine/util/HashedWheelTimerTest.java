@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.engine.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@Timeout(20)
+public class HashedWheelTimerTest {
+
+    private static final Executor DIRECT = Runnable::run;
+
+    private HashedWheelTimer timer;
+
+    @BeforeEach
+    public void setUp() {
+        timer = new HashedWheelTimer("test-timer", 1, TimeUnit.MILLISECONDS, 8);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        timer.close();
+    }
+
+    @Test
+    public void testCreateWithInvalidArguments() {
+        assertThrows(NullPointerException.class, () -> new HashedWheelTimer(null));
+        assertThrows(IllegalArgumentException.class, () -> new HashedWheelTimer("test", 0, TimeUnit.MILLISECONDS, 8));
+        assertThrows(IllegalArgumentException.class, () -> new HashedWheelTimer("test", 1, TimeUnit.MILLISECONDS, 0));
+    }
+
+    @Test
+    public void testScheduledTaskRunsAfterDelay() throws InterruptedException {
+        final CountDownLatch expired = new CountDownLatch(1);
+        final long start = System.nanoTime();
+
+        final HashedWheelTimer.Timeout timeout = timer.schedule(DIRECT, expired::countDown, 50, TimeUnit.MILLISECONDS);
+
+        assertTrue(expired.await(5, TimeUnit.SECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 50);
+        assertTrue(timeout.isExpired());
+        assertFalse(timeout.isCancelled());
+        assertFalse(timeout.cancel());
+    }
+
+    @Test
+    public void testTaskWithDelayLongerThanWheelRevolutionWaitsForRemainingRounds() throws InterruptedException {
+        final CountDownLatch expired = new CountDownLatch(1);
+        final long start = System.nanoTime();
+
+        // Eight slots of one millisecond means the wheel turns several times before expiration.
+        timer.schedule(DIRECT, expired::countDown, 40, TimeUnit.MILLISECONDS);
+
+        assertTrue(expired.await(5, TimeUnit.SECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 40);
+    }
+
+    @Test
+    public void testTaskWithZeroDelayRunsOnNextTick() throws InterruptedException {
+        final CountDownLatch expired = new CountDownLatch(1);
+
+        timer.schedule(DIRECT, expired::countDown, 0, TimeUnit.MILLISECONDS);
+
+        assertTrue(expired.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testCancelledTaskDoesNotRun() throws InterruptedException {
+        final AtomicInteger runs = new AtomicInteger();
+        final CountDownLatch marker = new CountDownLatch(1);
+
+        final HashedWheelTimer.Timeout timeout = timer.schedule(DIRECT, runs::incrementAndGet, 20, TimeUnit.MILLISECONDS);
+        timer.schedule(DIRECT, marker::countDown, 60, TimeUnit.MILLISECONDS);
+
+        assertTrue(timeout.cancel());
+        assertTrue(timeout.isCancelled());
+        assertFalse(timeout.cancel());
+
+        assertTrue(marker.await(5, TimeUnit.SECONDS));
+        assertEquals(0, runs.get());
+        assertFalse(timeout.isExpired());
+    }
+
+    @Test
+    public void testManyTasksAllExpireAndCancelledOnesDoNot() throws InterruptedException {
+        final int count = 1000;
+        final AtomicInteger runs = new AtomicInteger();
+        final CountDownLatch expired = new CountDownLatch(count / 2);
+
+        for (int i = 0; i < count; ++i) {
+            final HashedWheelTimer.Timeout timeout = timer.schedule(DIRECT, () -> {
+                runs.incrementAndGet();
+                expired.countDown();
+            }, i % 50, TimeUnit.MILLISECONDS);
+
+            if (i % 2 == 0) {
+                timeout.cancel();
+            }
+        }
+
+        assertTrue(expired.await(5, TimeUnit.SECONDS));
+        Thread.sleep(20);
+        assertEquals(count / 2, runs.get());
+    }
+
+    @Test
+    public void testTaskIsHandedToTheGivenExecutor() throws InterruptedException {
+        final CountDownLatch expired = new CountDownLatch(1);
+        final AtomicReference<Runnable> dispatched = new AtomicReference<>();
+        final Runnable task = () -> {};
+
+        timer.schedule(command -> {
+            dispatched.set(command);
+            expired.countDown();
+        }, task, 1, TimeUnit.MILLISECONDS);
+
+        assertTrue(expired.await(5, TimeUnit.SECONDS));
+        assertSame(task, dispatched.get());
+    }
+
+    @Test
+    public void testRejectedTaskDoesNotStopTheTimer() throws InterruptedException {
+        final CountDownLatch expired = new CountDownLatch(1);
+
+        timer.schedule(command -> {
+            throw new RejectedExecutionException();
+        }, () -> {}, 1, TimeUnit.MILLISECONDS);
+        timer.schedule(DIRECT, expired::countDown, 10, TimeUnit.MILLISECONDS);
+
+        assertTrue(expired.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testScheduleAfterCloseFails() {
+        timer.schedule(DIRECT, () -> {}, 1, TimeUnit.SECONDS);
+        timer.close();
+
+        assertTrue(timer.isClosed());
+        assertThrows(IllegalStateException.class, () -> timer.schedule(DIRECT, () -> {}, 1, TimeUnit.SECONDS));
+    }
+}
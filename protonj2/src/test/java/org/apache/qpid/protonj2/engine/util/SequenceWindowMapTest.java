@@ -0,0 +1,323 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.engine.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.apache.qpid.protonj2.logging.ProtonLogger;
+import org.apache.qpid.protonj2.logging.ProtonLoggerFactory;
+import org.apache.qpid.protonj2.types.UnsignedInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test {@link SequenceWindowMap} type
+ */
+public class SequenceWindowMapTest {
+
+    protected static final ProtonLogger LOG = ProtonLoggerFactory.getLogger(SequenceWindowMapTest.class);
+
+    protected long seed;
+    protected Random random;
+
+    @BeforeEach
+    public void setUp() {
+        seed = System.nanoTime();
+        random = new Random();
+        random.setSeed(seed);
+    }
+
+    @Test
+    public void testCreateWithInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new SequenceWindowMap<>(0));
+    }
+
+    @Test
+    public void testPutGetAndRemoveInOrder() {
+        SequenceWindowMap<String> map = new SequenceWindowMap<>();
+
+        for (int i = 0; i < 100; ++i) {
+            assertNull(map.put(i, "value-" + i));
+        }
+
+        assertEquals(100, map.size());
+
+        for (int i = 0; i < 100; ++i) {
+            assertEquals("value-" + i, map.get(i));
+            assertEquals("value-" + i, map.get(UnsignedInteger.valueOf(i)));
+        }
+
+        for (int i = 0; i < 100; ++i) {
+            assertEquals("value-" + i, map.remove(i));
+            assertNull(map.get(i));
+        }
+
+        assertTrue(map.isEmpty());
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    public void testPutReplacesExistingValue() {
+        SequenceWindowMap<String> map = new SequenceWindowMap<>();
+
+        map.put(1, "one");
+        map.put(2, "two");
+
+        assertEquals("one", map.put(1, "uno"));
+        assertEquals("uno", map.get(1));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    public void testPutNullValueNotAllowed() {
+        SequenceWindowMap<String> map = new SequenceWindowMap<>();
+
+        assertThrows(NullPointerException.class, () -> map.put(1, null));
+    }
+
+    @Test
+    public void testRemoveOutOfOrderLeavesOtherEntriesAccessible() {
+        SequenceWindowMap<String> map = new SequenceWindowMap<>();
+
+        for (int i = 0; i < 10; ++i) {
+            map.put(i, Integer.toString(i));
+        }
+
+        assertEquals("5", map.remove(5));
+        assertNull(map.remove(5));
+        assertEquals("9", map.remove(9));
+        assertEquals("0", map.remove(0));
+
+        assertEquals(7, map.size());
+        assertNull(map.get(5));
+        assertEquals("4", map.get(4));
+        assertEquals("6", map.get(6));
+
+        map.put(10, "10");
+        assertEquals("10", map.get(10));
+        assertNull(map.get(9));
+        assertEquals(8, map.size());
+    }
+
+    @Test
+    public void testGapsBetweenKeysAreSupported() {
+        SequenceWindowMap<String> map = new SequenceWindowMap<>();
+
+        map.put(1, "one");
+        map.put(5, "five");
+        map.put(200, "two hundred");
+
+        assertEquals(3, map.size());
+        assertNull(map.get(2));
+        assertNull(map.get(199));
+        assertEquals("two hundred", map.get(200));
+
+        assertEquals("one", map.remove(1));
+        assertEquals("five", map.get(5));
+    }
+
+    @Test
+    public void testKeysWrapAroundMaximumUnsignedValue() {
+        SequenceWindowMap<String> map = new SequenceWindowMap<>();
+
+        final int start = (int) (UnsignedInteger.MAX_VALUE.longValue() - 10);
+        for (int i = 0; i < 20; ++i) {
+            map.put(start + i, Integer.toString(i));
+        }
+
+        assertEquals(20, map.size());
+        assertEquals("0", map.get(UnsignedInteger.valueOf(UnsignedInteger.MAX_VALUE.longValue() - 10)));
+        assertEquals("10", map.get(UnsignedInteger.MAX_VALUE));
+        assertEquals("11", map.get(0));
+        assertEquals("19", map.get(8));
+
+        final List<String> values = new ArrayList<>(map.values());
+        for (int i = 0; i < 20; ++i) {
+            assertEquals(Integer.toString(i), values.get(i));
+        }
+
+        for (int i = 0; i < 20; ++i) {
+            assertEquals(Integer.toString(i), map.remove(start + i));
+        }
+
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void testIterationIsInSequenceOrder() {
+        SequenceWindowMap<String> map = new SequenceWindowMap<>(4);
+
+        for (int i = 0; i < 50; ++i) {
+            map.put(i, Integer.toString(i));
+        }
+        for (int i = 0; i < 50; i += 3) {
+            map.remove(i);
+        }
+
+        final List<UnsignedInteger> keys = new ArrayList<>();
+        map.forEach((key, value) -> {
+            assertEquals(key.toString(), value);
+            keys.add(key);
+        });
+
+        final List<UnsignedInteger> iterated = new ArrayList<>();
+        map.entrySet().forEach(entry -> iterated.add(entry.getKey()));
+
+        assertEquals(keys, iterated);
+        assertEquals(map.size(), keys.size());
+
+        for (int i = 1; i < keys.size(); ++i) {
+            assertTrue(keys.get(i - 1).compareTo(keys.get(i)) < 0);
+        }
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        SequenceWindowMap<String> map = new SequenceWindowMap<>();
+
+        for (int i = 0; i < 10; ++i) {
+            map.put(i, Integer.toString(i));
+        }
+
+        final Iterator<Entry<UnsignedInteger, String>> iterator = map.entrySet().iterator();
+
+        assertThrows(IllegalStateException.class, () -> iterator.remove());
+
+        while (iterator.hasNext()) {
+            final Entry<UnsignedInteger, String> entry = iterator.next();
+            if (entry.getKey().intValue() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+
+        assertThrows(NoSuchElementException.class, () -> iterator.next());
+        assertEquals(5, map.size());
+        for (int i = 0; i < 10; ++i) {
+            assertEquals(i % 2 == 0 ? null : Integer.toString(i), map.get(i));
+        }
+    }
+
+    @Test
+    public void testIteratorFailsOnConcurrentModification() {
+        SequenceWindowMap<String> map = new SequenceWindowMap<>();
+
+        map.put(0, "0");
+        map.put(1, "1");
+
+        final Iterator<Entry<UnsignedInteger, String>> iterator = map.entrySet().iterator();
+        iterator.next();
+        map.put(2, "2");
+
+        assertThrows(ConcurrentModificationException.class, () -> iterator.next());
+    }
+
+    @Test
+    public void testLaggingEntryDoesNotGrowWindowWithoutBound() {
+        SequenceWindowMap<String> map = new SequenceWindowMap<>();
+
+        map.put(0, "lagging");
+
+        // Sequential traffic that is settled promptly while the first entry remains unsettled.
+        for (int i = 1; i < 1_000_000; ++i) {
+            map.put(i, "value");
+            if (i > 4) {
+                map.remove(i - 4);
+            }
+        }
+
+        assertEquals("lagging", map.get(0));
+        assertEquals(5, map.size());
+
+        final List<UnsignedInteger> keys = new ArrayList<>(map.keySet());
+        assertEquals(UnsignedInteger.valueOf(0), keys.get(0));
+        for (int i = 1; i < keys.size(); ++i) {
+            assertTrue(keys.get(i - 1).compareTo(keys.get(i)) < 0);
+        }
+
+        assertEquals("lagging", map.remove(0));
+        assertEquals(4, map.size());
+    }
+
+    @Test
+    public void testClear() {
+        SequenceWindowMap<String> map = new SequenceWindowMap<>();
+
+        for (int i = 0; i < 10; ++i) {
+            map.put(i, Integer.toString(i));
+        }
+
+        map.clear();
+
+        assertTrue(map.isEmpty());
+        assertNull(map.get(1));
+        assertFalse(map.entrySet().iterator().hasNext());
+
+        map.put(100, "100");
+        assertEquals("100", map.get(100));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void testRandomSettlementMatchesReferenceMap() {
+        final SequenceWindowMap<Integer> map = new SequenceWindowMap<>();
+        final Map<UnsignedInteger, Integer> reference = new LinkedHashMap<>();
+
+        int next = random.nextInt();
+
+        try {
+            for (int i = 0; i < 100_000; ++i) {
+                if (reference.isEmpty() || random.nextInt(3) != 0) {
+                    // Links on the same session share the delivery id space so add gaps sometimes.
+                    next += random.nextInt(4) == 0 ? 1 + random.nextInt(16) : 1;
+                    map.put(next, i);
+                    reference.put(UnsignedInteger.valueOf(next), i);
+                } else {
+                    // Mostly settle the oldest entry but occasionally settle out of order.
+                    final Iterator<UnsignedInteger> keys = reference.keySet().iterator();
+                    UnsignedInteger key = keys.next();
+                    for (int skip = random.nextInt(8) == 0 ? random.nextInt(reference.size()) : 0; skip > 0; --skip) {
+                        key = keys.next();
+                    }
+
+                    assertEquals(reference.remove(key), map.remove(key.intValue()));
+                }
+
+                assertEquals(reference.size(), map.size());
+            }
+
+            assertEquals(new ArrayList<>(reference.keySet()), new ArrayList<>(map.keySet()));
+            reference.forEach((key, value) -> assertEquals(value, map.get(key)));
+        } catch (Throwable error) {
+            LOG.info("Random test failed using seed: {}", seed);
+            throw error;
+        }
+    }
+}
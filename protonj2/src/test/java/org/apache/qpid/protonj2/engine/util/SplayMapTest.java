@@ -24,10 +24,12 @@ import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.ConcurrentModificationException;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.NoSuchElementException;
@@ -1404,6 +1406,37 @@ public class SplayMapTest {
         assertEquals(UnsignedInteger.valueOf(-1), map.ceilingKey(UnsignedInteger.valueOf(-1)));
     }
 
+    @Test
+    public void testIterationAfterRandomPutsAndRemovesVisitsEachEntryOnce() {
+        SplayMap<Integer> map = createMap();
+        Map<Integer, Integer> expected = new HashMap<>();
+
+        try {
+            for (int i = 0; i < 2000; ++i) {
+                final int key = random.nextInt(512);
+
+                if (random.nextBoolean()) {
+                    map.put(key, i);
+                    expected.put(key, i);
+                } else {
+                    map.remove(key);
+                    expected.remove(key);
+                }
+
+                final List<Integer> visited = new ArrayList<>(expected.size());
+                map.forEach((Integer value) -> {
+                    assertTrue(visited.size() < expected.size(), "Iteration visited more entries than were stored");
+                    visited.add(value);
+                });
+
+                assertEquals(expected.size(), visited.size());
+            }
+        } catch (Throwable error) {
+            dumpRandomDataSet(2000, true);
+            throw error;
+        }
+    }
+
     protected void dumpRandomDataSet(int iterations, boolean bounded) {
         final int[] dataSet = new int[iterations];
 